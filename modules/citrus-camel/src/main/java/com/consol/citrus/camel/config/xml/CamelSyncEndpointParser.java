@@ -39,6 +39,7 @@ public class CamelSyncEndpointParser extends CamelEndpointParser {
                 element.getAttribute("message-correlator"), "correlator");
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("async-send"), "asyncSend");
     }
 
     @Override
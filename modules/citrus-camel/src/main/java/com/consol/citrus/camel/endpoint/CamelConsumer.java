@@ -25,7 +25,14 @@ import org.apache.camel.Exchange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
+ * Consumer receives messages from a Camel endpoint with a consumer template. When a receive batch size is set on the endpoint
+ * configuration the consumer drains up to that number of immediately available exchanges with one receive and serves following
+ * receive actions from these exchanges first.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
@@ -39,6 +46,9 @@ public class CamelConsumer implements Consumer {
     /** Cached consumer template - only created once for this consumer */
     private ConsumerTemplate consumerTemplate;
 
+    /** Exchanges received with last batch that have not been handed to a receive action yet */
+    private final Queue<Exchange> batch = new ConcurrentLinkedQueue<>();
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(CamelConsumer.class);
 
@@ -63,7 +73,16 @@ public class CamelConsumer implements Consumer {
             log.debug("Receiving message from camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'");
         }
 
-        Exchange exchange = getConsumerTemplate().receive(endpointConfiguration.getEndpointUri(), timeout);
+        Exchange exchange = batch.poll();
+        if (exchange == null) {
+            if (endpointConfiguration.getReceiveBatchSize() > 1) {
+                List<Exchange> exchanges = receiveExchanges(endpointConfiguration.getReceiveBatchSize(), timeout);
+                exchange = exchanges.remove(0);
+                batch.addAll(exchanges);
+            } else {
+                exchange = getConsumerTemplate().receive(endpointConfiguration.getEndpointUri(), timeout);
+            }
+        }
 
         if (exchange == null) {
             throw new ActionTimeoutException("Action timed out while receiving message from camel endpoint '" + endpointConfiguration.getEndpointUri() + "'");
@@ -71,6 +90,67 @@ public class CamelConsumer implements Consumer {
 
         log.info("Received message from camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'");
 
+        return handleExchange(exchange, context);
+    }
+
+    /**
+     * Receives a batch of messages from the endpoint. Waits for the first exchange with given timeout and then drains
+     * all exchanges that are immediately available up to the given maximum number of messages.
+     * @param context
+     * @param maxMessages
+     * @param timeout
+     * @return
+     */
+    public List<Message> receiveBatch(TestContext context, int maxMessages, long timeout) {
+        if (log.isDebugEnabled()) {
+            log.debug("Receiving message batch from camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'");
+        }
+
+        List<Message> messages = new ArrayList<>();
+        for (Exchange exchange : receiveExchanges(maxMessages, timeout)) {
+            messages.add(handleExchange(exchange, context));
+        }
+
+        return messages;
+    }
+
+    /**
+     * Waits for the first exchange with given timeout and then drains all exchanges that are immediately available
+     * up to the given maximum number of exchanges.
+     * @param maxExchanges
+     * @param timeout
+     * @return
+     */
+    private List<Exchange> receiveExchanges(int maxExchanges, long timeout) {
+        Exchange exchange = getConsumerTemplate().receive(endpointConfiguration.getEndpointUri(), timeout);
+
+        if (exchange == null) {
+            throw new ActionTimeoutException("Action timed out while receiving message batch from camel endpoint '" + endpointConfiguration.getEndpointUri() + "'");
+        }
+
+        List<Exchange> exchanges = new ArrayList<>();
+        while (exchange != null) {
+            exchanges.add(exchange);
+
+            if (exchanges.size() >= maxExchanges) {
+                break;
+            }
+
+            exchange = getConsumerTemplate().receiveNoWait(endpointConfiguration.getEndpointUri());
+        }
+
+        log.info(String.format("Received batch of %s messages from camel endpoint: '%s'", exchanges.size(), endpointConfiguration.getEndpointUri()));
+
+        return exchanges;
+    }
+
+    /**
+     * Converts received exchange to message and informs message listeners.
+     * @param exchange
+     * @param context
+     * @return
+     */
+    protected Message handleExchange(Exchange exchange, TestContext context) {
         Message message = endpointConfiguration.getMessageConverter().convertInbound(exchange, endpointConfiguration, context);
         context.onInboundMessage(message);
 
@@ -79,12 +159,17 @@ public class CamelConsumer implements Consumer {
 
     /**
      * Creates new consumer template if not present yet. Create consumer template only once which is
-     * mandatory for direct endpoints that do only support one single consumer at a time.
+     * mandatory for direct endpoints that do only support one single consumer at a time. Consumer template is
+     * thread safe and shared by all threads receiving messages with this consumer.
      * @return
      */
-    protected ConsumerTemplate getConsumerTemplate() {
+    protected synchronized ConsumerTemplate getConsumerTemplate() {
         if (consumerTemplate == null) {
-            consumerTemplate = endpointConfiguration.getCamelContext().createConsumerTemplate();
+            if (endpointConfiguration.getConsumerCacheSize() > 0) {
+                consumerTemplate = endpointConfiguration.getCamelContext().createConsumerTemplate(endpointConfiguration.getConsumerCacheSize());
+            } else {
+                consumerTemplate = endpointConfiguration.getCamelContext().createConsumerTemplate();
+            }
         }
 
         return consumerTemplate;
@@ -35,6 +35,15 @@ public class CamelEndpointConfiguration extends AbstractEndpointConfiguration {
     /** Camel endpoint uri */
     private String endpointUri;
 
+    /** Maximum number of cached producers in producer template, zero uses the Camel default */
+    private int producerCacheSize = 0;
+
+    /** Maximum number of cached consumers in consumer template, zero uses the Camel default */
+    private int consumerCacheSize = 0;
+
+    /** Maximum number of exchanges drained from the endpoint with one receive */
+    private int receiveBatchSize = 1;
+
     /**
      * Gets the Camel context.
      * @return
@@ -82,4 +91,52 @@ public class CamelEndpointConfiguration extends AbstractEndpointConfiguration {
     public void setMessageConverter(CamelMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the producerCacheSize.
+     * @return
+     */
+    public int getProducerCacheSize() {
+        return producerCacheSize;
+    }
+
+    /**
+     * Sets the producerCacheSize.
+     * @param producerCacheSize
+     */
+    public void setProducerCacheSize(int producerCacheSize) {
+        this.producerCacheSize = producerCacheSize;
+    }
+
+    /**
+     * Gets the consumerCacheSize.
+     * @return
+     */
+    public int getConsumerCacheSize() {
+        return consumerCacheSize;
+    }
+
+    /**
+     * Sets the consumerCacheSize.
+     * @param consumerCacheSize
+     */
+    public void setConsumerCacheSize(int consumerCacheSize) {
+        this.consumerCacheSize = consumerCacheSize;
+    }
+
+    /**
+     * Gets the receiveBatchSize.
+     * @return
+     */
+    public int getReceiveBatchSize() {
+        return receiveBatchSize;
+    }
+
+    /**
+     * Sets the receiveBatchSize.
+     * @param receiveBatchSize
+     */
+    public void setReceiveBatchSize(int receiveBatchSize) {
+        this.receiveBatchSize = receiveBatchSize;
+    }
 }
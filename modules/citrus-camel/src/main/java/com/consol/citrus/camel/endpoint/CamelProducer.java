@@ -77,12 +77,17 @@ public class CamelProducer implements Producer {
 
     /**
      * Creates new producer template if not present yet. Create producer template only once which is
-     * mandatory for direct endpoints that do only support one single producer at a time.
+     * mandatory for direct endpoints that do only support one single producer at a time. Producer template is
+     * thread safe and shared by all threads sending messages with this producer.
      * @return
      */
-    protected ProducerTemplate getProducerTemplate() {
+    protected synchronized ProducerTemplate getProducerTemplate() {
         if (producerTemplate == null) {
-            producerTemplate = endpointConfiguration.getCamelContext().createProducerTemplate();
+            if (endpointConfiguration.getProducerCacheSize() > 0) {
+                producerTemplate = endpointConfiguration.getCamelContext().createProducerTemplate(endpointConfiguration.getProducerCacheSize());
+            } else {
+                producerTemplate = endpointConfiguration.getCamelContext().createProducerTemplate();
+            }
         }
 
         return producerTemplate;
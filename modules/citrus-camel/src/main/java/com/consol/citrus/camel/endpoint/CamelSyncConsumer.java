@@ -18,7 +18,6 @@ package com.consol.citrus.camel.endpoint;
 
 import com.consol.citrus.camel.message.CitrusCamelMessageHeaders;
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaders;
 import com.consol.citrus.message.correlation.CorrelationManager;
@@ -59,21 +58,8 @@ public class CamelSyncConsumer extends CamelConsumer implements ReplyProducer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
-        if (log.isDebugEnabled()) {
-            log.debug("Receiving message from camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'");
-        }
-
-        Exchange exchange = getConsumerTemplate().receive(endpointConfiguration.getEndpointUri(), timeout);
-
-        if (exchange == null) {
-            throw new ActionTimeoutException("Action timed out while receiving message from camel endpoint '" + endpointConfiguration.getEndpointUri() + "'");
-        }
-
-        log.info("Received message from camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'");
-
-        Message message = endpointConfiguration.getMessageConverter().convertInbound(exchange, endpointConfiguration, context);
-        context.onInboundMessage(message);
+    protected Message handleExchange(Exchange exchange, TestContext context) {
+        Message message = super.handleExchange(exchange, context);
 
         String correlationKeyName = endpointConfiguration.getCorrelator().getCorrelationKeyName(getName());
         String correlationKey = endpointConfiguration.getCorrelator().getCorrelationKey(message);
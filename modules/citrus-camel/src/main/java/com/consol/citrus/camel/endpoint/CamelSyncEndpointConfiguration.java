@@ -32,6 +32,9 @@ public class CamelSyncEndpointConfiguration extends CamelEndpointConfiguration i
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
+    /** Send request exchanges asynchronously and convert reply exchanges when the reply is received */
+    private boolean asyncSend = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -63,4 +66,20 @@ public class CamelSyncEndpointConfiguration extends CamelEndpointConfiguration i
     public void setPollingInterval(long pollingInterval) {
         this.pollingInterval = pollingInterval;
     }
+
+    /**
+     * Gets the asyncSend.
+     * @return
+     */
+    public boolean isAsyncSend() {
+        return asyncSend;
+    }
+
+    /**
+     * Sets the asyncSend.
+     * @param asyncSend
+     */
+    public void setAsyncSend(boolean asyncSend) {
+        this.asyncSend = asyncSend;
+    }
 }
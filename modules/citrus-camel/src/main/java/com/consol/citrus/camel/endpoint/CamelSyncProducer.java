@@ -18,14 +18,19 @@ package com.consol.citrus.camel.endpoint;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.apache.camel.*;
+import org.apache.camel.impl.DefaultExchange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 /**
  * Synchronous producer creates synchronous Camel exchange for sending message and receiving synchronous reply.
  * Reply message is correlated and stored in correlation manager. This way test cases are able to receive synchronous
@@ -42,6 +47,22 @@ public class CamelSyncProducer extends CamelProducer implements ReplyConsumer {
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Maximum number of pending asynchronous replies, oldest replies are discarded first */
+    private static final int MAX_PENDING_REPLIES = 1000;
+
+    /** Pending reply exchanges of asynchronous sends by correlation key */
+    private final Map<String, CompletableFuture<Exchange>> pendingReplies = Collections.synchronizedMap(new LinkedHashMap<String, CompletableFuture<Exchange>>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Exchange>> eldest) {
+            if (size() > MAX_PENDING_REPLIES) {
+                log.warn(String.format("Too many pending asynchronous replies on camel endpoint - discarded reply for correlation key '%s'", eldest.getKey()));
+                return true;
+            }
+
+            return false;
+        }
+    });
+
     /** Endpoint configuration */
     private final CamelSyncEndpointConfiguration endpointConfiguration;
 
@@ -70,6 +91,11 @@ public class CamelSyncProducer extends CamelProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (endpointConfiguration.isAsyncSend()) {
+            sendAsync(message, correlationKey, context);
+            return;
+        }
+
         Exchange response = getProducerTemplate()
                 .request(endpointConfiguration.getEndpointUri(), new Processor() {
                     @Override
@@ -86,6 +112,54 @@ public class CamelSyncProducer extends CamelProducer implements ReplyConsumer {
         correlationManager.store(correlationKey, replyMessage);
     }
 
+    /**
+     * Sends request exchange asynchronously without blocking the caller. Request exchange is created on the calling thread,
+     * pending reply exchange is kept by correlation key and converted when the test case receives the reply. This way
+     * the test context is never accessed from Camel threads and send failures are raised in the receiving test action.
+     * @param message
+     * @param correlationKey
+     * @param context
+     */
+    private void sendAsync(final Message message, final String correlationKey, final TestContext context) {
+        Exchange exchange = new DefaultExchange(endpointConfiguration.getCamelContext(), ExchangePattern.InOut);
+        endpointConfiguration.getMessageConverter().convertOutbound(exchange, message, endpointConfiguration, context);
+
+        pendingReplies.put(correlationKey, getProducerTemplate().asyncSend(endpointConfiguration.getEndpointUri(), exchange));
+
+        log.info("Message was sent asynchronously to camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'");
+    }
+
+    /**
+     * Waits for pending asynchronous reply exchange and converts it to reply message. Rethrows the failure of the
+     * asynchronous exchange if any. Pending reply is discarded on timeout.
+     * @param pending
+     * @param context
+     * @param timeout
+     * @return
+     */
+    private Message receiveAsync(CompletableFuture<Exchange> pending, TestContext context, long timeout) {
+        Exchange response;
+        try {
+            response = pending.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException("Action timeout while receiving asynchronous reply message on camel exchange");
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to send message to camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for asynchronous reply on camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'", e);
+        }
+
+        if (response.getException() != null) {
+            throw new CitrusRuntimeException("Failed to send message to camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'", response.getException());
+        }
+
+        log.info("Received asynchronous response message on camel endpoint: '" + endpointConfiguration.getEndpointUri() + "'");
+        Message replyMessage = endpointConfiguration.getMessageConverter().convertInbound(response, endpointConfiguration, context);
+        context.onInboundMessage(replyMessage);
+        return replyMessage;
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -105,6 +179,11 @@ public class CamelSyncProducer extends CamelProducer implements ReplyConsumer {
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
+        CompletableFuture<Exchange> pending = pendingReplies.remove(selector);
+        if (pending != null) {
+            return receiveAsync(pending, context, timeout);
+        }
+
         Message message = correlationManager.find(selector, timeout);
 
         if (message == null) {
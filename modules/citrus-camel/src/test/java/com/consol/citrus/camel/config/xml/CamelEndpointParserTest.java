@@ -34,13 +34,14 @@ public class CamelEndpointParserTest extends AbstractBeanDefinitionParserTest {
     public void testCamelEndpointParser() {
         Map<String, CamelEndpoint> endpoints = beanDefinitionContext.getBeansOfType(CamelEndpoint.class);
 
-        Assert.assertEquals(endpoints.size(), 3);
+        Assert.assertEquals(endpoints.size(), 4);
 
         // 1st message receiver
         CamelEndpoint camelEndpoint = endpoints.get("camelEndpoint1");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getCamelContext(), beanDefinitionContext.getBean("camelContext"));
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "direct:news-feed1");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getReceiveBatchSize(), 1);
 
         // 2nd message receiver
         camelEndpoint = endpoints.get("camelEndpoint2");
@@ -53,5 +54,10 @@ public class CamelEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getMessageConverter(), beanDefinitionContext.getBean("messageConverter"));
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "direct:news-feed3");
         Assert.assertEquals(camelEndpoint.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
+
+        // 4th message receiver
+        camelEndpoint = endpoints.get("camelEndpoint4");
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "seda:news-feed4");
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getReceiveBatchSize(), 100);
     }
 }
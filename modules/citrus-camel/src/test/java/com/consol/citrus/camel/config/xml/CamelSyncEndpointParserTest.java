@@ -44,6 +44,8 @@ public class CamelSyncEndpointParserTest extends AbstractBeanDefinitionParserTes
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "direct:news-feed1");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getPollingInterval(), 500L);
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getProducerCacheSize(), 0);
+        Assert.assertFalse(camelEndpoint.getEndpointConfiguration().isAsyncSend());
 
         // 2nd message receiver
         camelEndpoint = endpoints.get("camelSyncEndpoint2");
@@ -58,6 +60,9 @@ public class CamelSyncEndpointParserTest extends AbstractBeanDefinitionParserTes
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getMessageConverter(), beanDefinitionContext.getBean("messageConverter"));
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "direct:news-feed3");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getPollingInterval(), 200L);
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getProducerCacheSize(), 100);
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getConsumerCacheSize(), 50);
+        Assert.assertTrue(camelEndpoint.getEndpointConfiguration().isAsyncSend());
         Assert.assertEquals(camelEndpoint.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
     }
 }
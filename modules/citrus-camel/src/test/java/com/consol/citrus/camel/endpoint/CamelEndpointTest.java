@@ -29,6 +29,8 @@ import org.mockito.stubbing.Answer;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 
 /**
@@ -119,6 +121,81 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader(CitrusCamelMessageHeaders.EXCHANGE_FAILED));
     }
 
+    @Test
+    public void testCamelEndpointBatchConsumer() {
+        String endpointUri = "seda:news-feed";
+        CamelEndpointConfiguration endpointConfiguration = new CamelEndpointConfiguration();
+        endpointConfiguration.setCamelContext(camelContext);
+        endpointConfiguration.setEndpointUri(endpointUri);
+        endpointConfiguration.setConsumerCacheSize(50);
+
+        CamelEndpoint camelEndpoint = new CamelEndpoint(endpointConfiguration);
+
+        reset(camelContext, consumerTemplate);
+
+        when(camelContext.createConsumerTemplate(50)).thenReturn(consumerTemplate);
+        when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
+        when(camelContext.getUuidGenerator()).thenReturn(new JavaUuidGenerator());
+
+        Exchange news1 = newsExchange("News 1");
+        Exchange news2 = newsExchange("News 2");
+        Exchange news3 = newsExchange("News 3");
+        Exchange news4 = newsExchange("News 4");
+        when(consumerTemplate.receive(endpointUri, 5000L)).thenReturn(news1);
+        when(consumerTemplate.receiveNoWait(endpointUri)).thenReturn(news2, news3, news4);
+
+        List<Message> messages = ((CamelConsumer) camelEndpoint.createConsumer()).receiveBatch(context, 3, 5000L);
+        Assert.assertEquals(messages.size(), 3L);
+        Assert.assertEquals(messages.get(0).getPayload(), "News 1");
+        Assert.assertEquals(messages.get(2).getPayload(), "News 3");
+
+        Exchange news5 = newsExchange("News 5");
+        when(consumerTemplate.receive(endpointUri, 5000L)).thenReturn(news5);
+        when(consumerTemplate.receiveNoWait(endpointUri)).thenReturn(null);
+
+        messages = ((CamelConsumer) camelEndpoint.createConsumer()).receiveBatch(context, 3, 5000L);
+        Assert.assertEquals(messages.size(), 1L);
+        Assert.assertEquals(messages.get(0).getPayload(), "News 5");
+        verify(camelContext, times(1)).createConsumerTemplate(50);
+    }
+
+    @Test
+    public void testCamelEndpointReceiveWithBatchSize() {
+        String endpointUri = "seda:news-feed";
+        CamelEndpointConfiguration endpointConfiguration = new CamelEndpointConfiguration();
+        endpointConfiguration.setCamelContext(camelContext);
+        endpointConfiguration.setEndpointUri(endpointUri);
+        endpointConfiguration.setReceiveBatchSize(2);
+
+        CamelEndpoint camelEndpoint = new CamelEndpoint(endpointConfiguration);
+
+        reset(camelContext, consumerTemplate);
+
+        when(camelContext.createConsumerTemplate()).thenReturn(consumerTemplate);
+        when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
+        when(camelContext.getUuidGenerator()).thenReturn(new JavaUuidGenerator());
+
+        Exchange news1 = newsExchange("News 1");
+        Exchange news2 = newsExchange("News 2");
+        Exchange news3 = newsExchange("News 3");
+        when(consumerTemplate.receive(endpointUri, 5000L)).thenReturn(news1, news3);
+        when(consumerTemplate.receiveNoWait(endpointUri)).thenReturn(news2, (Exchange) null);
+
+        Assert.assertEquals(camelEndpoint.createConsumer().receive(context, 5000L).getPayload(), "News 1");
+        Assert.assertEquals(camelEndpoint.createConsumer().receive(context, 5000L).getPayload(), "News 2");
+        Assert.assertEquals(camelEndpoint.createConsumer().receive(context, 5000L).getPayload(), "News 3");
+        verify(consumerTemplate, times(2)).receive(endpointUri, 5000L);
+        verify(consumerTemplate, times(2)).receiveNoWait(endpointUri);
+    }
+
+    private Exchange newsExchange(String body) {
+        DefaultMessage message = new DefaultMessage(camelContext);
+        message.setBody(body);
+        Exchange exchange = new DefaultExchange(camelContext);
+        exchange.setIn(message);
+        return exchange;
+    }
+
     @Test
     public void testCamelEndpointWithMessageListeners() {
         String endpointUri = "direct:news-feed";
@@ -17,6 +17,8 @@
 package com.consol.citrus.camel.endpoint;
 
 import com.consol.citrus.camel.message.CitrusCamelMessageHeaders;
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
@@ -28,6 +30,8 @@ import org.mockito.stubbing.Answer;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.*;
+
 import static org.mockito.Mockito.*;
 
 /**
@@ -77,6 +81,121 @@ public class CamelSyncEndpointTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testCamelSyncEndpointAsyncProducer() {
+        String endpointUri = "seda:news-feed";
+        CamelSyncEndpointConfiguration endpointConfiguration = new CamelSyncEndpointConfiguration();
+        endpointConfiguration.setCamelContext(camelContext);
+        endpointConfiguration.setEndpointUri(endpointUri);
+        endpointConfiguration.setProducerCacheSize(100);
+        endpointConfiguration.setPollingInterval(100L);
+        endpointConfiguration.setAsyncSend(true);
+
+        CamelSyncEndpoint camelEndpoint = new CamelSyncEndpoint(endpointConfiguration);
+
+        Message requestMessage = new com.consol.citrus.message.DefaultMessage("Hello from Citrus!");
+
+        reset(camelContext, producerTemplate);
+
+        when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
+        when(camelContext.createProducerTemplate(100)).thenReturn(producerTemplate);
+        when(camelContext.getUuidGenerator()).thenReturn(new JavaUuidGenerator());
+
+        DefaultMessage message = new DefaultMessage(camelContext);
+        message.setBody("Hello from Camel!");
+        Exchange exchange = new DefaultExchange(camelContext);
+        exchange.setIn(message);
+
+        CompletableFuture<Exchange> response = new CompletableFuture<>();
+        when(producerTemplate.asyncSend(eq(endpointUri), any(Exchange.class))).thenReturn(response);
+
+        camelEndpoint.createProducer().send(requestMessage, context);
+        verify(producerTemplate, never()).request(anyString(), any(Processor.class));
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> response.complete(exchange), 200L, TimeUnit.MILLISECONDS);
+
+            Message reply = camelEndpoint.createConsumer().receive(context, 5000L);
+            Assert.assertEquals(reply.getPayload(), "Hello from Camel!");
+            Assert.assertEquals(reply.getHeader(CitrusCamelMessageHeaders.EXCHANGE_ID), exchange.getExchangeId());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCamelSyncEndpointAsyncProducerTimeout() {
+        String endpointUri = "seda:news-feed";
+        CamelSyncEndpointConfiguration endpointConfiguration = new CamelSyncEndpointConfiguration();
+        endpointConfiguration.setCamelContext(camelContext);
+        endpointConfiguration.setEndpointUri(endpointUri);
+        endpointConfiguration.setPollingInterval(100L);
+        endpointConfiguration.setAsyncSend(true);
+
+        CamelSyncEndpoint camelEndpoint = new CamelSyncEndpoint(endpointConfiguration);
+
+        Message requestMessage = new com.consol.citrus.message.DefaultMessage("Hello from Citrus!");
+
+        reset(camelContext, producerTemplate);
+
+        when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
+        when(camelContext.createProducerTemplate()).thenReturn(producerTemplate);
+        when(camelContext.getUuidGenerator()).thenReturn(new JavaUuidGenerator());
+
+        CompletableFuture<Exchange> response = new CompletableFuture<>();
+        when(producerTemplate.asyncSend(eq(endpointUri), any(Exchange.class))).thenReturn(response);
+
+        camelEndpoint.createProducer().send(requestMessage, context);
+
+        try {
+            camelEndpoint.createConsumer().receive(context, 100L);
+            Assert.fail("Missing exception due to timeout");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("asynchronous reply"));
+        }
+
+        try {
+            camelEndpoint.createConsumer().receive(context, 100L);
+            Assert.fail("Missing exception due to timeout");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("synchronous reply"));
+            Assert.assertFalse(e.getMessage().contains("asynchronous reply"));
+        }
+    }
+
+    @Test
+    public void testCamelSyncEndpointAsyncProducerFailure() {
+        String endpointUri = "seda:news-feed";
+        CamelSyncEndpointConfiguration endpointConfiguration = new CamelSyncEndpointConfiguration();
+        endpointConfiguration.setCamelContext(camelContext);
+        endpointConfiguration.setEndpointUri(endpointUri);
+        endpointConfiguration.setAsyncSend(true);
+
+        CamelSyncEndpoint camelEndpoint = new CamelSyncEndpoint(endpointConfiguration);
+
+        Message requestMessage = new com.consol.citrus.message.DefaultMessage("Hello from Citrus!");
+
+        reset(camelContext, producerTemplate);
+
+        when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
+        when(camelContext.createProducerTemplate()).thenReturn(producerTemplate);
+        when(camelContext.getUuidGenerator()).thenReturn(new JavaUuidGenerator());
+
+        CompletableFuture<Exchange> response = new CompletableFuture<>();
+        response.completeExceptionally(new CamelExchangeException("Connection refused", null));
+        when(producerTemplate.asyncSend(eq(endpointUri), any(Exchange.class))).thenReturn(response);
+
+        camelEndpoint.createProducer().send(requestMessage, context);
+
+        try {
+            camelEndpoint.createConsumer().receive(context, 5000L);
+            Assert.fail("Missing exception due to failed asynchronous exchange");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getCause().getMessage(), "Connection refused");
+        }
+    }
+
     @Test
     public void testCamelSyncEndpointConsumer() {
         String endpointUri = "direct:news-feed";
@@ -23,6 +23,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.report.*;
+import com.consol.citrus.util.ResourceCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -82,6 +83,9 @@ public final class Citrus {
         /** List of instance resolvers capable of taking part in Citrus instance creation process */
         private static List<InstanceProcessor> instanceProcessors = new ArrayList<>();
 
+        /** Instance bound to the current thread and the threads it spawns, takes precedence over the instance strategy */
+        private static final InheritableThreadLocal<Citrus> boundInstance = new InheritableThreadLocal<>();
+
         /**
          * Add instance processor.
          * @param processor
@@ -96,6 +100,11 @@ public final class Citrus {
          * @return
          */
         public static Citrus newInstance() {
+            Optional<Citrus> bound = getBoundInstance();
+            if (bound.isPresent()) {
+                return bound.get();
+            }
+
             if (strategy.equals(InstanceStrategy.NEW)) {
                 Citrus instance = newInstance(new AnnotationConfigApplicationContext(CitrusSpringConfig.class));
                 instanceProcessors.forEach(processor -> processor.process(instance));
@@ -114,6 +123,11 @@ public final class Citrus {
          * @return
          */
         public static Citrus newInstance(Class<? extends CitrusSpringConfig> configClass) {
+            Optional<Citrus> bound = getBoundInstance();
+            if (bound.isPresent()) {
+                return bound.get();
+            }
+
             if (strategy.equals(InstanceStrategy.NEW)) {
                 Citrus instance = newInstance(new AnnotationConfigApplicationContext(configClass));
                 instanceProcessors.forEach(processor -> processor.process(instance));
@@ -132,6 +146,11 @@ public final class Citrus {
          * @return
          */
         public static Citrus newInstance(ApplicationContext applicationContext) {
+            Optional<Citrus> bound = getBoundInstance();
+            if (bound.isPresent()) {
+                return bound.get();
+            }
+
             if (strategy.equals(InstanceStrategy.NEW)) {
                 Citrus instance = new Citrus(applicationContext);
                 instanceProcessors.forEach(processor -> processor.process(instance));
@@ -144,6 +163,36 @@ public final class Citrus {
             return citrus;
         }
 
+        /**
+         * Creates new Citrus instance with given Spring bean application context and binds it to the current thread.
+         * Threads spawned by the current thread inherit the binding. While bound the instance is returned on all instance
+         * requests of these threads regardless of the instance creation strategy. This way several test runs are able to
+         * use their own isolated Citrus instance at the same time.
+         * @param applicationContext
+         * @return
+         */
+        public static Citrus bind(ApplicationContext applicationContext) {
+            Citrus instance = new Citrus(applicationContext);
+            instanceProcessors.forEach(processor -> processor.process(instance));
+            boundInstance.set(instance);
+            return instance;
+        }
+
+        /**
+         * Removes instance binding of the current thread.
+         */
+        public static void unbind() {
+            boundInstance.remove();
+        }
+
+        /**
+         * Gets the instance bound to the current thread if any.
+         * @return
+         */
+        public static Optional<Citrus> getBoundInstance() {
+            return Optional.ofNullable(boundInstance.get());
+        }
+
         /**
          * Gets the singleton instance of Citrus.
          * @return
@@ -264,6 +313,22 @@ public final class Citrus {
     public static final String DEFAULT_MESSAGE_TYPE = System.getProperty(DEFAULT_MESSAGE_TYPE_PROPERTY,  System.getenv(DEFAULT_MESSAGE_TYPE_ENV) != null ?
             System.getenv(DEFAULT_MESSAGE_TYPE_ENV) : MessageType.XML.toString());
 
+    /** Message store limits, message store is unbounded by default */
+    public static final String MESSAGE_STORE_MAX_MESSAGES_PROPERTY = "citrus.message.store.max.messages";
+    public static final String MESSAGE_STORE_MAX_MESSAGES_ENV = "CITRUS_MESSAGE_STORE_MAX_MESSAGES";
+    public static final String MESSAGE_STORE_MAX_MESSAGES = System.getProperty(MESSAGE_STORE_MAX_MESSAGES_PROPERTY, System.getenv(MESSAGE_STORE_MAX_MESSAGES_ENV) != null ?
+            System.getenv(MESSAGE_STORE_MAX_MESSAGES_ENV) : "0");
+
+    public static final String MESSAGE_STORE_MAX_BYTES_PROPERTY = "citrus.message.store.max.bytes";
+    public static final String MESSAGE_STORE_MAX_BYTES_ENV = "CITRUS_MESSAGE_STORE_MAX_BYTES";
+    public static final String MESSAGE_STORE_MAX_BYTES = System.getProperty(MESSAGE_STORE_MAX_BYTES_PROPERTY, System.getenv(MESSAGE_STORE_MAX_BYTES_ENV) != null ?
+            System.getenv(MESSAGE_STORE_MAX_BYTES_ENV) : "0");
+
+    /** Optional directory evicted messages are spilled to */
+    public static final String MESSAGE_STORE_SPILL_DIRECTORY_PROPERTY = "citrus.message.store.spill.directory";
+    public static final String MESSAGE_STORE_SPILL_DIRECTORY_ENV = "CITRUS_MESSAGE_STORE_SPILL_DIRECTORY";
+    public static final String MESSAGE_STORE_SPILL_DIRECTORY = System.getProperty(MESSAGE_STORE_SPILL_DIRECTORY_PROPERTY, System.getenv(MESSAGE_STORE_SPILL_DIRECTORY_ENV));
+
     /** Test context factory **/
     private TestContextFactory testContextFactory;
     private TestSuiteListeners testSuiteListener;
@@ -296,6 +361,11 @@ public final class Citrus {
      * @return
      */
     public static Citrus newInstance() {
+        Optional<Citrus> bound = CitrusInstanceManager.getBoundInstance();
+        if (bound.isPresent()) {
+            return bound.get();
+        }
+
         return CitrusInstanceManager.newInstance(new AnnotationConfigApplicationContext(CitrusSpringConfig.class));
     }
 
@@ -305,6 +375,11 @@ public final class Citrus {
      * @return
      */
     public static Citrus newInstance(Class<? extends CitrusSpringConfig> configClass) {
+        Optional<Citrus> bound = CitrusInstanceManager.getBoundInstance();
+        if (bound.isPresent()) {
+            return bound.get();
+        }
+
         return CitrusInstanceManager.newInstance(new AnnotationConfigApplicationContext(configClass));
     }
 
@@ -352,6 +427,7 @@ public final class Citrus {
      */
     public void afterSuite(String suiteName, String ... testGroups) {
         testSuiteListener.onFinish();
+        ResourceCache.clear();
 
         if (!CollectionUtils.isEmpty(afterSuite)) {
             for (SequenceAfterSuite sequenceAfterSuite : afterSuite) {
@@ -455,6 +531,8 @@ public final class Citrus {
      * Closing Citrus and its application context.
      */
     public void close() {
+        ResourceCache.clear();
+
         if (applicationContext instanceof ConfigurableApplicationContext) {
             if (((ConfigurableApplicationContext) applicationContext).isActive()) {
                 ((ConfigurableApplicationContext) applicationContext).close();
@@ -21,12 +21,15 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.TestCaseFailedException;
 import com.consol.citrus.report.TestActionListeners;
+import com.consol.citrus.util.RandomUtils;
 import com.consol.citrus.util.TestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -105,6 +108,9 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
             context.setVariable(Citrus.TEST_NAME_VARIABLE, getName());
             context.setVariable(Citrus.TEST_PACKAGE_VARIABLE, packageName);
 
+            // reseed random generator when seed is set so random values are reproducible for this test invocation
+            RandomUtils.seed(getTestIdentity());
+
             for (final Entry<String, Object> paramEntry : parameters.entrySet()) {
                 if (log.isDebugEnabled()) {
                     log.debug(String.format("Initializing test parameter '%s' as variable", paramEntry.getKey()));
@@ -288,6 +294,21 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
             }
 
             afterTest(context);
+            closeMessageStore(context);
+        }
+    }
+
+    /**
+     * Closes message store of given context in case it holds resources such as spill files.
+     * @param context
+     */
+    private void closeMessageStore(TestContext context) {
+        if (context.getMessageStore() instanceof Closeable) {
+            try {
+                ((Closeable) context.getMessageStore()).close();
+            } catch (IOException e) {
+                log.warn("Failed to close message store", e);
+            }
         }
     }
 
@@ -395,6 +416,14 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
         return packageName;
     }
 
+    /**
+     * Gets the test identity made of package, name and parameters of this test.
+     * @return
+     */
+    private String getTestIdentity() {
+        return packageName + "." + getName() + (parameters.isEmpty() ? "" : parameters.toString());
+    }
+
     /**
      * Set the test class type.
      * @param type
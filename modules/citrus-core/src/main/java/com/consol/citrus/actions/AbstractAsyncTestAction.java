@@ -19,6 +19,7 @@ package com.consol.citrus.actions;
 import com.consol.citrus.Completable;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.RandomUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
@@ -45,7 +46,7 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
     public final void doExecute(TestContext context) {
         CompletableFuture<Void> result = new CompletableFuture<>();
         SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
-        finished = executor.submit(() -> {
+        finished = executor.submit(RandomUtils.propagate(() -> {
             try {
                 doExecuteAsync(context);
                 result.complete(null);
@@ -60,7 +61,7 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
 
                 result.completeExceptionally(e);
             }
-        });
+        }));
 
         result.whenComplete((nothing, throwable) -> {
             if (throwable != null) {
@@ -19,16 +19,22 @@ package com.consol.citrus.actions;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.TestActor;
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.SqlUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.support.JdbcDaoSupport;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
 
 /**
  * Abstract base class for database connection test actions. Extends {@link JdbcDaoSupport} providing
@@ -62,6 +68,9 @@ public abstract class AbstractDatabaseConnectingTestAction extends JdbcDaoSuppor
     private String transactionTimeout = String.valueOf(TransactionDefinition.TIMEOUT_DEFAULT);
     private String transactionIsolationLevel = "ISOLATION_DEFAULT";
 
+    /** Number of statements per JDBC batch, zero disables batch execution */
+    private int batchSize = 0;
+
     /**
      * Do basic logging and delegate execution to subclass.
      */
@@ -89,6 +98,147 @@ public abstract class AbstractDatabaseConnectingTestAction extends JdbcDaoSuppor
         }
     }
 
+    /**
+     * Executes statements in batch mode. Consecutive data manipulation statements are sent as they are as JDBC batch with
+     * configured batch size. All other statements are executed one by one.
+     * @param resolvedStatements statements with test variables already resolved
+     * @param ignoreErrors
+     */
+    protected void executeBatch(List<String> resolvedStatements, boolean ignoreErrors) {
+        List<String> pendingStatements = new ArrayList<>();
+
+        for (String stmt : resolvedStatements) {
+            if (SqlUtils.isDataManipulationStatement(stmt)) {
+                pendingStatements.add(stmt);
+            } else {
+                executeStatements(pendingStatements, ignoreErrors);
+                pendingStatements.clear();
+
+                executeStatement(stmt, ignoreErrors);
+            }
+        }
+
+        executeStatements(pendingStatements, ignoreErrors);
+    }
+
+    /**
+     * Executes data manipulation statements as JDBC batch. Single statements are executed as is.
+     * When a batch fails all statements of that batch that did not succeed are executed one by one, so
+     * errors are raised or ignored per statement just like in non batch mode.
+     * @param stmts
+     * @param ignoreErrors
+     */
+    private void executeStatements(List<String> stmts, boolean ignoreErrors) {
+        if (stmts.isEmpty()) {
+            return;
+        }
+
+        if (stmts.size() == 1) {
+            executeStatement(stmts.get(0), ignoreErrors);
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Executing batch of %s SQL statements", stmts.size()));
+        }
+
+        executeInChunks(stmts.size(),
+                (start, end) -> getJdbcTemplate().batchUpdate(stmts.subList(start, end).toArray(new String[0])),
+                index -> executeStatement(stmts.get(index), ignoreErrors));
+        log.info(String.format("SQL batch execution successful - %s statements", stmts.size()));
+    }
+
+    /**
+     * Executes parameterized statement as JDBC batch in chunks of configured batch size. When a chunk fails the given fallback
+     * is called for each row of the chunk that has not been executed successfully according to the driver's update counts.
+     * @param sql the parameterized statement.
+     * @param rows parameter values for each statement execution.
+     * @param fallback executes single row with given index.
+     */
+    protected void batchUpdate(String sql, List<Object[]> rows, IntConsumer fallback) {
+        executeInChunks(rows.size(), (start, end) -> getJdbcTemplate().batchUpdate(sql, rows.subList(start, end)), fallback);
+    }
+
+    /**
+     * Executes given number of statements as JDBC batch in chunks of configured batch size. When a chunk fails the given fallback
+     * is called for each statement of the chunk that has not been executed successfully according to the driver's update counts.
+     * When the driver does not report update counts the statements already applied are unknown, so the action fails instead of
+     * replaying the whole chunk.
+     * @param size total number of statements.
+     * @param chunkExecutor executes statements from start index (inclusive) to end index (exclusive) as batch.
+     * @param fallback executes single statement with given index.
+     */
+    private void executeInChunks(int size, BiConsumer<Integer, Integer> chunkExecutor, IntConsumer fallback) {
+        int chunkSize = batchSize > 0 ? batchSize : size;
+        for (int start = 0; start < size; start += chunkSize) {
+            int end = Math.min(start + chunkSize, size);
+
+            try {
+                chunkExecutor.accept(start, end);
+            } catch (DataAccessException e) {
+                int[] updateCounts = getUpdateCounts(e);
+                if (updateCounts.length == 0) {
+                    throw new CitrusRuntimeException("SQL batch execution failed and driver did not report update counts - " +
+                            "unable to determine which statements have been applied", e);
+                }
+
+                log.warn("SQL batch execution failed, executing statements one by one: " + e.getMessage());
+
+                for (int i = start; i < end; i++) {
+                    int index = i - start;
+                    if (index < updateCounts.length && updateCounts[index] != Statement.EXECUTE_FAILED) {
+                        continue;
+                    }
+
+                    fallback.accept(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes single SQL statement.
+     * @param stmt
+     * @param ignoreErrors
+     */
+    private void executeStatement(String stmt, boolean ignoreErrors) {
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL statement: " + stmt);
+            }
+
+            getJdbcTemplate().execute(stmt);
+
+            log.info("SQL statement execution successful");
+        } catch (DataAccessException e) {
+            if (ignoreErrors) {
+                log.warn("Ignoring error while executing SQL statement: " + e.getMessage());
+            } else {
+                throw new CitrusRuntimeException("Failed to execute SQL statement", e);
+            }
+        }
+    }
+
+    /**
+     * Gets update counts of statements executed before a batch failed. Returns empty array
+     * when driver does not provide update counts.
+     * @param e
+     * @return
+     */
+    private int[] getUpdateCounts(Throwable e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof BatchUpdateException) {
+                int[] updateCounts = ((BatchUpdateException) cause).getUpdateCounts();
+                return updateCounts != null ? updateCounts : new int[0];
+            }
+
+            cause = cause.getCause();
+        }
+
+        return new int[0];
+    }
+
     /**
      * Reads SQL statements from external file resource. File resource can hold several
      * multi-line statements and comments.
@@ -234,6 +384,22 @@ public abstract class AbstractDatabaseConnectingTestAction extends JdbcDaoSuppor
         this.transactionIsolationLevel = transactionIsolationLevel;
     }
 
+    /**
+     * Gets the batchSize.
+     * @return
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of statements per JDBC batch. Zero disables batch execution.
+     * @param batchSize
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     /**
      * Gets the actor.
      * @return the actor the actor to get.
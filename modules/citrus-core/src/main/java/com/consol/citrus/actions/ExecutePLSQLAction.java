@@ -89,6 +89,16 @@ public class ExecutePLSQLAction extends AbstractDatabaseConnectingTestAction {
      * @param context
      */
     protected void executeStatements(TestContext context) {
+        if (getBatchSize() > 0) {
+            List<String> resolvedStatements = new ArrayList<>(statements.size());
+            for (String stmt : statements) {
+                resolvedStatements.add(context.replaceDynamicContentInString(stmt.trim()));
+            }
+
+            executeBatch(resolvedStatements, ignoreErrors);
+            return;
+        }
+
         for (String stmt : statements) {
             try {
                 final String toExecute = context.replaceDynamicContentInString(stmt.trim());
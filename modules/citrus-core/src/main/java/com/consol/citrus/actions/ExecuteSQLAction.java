@@ -18,7 +18,16 @@ package com.consol.citrus.actions;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.util.SqlUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
 import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Test action execute SQL statements. Use this action when executing
@@ -26,6 +35,9 @@ import org.springframework.transaction.support.TransactionTemplate;
  * embedded inline in the test case description or given by an external file resource.
  * 
  * When executing SQL query statements (SELECT) see {@link ExecuteSQLQueryAction}.
+ *
+ * In batch mode consecutive data manipulation statements are executed as JDBC batch. Data files with
+ * delimiter separated values are streamed line by line into a parameterized data statement executed in batches.
  * 
  * @author Christoph Deppisch, Jan Szczepanski
  * @since 2006
@@ -34,6 +46,21 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private boolean ignoreErrors = false;
 
+    /** Optional data file with delimiter separated values */
+    private String dataResourcePath;
+
+    /** Parameterized statement executed for each data file line */
+    private String dataStatement;
+
+    /** Value delimiter in data file */
+    private String dataDelimiter = ",";
+
+    /** Data file starts with header line */
+    private boolean dataHeader = false;
+
+    /** Number of data file lines per batch when no batch size is set */
+    private static final int DEFAULT_DATA_BATCH_SIZE = 1000;
+
     /**
      * Default constructor.
      */
@@ -43,7 +70,7 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
 
     @Override
     public void doExecute(TestContext context) {
-        if (statements.isEmpty()) {
+        if (statements.isEmpty() && (StringUtils.hasText(sqlResourcePath) || !StringUtils.hasText(dataResourcePath))) {
             statements = createStatementsFromFileResource(context);
         }
 
@@ -57,10 +84,12 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
             transactionTemplate.execute(status -> {
                 executeStatements(context);
+                loadDataFile(context);
                 return null;
             });
         } else {
             executeStatements(context);
+            loadDataFile(context);
         }
     }
 
@@ -69,15 +98,19 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
      * @param context
      */
     protected void executeStatements(TestContext context) {
+        if (getBatchSize() > 0) {
+            List<String> resolvedStatements = new ArrayList<>(statements.size());
+            for (String stmt : statements) {
+                resolvedStatements.add(resolveStatement(stmt, context));
+            }
+
+            executeBatch(resolvedStatements, ignoreErrors);
+            return;
+        }
+
         for (String stmt : statements)  {
             try {
-                final String toExecute;
-
-                if (stmt.trim().endsWith(";")) {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-                } else {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim());
-                }
+                final String toExecute = resolveStatement(stmt, context);
 
                 if (log.isDebugEnabled()) {
                     log.debug("Executing SQL statement: " + toExecute);
@@ -97,6 +130,111 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         }
     }
 
+    /**
+     * Removes statement ending character and resolves test variables in statement.
+     * @param stmt
+     * @param context
+     * @return
+     */
+    private String resolveStatement(String stmt, TestContext context) {
+        if (stmt.trim().endsWith(";")) {
+            return context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+        } else {
+            return context.replaceDynamicContentInString(stmt.trim());
+        }
+    }
+
+    /**
+     * Streams data file line by line and executes data statement with line values as parameters in batches.
+     * @param context
+     */
+    protected void loadDataFile(TestContext context) {
+        if (!StringUtils.hasText(dataResourcePath)) {
+            return;
+        }
+
+        if (!StringUtils.hasText(dataStatement)) {
+            throw new CitrusRuntimeException("Missing data statement for data file " + dataResourcePath);
+        }
+
+        Resource dataResource = FileUtils.getFileResource(dataResourcePath, context);
+        String sql = context.replaceDynamicContentInString(dataStatement);
+        String delimiterValue = context.replaceDynamicContentInString(dataDelimiter);
+        if (delimiterValue == null || delimiterValue.length() != 1) {
+            throw new CitrusRuntimeException(String.format("Invalid data delimiter '%s' - expected single character", delimiterValue));
+        }
+
+        char delimiter = delimiterValue.charAt(0);
+        int chunkSize = getBatchSize() > 0 ? getBatchSize() : DEFAULT_DATA_BATCH_SIZE;
+
+        int rows = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(dataResource.getInputStream(), FileUtils.getDefaultCharset()))) {
+            List<Object[]> chunk = new ArrayList<>(chunkSize);
+            boolean skipHeader = dataHeader;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (skipHeader) {
+                    skipHeader = false;
+                    continue;
+                }
+
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+
+                chunk.add(SqlUtils.parseCsvLine(line, delimiter).toArray());
+                if (chunk.size() >= chunkSize) {
+                    rows += executeDataChunk(sql, chunk);
+                }
+            }
+
+            rows += executeDataChunk(sql, chunk);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read data file " + dataResourcePath, e);
+        }
+
+        log.info(String.format("Loaded %s rows from data file %s", rows, dataResourcePath));
+    }
+
+    /**
+     * Executes data statement for single data file line.
+     * @param sql
+     * @param values
+     */
+    private void executeDataLine(String sql, Object[] values) {
+        try {
+            getJdbcTemplate().update(sql, values);
+        } catch (DataAccessException e) {
+            if (ignoreErrors) {
+                log.warn("Ignoring error while loading data file: " + e.getMessage());
+            } else {
+                throw new CitrusRuntimeException("Failed to load data file " + dataResourcePath, e);
+            }
+        }
+    }
+
+    /**
+     * Executes data statement as batch for all lines in given chunk and clears the chunk.
+     * @param sql
+     * @param chunk
+     * @return number of executed lines
+     */
+    private int executeDataChunk(String sql, List<Object[]> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        int size = chunk.size();
+        try {
+            batchUpdate(sql, chunk, index -> executeDataLine(sql, chunk.get(index)));
+        } finally {
+            chunk.clear();
+        }
+
+        return size;
+    }
+
     /**
      * Ignore errors during execution.
      * @param ignoreErrors boolean flag to set
@@ -113,4 +251,79 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     public boolean isIgnoreErrors() {
         return ignoreErrors;
     }
+
+    /**
+     * Sets data file with delimiter separated values and the parameterized statement executed for each line.
+     * @param dataResourcePath
+     * @param dataStatement
+     */
+    public ExecuteSQLAction setDataFile(String dataResourcePath, String dataStatement) {
+        this.dataResourcePath = dataResourcePath;
+        this.dataStatement = dataStatement;
+        return this;
+    }
+
+    /**
+     * Gets the dataResourcePath.
+     * @return
+     */
+    public String getDataResourcePath() {
+        return dataResourcePath;
+    }
+
+    /**
+     * Sets the dataResourcePath.
+     * @param dataResourcePath
+     */
+    public void setDataResourcePath(String dataResourcePath) {
+        this.dataResourcePath = dataResourcePath;
+    }
+
+    /**
+     * Gets the dataStatement.
+     * @return
+     */
+    public String getDataStatement() {
+        return dataStatement;
+    }
+
+    /**
+     * Sets the dataStatement.
+     * @param dataStatement
+     */
+    public void setDataStatement(String dataStatement) {
+        this.dataStatement = dataStatement;
+    }
+
+    /**
+     * Gets the dataDelimiter.
+     * @return
+     */
+    public String getDataDelimiter() {
+        return dataDelimiter;
+    }
+
+    /**
+     * Sets the dataDelimiter.
+     * @param dataDelimiter
+     */
+    public void setDataDelimiter(String dataDelimiter) {
+        this.dataDelimiter = dataDelimiter;
+    }
+
+    /**
+     * Gets the dataHeader.
+     * @return
+     */
+    public boolean isDataHeader() {
+        return dataHeader;
+    }
+
+    /**
+     * Sets the dataHeader.
+     * @param dataHeader
+     */
+    public void setDataHeader(boolean dataHeader) {
+        this.dataHeader = dataHeader;
+    }
 }
@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.Map.Entry;
@@ -61,7 +62,12 @@ public class LoadPropertiesAction extends AbstractTestAction {
 
         Properties props;
         try {
-            props = PropertiesLoaderUtils.loadProperties(resource);
+            if (resource.getFilename() != null && resource.getFilename().endsWith(".xml")) {
+                props = PropertiesLoaderUtils.loadProperties(resource);
+            } else {
+                props = new Properties();
+                props.load(new ByteArrayInputStream(FileUtils.copyToByteArray(resource)));
+            }
         } catch (IOException e) {
             throw new CitrusRuntimeException(e);
         }
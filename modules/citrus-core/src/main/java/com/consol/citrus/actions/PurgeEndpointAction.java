@@ -23,6 +23,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageSelectorBuilder;
 import com.consol.citrus.messaging.Consumer;
+import com.consol.citrus.messaging.PurgingConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +37,10 @@ import java.util.*;
 /**
  * Action purges all messages from a message endpoint. Action receives
  * a list of endpoint objects or a list of endpoint names that are resolved dynamically at runtime.
+ *
+ * Endpoints with purging consumers (e.g. in memory message channels) drop all messages in one single operation. Other endpoints
+ * are drained by receiving messages until receive timeout is reached. After a drain round has removed messages action waits
+ * sleep time and drains again in order to catch messages still in flight.
  * 
  * @author Christoph Deppisch
  * @since 2.4
@@ -59,7 +64,7 @@ public class PurgeEndpointAction extends AbstractTestAction implements BeanFacto
     /** Time to wait until timeout in ms */
     private long receiveTimeout = 100;
 
-    /** Wait some time between message consumption in ms */
+    /** Wait some time between drain rounds in ms */
     private long sleepTime = 350;
 
     /** Logger */
@@ -103,10 +108,48 @@ public class PurgeEndpointAction extends AbstractTestAction implements BeanFacto
 
         int messagesPurged = 0;
         Consumer messageConsumer = endpoint.createConsumer();
+        String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
+
+        if (messageConsumer instanceof PurgingConsumer) {
+            messagesPurged = ((PurgingConsumer) messageConsumer).purge(selector, context);
+        }
+
+        if (messagesPurged < 0) {
+            messagesPurged = 0;
+
+            int purgedInRound;
+            do {
+                purgedInRound = drainEndpoint(endpoint, messageConsumer, selector, context);
+                messagesPurged += purgedInRound;
+
+                if (purgedInRound > 0) {
+                    try {
+                        Thread.sleep(sleepTime);
+                    } catch (InterruptedException e) {
+                        log.warn("Interrupted during wait", e);
+                    }
+                }
+            } while (purgedInRound > 0);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Purged " + messagesPurged + " messages from endpoint");
+        }
+    }
+
+    /**
+     * Receives messages from endpoint until receive timeout is reached.
+     * @param endpoint
+     * @param messageConsumer
+     * @param selector
+     * @param context
+     * @return number of received messages
+     */
+    private int drainEndpoint(Endpoint endpoint, Consumer messageConsumer, String selector, TestContext context) {
+        int messagesPurged = 0;
         Message message;
         do {
             try {
-                String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
                 if (StringUtils.hasText(selector) && messageConsumer instanceof SelectiveConsumer) {
                     message = (receiveTimeout >= 0) ? ((SelectiveConsumer) messageConsumer).receive(selector, context, receiveTimeout) : ((SelectiveConsumer) messageConsumer).receive(selector, context);
                 } else {
@@ -122,18 +165,10 @@ public class PurgeEndpointAction extends AbstractTestAction implements BeanFacto
             if (message != null) {
                 log.debug("Removed message from endpoint " + endpoint.getName());
                 messagesPurged++;
-
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    log.warn("Interrupted during wait", e);
-                }
             }
         } while (message != null);
 
-        if (log.isDebugEnabled()) {
-            log.debug("Purged " + messagesPurged + " messages from endpoint");
-        }
+        return messagesPurged;
     }
 
     /**
@@ -23,6 +23,7 @@ import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageDirection;
+import com.consol.citrus.util.RandomUtils;
 import com.consol.citrus.validation.builder.MessageContentBuilder;
 import com.consol.citrus.validation.builder.PayloadTemplateMessageBuilder;
 import com.consol.citrus.variable.VariableExtractor;
@@ -107,7 +108,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
             log.debug("Forking message sending action ...");
 
             SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(() -> {
+            taskExecutor.execute(RandomUtils.propagate(() -> {
                 try {
                     messageEndpoint.createProducer().send(message, context);
                 } catch (Exception e) {
@@ -119,7 +120,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
                 } finally {
                     finished.complete(null);
                 }
-            });
+            }));
         } else {
             try {
                 messageEndpoint.createProducer().send(message, context);
@@ -17,10 +17,12 @@
 package com.consol.citrus.channel;
 
 import com.consol.citrus.channel.selector.DispatchingMessageSelector;
+import com.consol.citrus.channel.selector.MessagePayloadCache;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.messaging.PurgingConsumer;
 import com.consol.citrus.message.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,7 +36,7 @@ import org.springframework.util.StringUtils;
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class ChannelConsumer extends AbstractSelectiveMessageConsumer {
+public class ChannelConsumer extends AbstractSelectiveMessageConsumer implements PurgingConsumer {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(ChannelConsumer.class);
@@ -42,6 +44,9 @@ public class ChannelConsumer extends AbstractSelectiveMessageConsumer {
     /** Endpoint configuration */
     private ChannelEndpointConfiguration endpointConfiguration;
 
+    /** Parsed message payloads shared by all selective receive and purge operations of this consumer */
+    private final MessagePayloadCache payloadCache = new MessagePayloadCache();
+
     /**
      * Default constructor using endpoint configuration.
      * @param name
@@ -74,7 +79,7 @@ public class ChannelConsumer extends AbstractSelectiveMessageConsumer {
                         "' does not support selective receive operations.");
             }
 
-            MessageSelector messageSelector = new DispatchingMessageSelector(selector, endpointConfiguration.getBeanFactory(), context);
+            MessageSelector messageSelector = createMessageSelector(selector, context);
             MessageSelectingQueueChannel queueChannel = ((MessageSelectingQueueChannel) destinationChannel);
 
             if (timeout <= 0) {
@@ -102,6 +107,39 @@ public class ChannelConsumer extends AbstractSelectiveMessageConsumer {
         return message;
     }
 
+    @Override
+    public int purge(String selector, TestContext context) {
+        MessageChannel destinationChannel = getDestinationChannel(context);
+        if (!(destinationChannel instanceof MessageSelectingQueueChannel)) {
+            return -1;
+        }
+
+        if (StringUtils.hasText(selector)) {
+            return ((MessageSelectingQueueChannel) destinationChannel).drop(createMessageSelector(selector, context));
+        }
+
+        return ((MessageSelectingQueueChannel) destinationChannel).drop();
+    }
+
+    /**
+     * Creates message selector using the payload cache of this consumer so payloads already parsed in previous
+     * receive operations are reused.
+     * @param selector
+     * @param context
+     * @return
+     */
+    private MessageSelector createMessageSelector(String selector, TestContext context) {
+        return new DispatchingMessageSelector(selector, endpointConfiguration.getBeanFactory(), context, payloadCache);
+    }
+
+    /**
+     * Gets the payload cache shared by selective receive operations of this consumer.
+     * @return
+     */
+    public MessagePayloadCache getPayloadCache() {
+        return payloadCache;
+    }
+
     /**
      * Get the destination channel depending on settings in this message sender.
      * Either a direct channel object is set or a channel name which will be resolved
@@ -22,6 +22,9 @@ import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -86,6 +89,34 @@ public class MessageSelectingQueueChannel extends QueueChannel {
         return null;
     }
     
+    /**
+     * Drops all messages on the channel in one single operation.
+     * @return number of dropped messages
+     */
+    public int drop() {
+        List<Message<?>> dropped = new ArrayList<>(this.queue.size());
+        this.queue.drainTo(dropped);
+        return dropped.size();
+    }
+
+    /**
+     * Drops all messages on the channel accepted by given message selector.
+     * @param selector
+     * @return number of dropped messages
+     */
+    public int drop(MessageSelector selector) {
+        int dropped = 0;
+        Iterator<Message<?>> messages = this.queue.iterator();
+        while (messages.hasNext()) {
+            if (selector.accept(messages.next())) {
+                messages.remove();
+                dropped++;
+            }
+        }
+
+        return dropped;
+    }
+
     /**
      * Consume messages on the channel via message selector. Timeout forces several retries
      * with polling interval setting.
@@ -18,9 +18,11 @@ package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.messaging.Message;
+import org.w3c.dom.Document;
 
 /**
  * @author Christoph Deppisch
@@ -35,6 +37,9 @@ public abstract class AbstractMessageSelector implements MessageSelector {
     /** Test context */
     protected final TestContext context;
 
+    /** Optional cache of parsed message payloads shared with other selectors */
+    private MessagePayloadCache payloadCache;
+
     /**
      * Default constructor using fields.
      * @param selectKey
@@ -60,6 +65,20 @@ public abstract class AbstractMessageSelector implements MessageSelector {
         }
     }
 
+    /**
+     * Reads message payload as XML document. Uses payload cache when set so parsed documents are shared
+     * with other selectors evaluating the same message.
+     * @param message
+     * @return
+     */
+    Document getPayloadAsDocument(Message<?> message) {
+        if (payloadCache != null) {
+            return payloadCache.get(message, Document.class, msg -> XMLUtils.parseMessagePayload(getPayloadAsString(msg)));
+        }
+
+        return XMLUtils.parseMessagePayload(getPayloadAsString(message));
+    }
+
     /**
      * Evaluates given value to match this selectors matching condition. Automatically supports validation matcher expressions.
      * @param value
@@ -77,4 +96,20 @@ public abstract class AbstractMessageSelector implements MessageSelector {
             return value.equals(matchingValue);
         }
     }
+
+    /**
+     * Gets the payload cache.
+     * @return
+     */
+    public MessagePayloadCache getPayloadCache() {
+        return payloadCache;
+    }
+
+    /**
+     * Sets the payload cache.
+     * @param payloadCache
+     */
+    public void setPayloadCache(MessagePayloadCache payloadCache) {
+        this.payloadCache = payloadCache;
+    }
 }
@@ -26,6 +26,7 @@ import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Message selector dispatches incoming messages to several other selector implementations
@@ -33,12 +34,22 @@ import java.util.*;
  * 
  * By default uses {@link HeaderMatchingMessageSelector} and supports {@link RootQNameMessageSelector} and
  * {@link XpathPayloadMessageSelector}.
+ *
+ * Delegate selectors are created once per dispatching selector. Header matching delegates are evaluated before
+ * payload related delegates so cheap header predicates reject messages before any payload is parsed. Parsed payloads are
+ * shared among delegates and repeated evaluations of the same message via {@link MessagePayloadCache}.
  * 
  * @author Christoph Deppisch
  * @since 1.2
  */
 public class DispatchingMessageSelector implements MessageSelector {
 
+    /** Maximum number of parsed selector strings to cache */
+    private static final int MAX_CACHED_SELECTORS = 1000;
+
+    /** Parsed selector key value maps by selector string */
+    private static final Map<String, Map<String, String>> parsedSelectors = new ConcurrentHashMap<>();
+
     /** List of header elements to match */
     private final Map<String, String> matchingHeaders;
     
@@ -51,13 +62,28 @@ public class DispatchingMessageSelector implements MessageSelector {
     /** Test context */
     private final TestContext context;
 
+    /** Delegate selectors created from matching headers, header selectors first */
+    private List<MessageSelector> delegates;
+
+    /** Parsed message payloads shared by delegate selectors */
+    private final MessagePayloadCache payloadCache;
+
     /**
      * Default constructor using a selector string.
      */
     public DispatchingMessageSelector(String selector, BeanFactory beanFactory, TestContext context) {
+        this(selector, beanFactory, context, new MessagePayloadCache());
+    }
+
+    /**
+     * Constructor using a selector string and payload cache. Consumers pass in their own payload cache so parsed payloads
+     * survive across several receive operations on the same messages. Selectors sharing a cache evaluate messages one at a time.
+     */
+    public DispatchingMessageSelector(String selector, BeanFactory beanFactory, TestContext context, MessagePayloadCache payloadCache) {
         this.beanFactory = beanFactory;
         this.context = context;
-        this.matchingHeaders = MessageSelectorBuilder.withString(selector).toKeyValueMap();
+        this.payloadCache = payloadCache;
+        this.matchingHeaders = parseSelector(selector);
         
         Assert.isTrue(matchingHeaders.size() > 0, "Invalid empty message selector");
 
@@ -79,14 +105,73 @@ public class DispatchingMessageSelector implements MessageSelector {
     
     @Override
     public boolean accept(Message<?> message) {
-        return matchingHeaders.entrySet()
-                              .stream()
-                              .allMatch(entry -> factories.stream()
-                                                     .filter(factory -> factory.supports(entry.getKey()))
-                                                     .findAny()
-                                                     .orElse(new HeaderMatchingMessageSelector.Factory())
-                                                     .create(entry.getKey(), entry.getValue(), context)
-                                                     .accept(message));
+        List<MessageSelector> selectors = getDelegates();
+
+        // parsed payloads such as DOM documents are not thread safe so evaluations sharing a cache must not run concurrently
+        synchronized (payloadCache) {
+            for (MessageSelector delegate : selectors) {
+                if (!delegate.accept(message)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets delegate selectors for all matching headers. Creates delegates on first access with header
+     * matching selectors sorted to the front.
+     * @return
+     */
+    private synchronized List<MessageSelector> getDelegates() {
+        if (delegates == null) {
+            List<MessageSelector> headerSelectors = new ArrayList<>();
+            List<MessageSelector> payloadSelectors = new ArrayList<>();
+
+            for (Map.Entry<String, String> entry : matchingHeaders.entrySet()) {
+                MessageSelector delegate = factories.stream()
+                                                .filter(factory -> factory.supports(entry.getKey()))
+                                                .findAny()
+                                                .orElse(new HeaderMatchingMessageSelector.Factory())
+                                                .create(entry.getKey(), entry.getValue(), context);
+
+                if (delegate instanceof AbstractMessageSelector) {
+                    ((AbstractMessageSelector) delegate).setPayloadCache(payloadCache);
+                }
+
+                if (delegate instanceof HeaderMatchingMessageSelector) {
+                    headerSelectors.add(delegate);
+                } else {
+                    payloadSelectors.add(delegate);
+                }
+            }
+
+            headerSelectors.addAll(payloadSelectors);
+            delegates = headerSelectors;
+        }
+
+        return delegates;
+    }
+
+    /**
+     * Parses selector string to key value map. Parsed selectors are cached as the same selector strings
+     * are used over and over again in receive operations.
+     * @param selector
+     * @return
+     */
+    private static Map<String, String> parseSelector(String selector) {
+        Map<String, String> parsed = parsedSelectors.get(selector);
+        if (parsed == null) {
+            parsed = Collections.unmodifiableMap(MessageSelectorBuilder.withString(selector).toKeyValueMap());
+
+            if (parsedSelectors.size() >= MAX_CACHED_SELECTORS) {
+                parsedSelectors.clear();
+            }
+            parsedSelectors.put(selector, parsed);
+        }
+
+        return parsed;
     }
 
     /**
@@ -98,7 +183,10 @@ public class DispatchingMessageSelector implements MessageSelector {
             ((BeanFactoryAware) factory).setBeanFactory(beanFactory);
         }
 
-        this.factories.add(factory);
+        synchronized (this) {
+            this.factories.add(factory);
+            this.delegates = null;
+        }
     }
 
 }
@@ -44,7 +44,7 @@ public class HeaderMatchingMessageSelector extends AbstractMessageSelector {
     public boolean accept(Message<?> message) {
         MessageHeaders messageHeaders = message.getHeaders();
 
-        Map<String, Object> nestedMessageHeaders = new HashMap<>();
+        Map<String, Object> nestedMessageHeaders = Collections.emptyMap();
         if (message.getPayload() instanceof com.consol.citrus.message.Message) {
             nestedMessageHeaders = ((com.consol.citrus.message.Message) message.getPayload()).getHeaders();
         }
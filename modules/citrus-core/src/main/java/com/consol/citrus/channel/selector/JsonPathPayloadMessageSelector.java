@@ -19,6 +19,10 @@ package com.consol.citrus.channel.selector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.json.JsonPathUtils;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
 import org.springframework.messaging.Message;
 import org.springframework.util.StringUtils;
 
@@ -54,12 +58,29 @@ public class JsonPathPayloadMessageSelector extends AbstractMessageSelector {
         }
 
         try {
+            if (getPayloadCache() != null) {
+                return evaluate(JsonPathUtils.evaluateAsString(getPayloadCache().get(message, ReadContext.class, msg -> parseJson(payload)), selectKey));
+            }
+
             return evaluate(JsonPathUtils.evaluateAsString(payload, selectKey));
         } catch (CitrusRuntimeException e) {
             return false;
         }
     }
 
+    /**
+     * Parses Json payload to read context.
+     * @param payload
+     * @return
+     */
+    private ReadContext parseJson(String payload) {
+        try {
+            return JsonPath.parse(new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(payload));
+        } catch (ParseException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
     /**
      * Message selector factory for this implementation.
      */
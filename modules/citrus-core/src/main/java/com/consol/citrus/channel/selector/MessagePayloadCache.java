@@ -0,0 +1,101 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.channel.selector;
+
+import org.springframework.messaging.Message;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Memoizes parsed message payload representations (e.g. XML documents, Json read contexts) per message id so
+ * that several selectors and repeated polling attempts evaluating the same message do not parse the payload over and over again.
+ *
+ * Cache is bounded and evicts least recently used messages first. Cache is not meant to be shared across threads as
+ * parsed payload representations such as DOM documents are not thread safe.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class MessagePayloadCache {
+
+    /** Default maximum number of messages to keep parsed payloads for */
+    public static final int DEFAULT_MAX_SIZE = 500;
+
+    /** Parsed payload representations by message id and type */
+    private final Map<UUID, Map<Class<?>, Object>> cache;
+
+    /**
+     * Default constructor.
+     */
+    public MessagePayloadCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor using maximum number of cached messages.
+     * @param maxSize
+     */
+    public MessagePayloadCache(final int maxSize) {
+        this.cache = new LinkedHashMap<UUID, Map<Class<?>, Object>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Map<Class<?>, Object>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets parsed payload of given type for the message. Parses payload with given parser function
+     * in case no cached representation is available yet. Messages without id are never cached.
+     * @param message
+     * @param type
+     * @param parser
+     * @param <T>
+     * @return
+     */
+    public synchronized <T> T get(Message<?> message, Class<T> type, Function<Message<?>, T> parser) {
+        UUID id = message.getHeaders().getId();
+        if (id == null) {
+            return parser.apply(message);
+        }
+
+        Map<Class<?>, Object> parsed = cache.computeIfAbsent(id, key -> new HashMap<>(2));
+        Object value = parsed.get(type);
+        if (value == null) {
+            value = parser.apply(message);
+            parsed.put(type, value);
+        }
+
+        return type.cast(value);
+    }
+
+    /**
+     * Gets the number of messages currently cached.
+     * @return
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached payloads.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+}
@@ -17,7 +17,6 @@ package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.util.XMLUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.Message;
@@ -67,7 +66,7 @@ public class RootQNameMessageSelector extends AbstractMessageSelector {
         Document doc;
         
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = getPayloadAsDocument(message);
         } catch (LSException e) {
             log.warn("Root QName message selector ignoring not well-formed XML message payload", e);
             return false; // non XML message - not accepted
@@ -58,7 +58,7 @@ public class XpathPayloadMessageSelector extends AbstractMessageSelector {
         Document doc;
 
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = getPayloadAsDocument(message);
         } catch (LSException e) {
             log.warn("Ignoring non XML message for XPath message selector (" + e.getClass().getName() + ")");
             return false; // non XML message - not accepted
@@ -63,6 +63,8 @@ public class ExecutePLSQLActionParser implements BeanDefinitionParser {
             beanDefinition.addPropertyValue("ignoreErrors", true);
         }
 
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("batch-size"), "batchSize");
+
         return beanDefinition.getBeanDefinition();
     }
 }
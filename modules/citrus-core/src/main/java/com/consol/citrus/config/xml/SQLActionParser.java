@@ -99,6 +99,8 @@ public class SQLActionParser implements BeanDefinitionParser {
         if (ignoreErrors != null && ignoreErrors.equals("true")) {
             beanDefinition.addPropertyValue("ignoreErrors", true);
         }
+
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("batch-size"), "batchSize");
         
         return beanDefinition;
     }
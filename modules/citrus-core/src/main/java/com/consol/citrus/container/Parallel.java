@@ -20,6 +20,7 @@ import com.consol.citrus.TestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ParallelContainerException;
+import com.consol.citrus.util.RandomUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,7 +53,7 @@ public class Parallel extends AbstractActionContainer {
     @Override
     public void doExecute(TestContext context) {
         for (final TestAction action : actions) {
-            Thread t = new Thread(new ActionRunner(action, context) {
+            Thread t = new Thread(RandomUtils.propagate(new ActionRunner(action, context) {
                 @Override
                 public void exceptionCallback(CitrusRuntimeException e) {
                     if (exceptions.isEmpty()) {
@@ -61,7 +62,7 @@ public class Parallel extends AbstractActionContainer {
                     
                     exceptions.add(e);
                 }
-            });
+            }));
 
             threads.push(t);
             t.start();
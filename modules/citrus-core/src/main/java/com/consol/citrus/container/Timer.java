@@ -19,11 +19,13 @@ package com.consol.citrus.container;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.RandomUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
+import java.util.SplittableRandom;
 import java.util.TimerTask;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -57,11 +59,11 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     public void doExecute(final TestContext context) {
         if (fork) {
             SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(new Runnable() {
+            taskExecutor.execute(RandomUtils.propagate(new Runnable() {
                 public void run() {
                     configureAndRunTimer(context);
                 }
-            });
+            }));
         } else {
             configureAndRunTimer(context);
         }
@@ -72,11 +74,16 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
         context.registerTimer(getTimerId(), this);
 
+        SplittableRandom random = RandomUtils.fork();
         TimerTask timerTask = new TimerTask() {
             int indexCount = 0;
 
             @Override
             public void run() {
+                RandomUtils.runWith(random, this::fireEvent);
+            }
+
+            private void fireEvent() {
                 try {
                     indexCount++;
                     updateIndexCountInTestContext(context);
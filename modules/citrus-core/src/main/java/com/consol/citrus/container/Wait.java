@@ -21,6 +21,7 @@ import com.consol.citrus.condition.Condition;
 import com.consol.citrus.condition.ActionCondition;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.RandomUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
@@ -86,7 +87,7 @@ public class Wait extends AbstractActionContainer {
             }
 
             ExecutorService executor = Executors.newSingleThreadExecutor();
-            Future<Boolean> future = executor.submit(callable);
+            Future<Boolean> future = executor.submit(RandomUtils.propagate(callable));
             long checkStartTime = System.currentTimeMillis();
             try {
                 conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
@@ -16,9 +16,11 @@
 
 package com.consol.citrus.context;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
 import com.consol.citrus.endpoint.EndpointFactory;
 import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.message.BoundedMessageStore;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.validation.MessageValidatorRegistry;
@@ -34,6 +36,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
 
 /**
  * Factory bean implementation taking care of {@link FunctionRegistry} and {@link GlobalVariables}.
@@ -172,6 +177,16 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             context.setNamespaceContextBuilder(namespaceContextBuilder);
         }
 
+        int maxMessages = Integer.parseInt(Citrus.MESSAGE_STORE_MAX_MESSAGES);
+        long maxBytes = Long.parseLong(Citrus.MESSAGE_STORE_MAX_BYTES);
+        if (maxMessages > 0 || maxBytes > 0) {
+            BoundedMessageStore messageStore = new BoundedMessageStore(maxMessages, maxBytes);
+            if (StringUtils.hasText(Citrus.MESSAGE_STORE_SPILL_DIRECTORY)) {
+                messageStore.setSpillDirectory(new File(Citrus.MESSAGE_STORE_SPILL_DIRECTORY));
+            }
+            context.setMessageStore(messageStore);
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Created new test context - using global variables: '"
                     + context.getGlobalVariables() + "'");
@@ -21,7 +21,6 @@ import com.consol.citrus.exceptions.InvalidFunctionUsageException;
 import com.consol.citrus.functions.Function;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Function to choose one random value from a list of strings. The enumeration values to choose from
@@ -72,7 +71,6 @@ import java.util.Random;
  * @author Dimo Velev (dimo.velev@gmail.com)
  */
 public class RandomEnumValueFunction implements Function {
-	private Random random = new Random(System.currentTimeMillis());
 	private List<String> values = null;
 	
 	/**
@@ -101,7 +99,7 @@ public class RandomEnumValueFunction implements Function {
 			throw new InvalidFunctionUsageException("No values to choose from");
 		}
 		
-		final int idx = random.nextInt(values.size());
+		final int idx = RandomGenerator.nextInt(values.size());
 		
 		return values.get(idx);
 	}
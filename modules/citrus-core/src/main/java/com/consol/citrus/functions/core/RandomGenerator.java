@@ -0,0 +1,114 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.functions.core;
+
+import com.consol.citrus.util.RandomUtils;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Random data generator shared by all random functions. Each thread uses its own splittable generator provided by
+ * {@link RandomUtils} so random values are generated without contention and can be reproduced when a random seed is set.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class RandomGenerator {
+
+    /**
+     * Prevent instantiation.
+     */
+    private RandomGenerator() {
+        super();
+    }
+
+    /**
+     * Gets the generator of the current thread. Generator must not be shared with other threads.
+     * @return
+     */
+    public static SplittableRandom current() {
+        return RandomUtils.current();
+    }
+
+    /**
+     * Gets random int value between zero (inclusive) and bound (exclusive).
+     * @param bound
+     * @return
+     */
+    public static int nextInt(int bound) {
+        return current().nextInt(bound);
+    }
+
+    /**
+     * Generates random UUID (version 4) with the generator of the current thread.
+     * @return
+     */
+    public static UUID uuid() {
+        SplittableRandom random = current();
+        long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Generates given number of random numbers with given length.
+     * @param count
+     * @param numberLength
+     * @param paddingOn
+     * @return
+     */
+    public static List<String> numbers(int count, int numberLength, boolean paddingOn) {
+        return generate(count, () -> RandomNumberFunction.getRandomNumber(numberLength, paddingOn));
+    }
+
+    /**
+     * Generates given number of random strings with given length.
+     * @param count
+     * @param numberOfLetters
+     * @param notationMethod one of upper case, lower case or mixed
+     * @param includeNumbers
+     * @return
+     */
+    public static List<String> strings(int count, int numberOfLetters, String notationMethod, boolean includeNumbers) {
+        return generate(count, () -> RandomStringFunction.getRandomString(numberOfLetters, notationMethod, includeNumbers));
+    }
+
+    /**
+     * Generates given number of random UUID values.
+     * @param count
+     * @return
+     */
+    public static List<String> uuids(int count) {
+        return generate(count, () -> uuid().toString());
+    }
+
+    /**
+     * Generates given number of values with given value generator.
+     * @param count
+     * @param valueGenerator
+     * @return
+     */
+    public static <T> List<T> generate(int count, Supplier<T> valueGenerator) {
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(valueGenerator.get());
+        }
+
+        return values;
+    }
+}
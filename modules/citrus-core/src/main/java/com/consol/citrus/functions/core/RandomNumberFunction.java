@@ -22,7 +22,6 @@ import com.consol.citrus.functions.Function;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Function returning a random numeric value. Argument specifies the number of digits and
@@ -31,8 +30,6 @@ import java.util.Random;
  * @author Christoph Deppisch
  */
 public class RandomNumberFunction implements Function {
-    /** Basic seed generating random number */
-    private static Random generator = new Random(System.currentTimeMillis());
 
     /**
      * @see com.consol.citrus.functions.Function#execute(java.util.List, com.consol.citrus.context.TestContext)
@@ -75,7 +72,7 @@ public class RandomNumberFunction implements Function {
 
         StringBuilder buffer = new StringBuilder();
         for (int i = 0; i < numberLength; i++) {
-            buffer.append(generator.nextInt(10));
+            buffer.append(RandomGenerator.nextInt(10));
         }
 
         return checkLeadingZeros(buffer.toString(), paddingOn);
@@ -130,7 +127,7 @@ public class RandomNumberFunction implements Function {
             // find number > 0 as replacement to avoid leading zero numbers
             int replacement = 0;
             while (replacement == 0) {
-                replacement = generator.nextInt(10);
+                replacement = RandomGenerator.nextInt(10);
             }
             
             return replacement + generated.substring(1);
@@ -22,7 +22,6 @@ import com.consol.citrus.functions.Function;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Function generating a random string containing alphabetic characters. Arguments specify
@@ -31,7 +30,6 @@ import java.util.Random;
  * @author Christoph Deppisch
  */
 public class RandomStringFunction implements Function {
-    private static Random generator = new Random(System.currentTimeMillis());
 
     private static final char[] ALPHABET_UPPER = { 'A', 'B', 'C', 'D', 'E', 'F', 'G',
         'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T',
@@ -87,10 +85,21 @@ public class RandomStringFunction implements Function {
         if (parameterList.size() > 2) {
             includeNumbers = Boolean.valueOf(parameterList.get(2));
         }
-        
-        if (notationMethod.equals(UPPERCASE)) {
+
+        return getRandomString(numberOfLetters, notationMethod, includeNumbers);
+    }
+
+    /**
+     * Static random string generating method using alphabet of given notation method.
+     * @param numberOfLetters
+     * @param notationMethod
+     * @param includeNumbers
+     * @return
+     */
+    public static String getRandomString(int numberOfLetters, String notationMethod, boolean includeNumbers) {
+        if (UPPERCASE.equals(notationMethod)) {
             return getRandomString(numberOfLetters, ALPHABET_UPPER, includeNumbers);
-        } else if (notationMethod.equals(LOWERCASE)) {
+        } else if (LOWERCASE.equals(notationMethod)) {
             return getRandomString(numberOfLetters, ALPHABET_LOWER, includeNumbers);
         } else {
             return getRandomString(numberOfLetters, ALPHABET_MIXED, includeNumbers);
@@ -110,14 +119,14 @@ public class RandomStringFunction implements Function {
         int upperRange = alphabet.length - 1;
         
         // make sure first character is not a number
-        builder.append(alphabet[generator.nextInt(upperRange)]);
+        builder.append(alphabet[RandomGenerator.nextInt(upperRange)]);
         
         if (includeNumbers) {
             upperRange += NUMBERS.length;
         }
         
         for (int i = 1; i < numberOfLetters; i++) {
-            int letterIndex = generator.nextInt(upperRange);
+            int letterIndex = RandomGenerator.nextInt(upperRange);
             
             if (letterIndex > alphabet.length - 1) {
                 builder.append(NUMBERS[letterIndex - alphabet.length]);
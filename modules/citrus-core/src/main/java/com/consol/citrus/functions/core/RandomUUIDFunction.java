@@ -20,7 +20,6 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.functions.Function;
 
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Creates a random Java UUID.
@@ -33,6 +32,6 @@ public class RandomUUIDFunction  implements Function {
       * {@inheritDoc}
       */
     public String execute(List<String> parameterList, TestContext context) {
-        return UUID.randomUUID().toString();
+        return RandomGenerator.uuid().toString();
     }
 }
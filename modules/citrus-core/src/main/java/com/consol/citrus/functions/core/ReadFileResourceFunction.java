@@ -21,9 +21,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
 import com.consol.citrus.functions.Function;
 import com.consol.citrus.util.FileUtils;
-import org.apache.commons.codec.binary.Base64;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.FileCopyUtils;
 
 import java.io.IOException;
 import java.util.List;
@@ -49,7 +47,7 @@ public class ReadFileResourceFunction implements Function {
 
         try {
             if (base64) {
-                return Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(parameterList.get(0), context).getInputStream()));
+                return FileUtils.readToBase64(FileUtils.getFileResource(parameterList.get(0), context));
             } else {
                 return context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(parameterList.get(0), context), FileUtils.getCharset(parameterList.get(0))));
             }
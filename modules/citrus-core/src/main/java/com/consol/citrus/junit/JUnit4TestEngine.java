@@ -17,20 +17,26 @@
 package com.consol.citrus.junit;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.main.scan.ClassPathTestScanner;
 import com.consol.citrus.main.scan.JarFileTestScanner;
 import org.junit.Test;
-import org.junit.runner.JUnitCore;
+import org.junit.runner.*;
 import org.junit.runner.notification.RunListener;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.Suite;
+import org.junit.runners.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import java.net.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Christoph Deppisch
@@ -53,6 +59,17 @@ public class JUnit4TestEngine extends AbstractTestEngine {
 
     @Override
     public void run() {
+        try {
+            runTests();
+        } finally {
+            releaseTestClassLoader();
+        }
+    }
+
+    /**
+     * Runs configured test classes or all test classes found in configured packages.
+     */
+    private void runTests() {
         if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
             run(getConfiguration().getTestClasses());
         } else {
@@ -69,7 +86,7 @@ public class JUnit4TestEngine extends AbstractTestEngine {
                 }
 
                 if (getConfiguration().getTestJar() != null) {
-                    classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(), getConfiguration().getIncludes()).findTestsInPackage(packageName));
+                    classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(), Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName));
                 } else {
                     classesToRun.addAll(new ClassPathTestScanner(Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName));
                 }
@@ -91,26 +108,124 @@ public class JUnit4TestEngine extends AbstractTestEngine {
             junit.addListener(listener);
         }
 
-        junit.run(classesToRun
+        Class<?>[] testClasses = classesToRun
                 .stream()
                 .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                 .map(testClass -> {
                     try {
-                        Class<?> clazz;
-                        if (getConfiguration().getTestJar() != null) {
-                            clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{ getConfiguration().getTestJar().toURI().toURL() }, getClass().getClassLoader()));
-                        } else {
-                            clazz = Class.forName(testClass.getName());
-                        }
+                        Class<?> clazz = loadTestClass(testClass);
                         log.debug("Found test candidate: " + testClass.getName());
                         return clazz;
-                    } catch (ClassNotFoundException | MalformedURLException e) {
+                    } catch (ClassNotFoundException e) {
                         log.warn("Unable to read test class: " + testClass.getName());
                         return Void.class;
                     }
                 })
                 .filter(clazz -> !clazz.equals(Void.class))
-                .toArray(Class[]::new));
+                .toArray(Class[]::new);
+
+        TestRunConfiguration.ParallelMode parallel = Optional.ofNullable(getConfiguration().getParallel()).orElse(TestRunConfiguration.ParallelMode.NONE);
+        if (TestRunConfiguration.ParallelMode.NONE.equals(parallel)) {
+            junit.run(testClasses);
+            return;
+        }
+
+        log.info(String.format("Running tests in parallel by %s using %s threads", parallel.name().toLowerCase(), getConfiguration().getThreadCount()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(getConfiguration().getThreadCount());
+        try {
+            if (TestRunConfiguration.ParallelMode.PACKAGES.equals(parallel)) {
+                junit.run(Request.runner(createPackageSuite(testClasses, executor)));
+            } else {
+                junit.run(new ParallelComputer(TestRunConfiguration.ParallelMode.CLASSES.equals(parallel), executor), testClasses);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates suite holding one child suite per test package. Package suites are run in parallel while the classes of
+     * a package run sequentially.
+     * @param testClasses
+     * @param executor
+     * @return
+     */
+    private Runner createPackageSuite(Class<?>[] testClasses, ExecutorService executor) {
+        Map<String, List<Class<?>>> packages = Stream.of(testClasses)
+                .collect(Collectors.groupingBy(clazz -> Optional.ofNullable(clazz.getPackage()).map(Package::getName).orElse(""),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        List<Runner> packageRunners = packages.values()
+                .stream()
+                .map(classes -> Request.classes(classes.toArray(new Class[0])).getRunner())
+                .collect(Collectors.toList());
+
+        try {
+            return schedule(new Suite((Class<?>) null, packageRunners) {}, executor);
+        } catch (InitializationError e) {
+            throw new CitrusRuntimeException("Failed to create parallel test suite", e);
+        }
+    }
+
+    /**
+     * Schedules children of given runner on executor service and waits for all children to finish.
+     * @param runner
+     * @param executor
+     * @return
+     */
+    private static Runner schedule(Runner runner, ExecutorService executor) {
+        if (runner instanceof ParentRunner) {
+            ((ParentRunner<?>) runner).setScheduler(new RunnerScheduler() {
+                private final List<Future<?>> children = new ArrayList<>();
+
+                @Override
+                public void schedule(Runnable child) {
+                    children.add(executor.submit(child));
+                }
+
+                @Override
+                public void finished() {
+                    for (Future<?> child : children) {
+                        try {
+                            child.get();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new CitrusRuntimeException("Interrupted while waiting for parallel tests to finish", e);
+                        } catch (ExecutionException e) {
+                            throw new CitrusRuntimeException("Failed to run tests in parallel", e.getCause());
+                        }
+                    }
+                }
+            });
+        }
+
+        return runner;
+    }
+
+    /**
+     * Computer runs either test classes or test methods in parallel on given executor service.
+     */
+    private static class ParallelComputer extends Computer {
+        private final boolean classes;
+        private final ExecutorService executor;
+
+        ParallelComputer(boolean classes, ExecutorService executor) {
+            this.classes = classes;
+            this.executor = executor;
+        }
+
+        @Override
+        public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+            Runner suite = super.getSuite(builder, classes);
+            return this.classes ? schedule(suite, executor) : suite;
+        }
+
+        @Override
+        protected Runner getRunner(RunnerBuilder builder, Class<?> testClass) throws Throwable {
+            Runner runner = super.getRunner(builder, testClass);
+            return classes ? runner : schedule(runner, executor);
+        }
     }
 
     /**
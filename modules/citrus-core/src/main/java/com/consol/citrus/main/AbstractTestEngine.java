@@ -16,14 +16,37 @@
 
 package com.consol.citrus.main;
 
+import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.*;
+import java.util.*;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
  */
 public abstract class AbstractTestEngine implements TestEngine {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(AbstractTestEngine.class);
+
+    /** Maximum number of unused test jar class loaders kept open */
+    private static final int MAX_TEST_JAR_CLASS_LOADERS = 10;
+
+    /** Shared class loaders per test jar version in least recently used order */
+    private static final Map<TestJar, TestJarClassLoader> testJarClassLoaders = new LinkedHashMap<>(16, 0.75f, true);
+
     private final TestRunConfiguration configuration;
 
+    /** Test jar class loader acquired by this engine */
+    private TestJarClassLoader testJarClassLoader;
+
     public AbstractTestEngine(TestRunConfiguration configuration) {
         this.configuration = configuration;
     }
@@ -36,4 +59,161 @@ public abstract class AbstractTestEngine implements TestEngine {
     public TestRunConfiguration getConfiguration() {
         return configuration;
     }
+
+    /**
+     * Loads given test class either from test jar or from current classpath. All test classes in a test jar
+     * share the very same class loader. Engines must call {@link #releaseTestClassLoader()} when their test run is finished.
+     * @param testClass
+     * @return
+     * @throws ClassNotFoundException
+     */
+    protected Class<?> loadTestClass(TestClass testClass) throws ClassNotFoundException {
+        if (configuration.getTestJar() != null) {
+            synchronized (this) {
+                if (testJarClassLoader == null) {
+                    testJarClassLoader = acquireTestJarClassLoader(configuration.getTestJar());
+                }
+            }
+
+            return Class.forName(testClass.getName(), false, testJarClassLoader.classLoader);
+        } else {
+            return Class.forName(testClass.getName());
+        }
+    }
+
+    /**
+     * Releases the test jar class loader acquired by this engine. Class loader is closed when no other engine uses it
+     * and it is outdated or exceeds the limit of unused class loaders.
+     */
+    protected synchronized void releaseTestClassLoader() {
+        if (testJarClassLoader != null) {
+            releaseTestJarClassLoader(testJarClassLoader);
+            testJarClassLoader = null;
+        }
+    }
+
+    /**
+     * Acquires shared class loader for given test jar. Creates class loader on first access and whenever the test jar
+     * has been modified since. Class loaders stay open as long as engines use them.
+     * @param testJar
+     * @return
+     */
+    private static TestJarClassLoader acquireTestJarClassLoader(File testJar) {
+        TestJar key = new TestJar(testJar);
+
+        synchronized (testJarClassLoaders) {
+            TestJarClassLoader classLoader = testJarClassLoaders.get(key);
+            if (classLoader == null) {
+                Iterator<Map.Entry<TestJar, TestJarClassLoader>> outdated = testJarClassLoaders.entrySet().iterator();
+                while (outdated.hasNext()) {
+                    Map.Entry<TestJar, TestJarClassLoader> entry = outdated.next();
+                    if (entry.getKey().file.equals(key.file)) {
+                        outdated.remove();
+                        entry.getValue().evicted = true;
+                        closeIfUnused(entry.getValue());
+                    }
+                }
+
+                try {
+                    classLoader = new TestJarClassLoader(key, new URLClassLoader(new URL[] { key.file.toURI().toURL() }, AbstractTestEngine.class.getClassLoader()));
+                } catch (MalformedURLException e) {
+                    throw new CitrusRuntimeException("Failed to read test jar: " + key.file.getPath(), e);
+                }
+
+                testJarClassLoaders.put(key, classLoader);
+            }
+
+            classLoader.references++;
+            return classLoader;
+        }
+    }
+
+    /**
+     * Releases shared class loader. Least recently used class loaders that are not in use get closed when the number of
+     * cached class loaders exceeds the limit.
+     * @param classLoader
+     */
+    private static void releaseTestJarClassLoader(TestJarClassLoader classLoader) {
+        synchronized (testJarClassLoaders) {
+            classLoader.references--;
+            closeIfUnused(classLoader);
+
+            Iterator<TestJarClassLoader> eldest = testJarClassLoaders.values().iterator();
+            while (testJarClassLoaders.size() > MAX_TEST_JAR_CLASS_LOADERS && eldest.hasNext()) {
+                TestJarClassLoader entry = eldest.next();
+                if (entry.references == 0) {
+                    eldest.remove();
+                    entry.evicted = true;
+                    closeIfUnused(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes evicted test jar class loader when no engine uses it anymore and logs failures.
+     * @param classLoader
+     */
+    private static void closeIfUnused(TestJarClassLoader classLoader) {
+        if (!classLoader.evicted || classLoader.references > 0) {
+            return;
+        }
+
+        try {
+            classLoader.classLoader.close();
+        } catch (IOException e) {
+            log.warn("Failed to close class loader for test jar: " + classLoader.testJar.file.getPath(), e);
+        }
+    }
+
+    /**
+     * Shared test jar class loader with number of engines using it.
+     */
+    private static final class TestJarClassLoader {
+        private final TestJar testJar;
+        private final URLClassLoader classLoader;
+        private int references;
+        private boolean evicted;
+
+        TestJarClassLoader(TestJar testJar, URLClassLoader classLoader) {
+            this.testJar = testJar;
+            this.classLoader = classLoader;
+        }
+    }
+
+    /**
+     * Test jar version identified by its absolute path, last modified time and size.
+     */
+    private static final class TestJar {
+        private final File file;
+        private final long lastModified;
+        private final long length;
+
+        TestJar(File testJar) {
+            this.file = testJar.getAbsoluteFile();
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            TestJar testJar = (TestJar) o;
+            return lastModified == testJar.lastModified &&
+                    length == testJar.length &&
+                    Objects.equals(file, testJar.file);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(file, lastModified, length);
+        }
+    }
 }
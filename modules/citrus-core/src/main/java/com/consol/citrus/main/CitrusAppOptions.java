@@ -161,6 +161,33 @@ public class CitrusAppOptions {
                 }
             }
         });
+
+        options.add(new CliOption<CitrusAppConfiguration>("x", "parallel", "Parallel test execution mode (none, classes, methods, packages)") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setParallel(TestRunConfiguration.ParallelMode.fromString(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -x/--parallel option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusAppConfiguration>("n", "threads", "Number of threads used in parallel test execution") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    int threadCount = Integer.valueOf(value);
+                    if (threadCount < 1) {
+                        throw new CitrusRuntimeException(String.format("Invalid value '%s' for -n/--threads option - expected positive number", value));
+                    }
+
+                    configuration.setThreadCount(threadCount);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -n/--threads option");
+                }
+            }
+        });
     }
 
     /**
@@ -177,9 +204,18 @@ public class CitrusAppOptions {
      * @param arguments
      */
     public static <T extends CitrusAppConfiguration> T apply(T configuration, String[] arguments) {
+        return apply(new CitrusAppOptions(), configuration, arguments);
+    }
+
+    /**
+     * Apply given options based on given argument line.
+     * @param options
+     * @param configuration
+     * @param arguments
+     */
+    protected static <T extends CitrusAppConfiguration> T apply(CitrusAppOptions options, T configuration, String[] arguments) {
         LinkedList<String> args = new LinkedList<>(Arrays.asList(arguments));
 
-        CitrusAppOptions options = new CitrusAppOptions();
         while (!args.isEmpty()) {
             String arg = args.removeFirst();
 
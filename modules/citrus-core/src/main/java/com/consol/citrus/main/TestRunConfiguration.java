@@ -17,6 +17,7 @@
 package com.consol.citrus.main;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 
 import java.io.File;
 import java.util.*;
@@ -42,6 +43,12 @@ public class TestRunConfiguration {
     /** Optional test jar artifact holding tests */
     private File testJar;
 
+    /** Parallel test execution mode */
+    private ParallelMode parallel = ParallelMode.NONE;
+
+    /** Number of threads used in parallel test execution */
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+
     /**
      * Gets the testClasses.
      *
@@ -114,6 +121,42 @@ public class TestRunConfiguration {
         this.testJar = testJar;
     }
 
+    /**
+     * Gets the parallel.
+     *
+     * @return
+     */
+    public ParallelMode getParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets the parallel.
+     *
+     * @param parallel
+     */
+    public void setParallel(ParallelMode parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
     /**
      * Gets the defaultProperties.
      *
@@ -131,4 +174,29 @@ public class TestRunConfiguration {
     public void addDefaultProperties(Map<String, String> defaultProperties) {
         this.defaultProperties = defaultProperties;
     }
+
+    /**
+     * Parallel test execution modes. Package mode groups tests by Java package, tests in a group run sequentially on the same
+     * thread while groups run in parallel. This way tests sharing endpoints can be kept in a package and never run concurrently.
+     */
+    public enum ParallelMode {
+        NONE,
+        CLASSES,
+        METHODS,
+        PACKAGES;
+
+        /**
+         * Resolves parallel mode from given name ignoring case.
+         * @param name
+         * @return
+         * @throws CitrusRuntimeException when name does not match any of the supported modes
+         */
+        public static ParallelMode fromString(String name) {
+            return Arrays.stream(values())
+                    .filter(mode -> mode.name().equalsIgnoreCase(Optional.ofNullable(name).map(String::trim).orElse("")))
+                    .findFirst()
+                    .orElseThrow(() -> new CitrusRuntimeException(String.format("Unsupported parallel mode '%s' - expected one of %s",
+                            name, Arrays.toString(values()).toLowerCase())));
+        }
+    }
 }
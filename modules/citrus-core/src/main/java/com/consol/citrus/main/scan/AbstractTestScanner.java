@@ -16,6 +16,10 @@
 
 package com.consol.citrus.main.scan;
 
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -43,6 +47,37 @@ public abstract class AbstractTestScanner implements TestScanner {
                 .anyMatch(pattern -> pattern.matcher(className).matches());
     }
 
+    /**
+     * Checks class metadata for test annotation on class or method level. Super classes are also checked using given metadata lookup.
+     * Only class file metadata is read so candidate classes are neither loaded nor initialized.
+     * @param metadata
+     * @param annotationType
+     * @param superClassLookup
+     * @return
+     */
+    protected boolean isTestClass(AnnotationMetadata metadata, String annotationType, Function<String, Optional<AnnotationMetadata>> superClassLookup) {
+        if (!metadata.isConcrete() || !metadata.isIndependent()) {
+            return false;
+        }
+
+        Optional<AnnotationMetadata> current = Optional.of(metadata);
+        while (current.isPresent()) {
+            AnnotationMetadata classMetadata = current.get();
+            if (classMetadata.hasAnnotation(annotationType) || classMetadata.hasMetaAnnotation(annotationType) ||
+                    classMetadata.hasAnnotatedMethods(annotationType)) {
+                return true;
+            }
+
+            if (!classMetadata.hasSuperClass() || classMetadata.getSuperClassName().startsWith("java.")) {
+                return false;
+            }
+
+            current = superClassLookup.apply(classMetadata.getSuperClassName());
+        }
+
+        return false;
+    }
+
     /**
      * Gets the includes.
      *
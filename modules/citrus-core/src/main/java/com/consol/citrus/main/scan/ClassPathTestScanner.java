@@ -21,14 +21,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.core.type.ClassMetadata;
-import org.springframework.core.type.filter.AbstractClassTestingTypeFilter;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -55,28 +54,8 @@ public class ClassPathTestScanner extends AbstractTestScanner {
     @Override
     public List<TestClass> findTestsInPackage(String packageName) {
         ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
-        provider.addIncludeFilter(new AbstractClassTestingTypeFilter() {
-            @Override
-            protected boolean match(ClassMetadata metadata) {
-                if (!isIncluded(metadata.getClassName())) {
-                    return false;
-                }
-
-                try {
-                    Class<?> clazz = Class.forName(metadata.getClassName());
-                    if (clazz.isAnnotationPresent(annotationType)) {
-                        return true;
-                    }
-
-                    AtomicBoolean hasTestMethod = new AtomicBoolean(false);
-                    ReflectionUtils.doWithMethods(clazz, method -> hasTestMethod.set(true), method -> AnnotationUtils.findAnnotation(method, annotationType) != null);
-                    return hasTestMethod.get();
-                } catch (NoClassDefFoundError | ClassNotFoundException e) {
-                    log.warn("Unable to access class: " + metadata.getClassName());
-                    return false;
-                }
-            }
-        });
+        provider.addIncludeFilter((metadataReader, metadataReaderFactory) -> isIncluded(metadataReader.getClassMetadata().getClassName()) &&
+                isTestClass(metadataReader.getAnnotationMetadata(), annotationType.getName(), className -> readMetadata(metadataReaderFactory, className)));
 
         return provider.findCandidateComponents(packageName)
                 .stream()
@@ -85,4 +64,19 @@ public class ClassPathTestScanner extends AbstractTestScanner {
                 .map(TestClass::new)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Reads class metadata with given metadata reader factory.
+     * @param metadataReaderFactory
+     * @param className
+     * @return metadata or empty optional when class is not accessible
+     */
+    private Optional<AnnotationMetadata> readMetadata(MetadataReaderFactory metadataReaderFactory, String className) {
+        try {
+            return Optional.of(metadataReaderFactory.getMetadataReader(className).getAnnotationMetadata());
+        } catch (IOException e) {
+            log.warn("Unable to access class: " + className);
+            return Optional.empty();
+        }
+    }
 }
@@ -21,13 +21,21 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.*;
 import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.FileCopyUtils;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 /**
  * @author Christoph Deppisch
@@ -38,32 +46,125 @@ public class JarFileTestScanner extends AbstractTestScanner {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JarFileTestScanner.class);
 
+    /** Test class names found in jar files by jar checksum and scan settings */
+    private static final Map<String, List<String>> testIndex = new ConcurrentHashMap<>();
+
+    /** Metadata reader factory for super classes that are not part of the jar file */
+    private static final MetadataReaderFactory classPathMetadataReaderFactory = new CachingMetadataReaderFactory();
+
     /** Jar file resource to search in */
     private final File artifact;
 
+    /** Optional test annotation marking test classes and methods */
+    private final Class<? extends Annotation> annotationType;
+
     public JarFileTestScanner(File artifact, String... includes) {
+        this(artifact, null, includes);
+    }
+
+    /**
+     * Constructor using test annotation. Only classes that hold the test annotation on class or method level are found.
+     * @param artifact
+     * @param annotationType
+     * @param includes
+     */
+    public JarFileTestScanner(File artifact, Class<? extends Annotation> annotationType, String... includes) {
         super(includes);
         this.artifact = artifact;
+        this.annotationType = annotationType;
     }
 
     @Override
     public List<TestClass> findTestsInPackage(String packageToScan) {
-        List<TestClass> testClasses = new ArrayList<>();
-        if (artifact != null && artifact.isFile()) {
-            try (JarFile jar = new JarFile(artifact)) {
-                for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
-                    JarEntry entry = entries.nextElement();
-                    String className = StringUtils.removeEnd(entry.getName(), ".class" ).replace( "/", "." );
-                    if (new AntPathMatcher().matchStart(packageToScan.replace( ".", "/" ), entry.getName()) && isIncluded(className)) {
-                        log.info("Found test class candidate in test jar file: " +  entry.getName());
-                        testClasses.add(new TestClass(className));
+        if (artifact == null || !artifact.isFile()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            String indexKey = getChecksum(artifact) + ":" + Optional.ofNullable(annotationType).map(Class::getName).orElse("") + ":" +
+                    packageToScan + ":" + String.join(",", getIncludes());
+
+            List<String> testClassNames = testIndex.get(indexKey);
+            if (testClassNames == null) {
+                testClassNames = scan(packageToScan);
+                testIndex.put(indexKey, testClassNames);
+            } else {
+                log.debug(String.format("Using cached test index for jar file '%s'", artifact.getName()));
+            }
+
+            return testClassNames.stream()
+                    .map(TestClass::new)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to access jar file artifact", e);
+        }
+    }
+
+    /**
+     * Scans jar file entries in parallel and reads test annotations from class file metadata.
+     * @param packageToScan
+     * @return
+     * @throws IOException
+     */
+    private List<String> scan(String packageToScan) throws IOException {
+        try (JarFile jar = new JarFile(artifact)) {
+            AntPathMatcher pathMatcher = new AntPathMatcher();
+            String packagePattern = ClassUtils.convertClassNameToResourcePath(packageToScan) + "/**";
+            Map<String, Optional<AnnotationMetadata>> metadataCache = new ConcurrentHashMap<>();
+
+            return Collections.list(jar.entries())
+                    .parallelStream()
+                    .map(JarEntry::getName)
+                    .filter(entryName -> entryName.endsWith(".class"))
+                    .filter(entryName -> StringUtils.isEmpty(packageToScan) || pathMatcher.match(packagePattern, entryName))
+                    .map(entryName -> StringUtils.removeEnd(entryName, ".class" ).replace( "/", "." ))
+                    .filter(this::isIncluded)
+                    .filter(className -> annotationType == null ||
+                            readMetadata(jar, className, metadataCache)
+                                    .map(metadata -> isTestClass(metadata, annotationType.getName(), superClassName -> readMetadata(jar, superClassName, metadataCache)))
+                                    .orElse(false))
+                    .peek(className -> log.info("Found test class candidate in test jar file: " + className))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Reads class metadata from jar file entry or from classpath when class is not part of the jar file.
+     * @param jar
+     * @param className
+     * @param metadataCache
+     * @return metadata or empty optional when class is not accessible
+     */
+    private Optional<AnnotationMetadata> readMetadata(JarFile jar, String className, Map<String, Optional<AnnotationMetadata>> metadataCache) {
+        return metadataCache.computeIfAbsent(className, name -> {
+            try {
+                JarEntry entry = jar.getJarEntry(ClassUtils.convertClassNameToResourcePath(name) + ClassUtils.CLASS_FILE_SUFFIX);
+                if (entry != null) {
+                    try (InputStream inputStream = jar.getInputStream(entry)) {
+                        return Optional.of(new SimpleMetadataReaderFactory()
+                                .getMetadataReader(new ByteArrayResource(FileCopyUtils.copyToByteArray(inputStream)))
+                                .getAnnotationMetadata());
                     }
                 }
+
+                return Optional.of(classPathMetadataReaderFactory.getMetadataReader(name).getAnnotationMetadata());
             } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to access jar file artifact", e);
+                log.warn("Unable to access class: " + name);
+                return Optional.empty();
             }
-        }
+        });
+    }
 
-        return testClasses;
+    /**
+     * Computes checksum of given jar file.
+     * @param jarFile
+     * @return
+     * @throws IOException
+     */
+    private static String getChecksum(File jarFile) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(jarFile))) {
+            return DigestUtils.md5DigestAsHex(inputStream);
+        }
     }
 }
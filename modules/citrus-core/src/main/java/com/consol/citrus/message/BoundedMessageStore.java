@@ -0,0 +1,510 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Message store with upper bounds on the number of messages and the estimated payload bytes held in memory. Least recently
+ * used messages get evicted first. Evicted messages are either dropped with a warning or spilled to a temporary file in case a spill
+ * directory is set. Spilled messages are loaded back into memory on next access. The spill file is deleted when the store is closed
+ * at the end of the test.
+ *
+ * The spill file is accessed with positional file channel reads and writes instead of a memory mapped buffer. Mapped regions can not be
+ * unmapped explicitly before the file is deleted at the end of the test and a mapping has to be resized on every spill, so positional
+ * access keeps the file handling simple at the cost of a system call per spilled message. Space of messages loaded back from the file
+ * is reclaimed by compacting the file once the stale space outweighs the spilled payloads.
+ *
+ * Only String and byte array payloads are spilled so messages keep their payload type. Messages with other payload types stay in memory.
+ * Looking up a message that has been dropped because no spill directory is set logs a warning, as the test most likely expects the message
+ * to be available.
+ *
+ * Messages that have been read from the store at least once (e.g. by {@link com.consol.citrus.functions.core.LoadMessageFunction}) as well as
+ * explicitly retained message names are never evicted.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class BoundedMessageStore implements MessageStore, Closeable {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(BoundedMessageStore.class);
+
+    /** Maximum number of messages held in memory, zero or less means unlimited */
+    private int maxMessages = 1000;
+
+    /** Maximum estimated payload bytes held in memory, zero or less means unlimited */
+    private long maxBytes = 0L;
+
+    /** Optional directory to spill evicted messages to */
+    private File spillDirectory;
+
+    /** Message names that are never evicted */
+    private final Set<String> retainedNames = new HashSet<>();
+
+    /** Messages in memory in access order */
+    private final LinkedHashMap<String, Message> messages = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Estimated payload size of messages in memory */
+    private final Map<String, Long> messageSizes = new HashMap<>();
+    private long currentBytes = 0L;
+
+    /** Spilled messages by name */
+    private final Map<String, SpilledMessage> spilled = new HashMap<>();
+
+    /** Names of messages dropped on eviction */
+    private final Set<String> dropped = new HashSet<>();
+
+    /** Spill file channel created on first eviction */
+    private RandomAccessFile spillFile;
+    private File spillFilePath;
+
+    /** Number of payload bytes in spill file that belong to spilled messages */
+    private long spilledBytes = 0L;
+
+    /** Minimum number of stale bytes in spill file before the file is compacted */
+    private static final long COMPACT_THRESHOLD = 1024 * 1024L;
+
+    /**
+     * Default constructor.
+     */
+    public BoundedMessageStore() {
+        super();
+    }
+
+    /**
+     * Constructor using maximum number of messages and maximum bytes.
+     * @param maxMessages
+     * @param maxBytes
+     */
+    public BoundedMessageStore(int maxMessages, long maxBytes) {
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized Message getMessage(String id) {
+        Message message = messages.get(id);
+
+        if (message == null && spilled.containsKey(id)) {
+            SpilledMessage spilledMessage = spilled.get(id);
+            message = readSpilled(spilledMessage);
+            release(id);
+            put(id, message);
+        } else if (message == null && dropped.contains(id)) {
+            log.warn(String.format("Message '%s' has been dropped from message store because of capacity limits - " +
+                    "set a spill directory to keep evicted messages", id));
+        }
+
+        if (message != null) {
+            retainedNames.add(id);
+            evict();
+        }
+
+        return message;
+    }
+
+    @Override
+    public synchronized void storeMessage(String id, Message message) {
+        release(id);
+        dropped.remove(id);
+        put(id, message);
+        evict();
+    }
+
+    @Override
+    public String constructMessageName(TestAction action, Endpoint endpoint) {
+        return action.getName() + "(" + endpoint.getName() + ")";
+    }
+
+    /**
+     * Adds message to in memory store and updates byte estimation.
+     * @param id
+     * @param message
+     */
+    private void put(String id, Message message) {
+        Message previous = messages.put(id, message);
+        if (previous != null) {
+            currentBytes -= messageSizes.remove(id);
+        }
+
+        long size = estimateSize(message);
+        messageSizes.put(id, size);
+        currentBytes += size;
+    }
+
+    /**
+     * Evicts least recently used messages that are not retained until store is within bounds again.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Message>> it = messages.entrySet().iterator();
+        while (exceedsBounds() && it.hasNext()) {
+            Map.Entry<String, Message> entry = it.next();
+            if (retainedNames.contains(entry.getKey())) {
+                continue;
+            }
+
+            if (spillDirectory != null && !isSpillable(entry.getValue())) {
+                log.debug(String.format("Keeping message '%s' in memory as its payload type can not be spilled", entry.getKey()));
+                continue;
+            }
+
+            it.remove();
+            currentBytes -= messageSizes.remove(entry.getKey());
+
+            if (spillDirectory != null) {
+                spilled.put(entry.getKey(), spill(entry.getValue()));
+            } else {
+                dropped.add(entry.getKey());
+                log.warn(String.format("Evicted unread message '%s' from message store - set a spill directory to keep evicted messages", entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Checks if number of messages or estimated bytes exceed the configured limits.
+     * @return
+     */
+    private boolean exceedsBounds() {
+        return (maxMessages > 0 && messages.size() > maxMessages) ||
+                (maxBytes > 0 && currentBytes > maxBytes);
+    }
+
+    /**
+     * Estimates payload size in bytes. Only String and byte array payloads are measured, other payloads
+     * are converted to String first in case a byte limit is set.
+     * @param message
+     * @return
+     */
+    private long estimateSize(Message message) {
+        Object payload = message.getPayload();
+        if (payload instanceof byte[]) {
+            return ((byte[]) payload).length;
+        } else if (payload instanceof String) {
+            return ((String) payload).length() * 2L;
+        } else if (maxBytes > 0 && payload != null) {
+            return message.getPayload(String.class).length() * 2L;
+        }
+
+        return 0L;
+    }
+
+    /**
+     * Checks if message payload is spilled without changing its type.
+     * @param message
+     * @return
+     */
+    private boolean isSpillable(Message message) {
+        return message.getPayload() instanceof String || message.getPayload() instanceof byte[];
+    }
+
+    /**
+     * Writes message payload to spill file and keeps name, headers and header data in memory.
+     * @param message
+     * @return
+     */
+    private SpilledMessage spill(Message message) {
+        boolean binary = message.getPayload() instanceof byte[];
+        byte[] data = binary ? (byte[]) message.getPayload() : message.getPayload(String.class).getBytes(StandardCharsets.UTF_8);
+
+        try {
+            FileChannel channel = getSpillChannel();
+            long position = channel.size();
+            write(channel, data, position);
+            spilledBytes += data.length;
+
+            return new SpilledMessage(message, position, data.length, binary);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to spill message to file", e);
+        }
+    }
+
+    /**
+     * Removes spilled message with given name. Truncates the spill file when no spilled message is left and
+     * compacts the file when stale space exceeds the spilled payloads.
+     * @param id
+     */
+    private void release(String id) {
+        SpilledMessage spilledMessage = spilled.remove(id);
+        if (spilledMessage == null) {
+            return;
+        }
+
+        spilledBytes -= spilledMessage.length;
+
+        try {
+            FileChannel channel = getSpillChannel();
+            if (spilled.isEmpty()) {
+                channel.truncate(0L);
+            } else {
+                long stale = channel.size() - spilledBytes;
+                if (stale > spilledBytes && stale > COMPACT_THRESHOLD) {
+                    compact();
+                }
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to compact message store spill file", e);
+        }
+    }
+
+    /**
+     * Moves all spilled payloads to the start of the spill file in file order and truncates the stale space at the end.
+     * @throws IOException
+     */
+    private void compact() throws IOException {
+        FileChannel channel = getSpillChannel();
+        List<SpilledMessage> ordered = new ArrayList<>(spilled.values());
+        ordered.sort(Comparator.comparingLong(spilledMessage -> spilledMessage.position));
+
+        long position = 0L;
+        for (SpilledMessage spilledMessage : ordered) {
+            if (spilledMessage.position != position) {
+                write(channel, read(channel, spilledMessage), position);
+                spilledMessage.position = position;
+            }
+
+            position += spilledMessage.length;
+        }
+
+        channel.truncate(position);
+    }
+
+    /**
+     * Writes data to spill file channel at given position.
+     * @param channel
+     * @param data
+     * @param position
+     * @throws IOException
+     */
+    private void write(FileChannel channel, byte[] data, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    /**
+     * Reads spilled payload bytes from spill file channel.
+     * @param channel
+     * @param spilledMessage
+     * @return
+     * @throws IOException
+     */
+    private byte[] read(FileChannel channel, SpilledMessage spilledMessage) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(spilledMessage.length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, spilledMessage.position + buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * Reads spilled message payload from spill file and constructs message.
+     * @param spilledMessage
+     * @return
+     */
+    private Message readSpilled(SpilledMessage spilledMessage) {
+        try {
+            byte[] data = read(getSpillChannel(), spilledMessage);
+            Object payload = spilledMessage.binary ? data : new String(data, StandardCharsets.UTF_8);
+            DefaultMessage message = new DefaultMessage(payload, spilledMessage.headers);
+            message.setName(spilledMessage.name);
+            spilledMessage.headerData.forEach(message::addHeaderData);
+            return message;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read spilled message from file", e);
+        }
+    }
+
+    /**
+     * Gets spill file channel. Creates temporary spill file on first access.
+     * @return
+     * @throws IOException
+     */
+    private FileChannel getSpillChannel() throws IOException {
+        if (spillFile == null) {
+            spillFilePath = File.createTempFile("citrus-message-store", ".spill", spillDirectory);
+            spillFilePath.deleteOnExit();
+            spillFile = new RandomAccessFile(spillFilePath, "rw");
+        }
+
+        return spillFile.getChannel();
+    }
+
+    /**
+     * Closes and deletes the spill file. Spilled messages are discarded, messages held in memory stay available.
+     * Called when the test context owning this store is finished.
+     */
+    @Override
+    public synchronized void close() {
+        spilled.clear();
+        spilledBytes = 0L;
+
+        if (spillFile != null) {
+            try {
+                spillFile.close();
+            } catch (IOException e) {
+                log.warn("Failed to close message store spill file", e);
+            }
+
+            if (!spillFilePath.delete()) {
+                log.warn("Failed to delete message store spill file: " + spillFilePath);
+            }
+
+            spillFile = null;
+            spillFilePath = null;
+        }
+    }
+
+    /**
+     * Gets the number of messages currently held in memory.
+     * @return
+     */
+    public synchronized int size() {
+        return messages.size();
+    }
+
+    /**
+     * Gets the size of the spill file in bytes.
+     * @return
+     */
+    public synchronized long getSpillFileSize() {
+        try {
+            return spillFile != null ? spillFile.getChannel().size() : 0L;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to get size of message store spill file", e);
+        }
+    }
+
+    /**
+     * Gets the number of spilled messages.
+     * @return
+     */
+    public synchronized int getSpilledCount() {
+        return spilled.size();
+    }
+
+    /**
+     * Adds message name that is never evicted.
+     * @param name
+     */
+    public synchronized void retain(String name) {
+        retainedNames.add(name);
+    }
+
+    /**
+     * Sets the retained message names.
+     * @param retainedNames
+     */
+    public synchronized void setRetainedNames(Set<String> retainedNames) {
+        this.retainedNames.clear();
+        this.retainedNames.addAll(retainedNames);
+    }
+
+    /**
+     * Gets the retained message names.
+     * @return
+     */
+    public synchronized Set<String> getRetainedNames() {
+        return Collections.unmodifiableSet(new HashSet<>(retainedNames));
+    }
+
+    /**
+     * Gets the maxMessages.
+     * @return
+     */
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+    /**
+     * Sets the maxMessages.
+     * @param maxMessages
+     */
+    public void setMaxMessages(int maxMessages) {
+        this.maxMessages = maxMessages;
+    }
+
+    /**
+     * Gets the maxBytes.
+     * @return
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maxBytes.
+     * @param maxBytes
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the spillDirectory.
+     * @return
+     */
+    public File getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * Sets the spillDirectory.
+     * @param spillDirectory
+     */
+    public void setSpillDirectory(File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Message stub holding everything but the payload which is located in the spill file.
+     */
+    private static class SpilledMessage {
+        private final String name;
+        private final Map<String, Object> headers;
+        private final List<String> headerData;
+        private long position;
+        private final int length;
+        private final boolean binary;
+
+        SpilledMessage(Message message, long position, int length, boolean binary) {
+            this.name = message.getName();
+            this.headers = new LinkedHashMap<>(message.getHeaders());
+            this.headerData = new ArrayList<>(message.getHeaderData());
+            this.position = position;
+            this.length = length;
+            this.binary = binary;
+        }
+    }
+}
@@ -41,7 +41,7 @@ public class DefaultMessage implements Message {
     private final List<String> headerData = new ArrayList<>();
 
     /** Message headers */
-    private final Map<String, Object> headers = new LinkedHashMap<>();
+    private final MessageHeaderMap headers;
 
     /** The message name for internal use */
     private String name;
@@ -58,7 +58,15 @@ public class DefaultMessage implements Message {
      * @param message
      */
     public DefaultMessage(Message message) {
-        this(message.getPayload(), message.getHeaders());
+        this.payload = message.getPayload();
+
+        if (message.getHeaders() instanceof MessageHeaderMap) {
+            this.headers = ((MessageHeaderMap) message.getHeaders()).copy();
+        } else {
+            this.headers = new MessageHeaderMap();
+            this.headers.putAll(message.getHeaders());
+        }
+        this.headers.initialize();
 
         this.setName(message.getName());
         this.headerData.addAll(message.getHeaderData());
@@ -69,7 +77,7 @@ public class DefaultMessage implements Message {
      * @param payload
      */
     public DefaultMessage(Object payload) {
-        this(payload, new LinkedHashMap<>());
+        this(payload, Collections.emptyMap());
     }
 
     /**
@@ -79,10 +87,9 @@ public class DefaultMessage implements Message {
      */
     public DefaultMessage(Object payload, Map<String, Object> headers) {
         this.payload = payload;
+        this.headers = new MessageHeaderMap();
         this.headers.putAll(headers);
-
-        this.headers.putIfAbsent(MessageHeaders.ID, UUID.randomUUID().toString());
-        this.headers.putIfAbsent(MessageHeaders.TIMESTAMP, System.currentTimeMillis());
+        this.headers.initialize();
     }
 
     @Override
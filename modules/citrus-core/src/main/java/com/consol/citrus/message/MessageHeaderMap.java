@@ -0,0 +1,311 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Compact header map used by {@link DefaultMessage}. Message id and timestamp headers are held in fixed slots, the timestamp as
+ * primitive value. All other headers live in a backing map that is only created when first needed. Copies of a header map
+ * share the backing map until one of them gets modified (copy-on-write) so wrapping messages in other message types does not copy
+ * all headers.
+ *
+ * Iteration order is message id, timestamp, followed by all other headers in insertion order.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+final class MessageHeaderMap extends AbstractMap<String, Object> implements Serializable {
+
+    /** Serial */
+    private static final long serialVersionUID = 4356102342931286538L;
+
+    /** Message id slot */
+    private Object id;
+
+    /** Timestamp slot, either primitive or object value in case header is set to a non Long value */
+    private long timestamp;
+    private boolean timestampSet;
+    private Object timestampValue;
+
+    /** Backing map for all other headers, may be shared with copies of this map */
+    private LinkedHashMap<String, Object> headers;
+    private boolean shared;
+
+    /** Lazy entry set view */
+    private transient Set<Entry<String, Object>> entrySet;
+
+    /**
+     * Default constructor.
+     */
+    MessageHeaderMap() {
+        super();
+    }
+
+    /**
+     * Creates a copy of this header map that shares the backing map until either of the two maps is modified.
+     * @return
+     */
+    MessageHeaderMap copy() {
+        MessageHeaderMap copy = new MessageHeaderMap();
+        copy.id = id;
+        copy.timestamp = timestamp;
+        copy.timestampSet = timestampSet;
+        copy.timestampValue = timestampValue;
+
+        if (headers != null) {
+            copy.headers = headers;
+            copy.shared = true;
+            shared = true;
+        }
+
+        return copy;
+    }
+
+    /**
+     * Sets message id and timestamp in case not already present.
+     */
+    void initialize() {
+        if (id == null) {
+            id = MessageIdGenerator.next();
+        }
+
+        if (!timestampSet && timestampValue == null) {
+            timestamp = System.currentTimeMillis();
+            timestampSet = true;
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (MessageHeaders.ID.equals(key)) {
+            return id;
+        } else if (MessageHeaders.TIMESTAMP.equals(key)) {
+            return getTimestamp();
+        }
+
+        return headers != null ? headers.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (MessageHeaders.ID.equals(key)) {
+            return id != null;
+        } else if (MessageHeaders.TIMESTAMP.equals(key)) {
+            return getTimestamp() != null;
+        }
+
+        return headers != null && headers.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+
+        if (MessageHeaders.ID.equals(key)) {
+            id = value;
+        } else if (MessageHeaders.TIMESTAMP.equals(key)) {
+            setTimestamp(value);
+        } else {
+            writableHeaders().put(key, value);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+
+        if (MessageHeaders.ID.equals(key)) {
+            id = null;
+        } else if (MessageHeaders.TIMESTAMP.equals(key)) {
+            setTimestamp(null);
+        } else if (headers != null && headers.containsKey(key)) {
+            writableHeaders().remove(key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        id = null;
+        setTimestamp(null);
+        headers = null;
+        shared = false;
+    }
+
+    @Override
+    public int size() {
+        int size = headers != null ? headers.size() : 0;
+
+        if (id != null) {
+            size++;
+        }
+
+        if (getTimestamp() != null) {
+            size++;
+        }
+
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new HeaderIterator();
+                }
+
+                @Override
+                public int size() {
+                    return MessageHeaderMap.this.size();
+                }
+            };
+        }
+
+        return entrySet;
+    }
+
+    /**
+     * Gets timestamp slot value.
+     * @return
+     */
+    private Object getTimestamp() {
+        if (timestampValue != null) {
+            return timestampValue;
+        }
+
+        return timestampSet ? timestamp : null;
+    }
+
+    /**
+     * Sets timestamp slot value. Keeps Long values as primitive.
+     * @param value
+     */
+    private void setTimestamp(Object value) {
+        if (value instanceof Long) {
+            timestamp = (Long) value;
+            timestampSet = true;
+            timestampValue = null;
+        } else {
+            timestampSet = false;
+            timestampValue = value;
+        }
+    }
+
+    /**
+     * Gets backing map for modification. Creates backing map if not present and copies shared backing map.
+     * @return
+     */
+    private Map<String, Object> writableHeaders() {
+        if (headers == null) {
+            headers = new LinkedHashMap<>();
+        } else if (shared) {
+            headers = new LinkedHashMap<>(headers);
+            shared = false;
+        }
+
+        return headers;
+    }
+
+    /**
+     * Iterates over id and timestamp slots followed by backing map entries. Backing map iterator removal
+     * is only delegated as long as the iterated map is still owned by this map and not shared.
+     */
+    private class HeaderIterator implements Iterator<Entry<String, Object>> {
+        private final Map<String, Object> iterated = headers;
+        private final Iterator<Entry<String, Object>> delegate = headers != null ? headers.entrySet().iterator() : Collections.emptyIterator();
+
+        private int slot = 0;
+        private String lastKey;
+        private boolean lastFromDelegate;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot() < 2 || delegate.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            slot = nextSlot();
+            if (slot < 2) {
+                lastKey = slot == 0 ? MessageHeaders.ID : MessageHeaders.TIMESTAMP;
+                lastFromDelegate = false;
+                slot++;
+            } else {
+                lastKey = delegate.next().getKey();
+                lastFromDelegate = true;
+            }
+
+            return new HeaderEntry(lastKey);
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+
+            if (lastFromDelegate && iterated == headers && !shared) {
+                delegate.remove();
+            } else {
+                MessageHeaderMap.this.remove(lastKey);
+            }
+
+            lastKey = null;
+        }
+
+        /**
+         * Gets next slot index that holds a value. Index 2 marks backing map entries.
+         * @return
+         */
+        private int nextSlot() {
+            int next = slot;
+            if (next == 0 && id == null) {
+                next++;
+            }
+
+            if (next == 1 && getTimestamp() == null) {
+                next++;
+            }
+
+            return next;
+        }
+    }
+
+    /**
+     * Entry view reading and writing through to this map.
+     */
+    private class HeaderEntry extends SimpleEntry<String, Object> {
+        private static final long serialVersionUID = 1L;
+
+        HeaderEntry(String key) {
+            super(key, get(key));
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates unique message ids in UUID string format. Most significant bits are chosen randomly once per JVM, least significant bits
+ * are a monotonic sequence. This avoids the secure random number generation of {@link UUID#randomUUID()} for each message
+ * while keeping ids unique across JVMs with high probability.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class MessageIdGenerator {
+
+    /** Random most significant bits for this JVM */
+    private static final long PREFIX = UUID.randomUUID().getMostSignificantBits();
+
+    /** Monotonic sequence */
+    private static final AtomicLong SEQUENCE = new AtomicLong(UUID.randomUUID().getLeastSignificantBits());
+
+    /**
+     * Prevent instantiation.
+     */
+    private MessageIdGenerator() {
+        super();
+    }
+
+    /**
+     * Generates next unique message id.
+     * @return
+     */
+    public static String next() {
+        return new UUID(PREFIX, SEQUENCE.incrementAndGet()).toString();
+    }
+}
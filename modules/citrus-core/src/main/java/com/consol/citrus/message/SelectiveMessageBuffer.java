@@ -0,0 +1,402 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded buffer of inbound messages supporting selective receive. Endpoints that subscribe to a message source use this buffer
+ * to hold messages until consumers receive them.
+ *
+ * Messages are kept in arrival order. Named indexes map a key (e.g. a header value or a session id) to a sub-queue of messages
+ * with that key so selective receive on that key does not need to scan the buffer. Receive with an arbitrary selector evaluates the
+ * selector outside of the buffer lock so slow selectors never block producers adding new messages. While waiting for a matching
+ * message only newly arrived messages are evaluated.
+ *
+ * Overflow policy decides what happens when a message arrives on a full buffer.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class SelectiveMessageBuffer<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(SelectiveMessageBuffer.class);
+
+    /** Buffer name used in log messages */
+    private final String name;
+
+    /** Maximum number of buffered messages */
+    private final int capacity;
+
+    /** Time in milliseconds to wait for free space before overflow policy applies */
+    private final long overflowTimeout;
+
+    /** Behavior on full buffer */
+    private final OverflowPolicy overflowPolicy;
+
+    /** Buffered messages by arrival sequence, iterated without holding the lock */
+    private final ConcurrentSkipListMap<Long, T> messages = new ConcurrentSkipListMap<>();
+
+    /** Key functions and sub-queues of message sequences by index name and key */
+    private final Map<String, Function<? super T, ?>> keyFunctions = new HashMap<>();
+    private final Map<String, Map<Object, LinkedHashSet<Long>>> indexes = new HashMap<>();
+
+    /** Lock and conditions guarding the buffer */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageAvailable = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+
+    /** Number of buffered messages */
+    private int size = 0;
+
+    /** Sequence of the last added message */
+    private long sequence = 0L;
+
+    /** Number of messages dropped because of full buffer */
+    private long dropped = 0L;
+
+    /** Closed buffers do not block producers anymore */
+    private boolean closed = false;
+
+    /**
+     * Behavior when message arrives on full buffer and no space has been made within the overflow timeout.
+     */
+    public enum OverflowPolicy {
+        /** Drop the oldest buffered message */
+        DROP_OLDEST,
+        /** Drop the arriving message */
+        DROP_NEWEST,
+        /** Block the producer until consumers free some space or the buffer is closed */
+        BLOCK,
+        /** Fail the producer with an exception */
+        FAIL
+    }
+
+    /**
+     * Constructor using capacity and overflow policy. Overflow policy applies immediately when the buffer is full.
+     * @param name
+     * @param capacity
+     * @param overflowPolicy
+     */
+    public SelectiveMessageBuffer(String name, int capacity, OverflowPolicy overflowPolicy) {
+        this(name, capacity, 0L, overflowPolicy);
+    }
+
+    /**
+     * Constructor using capacity, the time in milliseconds to wait for free space on a full buffer
+     * and the policy to apply when the buffer is still full after that time.
+     * @param name
+     * @param capacity
+     * @param overflowTimeout
+     * @param overflowPolicy
+     */
+    public SelectiveMessageBuffer(String name, int capacity, long overflowTimeout, OverflowPolicy overflowPolicy) {
+        if (capacity < 1) {
+            throw new CitrusRuntimeException(String.format("Invalid capacity %s for %s - must be at least 1", capacity, name));
+        }
+
+        this.name = name;
+        this.capacity = capacity;
+        this.overflowTimeout = overflowTimeout;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Adds named index. Messages are put into the sub-queue of the key computed by given function. Messages with null key
+     * are not indexed.
+     * @param index
+     * @param keyFunction
+     * @return
+     */
+    public SelectiveMessageBuffer<T> addIndex(String index, Function<? super T, ?> keyFunction) {
+        lock.lock();
+        try {
+            keyFunctions.put(index, keyFunction);
+            indexes.put(index, new HashMap<>());
+            messages.forEach((seq, message) -> index(index, seq, message));
+            return this;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds message to buffer. Applies overflow policy in case buffer is full.
+     * @param message
+     * @return false when message has been dropped
+     */
+    public boolean add(T message) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(overflowTimeout);
+
+        lock.lock();
+        try {
+            while (size >= capacity) {
+                if (overflowPolicy == OverflowPolicy.BLOCK) {
+                    if (closed) {
+                        return false;
+                    }
+
+                    spaceAvailable.await();
+                } else if (nanosLeft > 0) {
+                    nanosLeft = spaceAvailable.awaitNanos(nanosLeft);
+                } else if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                    dropped++;
+                    log.warn(String.format("%s full - dropped newest message", name));
+                    log.debug("Message dropped is " + message);
+                    return false;
+                } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                    Map.Entry<Long, T> oldest = messages.firstEntry();
+                    remove(oldest.getKey());
+                    dropped++;
+                    log.warn(String.format("%s full - dropped oldest message", name));
+                    log.debug("Message dropped is " + oldest.getValue());
+                } else {
+                    throw new CitrusRuntimeException(String.format("%s full - no consumer made room within %s ms", name, overflowTimeout));
+                }
+            }
+
+            long seq = ++sequence;
+            messages.put(seq, message);
+            size++;
+            for (String index : indexes.keySet()) {
+                index(index, seq, message);
+            }
+
+            messageAvailable.signalAll();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(String.format("Interrupted while waiting for space in %s", name), e);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Receives first buffered message accepted by given selector. Waits given time in milliseconds for a matching message to arrive.
+     * @param selector
+     * @param timeout
+     * @return the message or null when timed out
+     */
+    public T receive(Predicate<? super T> selector, long timeout) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        long scanned = 0L;
+
+        try {
+            while (true) {
+                long snapshot;
+                lock.lock();
+                try {
+                    snapshot = sequence;
+                } finally {
+                    lock.unlock();
+                }
+
+                ConcurrentNavigableMap<Long, T> candidates = messages.subMap(scanned, false, snapshot, true);
+                for (Map.Entry<Long, T> candidate : candidates.entrySet()) {
+                    if (selector.test(candidate.getValue()) && take(candidate.getKey())) {
+                        return candidate.getValue();
+                    }
+                }
+                scanned = snapshot;
+
+                lock.lock();
+                try {
+                    long nanosLeft = deadline - System.nanoTime();
+                    if (nanosLeft <= 0) {
+                        return null;
+                    }
+
+                    if (sequence == snapshot) {
+                        messageAvailable.awaitNanos(nanosLeft);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(String.format("Interrupted while waiting for message in %s", name), e);
+            return null;
+        }
+    }
+
+    /**
+     * Receives first buffered message with given key in named index. Waits given time in milliseconds for a matching message to arrive.
+     * @param index
+     * @param key
+     * @param timeout
+     * @return the message or null when timed out
+     */
+    public T receive(String index, Object key, long timeout) {
+        if (!isIndexed(index)) {
+            throw new CitrusRuntimeException(String.format("Unknown index '%s' on %s", index, name));
+        }
+
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lock();
+        try {
+            while (true) {
+                LinkedHashSet<Long> subQueue = indexes.get(index).get(key);
+                if (subQueue != null) {
+                    Long seq = subQueue.iterator().next();
+                    T message = messages.get(seq);
+                    remove(seq);
+                    return message;
+                }
+
+                if (nanosLeft <= 0) {
+                    return null;
+                }
+
+                nanosLeft = messageAvailable.awaitNanos(nanosLeft);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(String.format("Interrupted while waiting for message in %s", name), e);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes message with given sequence unless it has been dropped or received by another consumer in the meantime.
+     * @param seq
+     * @return true if message has been removed
+     */
+    private boolean take(long seq) {
+        lock.lock();
+        try {
+            if (messages.containsKey(seq)) {
+                remove(seq);
+                return true;
+            }
+
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds message sequence to the sub-queue of its key in given index. Caller must hold the lock.
+     * @param index
+     * @param seq
+     * @param message
+     */
+    private void index(String index, long seq, T message) {
+        Object key = keyFunctions.get(index).apply(message);
+        if (key != null) {
+            indexes.get(index).computeIfAbsent(key, k -> new LinkedHashSet<>()).add(seq);
+        }
+    }
+
+    /**
+     * Removes message from buffer and all indexes. Caller must hold the lock.
+     * @param seq
+     */
+    private void remove(long seq) {
+        T message = messages.remove(seq);
+        if (message == null) {
+            return;
+        }
+
+        size--;
+        for (Map.Entry<String, Map<Object, LinkedHashSet<Long>>> index : indexes.entrySet()) {
+            Object key = keyFunctions.get(index.getKey()).apply(message);
+            if (key != null) {
+                LinkedHashSet<Long> subQueue = index.getValue().get(key);
+                if (subQueue != null) {
+                    subQueue.remove(seq);
+                    if (subQueue.isEmpty()) {
+                        index.getValue().remove(key);
+                    }
+                }
+            }
+        }
+
+        spaceAvailable.signalAll();
+    }
+
+    /**
+     * Checks if there is an index with given name.
+     * @param index
+     * @return
+     */
+    public boolean isIndexed(String index) {
+        lock.lock();
+        try {
+            return indexes.containsKey(index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes buffer and releases blocked producers. Buffered messages remain available for consumers.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            spaceAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages dropped because of full buffer.
+     * @return
+     */
+    public long getDropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.messaging;
+
+import com.consol.citrus.context.TestContext;
+
+/**
+ * Consumer implementation able to drop all pending messages on its message destination in one single operation
+ * instead of receiving them one by one.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public interface PurgingConsumer extends Consumer {
+
+    /**
+     * Drops all pending messages accepted by given message selector. Empty selector drops all messages.
+     * Returns -1 in case message destination does not support bulk purge so callers should fall back to receiving messages.
+     *
+     * @param selector
+     * @param context
+     * @return number of dropped messages or -1 when bulk purge is not supported
+     */
+    int purge(String selector, TestContext context);
+}
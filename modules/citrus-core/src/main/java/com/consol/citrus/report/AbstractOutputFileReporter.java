@@ -37,7 +37,7 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
             return;
         }
 
-        createReportFile(getReportFileName(), getReportContent());
+        createReportFile(getReportFileName());
     }
 
     protected abstract boolean isEnabled();
@@ -46,12 +46,21 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
 
     protected abstract String getReportFileName();
 
+    /**
+     * Writes report content to given writer. Subclasses may overwrite this method in order to stream report content
+     * instead of building the whole report in memory.
+     * @param writer
+     * @throws IOException
+     */
+    protected void writeReportContent(Writer writer) throws IOException {
+        writer.append(getReportContent());
+    }
+
     /**
      * Creates the HTML report file
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
      */
-    private void createReportFile(String reportFileName, String content) {
+    private void createReportFile(String reportFileName) {
         File targetDirectory = new File(getReportDirectory());
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
@@ -59,8 +68,8 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        try (Writer fileWriter = new BufferedWriter(new FileWriter(new File(targetDirectory, reportFileName)))) {
+            writeReportContent(fileWriter);
             fileWriter.flush();
             log.info("Generated test report: " + targetDirectory + File.separator + reportFileName);
         } catch (IOException e) {
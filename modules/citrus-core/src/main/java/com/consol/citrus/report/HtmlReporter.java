@@ -18,9 +18,9 @@ package com.consol.citrus.report;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.TestCaseMetaInfo;
+import com.consol.citrus.TestResult;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
-import com.consol.citrus.util.PropertyUtils;
 import org.apache.commons.codec.binary.Base64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +31,7 @@ import org.springframework.util.StringUtils;
 import java.io.*;
 import java.text.DateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Basic logging reporter generating a HTML report with detailed test results.
@@ -43,7 +44,7 @@ public class HtmlReporter extends AbstractOutputFileReporter {
     private static Logger log = LoggerFactory.getLogger(HtmlReporter.class);
     
     /** Map holding additional information of test cases */
-    private Map<String, ResultDetail> details = new HashMap<String, ResultDetail>();
+    private Map<String, ResultDetail> details = new ConcurrentHashMap<>();
     
     /** Static resource for the HTML test report template */
     @Value("${citrus.html.report.template:classpath:com/consol/citrus/report/test-report.html}")
@@ -72,51 +73,165 @@ public class HtmlReporter extends AbstractOutputFileReporter {
     @Value("${citrus.html.report.enabled:true}")
     private String enabled = Boolean.TRUE.toString();
     
+    /** Pre-compiled test detail template */
+    private ReportTemplate detailTemplate;
+
+    /** Temporary file holding test details streamed as each test finishes */
+    private File detailsFile;
+    private Writer detailsWriter;
+    private int streamedResults = 0;
+
+    /** Lock guarding streamed test details */
+    private final Object detailsLock = new Object();
+
     @Override
     public String getReportContent() {
-        final StringBuilder reportDetails = new StringBuilder();
-        
-        log.debug("Generating HTML test report");
+        StringWriter writer = new StringWriter();
 
         try {
-            final String testDetails = FileUtils.readToString(FileUtils.getFileResource(testDetailTemplate));
-            final String emptyString = "";
-
-            getTestResults().doWithResults(result -> {
-                ResultDetail detail = Optional.ofNullable(details.get(result.getTestName())).orElse(new ResultDetail());
-
-                Properties detailProps = new Properties();
-                detailProps.put("test.style.class", result.getResult().toLowerCase());
-                detailProps.put("test.case.name", result.getTestName());
-                detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
-                detailProps.put("test.status", detail.getMetaInfo().getStatus().toString());
-                detailProps.put("test.creation.date", detail.getMetaInfo().getCreationDate() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getCreationDate()));
-                detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
-                detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
-                detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
-                detailProps.put("test.result", result.getResult());
-
-                reportDetails.append(PropertyUtils.replacePropertiesInString(testDetails, detailProps));
-
-                if (result.isFailed() && result.getCause() != null) {
-                    reportDetails.append(getStackTraceHtml(result.getCause()));
-                }
-            });
-
-            Properties reportProps = new Properties();
-            reportProps.put("test.cnt", Integer.toString(getTestResults().getSize()));
-            reportProps.put("skipped.test.cnt", Integer.toString(getTestResults().getSkipped()));
-            reportProps.put("skipped.test.pct", getTestResults().getSkippedPercentage());
-            reportProps.put("failed.test.cnt", Integer.toString(getTestResults().getFailed()));
-            reportProps.put("failed.test.pct", getTestResults().getFailedPercentage());
-            reportProps.put("success.test.cnt", Integer.toString(getTestResults().getSuccess()));
-            reportProps.put("success.test.pct", getTestResults().getSuccessPercentage());
-            reportProps.put("test.results", reportDetails.toString());
-            reportProps.put("logo.data", getLogoImageData());
-            return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
+            writeReportContent(writer);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to generate HTML test report", e);
         }
+
+        return writer.toString();
+    }
+
+    @Override
+    protected void writeReportContent(Writer writer) throws IOException {
+        log.debug("Generating HTML test report");
+
+        Map<String, Object> reportProps = new HashMap<>();
+        reportProps.put("test.cnt", Integer.toString(getTestResults().getSize()));
+        reportProps.put("skipped.test.cnt", Integer.toString(getTestResults().getSkipped()));
+        reportProps.put("skipped.test.pct", getTestResults().getSkippedPercentage());
+        reportProps.put("failed.test.cnt", Integer.toString(getTestResults().getFailed()));
+        reportProps.put("failed.test.pct", getTestResults().getFailedPercentage());
+        reportProps.put("success.test.cnt", Integer.toString(getTestResults().getSuccess()));
+        reportProps.put("success.test.pct", getTestResults().getSuccessPercentage());
+        reportProps.put("test.results", (ReportTemplate.Part) this::writeTestDetails);
+        reportProps.put("logo.data", getLogoImageData());
+
+        ReportTemplate.fromResource(reportTemplate).render(writer, reportProps);
+    }
+
+    /**
+     * Writes test details to report. Uses details streamed while tests were running when these cover all test results. Otherwise
+     * test details are generated from test results.
+     * @param writer
+     * @throws IOException
+     */
+    private void writeTestDetails(Writer writer) throws IOException {
+        synchronized (detailsLock) {
+            if (detailsWriter != null && streamedResults == getTestResults().getSize()) {
+                detailsWriter.flush();
+
+                try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(detailsFile), FileUtils.getDefaultCharset()))) {
+                    char[] buffer = new char[8192];
+                    int read;
+                    while ((read = reader.read(buffer)) != -1) {
+                        writer.write(buffer, 0, read);
+                    }
+                }
+
+                return;
+            }
+        }
+
+        List<TestResult> results = getTestResults().asList();
+        for (TestResult result : results) {
+            writeTestDetail(writer, result, Optional.ofNullable(details.get(result.getTestName())).orElse(new ResultDetail()));
+        }
+    }
+
+    /**
+     * Writes detail of single test result.
+     * @param writer
+     * @param result
+     * @param detail
+     * @throws IOException
+     */
+    private void writeTestDetail(Writer writer, TestResult result, ResultDetail detail) throws IOException {
+        final String emptyString = "";
+
+        Map<String, Object> detailProps = new HashMap<>();
+        detailProps.put("test.style.class", result.getResult().toLowerCase());
+        detailProps.put("test.case.name", result.getTestName());
+        detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
+        detailProps.put("test.status", detail.getMetaInfo().getStatus().toString());
+        detailProps.put("test.creation.date", detail.getMetaInfo().getCreationDate() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getCreationDate()));
+        detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
+        detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
+        detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
+        detailProps.put("test.result", result.getResult());
+
+        getDetailTemplate().render(writer, detailProps);
+
+        if (result.isFailed() && result.getCause() != null) {
+            writer.write(getStackTraceHtml(result.getCause()));
+        }
+    }
+
+    /**
+     * Appends test detail to temporary details file as soon as the test has finished.
+     * @param result
+     * @param detail
+     */
+    private void streamTestDetail(TestResult result, ResultDetail detail) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        synchronized (detailsLock) {
+            try {
+                if (detailsWriter == null) {
+                    detailsFile = File.createTempFile("citrus-html-report", ".tmp");
+                    detailsFile.deleteOnExit();
+                    detailsWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(detailsFile), FileUtils.getDefaultCharset()));
+                }
+
+                writeTestDetail(detailsWriter, result, detail);
+                streamedResults++;
+            } catch (IOException e) {
+                log.warn("Failed to stream test detail for HTML report", e);
+            }
+        }
+    }
+
+    /**
+     * Closes and removes temporary details file.
+     */
+    private void resetTestDetails() {
+        synchronized (detailsLock) {
+            if (detailsWriter != null) {
+                try {
+                    detailsWriter.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close temporary HTML report details", e);
+                }
+
+                if (!detailsFile.delete()) {
+                    log.warn("Failed to delete temporary HTML report details: " + detailsFile.getPath());
+                }
+            }
+
+            detailsWriter = null;
+            detailsFile = null;
+            streamedResults = 0;
+        }
+    }
+
+    /**
+     * Gets the pre-compiled test detail template. Loads template on first access.
+     * @return
+     * @throws IOException
+     */
+    private synchronized ReportTemplate getDetailTemplate() throws IOException {
+        if (detailTemplate == null) {
+            detailTemplate = ReportTemplate.fromResource(testDetailTemplate);
+        }
+
+        return detailTemplate;
     }
 
     /**
@@ -244,22 +359,34 @@ public class HtmlReporter extends AbstractOutputFileReporter {
         		"</pre>" + getCodeSnippetHtml(cause) + "</div></td></tr>";
     }
 
+    @Override
+    public void clearTestResults() {
+        super.clearTestResults();
+        resetTestDetails();
+    }
+
     @Override
     public void onTestSuccess(TestCase test) {
-        details.put(test.getName(), ResultDetail.build(test));
+        ResultDetail detail = ResultDetail.build(test);
+        details.put(test.getName(), detail);
         super.onTestSuccess(test);
+        streamTestDetail(TestResult.success(test.getName(), test.getTestClass().getName()), detail);
     }
     
     @Override
     public void onTestFailure(TestCase test, Throwable cause) {
-        details.put(test.getName(), ResultDetail.build(test));
+        ResultDetail detail = ResultDetail.build(test);
+        details.put(test.getName(), detail);
         super.onTestFailure(test, cause);
+        streamTestDetail(TestResult.failed(test.getName(), test.getTestClass().getName(), cause), detail);
     }
     
     @Override
     public void onTestSkipped(TestCase test) {
-        details.put(test.getName(), ResultDetail.build(test));
+        ResultDetail detail = ResultDetail.build(test);
+        details.put(test.getName(), detail);
         super.onTestSkipped(test);
+        streamTestDetail(TestResult.skipped(test.getName(), test.getTestClass().getName()), detail);
     }
 
     /**
@@ -18,14 +18,13 @@ package com.consol.citrus.report;
 
 import com.consol.citrus.TestResult;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.util.FileUtils;
-import com.consol.citrus.util.PropertyUtils;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.util.StringUtils;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -34,11 +33,11 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Properties;
 
 /**
  * @author Christoph Deppisch
@@ -85,21 +84,19 @@ public class JUnitReporter extends AbstractTestReporter {
             log.debug("Generating JUnit test report");
 
             try {
+                reportTemplates.load();
+
                 List<TestResult> results = getTestResults().asList();
-                createReportFile(String.format(reportFileNamePattern, suiteName), createReportContent(suiteName, results, reportTemplates), new File(getReportDirectory()));
+                createReportFile(String.format(reportFileNamePattern, suiteName), writer -> writeReportContent(writer, suiteName, results, reportTemplates), new File(getReportDirectory()));
 
-                Map<String, List<TestResult>> groupedResults = new HashMap<>();
+                Map<String, List<TestResult>> groupedResults = new LinkedHashMap<>();
                 for(TestResult result : results) {
-                    if (!groupedResults.containsKey(result.getClassName())) {
-                        groupedResults.put(result.getClassName(), new ArrayList<>());
-                    }
-
-                    groupedResults.get(result.getClassName()).add(result);
+                    groupedResults.computeIfAbsent(result.getClassName(), className -> new ArrayList<>()).add(result);
                 }
 
                 File targetDirectory = new File(getReportDirectory() + (StringUtils.hasText(outputDirectory) ? File.separator + outputDirectory : ""));
                 for (Map.Entry<String, List<TestResult>> resultEntry : groupedResults.entrySet()) {
-                    createReportFile(String.format(reportFileNamePattern, resultEntry.getKey()), createReportContent(resultEntry.getKey(), resultEntry.getValue(), reportTemplates), targetDirectory);
+                    createReportFile(String.format(reportFileNamePattern, resultEntry.getKey()), writer -> writeReportContent(writer, resultEntry.getKey(), resultEntry.getValue(), reportTemplates), targetDirectory);
                 }
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to generate JUnit test report", e);
@@ -108,61 +105,85 @@ public class JUnitReporter extends AbstractTestReporter {
     }
 
     /**
-     * Create report file for test class.
+     * Writes report content for test suite. Test results are rendered with pre-compiled templates and written
+     * directly to the report output.
+     * @param writer
      * @param suiteName
      * @param results
      * @param templates
-     * @return
      */
-    private String createReportContent(String suiteName, List<TestResult> results, ReportTemplates templates) throws IOException {
-        final StringBuilder reportDetails = new StringBuilder();
-
-        for (TestResult result: results) {
-            Properties detailProps = new Properties();
-            detailProps.put("test.class", result.getClassName());
-            detailProps.put("test.name", StringEscapeUtils.escapeXml(result.getTestName()));
-            detailProps.put("test.duration", "0.0");
-
-            if (result.isFailed()) {
-                detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElse(Objects.toString(result.getFailureType(), "")));
-                detailProps.put("test.error.msg", StringEscapeUtils.escapeXml(result.getErrorMessage()));
-                detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
-                    StringWriter writer = new StringWriter();
-                    cause.printStackTrace(new PrintWriter(writer));
-                    return writer.toString();
-                }).orElse(Objects.toString(result.getFailureStack(), "")));
-                reportDetails.append(PropertyUtils.replacePropertiesInString(templates.getFailedTemplate(), detailProps));
-            } else {
-                reportDetails.append(PropertyUtils.replacePropertiesInString(templates.getSuccessTemplate(), detailProps));
+    private void writeReportContent(Writer writer, String suiteName, List<TestResult> results, ReportTemplates templates) throws IOException {
+        long skipped = 0L;
+        long failed = 0L;
+        long success = 0L;
+        for (TestResult result : results) {
+            if (result.isSkipped()) {
+                skipped++;
+            } else if (result.isFailed()) {
+                failed++;
+            } else if (result.isSuccess()) {
+                success++;
             }
         }
 
-        Properties reportProps = new Properties();
+        Map<String, Object> reportProps = new HashMap<>();
         reportProps.put("test.suite", suiteName);
         reportProps.put("test.cnt", Integer.toString(results.size()));
-        reportProps.put("test.skipped.cnt", Long.toString(results.stream().filter(TestResult::isSkipped).count()));
-        reportProps.put("test.failed.cnt", Long.toString(results.stream().filter(TestResult::isFailed).count()));
-        reportProps.put("test.success.cnt", Long.toString(results.stream().filter(TestResult::isSuccess).count()));
+        reportProps.put("test.skipped.cnt", Long.toString(skipped));
+        reportProps.put("test.failed.cnt", Long.toString(failed));
+        reportProps.put("test.success.cnt", Long.toString(success));
         reportProps.put("test.error.cnt", "0");
         reportProps.put("test.duration", "0.0");
-        reportProps.put("tests", reportDetails.toString());
-        return PropertyUtils.replacePropertiesInString(templates.getReportTemplate(), reportProps);
+        reportProps.put("tests", (ReportTemplate.Part) testsWriter -> {
+            for (TestResult result: results) {
+                writeTestResult(testsWriter, result, templates);
+            }
+        });
+
+        templates.getReportTemplate().render(writer, reportProps);
+    }
+
+    /**
+     * Writes single test result.
+     * @param writer
+     * @param result
+     * @param templates
+     * @throws IOException
+     */
+    private void writeTestResult(Writer writer, TestResult result, ReportTemplates templates) throws IOException {
+        Map<String, Object> detailProps = new HashMap<>();
+        detailProps.put("test.class", result.getClassName());
+        detailProps.put("test.name", StringEscapeUtils.escapeXml(result.getTestName()));
+        detailProps.put("test.duration", "0.0");
+
+        if (result.isFailed()) {
+            detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElse(Objects.toString(result.getFailureType(), "")));
+            detailProps.put("test.error.msg", StringEscapeUtils.escapeXml(result.getErrorMessage()));
+            detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
+                StringWriter stackWriter = new StringWriter();
+                cause.printStackTrace(new PrintWriter(stackWriter));
+                return stackWriter.toString();
+            }).orElse(Objects.toString(result.getFailureStack(), "")));
+            templates.getFailedTemplate().render(writer, detailProps);
+        } else {
+            templates.getSuccessTemplate().render(writer, detailProps);
+        }
     }
 
     /**
      * Creates the JUnit report file
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
+     * @param content The content of the report file
      */
-    private void createReportFile(String reportFileName, String content, File targetDirectory) {
+    private void createReportFile(String reportFileName, ReportTemplate.Part content, File targetDirectory) {
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
                 throw new CitrusRuntimeException("Unable to create report output directory: " + getReportDirectory() + (StringUtils.hasText(outputDirectory) ? "/" + outputDirectory : ""));
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        try (Writer fileWriter = new BufferedWriter(new FileWriter(new File(targetDirectory, reportFileName)))) {
+            content.writeTo(fileWriter);
             fileWriter.flush();
         } catch (IOException e) {
             log.error("Failed to create test report", e);
@@ -171,18 +192,28 @@ public class JUnitReporter extends AbstractTestReporter {
 
     private class ReportTemplates {
 
-        private String reportTemplateContent;
-        private String successTemplateContent;
-        private String failedTemplateContent;
+        private ReportTemplate reportTemplateContent;
+        private ReportTemplate successTemplateContent;
+        private ReportTemplate failedTemplateContent;
+
+        /**
+         * Loads and compiles all templates.
+         * @throws IOException
+         */
+        public void load() throws IOException {
+            getReportTemplate();
+            getSuccessTemplate();
+            getFailedTemplate();
+        }
 
         /**
          * Gets the reportTemplateContent.
          *
          * @return
          */
-        public String getReportTemplate() throws IOException {
+        public ReportTemplate getReportTemplate() throws IOException {
             if (reportTemplateContent == null) {
-                reportTemplateContent = FileUtils.readToString(FileUtils.getFileResource(reportTemplate));
+                reportTemplateContent = ReportTemplate.fromResource(reportTemplate);
             }
 
             return reportTemplateContent;
@@ -193,9 +224,9 @@ public class JUnitReporter extends AbstractTestReporter {
          *
          * @return
          */
-        public String getSuccessTemplate() throws IOException {
+        public ReportTemplate getSuccessTemplate() throws IOException {
             if (successTemplateContent == null) {
-                successTemplateContent = FileUtils.readToString(FileUtils.getFileResource(successTemplate));
+                successTemplateContent = ReportTemplate.fromResource(successTemplate);
             }
 
             return successTemplateContent;
@@ -206,9 +237,9 @@ public class JUnitReporter extends AbstractTestReporter {
          *
          * @return
          */
-        public String getFailedTemplate() throws IOException {
+        public ReportTemplate getFailedTemplate() throws IOException {
             if (failedTemplateContent == null) {
-                failedTemplateContent = FileUtils.readToString(FileUtils.getFileResource(failedTemplate));
+                failedTemplateContent = ReportTemplate.fromResource(failedTemplate);
             }
 
             return failedTemplateContent;
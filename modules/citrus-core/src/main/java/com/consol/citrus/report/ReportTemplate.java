@@ -0,0 +1,147 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Pre-compiled report template using the same property syntax as {@link com.consol.citrus.util.PropertyUtils}. Template content
+ * is parsed once into text and property segments so rendering just appends segments to a writer. Property values can be
+ * static text or parts that write their content directly to the report output.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class ReportTemplate {
+
+    /** Constant marking a property in template files */
+    private static final char PROPERTY_MARKER = '@';
+
+    /** Template segments, property segments hold the property name */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Constructor parsing given template content.
+     * @param template
+     */
+    public ReportTemplate(String template) {
+        StringBuilder text = new StringBuilder();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = template.indexOf(PROPERTY_MARKER, startIndex)) != -1) {
+            if (searchIndex != 0 && template.charAt(searchIndex - 1) == '\\') {
+                text.append(template, startIndex, searchIndex - 1).append(PROPERTY_MARKER);
+                startIndex = searchIndex + 1;
+                continue;
+            }
+
+            int endIndex = template.indexOf(PROPERTY_MARKER, searchIndex + 1);
+            if (endIndex == -1) {
+                break;
+            }
+
+            text.append(template, startIndex, searchIndex);
+            segments.add(new Segment(text.toString(), false));
+            segments.add(new Segment(template.substring(searchIndex + 1, endIndex), true));
+
+            text = new StringBuilder();
+            startIndex = endIndex + 1;
+        }
+
+        text.append(template.substring(startIndex));
+        segments.add(new Segment(text.toString(), false));
+    }
+
+    /**
+     * Loads and parses template from given file resource path.
+     * @param templatePath
+     * @return
+     * @throws IOException
+     */
+    public static ReportTemplate fromResource(String templatePath) throws IOException {
+        return new ReportTemplate(FileUtils.readToString(FileUtils.getFileResource(templatePath)));
+    }
+
+    /**
+     * Renders template with given property values to writer. Values are either strings or {@link Part} instances.
+     * @param writer
+     * @param properties
+     * @throws IOException
+     */
+    public void render(Writer writer, Map<String, ?> properties) throws IOException {
+        for (Segment segment : segments) {
+            if (!segment.property) {
+                writer.write(segment.value);
+                continue;
+            }
+
+            if (!properties.containsKey(segment.value)) {
+                throw new CitrusRuntimeException("No such property '" + PROPERTY_MARKER + segment.value + PROPERTY_MARKER + "'");
+            }
+
+            Object value = properties.get(segment.value);
+            if (value instanceof Part) {
+                ((Part) value).writeTo(writer);
+            } else if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+    }
+
+    /**
+     * Renders template with given property values to string.
+     * @param properties
+     * @return
+     */
+    public String render(Map<String, ?> properties) {
+        StringWriter writer = new StringWriter();
+
+        try {
+            render(writer, properties);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to render report template", e);
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * Report part writing its content directly to the report output.
+     */
+    @FunctionalInterface
+    public interface Part {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    /**
+     * Template segment holding either static text or a property name.
+     */
+    private static class Segment {
+        private final String value;
+        private final boolean property;
+
+        Segment(String value, boolean property) {
+            this.value = value;
+            this.property = property;
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.consol.citrus.TestResult;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Multiple {@link com.consol.citrus.TestResult} instances combined to a {@link TestResults}.
@@ -36,10 +38,16 @@ public class TestResults {
     private static final String ZERO_PERCENTAGE = "0.0";
 
     /** Collected test results */
-    private List<TestResult> results = Collections.synchronizedList(new ArrayList<TestResult>());
+    private final Queue<TestResult> results = new ConcurrentLinkedQueue<>();
+
+    /** Result counters maintained on each added result */
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger success = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
 
     /**
-     * Provides access to results as list generated from synchronized result list.
+     * Provides access to results as list generated from concurrent result queue.
      * @return
      */
     public List<TestResult> asList() {
@@ -60,18 +68,25 @@ public class TestResults {
      * @return
      */
     public boolean addResult(TestResult result) {
+        if (result.isSuccess()) {
+            success.incrementAndGet();
+        } else if (result.isFailed()) {
+            failed.incrementAndGet();
+        } else if (result.isSkipped()) {
+            skipped.incrementAndGet();
+        }
+
+        size.incrementAndGet();
         return results.add(result);
     }
 
     /**
-     * Provides synchronized access to all test results in iteration.
+     * Provides access to all test results in iteration. Iteration does not block concurrent result additions.
      * @param callback
      */
     public void doWithResults(ResultCallback callback) {
-        synchronized (results) {
-            for (TestResult result : results) {
-                callback.doWithResult(result);
-            }
+        for (TestResult result : results) {
+            callback.doWithResult(result);
         }
     }
 
@@ -80,17 +95,7 @@ public class TestResults {
      * @return
      */
     public int getSuccess() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSuccess()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return success.get();
     }
 
     /**
@@ -98,7 +103,7 @@ public class TestResults {
      * @return
      */
     public String getSuccessPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getSuccess() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
+        return size.get() > 0 ? decFormat.format((double)getSuccess() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
     }
     
     /**
@@ -106,17 +111,7 @@ public class TestResults {
      * @return
      */
     public int getFailed() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isFailed()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return failed.get();
     }
 
     /**
@@ -124,7 +119,7 @@ public class TestResults {
      * @return
      */
     public String getFailedPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getFailed() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
+        return size.get() > 0 ? decFormat.format((double)getFailed() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
     }
     
     /**
@@ -132,17 +127,7 @@ public class TestResults {
      * @return
      */
     public int getSkipped() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSkipped()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return skipped.get();
     }
 
     /**
@@ -150,11 +135,11 @@ public class TestResults {
      * @return
      */
     public String getSkippedPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getSkipped() / (results.size())*100) : ZERO_PERCENTAGE;
+        return size.get() > 0 ? decFormat.format((double)getSkipped() / size.get()*100) : ZERO_PERCENTAGE;
     }
 
     /**
-     * Callback interface for synchronized access to test results in iteration.
+     * Callback interface for access to test results in iteration.
      */
     public static interface ResultCallback {
         /**
@@ -169,6 +154,6 @@ public class TestResults {
      * @return
      */
     public int getSize() {
-        return results.size();
+        return size.get();
     }
 }
@@ -30,8 +30,8 @@ import org.testng.TestNG;
 import org.testng.annotations.Test;
 import org.testng.xml.*;
 
-import java.net.*;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * @author Christoph Deppisch
@@ -53,6 +53,17 @@ public class TestNGEngine extends AbstractTestEngine {
     }
 
     public void run() {
+        try {
+            runTests();
+        } finally {
+            releaseTestClassLoader();
+        }
+    }
+
+    /**
+     * Builds test suite according to run configuration and runs it with TestNG.
+     */
+    private void runTests() {
         TestNG testng = new TestNG();
 
         for (ITestNGListener listener : listeners) {
@@ -61,29 +72,28 @@ public class TestNGEngine extends AbstractTestEngine {
 
         XmlSuite suite = new XmlSuite();
         testng.setXmlSuites(Collections.singletonList(suite));
+        configureParallel(suite);
+
+        /* Test groups by package name when tests are grouped by package */
+        Map<String, XmlTest> packageTests = new HashMap<>();
 
         if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
+            /* All classes share one test when not grouped by package so suite level parallel mode applies to them */
+            XmlTest classesTest = null;
+            if (!isGroupByPackage()) {
+                classesTest = new XmlTest(suite);
+                classesTest.setClasses(new ArrayList<>());
+            }
+
             for (TestClass testClass : getConfiguration().getTestClasses()) {
                 log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName())));
 
-                XmlTest test = new XmlTest(suite);
-                test.setClasses(new ArrayList<>());
-
                 try {
-                    Class<?> clazz;
-                    if (getConfiguration().getTestJar() != null) {
-                        clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                    } else {
-                        clazz = Class.forName(testClass.getName());
-                    }
+                    Class<?> clazz = loadTestClass(testClass);
 
-                    XmlClass xmlClass = new XmlClass(clazz);
-                    if (StringUtils.hasText(testClass.getMethod())) {
-                        xmlClass.setIncludedMethods(Collections.singletonList(new XmlInclude(testClass.getMethod())));
-                    }
-
-                    test.getClasses().add(xmlClass);
-                } catch (ClassNotFoundException | MalformedURLException e) {
+                    XmlTest test = isGroupByPackage() ? getPackageTest(suite, packageTests, clazz) : classesTest;
+                    addTestClass(test, clazz, testClass.getMethod());
+                } catch (ClassNotFoundException e) {
                     log.warn("Unable to read test class: " + testClass.getName());
                 }
             }
@@ -99,43 +109,132 @@ public class TestNGEngine extends AbstractTestEngine {
                     log.info(String.format("Running tests in package %s", packageName));
                 }
 
-                XmlTest test = new XmlTest(suite);
-                test.setClasses(new ArrayList<>());
+                XmlTest test = null;
+                if (!isGroupByPackage()) {
+                    test = new XmlTest(suite);
+                    test.setClasses(new ArrayList<>());
+                }
 
                 List<TestClass> classesToRun;
                 if (getConfiguration().getTestJar() != null) {
-                    classesToRun = new JarFileTestScanner(getConfiguration().getTestJar(), getConfiguration().getIncludes()).findTestsInPackage(packageName);
+                    classesToRun = new JarFileTestScanner(getConfiguration().getTestJar(), Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName);
                 } else {
                     classesToRun = new ClassPathTestScanner(Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName);
                 }
 
-                classesToRun.stream()
+                List<Class<?>> testClasses = classesToRun.stream()
                         .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                         .map(testClass -> {
                             try {
-                                Class<?> clazz;
-                                if (getConfiguration().getTestJar() != null) {
-                                    clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                                } else {
-                                    clazz = Class.forName(testClass.getName());
-                                }
-                                return clazz;
-                            } catch (ClassNotFoundException | MalformedURLException e) {
+                                return loadTestClass(testClass);
+                            } catch (ClassNotFoundException e) {
                                 log.warn("Unable to read test class: " + testClass.getName());
                                 return Void.class;
                             }
                         })
                         .filter(clazz -> !clazz.equals(Void.class))
-                        .map(XmlClass::new)
-                        .forEach(test.getClasses()::add);
+                        .collect(Collectors.toList());
 
-                log.info(String.format("Found %s test classes to execute", test.getClasses().size()));
+                for (Class<?> clazz : testClasses) {
+                    if (isGroupByPackage()) {
+                        getPackageTest(suite, packageTests, clazz).getClasses().add(new XmlClass(clazz));
+                    } else {
+                        test.getClasses().add(new XmlClass(clazz));
+                    }
+                }
+
+                log.info(String.format("Found %s test classes to execute", testClasses.size()));
             }
         }
         
         testng.run();
     }
 
+    /**
+     * Sets parallel mode and thread count on suite according to run configuration. Package mode runs each package as separate
+     * test in parallel while classes in a package run sequentially.
+     * @param suite
+     */
+    private void configureParallel(XmlSuite suite) {
+        if (getConfiguration().getParallel() == null) {
+            return;
+        }
+
+        switch (getConfiguration().getParallel()) {
+            case CLASSES:
+                suite.setParallel(XmlSuite.ParallelMode.CLASSES);
+                break;
+            case METHODS:
+                suite.setParallel(XmlSuite.ParallelMode.METHODS);
+                break;
+            case PACKAGES:
+                suite.setParallel(XmlSuite.ParallelMode.TESTS);
+                break;
+            default:
+                return;
+        }
+
+        suite.setThreadCount(getConfiguration().getThreadCount());
+        log.info(String.format("Running tests in parallel by %s using %s threads",
+                getConfiguration().getParallel().name().toLowerCase(), getConfiguration().getThreadCount()));
+    }
+
+    /**
+     * Adds test class to given test. When the class is already part of the test the method includes are merged so each
+     * class is run only once. Class without method runs all of its test methods.
+     * @param test
+     * @param clazz
+     * @param method
+     */
+    private void addTestClass(XmlTest test, Class<?> clazz, String method) {
+        Optional<XmlClass> existing = test.getClasses().stream()
+                .filter(xmlClass -> xmlClass.getSupportClass().equals(clazz))
+                .findFirst();
+
+        if (existing.isPresent()) {
+            XmlClass xmlClass = existing.get();
+            if (!StringUtils.hasText(method)) {
+                xmlClass.setIncludedMethods(new ArrayList<>());
+            } else if (!xmlClass.getIncludedMethods().isEmpty()) {
+                xmlClass.getIncludedMethods().add(new XmlInclude(method));
+            }
+
+            return;
+        }
+
+        XmlClass xmlClass = new XmlClass(clazz);
+        if (StringUtils.hasText(method)) {
+            xmlClass.setIncludedMethods(new ArrayList<>(Collections.singletonList(new XmlInclude(method))));
+        }
+
+        test.getClasses().add(xmlClass);
+    }
+
+    /**
+     * Gets or creates test holding all classes of the given test class package.
+     * @param suite
+     * @param packageTests
+     * @param clazz
+     * @return
+     */
+    private XmlTest getPackageTest(XmlSuite suite, Map<String, XmlTest> packageTests, Class<?> clazz) {
+        String packageName = Optional.ofNullable(clazz.getPackage()).map(Package::getName).orElse("");
+        return packageTests.computeIfAbsent(packageName, key -> {
+            XmlTest test = new XmlTest(suite);
+            test.setName(StringUtils.hasText(key) ? key : "default");
+            test.setClasses(new ArrayList<>());
+            return test;
+        });
+    }
+
+    /**
+     * Checks if tests should be grouped by package.
+     * @return
+     */
+    private boolean isGroupByPackage() {
+        return TestRunConfiguration.ParallelMode.PACKAGES.equals(getConfiguration().getParallel());
+    }
+
     /**
      * Adds run listener in fluent API.
      * @param listener
@@ -88,11 +88,12 @@ public abstract class FileUtils {
      * @throws IOException
      */
     public static String readToString(File file) throws IOException {
-         return readToString(new FileInputStream(file), getDefaultCharset());
+         return readToString(new FileSystemResource(file), getDefaultCharset());
     }
 
     /**
-     * Read file resource to string value.
+     * Read file resource to string value. Resource content is served from shared {@link ResourceCache} as long as the
+     * resource has not been modified.
      * @param resource
      * @param charset
      * @return
@@ -112,7 +113,29 @@ public abstract class FileUtils {
         if (log.isDebugEnabled()) {
             log.debug(String.format("Reading file resource: '%s' (encoding is '%s')", resource.getFilename(), charset.displayName()));
         }
-        return readToString(resource.getInputStream(), charset);
+        return ResourceCache.getString(resource, charset);
+    }
+
+    /**
+     * Read file resource to byte array. Resource content is served from shared {@link ResourceCache} as long as the
+     * resource has not been modified.
+     * @param resource
+     * @return
+     * @throws IOException
+     */
+    public static byte[] copyToByteArray(Resource resource) throws IOException {
+        return ResourceCache.getBytes(resource);
+    }
+
+    /**
+     * Read file resource to Base64 encoded string value. Encoded content is served from shared {@link ResourceCache} as long as the
+     * resource has not been modified.
+     * @param resource
+     * @return
+     * @throws IOException
+     */
+    public static String readToBase64(Resource resource) throws IOException {
+        return ResourceCache.getBase64(resource);
     }
     
     /**
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility holding the random generator of each thread. Generators are not inherited when threads are created as pooled threads
+ * would keep the generator of whatever test created them. Instead tasks handed over to another thread (e.g. in parallel containers
+ * or async actions) are wrapped with {@link #propagate(Runnable)} so they run with a generator split off the generator of the
+ * handing thread at handoff time.
+ *
+ * When seed is set via system property or environment variable each test reseeds the generator of its thread with a seed derived
+ * from that seed, the test identity and the invocation index of the test. This makes random values reproducible per test
+ * so failed tests can be replayed.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public abstract class RandomUtils {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(RandomUtils.class);
+
+    /** Optional seed making random values reproducible */
+    public static final String SEED_PROPERTY = "citrus.random.seed";
+    public static final String SEED_ENV = "CITRUS_RANDOM_SEED";
+
+    /** Root generator threads split their generator off when no generator has been handed over */
+    private static final SplittableRandom root = new SplittableRandom();
+
+    /** Generator per thread */
+    private static final ThreadLocal<SplittableRandom> generator = ThreadLocal.withInitial(() -> {
+        synchronized (root) {
+            return root.split();
+        }
+    });
+
+    /** Number of times each test identity has been seeded */
+    private static final Map<String, AtomicLong> invocations = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private RandomUtils() {
+        super();
+    }
+
+    /**
+     * Gets the generator of the current thread. Generator must not be shared with other threads.
+     * @return
+     */
+    public static SplittableRandom current() {
+        return generator.get();
+    }
+
+    /**
+     * Reseeds the generator of the current thread.
+     * @param seed
+     */
+    public static void setSeed(long seed) {
+        generator.set(new SplittableRandom(seed));
+    }
+
+    /**
+     * Splits new generator off the generator of the current thread. Used to hand over a generator to tasks running on other threads.
+     * @return
+     */
+    public static SplittableRandom fork() {
+        return current().split();
+    }
+
+    /**
+     * Runs task on the current thread with given generator. Previous generator of the thread is restored afterwards.
+     * @param random
+     * @param task
+     */
+    public static void runWith(SplittableRandom random, Runnable task) {
+        SplittableRandom previous = generator.get();
+        generator.set(random);
+        try {
+            task.run();
+        } finally {
+            generator.set(previous);
+        }
+    }
+
+    /**
+     * Wraps task so it runs with a generator split off the generator of the current thread, no matter which thread
+     * runs the task later on. Wrapped task must not run concurrently on several threads.
+     * @param task
+     * @return
+     */
+    public static Runnable propagate(Runnable task) {
+        SplittableRandom random = fork();
+        return () -> runWith(random, task);
+    }
+
+    /**
+     * Wraps task so it runs with a generator split off the generator of the current thread, no matter which thread
+     * runs the task later on. Wrapped task must not run concurrently on several threads.
+     * @param task
+     * @param <T>
+     * @return
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        SplittableRandom random = fork();
+        return () -> {
+            SplittableRandom previous = generator.get();
+            generator.set(random);
+            try {
+                return task.call();
+            } finally {
+                generator.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Reseeds the generator of the current thread for given test when a global seed is set. Otherwise leaves the generator untouched.
+     * Each invocation of the same test identity gets its own seed so repeated invocations do not generate the same values.
+     * @param testIdentity
+     */
+    public static void seed(String testIdentity) {
+        String seedValue = getSeedValue();
+        if (StringUtils.hasText(seedValue)) {
+            long invocation = invocations.computeIfAbsent(String.valueOf(testIdentity), key -> new AtomicLong()).getAndIncrement();
+            long seed = deriveSeed(parseSeed(seedValue), testIdentity, invocation);
+            log.debug(String.format("Using random seed %s for test '%s' (invocation %s)", seed, testIdentity, invocation));
+            setSeed(seed);
+        }
+    }
+
+    /**
+     * Derives seed for given test identity and invocation index from global seed.
+     * @param seed
+     * @param testIdentity
+     * @param invocation
+     * @return
+     */
+    public static long deriveSeed(long seed, String testIdentity, long invocation) {
+        long derived = seed;
+        derived = 31 * derived + String.valueOf(testIdentity).hashCode();
+        derived = 31 * derived + invocation;
+        return new SplittableRandom(derived).nextLong();
+    }
+
+    /**
+     * Parses global seed value.
+     * @param seedValue
+     * @return
+     */
+    public static long parseSeed(String seedValue) {
+        try {
+            return Long.parseLong(seedValue.trim());
+        } catch (NumberFormatException e) {
+            throw new CitrusRuntimeException(String.format("Invalid random seed '%s' set via '%s' or '%s' - must be a numeric long value",
+                    seedValue, SEED_PROPERTY, SEED_ENV), e);
+        }
+    }
+
+    /**
+     * Gets global seed value from system property or environment variable.
+     * @return
+     */
+    private static String getSeedValue() {
+        return System.getProperty(SEED_PROPERTY, System.getenv(SEED_ENV));
+    }
+}
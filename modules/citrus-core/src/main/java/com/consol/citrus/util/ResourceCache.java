@@ -0,0 +1,261 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.apache.commons.codec.binary.Base64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Shared cache of file resource content. Entries are keyed by the resolved resource URL and are valid as long as the
+ * last modified timestamp (and file size for file system resources) of the resource does not change. Cache is bounded by
+ * the total number of bytes held, least recently used entries are evicted first. Decoded strings and Base64 encodings of
+ * the content are cached along with the raw bytes. Cache is cleared after each test suite and when Citrus is closed.
+ *
+ * Resources without URL such as byte array or input stream resources are not cached.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class ResourceCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(ResourceCache.class);
+
+    /** Maximum number of bytes held in cache, zero disables the cache */
+    public static final String CACHE_SIZE_PROPERTY = "citrus.resource.cache.size";
+    public static final String CACHE_SIZE_ENV = "CITRUS_RESOURCE_CACHE_SIZE";
+    private static final long CACHE_SIZE = Long.valueOf(System.getProperty(CACHE_SIZE_PROPERTY, System.getenv(CACHE_SIZE_ENV) != null ?
+            System.getenv(CACHE_SIZE_ENV) : String.valueOf(64 * 1024 * 1024)));
+
+    /** Cache entries by resource URL in access order */
+    private static final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    /** Current number of bytes held in cache */
+    private static long size = 0L;
+
+    /**
+     * Prevent instantiation.
+     */
+    private ResourceCache() {
+        super();
+    }
+
+    /**
+     * Gets resource content as byte array. Returned array is a copy that callers are free to modify.
+     * @param resource
+     * @return
+     * @throws IOException
+     */
+    public static byte[] getBytes(Resource resource) throws IOException {
+        Entry entry = getEntry(resource);
+        if (entry == null) {
+            return read(resource);
+        }
+
+        return entry.content.clone();
+    }
+
+    /**
+     * Gets resource content as string decoded with given charset.
+     * @param resource
+     * @param charset
+     * @return
+     * @throws IOException
+     */
+    public static String getString(Resource resource, Charset charset) throws IOException {
+        Entry entry = getEntry(resource);
+        if (entry == null) {
+            return new String(read(resource), charset);
+        }
+
+        synchronized (entries) {
+            String value = entry.strings.get(charset);
+            if (value == null) {
+                value = new String(entry.content, charset);
+                entry.strings.put(charset, value);
+                grow(entry, value.length() * 2L);
+            }
+
+            return value;
+        }
+    }
+
+    /**
+     * Gets resource content as Base64 encoded string.
+     * @param resource
+     * @return
+     * @throws IOException
+     */
+    public static String getBase64(Resource resource) throws IOException {
+        Entry entry = getEntry(resource);
+        if (entry == null) {
+            return Base64.encodeBase64String(read(resource));
+        }
+
+        synchronized (entries) {
+            if (entry.base64 == null) {
+                entry.base64 = Base64.encodeBase64String(entry.content);
+                grow(entry, entry.base64.length() * 2L);
+            }
+
+            return entry.base64;
+        }
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public static void clear() {
+        synchronized (entries) {
+            entries.clear();
+            size = 0L;
+        }
+    }
+
+    /**
+     * Gets the number of bytes currently held in cache.
+     * @return
+     */
+    public static long size() {
+        synchronized (entries) {
+            return size;
+        }
+    }
+
+    /**
+     * Gets valid cache entry for resource. Reads resource content and adds new cache entry when resource is not cached yet or
+     * cached content is outdated.
+     * @param resource
+     * @return cache entry or null when resource is not cacheable
+     * @throws IOException
+     */
+    private static Entry getEntry(Resource resource) throws IOException {
+        if (CACHE_SIZE <= 0) {
+            return null;
+        }
+
+        String key;
+        long lastModified;
+        long length;
+        try {
+            URL url = resource.getURL();
+            if (url == null) {
+                return null;
+            }
+
+            key = url.toString();
+            lastModified = resource.lastModified();
+            length = resource.isFile() ? resource.getFile().length() : -1L;
+        } catch (IOException e) {
+            log.debug("Resource is not cacheable: " + resource.getDescription());
+            return null;
+        }
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+                return entry;
+            }
+        }
+
+        byte[] content = read(resource);
+        if (content.length > CACHE_SIZE) {
+            return null;
+        }
+
+        Entry entry = new Entry(key, content, lastModified, length);
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                size -= previous.weight;
+            }
+
+            grow(entry, content.length);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Adds weight of entry and evicts least recently used entries until cache fits into its size limit again. Entries that
+     * have been evicted or replaced in the meantime are not accounted as they do not occupy cache space anymore.
+     * @param entry
+     * @param bytes
+     */
+    private static void grow(Entry entry, long bytes) {
+        if (entries.get(entry.key) != entry) {
+            return;
+        }
+
+        entry.weight += bytes;
+        size += bytes;
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (size > CACHE_SIZE && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if (eldest == entry) {
+                continue;
+            }
+
+            size -= eldest.weight;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Reads resource content. File system resources are read in one go with known file size.
+     * @param resource
+     * @return
+     * @throws IOException
+     */
+    private static byte[] read(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return Files.readAllBytes(resource.getFile().toPath());
+        }
+
+        return FileCopyUtils.copyToByteArray(resource.getInputStream());
+    }
+
+    /**
+     * Cache entry holding raw content and derived representations.
+     */
+    private static class Entry {
+        private final String key;
+        private final byte[] content;
+        private final long lastModified;
+        private final long length;
+        private final Map<Charset, String> strings = new HashMap<>(2);
+        private String base64;
+        private long weight;
+
+        Entry(String key, byte[] content, long lastModified, long length) {
+            this.key = key;
+            this.content = content;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.springframework.core.io.Resource;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * @author Christoph Deppisch
@@ -40,6 +41,9 @@ public abstract class SqlUtils {
     /** Default sql statement ending */
     public static final String STMT_ENDING = ";";
 
+    /** Data manipulation statements eligible for batch execution */
+    private static final Pattern DML_STATEMENT = Pattern.compile("^\\s*(INSERT|UPDATE|DELETE|MERGE)\\s", Pattern.CASE_INSENSITIVE);
+
     /**
      * Prevent instantiation.
      */
@@ -124,6 +128,62 @@ public abstract class SqlUtils {
         return stmts;
     }
 
+    /**
+     * Checks if given statement is a data manipulation statement (INSERT, UPDATE, DELETE or MERGE) that is eligible
+     * for JDBC batch execution.
+     *
+     * @param stmt
+     * @return
+     */
+    public static boolean isDataManipulationStatement(String stmt) {
+        return DML_STATEMENT.matcher(stmt).find();
+    }
+
+    /**
+     * Parses single line of delimiter separated values. Values may be enclosed in double quotes in order to contain
+     * delimiter characters. Double quotes in quoted values are escaped by another double quote. Empty values that are
+     * not quoted result in null.
+     *
+     * @param line
+     * @param delimiter
+     * @return
+     */
+    public static List<String> parseCsvLine(String line, char delimiter) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (inQuotes) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+                quoted = true;
+            } else if (c == delimiter) {
+                values.add(quoted || value.length() > 0 ? value.toString() : null);
+                value.setLength(0);
+                quoted = false;
+            } else {
+                value.append(c);
+            }
+        }
+
+        values.add(quoted || value.length() > 0 ? value.toString() : null);
+        return values;
+    }
+
     /**
      * Gets the SQL statement ending character sequence.
      *
@@ -7,8 +7,8 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageDirection;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.FileUtils;
 import org.springframework.core.io.Resource;
-import org.springframework.util.FileCopyUtils;
 
 /**
  * Message construction interceptor automatically converts message payloads to binary content. Supports String typed message payloads and
@@ -24,7 +24,7 @@ public class BinaryMessageConstructionInterceptor extends AbstractMessageConstru
             message.setPayload(message.getPayload(String.class).getBytes());
         } else if (message.getPayload() instanceof Resource) {
             try {
-                message.setPayload(FileCopyUtils.copyToByteArray(message.getPayload(Resource.class).getInputStream()));
+                message.setPayload(FileUtils.copyToByteArray(message.getPayload(Resource.class)));
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to build binary message payload from payload resource", e);
             }
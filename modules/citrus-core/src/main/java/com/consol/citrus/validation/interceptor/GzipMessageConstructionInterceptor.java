@@ -9,8 +9,8 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageDirection;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.FileUtils;
 import org.springframework.core.io.Resource;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StreamUtils;
 
 /**
@@ -34,7 +34,7 @@ public class GzipMessageConstructionInterceptor extends AbstractMessageConstruct
             } else if (message.getPayload() instanceof Resource) {
                 try (ByteArrayOutputStream zipped = new ByteArrayOutputStream()) {
                     try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(zipped)) {
-                        StreamUtils.copy(FileCopyUtils.copyToByteArray(message.getPayload(Resource.class).getInputStream()), gzipOutputStream);
+                        StreamUtils.copy(FileUtils.copyToByteArray(message.getPayload(Resource.class)), gzipOutputStream);
                     }
                     message.setPayload(zipped.toByteArray());
                 }
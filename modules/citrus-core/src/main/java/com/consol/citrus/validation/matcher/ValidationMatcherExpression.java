@@ -0,0 +1,184 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.matcher;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.variable.VariableUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled form of a validation matcher expression such as <code>@matches('[a-z]+')@</code>. Expression syntax
+ * is parsed only once into library prefix, matcher name and control parameters. Control parameters that do not
+ * hold any test variable or function are kept as static values so they do not need to be evaluated again on
+ * each validation.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public final class ValidationMatcherExpression {
+
+    /** Default control expression parser used when matcher does not provide its own parser */
+    private static final ControlExpressionParser DEFAULT_PARSER = new DefaultControlExpressionParser();
+
+    /** Library prefix and matcher name */
+    private final String prefix;
+    private final String matcherName;
+
+    /** Raw matcher value inside function body */
+    private final String matcherValue;
+
+    /** Control parameters as extracted by default control expression parser */
+    private final List<String> parameters;
+
+    /** Marks that all parameters are free of test variables and functions */
+    private final boolean staticParameters;
+
+    /**
+     * Constructor parsing given expression.
+     * @param validationMatcherExpression
+     */
+    private ValidationMatcherExpression(String validationMatcherExpression) {
+        String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
+
+        if (expression.equals("ignore")) {
+            expression += "()";
+        }
+
+        int bodyStart = expression.indexOf('(');
+        if (bodyStart < 0) {
+            throw new CitrusRuntimeException("Illegal syntax for validation matcher expression - missing validation value in '()' function body");
+        }
+
+        String libraryPrefix = "";
+        if (expression.indexOf(':') > 0 && expression.indexOf(':') < bodyStart) {
+            libraryPrefix = expression.substring(0, expression.indexOf(':') + 1);
+        }
+
+        this.prefix = libraryPrefix;
+        this.matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
+        this.matcherName = expression.substring(prefix.length(), bodyStart);
+        this.parameters = Collections.unmodifiableList(DEFAULT_PARSER.extractControlValues(matcherValue, null));
+        this.staticParameters = parameters.stream().allMatch(ValidationMatcherExpression::isStaticParameter);
+    }
+
+    /**
+     * Compiles given validation matcher expression.
+     * @param expression
+     * @return
+     */
+    public static ValidationMatcherExpression compile(String expression) {
+        return new ValidationMatcherExpression(expression);
+    }
+
+    /**
+     * Resolves validation matcher in given test context and runs validation on field value.
+     * @param fieldName the name of the field
+     * @param fieldValue the value of the field
+     * @param context the test context
+     */
+    public void validate(String fieldName, String fieldValue, TestContext context) {
+        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
+        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+
+        List<String> params;
+        if (validationMatcher instanceof ControlExpressionParser) {
+            params = ((ControlExpressionParser) validationMatcher).extractControlValues(matcherValue, null);
+            params = replaceVariablesAndFunctionsInParameters(params, context);
+        } else if (staticParameters) {
+            params = new ArrayList<>(parameters);
+        } else {
+            params = replaceVariablesAndFunctionsInParameters(parameters, context);
+        }
+
+        validationMatcher.validate(fieldName, fieldValue, params, context);
+    }
+
+    private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
+        List<String> replacedParams = new ArrayList<>(params.size());
+        for (String param : params) {
+            String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
+            String parsedFunctionsParam = FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context);
+            replacedParams.add(parsedFunctionsParam);
+        }
+        return replacedParams;
+    }
+
+    /**
+     * Checks if parameter holds neither test variable nor function expression. Uses the same
+     * preconditions as variable and function resolving so static parameters are never evaluated.
+     * @param param
+     * @return
+     */
+    private static boolean isStaticParameter(String param) {
+        if (param.contains(Citrus.VARIABLE_PREFIX)) {
+            return false;
+        }
+
+        return param.indexOf(':') < 0 || param.indexOf('(') < 0 || param.indexOf(')') < 0;
+    }
+
+    /**
+     * Cut off validation matchers prefix and suffix.
+     * @param expression
+     * @return
+     */
+    private static String cutOffValidationMatchersPrefix(String expression) {
+        if (expression.startsWith(Citrus.VALIDATION_MATCHER_PREFIX) && expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX)) {
+            return expression.substring(Citrus.VALIDATION_MATCHER_PREFIX.length(), expression.length() - Citrus.VALIDATION_MATCHER_SUFFIX.length());
+        }
+
+        return expression;
+    }
+
+    /**
+     * Gets the library prefix.
+     * @return
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the matcher name.
+     * @return
+     */
+    public String getMatcherName() {
+        return matcherName;
+    }
+
+    /**
+     * Gets the control parameters.
+     * @return
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Gets the static parameters state.
+     * @return
+     */
+    public boolean hasStaticParameters() {
+        return staticParameters;
+    }
+}
@@ -18,13 +18,11 @@ package com.consol.citrus.validation.matcher;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.functions.FunctionUtils;
-import com.consol.citrus.variable.VariableUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for validation matchers.
@@ -33,6 +31,12 @@ import java.util.List;
  */
 public final class ValidationMatcherUtils {
 
+    /** Maximum number of compiled expressions kept in cache */
+    private static final int MAX_COMPILED_EXPRESSIONS = 10000;
+
+    /** Cache of compiled validation matcher expressions */
+    private static final Map<String, ValidationMatcherExpression> compiledExpressions = new ConcurrentHashMap<>();
+
     /**
      * Prevent class instantiation.
      */
@@ -47,42 +51,28 @@ public final class ValidationMatcherUtils {
      */
     public static void resolveValidationMatcher(String fieldName, String fieldValue, 
             String validationMatcherExpression, TestContext context) {
-        String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
-
-        if (expression.equals("ignore")) {
-            expression += "()";
-        }
-
-        int bodyStart = expression.indexOf('(');
-        if (bodyStart < 0) {
-            throw new CitrusRuntimeException("Illegal syntax for validation matcher expression - missing validation value in '()' function body");
-        }
-        
-        String prefix = "";
-        if (expression.indexOf(':') > 0 && expression.indexOf(':') < bodyStart) {
-            prefix = expression.substring(0, expression.indexOf(':') + 1);
-        }
-
-        String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
-        String matcherName = expression.substring(prefix.length(), bodyStart);
+        compileValidationMatcher(validationMatcherExpression).validate(fieldName, fieldValue, context);
+    }
 
-        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
-        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+    /**
+     * Compiles validation matcher expression to its parsed representation. Compiled expressions are cached
+     * so repeated validations with the same expression do not need to parse the expression again.
+     * @param validationMatcherExpression to compile.
+     * @return the compiled expression
+     */
+    public static ValidationMatcherExpression compileValidationMatcher(String validationMatcherExpression) {
+        ValidationMatcherExpression compiled = compiledExpressions.get(validationMatcherExpression);
 
-        ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
-        List<String> params = controlExpressionParser.extractControlValues(matcherValue, null);
-        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
-        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
-    }
+        if (compiled == null) {
+            compiled = ValidationMatcherExpression.compile(validationMatcherExpression);
 
-    private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
-        List<String> replacedParams = new ArrayList<>(params.size());
-        for (String param : params) {
-            String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
-            String parsedFunctionsParam = FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context);
-            replacedParams.add(parsedFunctionsParam);
+            if (compiledExpressions.size() >= MAX_COMPILED_EXPRESSIONS) {
+                compiledExpressions.clear();
+            }
+            compiledExpressions.put(validationMatcherExpression, compiled);
         }
-        return replacedParams;
+
+        return compiled;
     }
 
     /**
@@ -95,26 +85,6 @@ public final class ValidationMatcherUtils {
                 expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX);
     }
     
-    /**
-     * Cut off validation matchers prefix and suffix.
-     * @param expression
-     * @return
-     */
-    private static String cutOffValidationMatchersPrefix(String expression) {
-        if (expression.startsWith(Citrus.VALIDATION_MATCHER_PREFIX) && expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX)) {
-            return expression.substring(Citrus.VALIDATION_MATCHER_PREFIX.length(), expression.length() - Citrus.VALIDATION_MATCHER_SUFFIX.length());
-        }
-
-        return expression;
-    }
-
-    private static ControlExpressionParser lookupControlExpressionParser(ValidationMatcher validationMatcher) {
-        if (validationMatcher instanceof ControlExpressionParser) {
-            return (ControlExpressionParser) validationMatcher;
-        }
-        return new DefaultControlExpressionParser();
-    }
-
     public static String getParameterListAsString(List<String> parameters) {
         return StringUtils.collectionToDelimitedString(parameters, ",", "'", "'");
     }
@@ -21,21 +21,31 @@ import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
- * ValidationMatcher based on String.matches()
+ * ValidationMatcher based on String.matches(). Compiled regular expression patterns are cached
+ * so the same control expression is not compiled again on each validation.
  * 
  * @author Christian Wied
  */
 public class MatchesValidationMatcher implements ValidationMatcher {
 
+    /** Maximum number of compiled patterns kept in cache */
+    private static final int MAX_CACHED_PATTERNS = 1000;
+
+    /** Cache of compiled patterns */
+    private static final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
     public void validate(String fieldName, String value, List<String> controlParameters, TestContext context) throws ValidationException {
 		String control = controlParameters.get(0);
     	boolean success;
 
     	try {
-    		success = value.matches(control);
+    		success = getPattern(control).matcher(value).matches();
     	} catch (PatternSyntaxException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName
@@ -49,4 +59,24 @@ public class MatchesValidationMatcher implements ValidationMatcher {
                     + "', control value is '" + control + "'");
         }
     }
+
+    /**
+     * Gets compiled pattern for given regular expression either from cache or by compiling the expression.
+     * @param regex
+     * @return
+     */
+    private static Pattern getPattern(String regex) {
+        Pattern pattern = patterns.get(regex);
+
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+
+            if (patterns.size() >= MAX_CACHED_PATTERNS) {
+                patterns.clear();
+            }
+            patterns.put(regex, pattern);
+        }
+
+        return pattern;
+    }
 }
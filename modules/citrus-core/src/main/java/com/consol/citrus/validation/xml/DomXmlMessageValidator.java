@@ -149,64 +149,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
             log.debug("Starting XML schema validation ...");
 
-            XmlValidator validator = null;
-            XsdSchemaRepository schemaRepository = null;
-            if (validationContext.getSchema() != null) {
-                validator = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class).createValidator();
-            } else if (validationContext.getSchemaRepository() != null) {
-                schemaRepository = applicationContext.getBean(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
-            } else if (schemaRepositories.size() == 1) {
-                schemaRepository = schemaRepositories.get(0);
-            } else if (schemaRepositories.size() > 0) {
-                for (XsdSchemaRepository repository : schemaRepositories) {
-                    if (repository.canValidate(doc)) {
-                        schemaRepository = repository;
-                    }
-                }
-                
-                if (schemaRepository == null) {
-                    throw new CitrusRuntimeException(String.format("Failed to find proper schema repository in Spring bean context for validating element '%s(%s)'",
-                            doc.getFirstChild().getLocalName(), doc.getFirstChild().getNamespaceURI()));
-                }
-            } else {
-                log.warn("Neither schema instance nor schema repository defined - skipping XML schema validation");
+            XmlValidator validator = findSchemaValidator(doc, validationContext);
+            if (validator == null) {
                 return;
             }
             
-            if (schemaRepository != null) {
-                if (!schemaRepository.canValidate(doc)) {
-                    throw new CitrusRuntimeException(String.format("Unable to find proper XML schema definition for element '%s(%s)' in schema repository '%s'",
-                            doc.getFirstChild().getLocalName(),
-                            doc.getFirstChild().getNamespaceURI(),
-                            schemaRepository.getName()));
-                }
-
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }                            
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-                
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
-            }
-            
             SAXParseException[] results = validator.validate(new DOMSource(doc));
             if (results.length == 0) {
                 log.info("XML schema validation successful: All values OK");
@@ -230,6 +177,78 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
     }
 
+    /**
+     * Finds proper XML schema validator for given document. Uses explicit schema or schema repository set on
+     * validation context or searches all known schema repositories for a repository capable of validating the document.
+     * Only root element of given document is evaluated when searching for schema repository.
+     *
+     * @param doc
+     * @param validationContext
+     * @return the schema validator or null when no schema definition is available.
+     * @throws IOException
+     */
+    protected XmlValidator findSchemaValidator(Document doc, XmlMessageValidationContext validationContext) throws IOException {
+        XmlValidator validator = null;
+        XsdSchemaRepository schemaRepository = null;
+        if (validationContext.getSchema() != null) {
+            validator = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class).createValidator();
+        } else if (validationContext.getSchemaRepository() != null) {
+            schemaRepository = applicationContext.getBean(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
+        } else if (schemaRepositories.size() == 1) {
+            schemaRepository = schemaRepositories.get(0);
+        } else if (schemaRepositories.size() > 0) {
+            for (XsdSchemaRepository repository : schemaRepositories) {
+                if (repository.canValidate(doc)) {
+                    schemaRepository = repository;
+                }
+            }
+            
+            if (schemaRepository == null) {
+                throw new CitrusRuntimeException(String.format("Failed to find proper schema repository in Spring bean context for validating element '%s(%s)'",
+                        doc.getFirstChild().getLocalName(), doc.getFirstChild().getNamespaceURI()));
+            }
+        } else {
+            log.warn("Neither schema instance nor schema repository defined - skipping XML schema validation");
+            return null;
+        }
+        
+        if (schemaRepository != null) {
+            if (!schemaRepository.canValidate(doc)) {
+                throw new CitrusRuntimeException(String.format("Unable to find proper XML schema definition for element '%s(%s)' in schema repository '%s'",
+                        doc.getFirstChild().getLocalName(),
+                        doc.getFirstChild().getNamespaceURI(),
+                        schemaRepository.getName()));
+            }
+
+            List<Resource> schemas = new ArrayList<>();
+            for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
+                if (xsdSchema instanceof XsdSchemaCollection) {
+                    for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
+                        schemas.add(resource);
+                    }                            
+                } else if (xsdSchema instanceof WsdlXsdSchema) {
+                    for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
+                        schemas.add(resource);
+                    }
+                } else {
+                    synchronized (transformerFactory) {
+                        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                        try {
+                            transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                        } catch (TransformerException e) {
+                            throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                        }
+                        schemas.add(new ByteArrayResource(bos.toByteArray()));
+                    }
+                }
+            }
+            
+            validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+        }
+
+        return validator;
+    }
+
     /**
      * Validate namespaces in message. The method compares namespace declarations in the root
      * element of the received message to expected namespaces. Prefixes are important too, so
@@ -366,7 +385,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param validationContext
      * @param context
      */
-    private void validateXmlHeaderFragment(String receivedHeaderData, String controlHeaderData,
+    protected void validateXmlHeaderFragment(String receivedHeaderData, String controlHeaderData,
             XmlMessageValidationContext validationContext, TestContext context) {
         log.debug("Start XML header data validation ...");
 
@@ -750,6 +769,22 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         schemaRepositories.add(schemaRepository);
     }
 
+    /**
+     * Gets the namespace context builder.
+     * @return
+     */
+    public NamespaceContextBuilder getNamespaceContextBuilder() {
+        return namespaceContextBuilder;
+    }
+
+    /**
+     * Sets the namespace context builder.
+     * @param namespaceContextBuilder
+     */
+    public void setNamespaceContextBuilder(NamespaceContextBuilder namespaceContextBuilder) {
+        this.namespaceContextBuilder = namespaceContextBuilder;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,1047 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.consol.citrus.xml.xpath.XPathUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.util.xml.SimpleNamespaceContext;
+import org.springframework.xml.validation.XmlValidator;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.ls.LSException;
+import org.xml.sax.SAXParseException;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.*;
+import javax.xml.transform.stream.StreamSource;
+import java.io.*;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * XML message validator comparing received and control message payload in a streaming manner. Both documents are read
+ * with StAX stream readers in lockstep so no DOM trees are built for the message payloads. Memory consumption is bounded by the
+ * document depth rather than the document size which makes this validator suitable for very large XML documents.
+ *
+ * Validator supports element and attribute comparison, namespace validation, ignore placeholders and validation matchers
+ * just like the DOM based validator. Ignore expressions are supported as node path expressions (e.g. Root.Child.Element)
+ * and as XPath location paths with child and descendant steps (e.g. /ns:Root//ns:Element or //Element/@attribute). Other XPath
+ * expressions can not be evaluated on a stream, in that case validator falls back to DOM based comparison for the message.
+ *
+ * In addition to String payloads the validator is able to read received message payloads of type {@link Resource}, {@link File}
+ * and byte array. Validator is not registered in the default message validator registry. Add it as bean to the Spring
+ * application context and reference it explicitly as validator in receive actions.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class StaxXmlMessageValidator extends DomXmlMessageValidator {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(StaxXmlMessageValidator.class);
+
+    /** Supported XPath location path step */
+    private static final Pattern XPATH_STEP = Pattern.compile("@?(\\*|([A-Za-z_][\\w.\\-]*:)?([A-Za-z_][\\w.\\-]*|\\*))");
+
+    /** Stream reader factory */
+    private final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+
+    /**
+     * Default constructor.
+     */
+    public StaxXmlMessageValidator() {
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Override
+    public void validateMessage(Message receivedMessage, Message controlMessage,
+                                TestContext context, XmlMessageValidationContext validationContext) throws ValidationException {
+        log.debug("Start streaming XML message validation ...");
+
+        try {
+            if (validationContext.isSchemaValidationEnabled()) {
+                validateXMLSchema(receivedMessage, validationContext);
+                validateDTD(validationContext.getDTDResource(), receivedMessage);
+            }
+
+            validateNamespaces(validationContext.getControlNamespaces(), receivedMessage);
+            validateMessageContent(receivedMessage, controlMessage, validationContext, context);
+
+            if (controlMessage != null) {
+                Assert.isTrue(controlMessage.getHeaderData().size() <= receivedMessage.getHeaderData().size(),
+                        "Failed to validate header data XML fragments - found " +
+                                receivedMessage.getHeaderData().size() + " header fragments, expected " + controlMessage.getHeaderData().size());
+
+                for (int i = 0; i < controlMessage.getHeaderData().size(); i++) {
+                    validateXmlHeaderFragment(receivedMessage.getHeaderData().get(i),
+                            controlMessage.getHeaderData().get(i), validationContext, context);
+                }
+            }
+
+            log.info("XML message validation successful: All values OK");
+        } catch (ClassCastException | DOMException | LSException e) {
+            throw new CitrusRuntimeException(e);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to validate XML message payload");
+            throw new ValidationException("Validation failed:", e);
+        } catch (ValidationException ex) {
+            log.error("Failed to validate XML message payload");
+            throw ex;
+        }
+    }
+
+    @Override
+    protected void validateXMLSchema(Message receivedMessage, XmlMessageValidationContext validationContext) {
+        if (!hasPayload(receivedMessage)) {
+            return;
+        }
+
+        QName rootElement = readRootElementName(receivedMessage.getPayload());
+        if (!StringUtils.hasText(rootElement.getNamespaceURI())) {
+            return;
+        }
+
+        log.debug("Starting XML schema validation ...");
+
+        try {
+            // schema lookup only evaluates the root element so use lightweight document with root element only
+            XmlValidator validator = findSchemaValidator(XMLUtils.parseMessagePayload(String.format("<%s xmlns=\"%s\"/>",
+                    rootElement.getLocalPart(), rootElement.getNamespaceURI())), validationContext);
+            if (validator == null) {
+                return;
+            }
+
+            SAXParseException[] results;
+            StreamSource source = openPayload(receivedMessage.getPayload());
+            try {
+                results = validator.validate(source);
+            } finally {
+                close(source);
+            }
+
+            if (results.length == 0) {
+                log.info("XML schema validation successful: All values OK");
+            } else {
+                log.error("XML schema validation failed for message");
+
+                // Report all parsing errors
+                log.debug("Found " + results.length + " schema validation errors");
+                StringBuilder errors = new StringBuilder();
+                for (SAXParseException e : results) {
+                    errors.append(e.toString());
+                    errors.append("\n");
+                }
+                log.debug(errors.toString());
+
+                throw new ValidationException("XML schema validation failed:", results[0]);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    @Override
+    protected void validateNamespaces(Map<String, String> expectedNamespaces, Message receivedMessage) {
+        if (CollectionUtils.isEmpty(expectedNamespaces)) { return; }
+
+        if (!hasPayload(receivedMessage)) {
+            throw new ValidationException("Unable to validate message namespaces - receive message payload was empty");
+        }
+
+        log.debug("Start XML namespace validation");
+
+        String rootElement = null;
+        Map<String, String> foundNamespaces = new HashMap<>();
+        StreamSource source = openPayload(receivedMessage.getPayload());
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(source);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                        if (rootElement == null) {
+                            rootElement = reader.getLocalName();
+                        }
+
+                        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                            foundNamespaces.put(Optional.ofNullable(reader.getNamespacePrefix(i)).orElse(XMLConstants.DEFAULT_NS_PREFIX),
+                                    reader.getNamespaceURI(i));
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML message payload", e);
+        } finally {
+            close(source);
+        }
+
+        if (foundNamespaces.size() != expectedNamespaces.size()) {
+            throw new ValidationException("Number of namespace declarations not equal for node " +
+                    rootElement + " found " +
+                    foundNamespaces.size() + " expected " + expectedNamespaces.size());
+        }
+
+        for (Map.Entry<String, String> entry : expectedNamespaces.entrySet()) {
+            String namespace = entry.getKey();
+            String url = entry.getValue();
+
+            if (foundNamespaces.containsKey(namespace)) {
+                if (!foundNamespaces.get(namespace).equals(url)) {
+                    throw new ValidationException("Namespace '" + namespace +
+                            "' values not equal: found '" + foundNamespaces.get(namespace) +
+                            "' expected '" + url + "' in reference node " + rootElement);
+                } else {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Validating namespace " + namespace + " value as expected " + url + " - value OK");
+                    }
+                }
+            } else {
+                throw new ValidationException("Missing namespace " + namespace + "(" + url + ") in node " + rootElement);
+            }
+        }
+
+        log.info("XML namespace validation successful: All values OK");
+    }
+
+    @Override
+    protected void validateMessageContent(Message receivedMessage, Message controlMessage, XmlMessageValidationContext validationContext,
+                                          TestContext context) {
+        if (controlMessage == null || controlMessage.getPayload() == null) {
+            log.debug("Skip message payload validation as no control message was defined");
+            return;
+        }
+
+        if (!(controlMessage.getPayload() instanceof String)) {
+            throw new IllegalArgumentException(
+                    "StaxXmlMessageValidator does only support control message payload of type String, " +
+                    "but was " + controlMessage.getPayload().getClass());
+        }
+
+        String controlMessagePayload = controlMessage.getPayload(String.class);
+
+        if (!hasPayload(receivedMessage)) {
+            Assert.isTrue(!StringUtils.hasText(controlMessagePayload),
+                    "Unable to validate message payload - received message payload was empty, control message payload is not");
+            return;
+        } else if (!StringUtils.hasText(controlMessagePayload)) {
+            return;
+        }
+
+        log.debug("Start streaming XML tree validation ...");
+
+        StreamSource receivedSource = openPayload(receivedMessage.getPayload());
+        try {
+            XMLStreamReader received = inputFactory.createXMLStreamReader(receivedSource);
+            XMLStreamReader control = inputFactory.createXMLStreamReader(new StringReader(controlMessagePayload.trim()));
+
+            try {
+                nextElement(received);
+                nextElement(control);
+
+                List<IgnoreExpression> ignoreExpressions = compileIgnoreExpressions(validationContext, received);
+                if (ignoreExpressions == null) {
+                    log.debug("Ignore expressions not supported in streaming mode - using DOM XML tree validation");
+                    super.validateMessageContent(receivedMessage, controlMessage, validationContext, context);
+                    return;
+                }
+
+                new StreamComparison(received, control, ignoreExpressions, context).compareElement();
+            } finally {
+                received.close();
+                control.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML message payload", e);
+        } finally {
+            close(receivedSource);
+        }
+    }
+
+    /**
+     * Compiles ignore expressions of validation context to stream capable expressions. Returns null in case
+     * one of the expressions is not supported in streaming mode. Namespace prefixes used in XPath expressions are
+     * resolved with default namespace mappings, the namespace declarations on the received root element and explicit
+     * namespaces of the validation context.
+     *
+     * @param validationContext
+     * @param received stream reader positioned at received root element.
+     * @return
+     */
+    private List<IgnoreExpression> compileIgnoreExpressions(XmlMessageValidationContext validationContext, XMLStreamReader received) {
+        List<IgnoreExpression> ignoreExpressions = new ArrayList<>();
+        if (CollectionUtils.isEmpty(validationContext.getIgnoreExpressions())) {
+            return ignoreExpressions;
+        }
+
+        NamespaceContext namespaceContext = buildNamespaceContext(validationContext.getNamespaces(), received);
+        for (String expression : validationContext.getIgnoreExpressions()) {
+            if (XPathUtils.isXPathExpression(expression)) {
+                IgnoreExpression xpath = XPathIgnoreExpression.compile(expression, namespaceContext);
+                if (xpath == null) {
+                    return null;
+                }
+
+                ignoreExpressions.add(xpath);
+            } else {
+                ignoreExpressions.add(new NodePathIgnoreExpression(expression));
+            }
+        }
+
+        return ignoreExpressions;
+    }
+
+    /**
+     * Builds namespace context for ignore expression evaluation.
+     * @param namespaces
+     * @param received
+     * @return
+     */
+    private NamespaceContext buildNamespaceContext(Map<String, String> namespaces, XMLStreamReader received) {
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+
+        if (getNamespaceContextBuilder() != null && !CollectionUtils.isEmpty(getNamespaceContextBuilder().getNamespaceMappings())) {
+            namespaceContext.setBindings(getNamespaceContextBuilder().getNamespaceMappings());
+        }
+
+        for (int i = 0; i < received.getNamespaceCount(); i++) {
+            String namespaceUri = received.getNamespaceURI(i);
+            if (CollectionUtils.isEmpty(namespaces) || !namespaces.containsValue(namespaceUri)) {
+                namespaceContext.bindNamespaceUri(Optional.ofNullable(received.getNamespacePrefix(i)).orElse(XMLConstants.DEFAULT_NS_PREFIX), namespaceUri);
+            }
+        }
+
+        if (!CollectionUtils.isEmpty(namespaces)) {
+            namespaceContext.setBindings(namespaces);
+        }
+
+        return namespaceContext;
+    }
+
+    /**
+     * Reads qualified name of root element in given payload.
+     * @param payload
+     * @return
+     */
+    private QName readRootElementName(Object payload) {
+        StreamSource source = openPayload(payload);
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(source);
+            try {
+                nextElement(reader);
+                return reader.getName();
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML message payload", e);
+        } finally {
+            close(source);
+        }
+    }
+
+    /**
+     * Opens stream source on message payload.
+     * @param payload
+     * @return
+     */
+    private StreamSource openPayload(Object payload) {
+        try {
+            if (payload instanceof Resource) {
+                return new StreamSource(((Resource) payload).getInputStream());
+            } else if (payload instanceof File) {
+                return new StreamSource(new FileSystemResource((File) payload).getInputStream());
+            } else if (payload instanceof byte[]) {
+                return new StreamSource(new ByteArrayInputStream((byte[]) payload));
+            } else {
+                return new StreamSource(new StringReader(payload.toString().trim()));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read XML message payload", e);
+        }
+    }
+
+    /**
+     * Close stream source quietly.
+     * @param source
+     */
+    private void close(StreamSource source) {
+        try {
+            if (source.getInputStream() != null) {
+                source.getInputStream().close();
+            }
+
+            if (source.getReader() != null) {
+                source.getReader().close();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close XML message payload stream", e);
+        }
+    }
+
+    /**
+     * Checks for non empty message payload.
+     * @param message
+     * @return
+     */
+    private boolean hasPayload(Message message) {
+        if (message.getPayload() == null) {
+            return false;
+        }
+
+        return !(message.getPayload() instanceof String) || StringUtils.hasText(message.getPayload(String.class));
+    }
+
+    /**
+     * Moves stream reader to next start element event.
+     * @param reader
+     * @throws XMLStreamException
+     */
+    private static void nextElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return;
+            }
+        }
+
+        throw new CitrusRuntimeException("Failed to read XML message payload - missing root element");
+    }
+
+    @Override
+    public boolean supportsMessageType(String messageType, Message message) {
+        if (!messageType.equalsIgnoreCase(MessageType.XML.name())) {
+            return false;
+        }
+
+        if (message.getPayload() instanceof Resource ||
+                message.getPayload() instanceof File ||
+                message.getPayload() instanceof byte[]) {
+            return true;
+        }
+
+        return super.supportsMessageType(messageType, message);
+    }
+
+    /**
+     * Walks received and control document stream readers in lockstep and compares elements, attributes and text content.
+     */
+    private final class StreamComparison {
+        private final XMLStreamReader received;
+        private final XMLStreamReader control;
+
+        private final List<IgnoreExpression> ignoreExpressions;
+        private final TestContext context;
+
+        /** Element path of current received element starting with root element */
+        private final List<QName> path = new ArrayList<>();
+
+        private StreamComparison(XMLStreamReader received, XMLStreamReader control, List<IgnoreExpression> ignoreExpressions, TestContext context) {
+            this.received = received;
+            this.control = control;
+            this.ignoreExpressions = ignoreExpressions;
+            this.context = context;
+        }
+
+        /**
+         * Compares current element in both readers. Readers must be positioned at start element event and are positioned at
+         * the respective end element event when method returns.
+         * @throws XMLStreamException
+         */
+        private void compareElement() throws XMLStreamException {
+            QName receivedName = received.getName();
+            QName controlName = control.getName();
+
+            doElementNameValidation(receivedName, controlName);
+            doElementNamespaceValidation(receivedName, controlName);
+
+            path.add(receivedName);
+            try {
+                if (isElementIgnored()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Element: '" + receivedName.getLocalPart() + "' is on ignore list - skipped validation");
+                    }
+
+                    skipElement(received);
+                    skipElement(control);
+                    return;
+                }
+
+                List<XmlAttribute> receivedAttributes = readAttributes(received);
+                List<XmlAttribute> controlAttributes = readAttributes(control);
+
+                String controlText = readText(control);
+                if (controlText.trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Element: '" + receivedName.getLocalPart() + "' is ignored by placeholder '" +
+                                Citrus.IGNORE_PLACEHOLDER + "'");
+                    }
+
+                    skipElement(received);
+                    skipToEndElement(control);
+                    return;
+                }
+
+                doAttributes(receivedName, receivedAttributes, controlAttributes);
+
+                //check if validation matcher on element is specified
+                if (ValidationMatcherUtils.isValidationMatcherExpression(controlText.trim())) {
+                    ValidationMatcherUtils.resolveValidationMatcher(getQualifiedName(controlName),
+                            readText(received).trim(),
+                            controlText.trim(),
+                            context);
+
+                    skipToEndElement(received);
+                    skipToEndElement(control);
+                    return;
+                }
+
+                StringBuilder receivedText = new StringBuilder(readText(received));
+                StringBuilder controlTextContent = new StringBuilder(controlText);
+
+                //work on child nodes
+                int childElements = 0;
+                while (received.isStartElement() || control.isStartElement()) {
+                    if (received.isStartElement() != control.isStartElement()) {
+                        int receivedChildElements = childElements + countRemainingChildElements(received);
+                        int controlChildElements = childElements + countRemainingChildElements(control);
+
+                        throw new IllegalArgumentException(ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
+                                + receivedName.getLocalPart() + "'", controlChildElements, receivedChildElements));
+                    }
+
+                    compareElement();
+                    childElements++;
+
+                    receivedText.append(readText(received));
+                    controlTextContent.append(readText(control));
+                }
+
+                doText(receivedName, receivedText.toString(), controlTextContent.toString());
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Validation successful for element: " + receivedName.getLocalPart() +
+                            " (" + receivedName.getNamespaceURI() + ")");
+                }
+            } finally {
+                path.remove(path.size() - 1);
+            }
+        }
+
+        private void doElementNameValidation(QName received, QName source) {
+            if (log.isDebugEnabled()) {
+                log.debug("Validating element: " + received.getLocalPart() + " (" + received.getNamespaceURI() + ")");
+            }
+
+            Assert.isTrue(received.getLocalPart().equals(source.getLocalPart()),
+                    ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", source.getLocalPart(), received.getLocalPart()));
+        }
+
+        private void doElementNamespaceValidation(QName received, QName source) {
+            String receivedNamespace = StringUtils.hasLength(received.getNamespaceURI()) ? received.getNamespaceURI() : null;
+            String sourceNamespace = StringUtils.hasLength(source.getNamespaceURI()) ? source.getNamespaceURI() : null;
+
+            Assert.isTrue(Objects.equals(receivedNamespace, sourceNamespace),
+                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                            received.getLocalPart() + "'", sourceNamespace, receivedNamespace));
+        }
+
+        /**
+         * Validates all attributes of current element.
+         * @param elementName
+         * @param receivedAttributes
+         * @param controlAttributes
+         */
+        private void doAttributes(QName elementName, List<XmlAttribute> receivedAttributes, List<XmlAttribute> controlAttributes) {
+            if (log.isDebugEnabled()) {
+                log.debug("Validating attributes for element: " + elementName.getLocalPart());
+            }
+
+            Assert.isTrue(receivedAttributes.size() == controlAttributes.size(),
+                    ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
+                            + elementName.getLocalPart() + "'", controlAttributes.size(), receivedAttributes.size()));
+
+            for (XmlAttribute receivedAttribute : receivedAttributes) {
+                String attributeName = receivedAttribute.name.getLocalPart();
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Validating attribute: " + attributeName + " (" + receivedAttribute.name.getNamespaceURI() + ")");
+                }
+
+                XmlAttribute controlAttribute = controlAttributes.stream()
+                        .filter(attribute -> attribute.name.equals(receivedAttribute.name))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Attribute validation failed for element '"
+                                + elementName.getLocalPart() + "', unknown attribute "
+                                + attributeName + " (" + receivedAttribute.name.getNamespaceURI() + ")"));
+
+                if (isAttributeIgnored(receivedAttribute, controlAttribute)) {
+                    continue;
+                }
+
+                String receivedValue = receivedAttribute.value;
+                String controlValue = controlAttribute.value;
+                if (StringUtils.hasText(controlValue) && ValidationMatcherUtils.isValidationMatcherExpression(controlValue.trim())) {
+                    ValidationMatcherUtils.resolveValidationMatcher(getQualifiedName(controlAttribute.name),
+                            receivedValue.trim(),
+                            controlValue.trim(),
+                            context);
+                } else if (receivedValue.contains(":") && controlValue.contains(":")) {
+                    doNamespaceQualifiedAttributeValidation(receivedAttribute, controlAttribute);
+                } else {
+                    Assert.isTrue(receivedValue.equals(controlValue),
+                            ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                                    + attributeName + "'", controlValue, receivedValue));
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Attribute '" + attributeName + "'='" + receivedValue + "': OK");
+                }
+            }
+        }
+
+        /**
+         * Perform validation on namespace qualified attribute values. Value prefixes are resolved with namespace declarations in scope.
+         * @param receivedAttribute
+         * @param controlAttribute
+         */
+        private void doNamespaceQualifiedAttributeValidation(XmlAttribute receivedAttribute, XmlAttribute controlAttribute) {
+            String receivedValue = receivedAttribute.value;
+            String controlValue = controlAttribute.value;
+
+            if (receivedAttribute.valueNamespace != null) {
+                if (controlAttribute.valueNamespace != null) {
+                    Assert.isTrue(controlAttribute.valueNamespace.equals(receivedAttribute.valueNamespace),
+                            ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
+                                    + receivedValue + "'", controlAttribute.valueNamespace, receivedAttribute.valueNamespace));
+
+                    // remove namespace prefixes as they must not form equality
+                    receivedValue = receivedValue.substring(receivedValue.indexOf(':') + 1);
+                    controlValue = controlValue.substring(controlValue.indexOf(':') + 1);
+                } else {
+                    throw new ValidationException("Received attribute value '" + receivedAttribute.name.getLocalPart() + "' describes namespace qualified attribute value," +
+                            " control value '" + controlValue + "' does not");
+                }
+            }
+
+            Assert.isTrue(receivedValue.equals(controlValue),
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                            + receivedAttribute.name.getLocalPart() + "'", controlValue, receivedValue));
+        }
+
+        /**
+         * Validates text content of current element.
+         * @param elementName
+         * @param receivedText
+         * @param controlText
+         */
+        private void doText(QName elementName, String receivedText, String controlText) {
+            if (log.isDebugEnabled()) {
+                log.debug("Validating node value for element: " + elementName.getLocalPart());
+            }
+
+            Assert.isTrue(receivedText.trim().equals(controlText.trim()),
+                    ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
+                            + elementName.getLocalPart() + "'", controlText.trim(), receivedText.trim()));
+
+            if (log.isDebugEnabled()) {
+                log.debug("Node value '" + receivedText.trim() + "': OK");
+            }
+        }
+
+        private boolean isElementIgnored() {
+            return ignoreExpressions.stream().anyMatch(expression -> expression.matchesElement(path));
+        }
+
+        private boolean isAttributeIgnored(XmlAttribute receivedAttribute, XmlAttribute controlAttribute) {
+            if (ignoreExpressions.stream().anyMatch(expression -> expression.matchesAttribute(path, receivedAttribute.name))) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Attribute '" + receivedAttribute.name.getLocalPart() + "' is on ignore list - skipped value validation");
+                }
+
+                return true;
+            } else if (StringUtils.hasText(controlAttribute.value) && controlAttribute.value.trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Attribute: '" + receivedAttribute.name.getLocalPart() + "' is ignored by placeholder '" +
+                            Citrus.IGNORE_PLACEHOLDER + "'");
+                }
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Reads all attributes of current start element. Attribute values that use a namespace prefix get resolved
+         * with the namespace declarations in scope.
+         * @param reader
+         * @return
+         */
+        private List<XmlAttribute> readAttributes(XMLStreamReader reader) {
+            List<XmlAttribute> attributes = new ArrayList<>(reader.getAttributeCount());
+
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String value = reader.getAttributeValue(i);
+
+                String valueNamespace = null;
+                if (value.contains(":")) {
+                    valueNamespace = reader.getNamespaceContext().getNamespaceURI(value.substring(0, value.indexOf(':')));
+                }
+
+                attributes.add(new XmlAttribute(reader.getAttributeName(i), value, StringUtils.hasLength(valueNamespace) ? valueNamespace : null));
+            }
+
+            return attributes;
+        }
+
+        /**
+         * Reads text content following the current event up to the next start or end element event. Whitespace only text,
+         * comments and processing instructions are skipped.
+         * @param reader
+         * @return
+         * @throws XMLStreamException
+         */
+        private String readText(XMLStreamReader reader) throws XMLStreamException {
+            StringBuilder text = new StringBuilder();
+
+            int event = reader.next();
+            while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+                if ((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) && !reader.isWhiteSpace()) {
+                    text.append(reader.getText());
+                }
+
+                event = reader.next();
+            }
+
+            return text.toString();
+        }
+
+        /**
+         * Skips current element including all child nodes. Reader must be positioned at start element event.
+         * @param reader
+         * @throws XMLStreamException
+         */
+        private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+            reader.next();
+            skipToEndElement(reader);
+        }
+
+        /**
+         * Skips remaining content of current element so reader is positioned at its end element event.
+         * @param reader
+         * @throws XMLStreamException
+         */
+        private void skipToEndElement(XMLStreamReader reader) throws XMLStreamException {
+            int depth = 0;
+            int event = reader.getEventType();
+            while (true) {
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 0) {
+                        return;
+                    }
+                    depth--;
+                }
+
+                event = reader.next();
+            }
+        }
+
+        /**
+         * Counts remaining child elements of current element.
+         * @param reader
+         * @return
+         * @throws XMLStreamException
+         */
+        private int countRemainingChildElements(XMLStreamReader reader) throws XMLStreamException {
+            int count = 0;
+            int depth = 0;
+            int event = reader.getEventType();
+            while (true) {
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (depth == 0) {
+                        count++;
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 0) {
+                        return count;
+                    }
+                    depth--;
+                }
+
+                event = reader.next();
+            }
+        }
+
+        private String getQualifiedName(QName name) {
+            return StringUtils.hasLength(name.getPrefix()) ? name.getPrefix() + ":" + name.getLocalPart() : name.getLocalPart();
+        }
+    }
+
+    /**
+     * Attribute read from stream with value namespace resolved from namespace declarations in scope.
+     */
+    private static final class XmlAttribute {
+        private final QName name;
+        private final String value;
+        private final String valueNamespace;
+
+        private XmlAttribute(QName name, String value, String valueNamespace) {
+            this.name = name;
+            this.value = value;
+            this.valueNamespace = valueNamespace;
+        }
+    }
+
+    /**
+     * Ignore expression evaluated on the element path of the current stream position.
+     */
+    private interface IgnoreExpression {
+        boolean matchesElement(List<QName> path);
+        boolean matchesAttribute(List<QName> path, QName attribute);
+    }
+
+    /**
+     * Node path ignore expression such as Root.Child.Element. Full path expressions match all elements with that path,
+     * short path expressions match the first element ending with that path only.
+     */
+    private static final class NodePathIgnoreExpression implements IgnoreExpression {
+        private final String expression;
+        private final String[] tokens;
+
+        private boolean elementMatched = false;
+        private boolean attributeMatched = false;
+
+        private NodePathIgnoreExpression(String expression) {
+            this.expression = expression;
+            this.tokens = StringUtils.tokenizeToStringArray(expression, ".");
+        }
+
+        @Override
+        public boolean matchesElement(List<QName> path) {
+            if (expression.equals(getPathName(path, path.size()))) {
+                return true;
+            }
+
+            if (!elementMatched && endsWith(path, tokens.length)) {
+                elementMatched = true;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public boolean matchesAttribute(List<QName> path, QName attribute) {
+            String attributeName = StringUtils.hasLength(attribute.getPrefix()) ? attribute.getPrefix() + ":" + attribute.getLocalPart() : attribute.getLocalPart();
+            if (expression.equals(getPathName(path, path.size()) + "." + attributeName)) {
+                return true;
+            }
+
+            if (!attributeMatched && tokens.length > 1 &&
+                    tokens[tokens.length - 1].equals(attributeName) && endsWith(path, tokens.length - 1)) {
+                attributeMatched = true;
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean endsWith(List<QName> path, int length) {
+            if (path.size() < length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (!tokens[length - 1 - i].equals(path.get(path.size() - 1 - i).getLocalPart())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static String getPathName(List<QName> path, int length) {
+            StringBuilder pathName = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    pathName.append('.');
+                }
+                pathName.append(path.get(i).getLocalPart());
+            }
+            return pathName.toString();
+        }
+    }
+
+    /**
+     * XPath location path ignore expression supporting child and descendant steps with name tests and an optional
+     * trailing attribute step.
+     */
+    private static final class XPathIgnoreExpression implements IgnoreExpression {
+        private final List<Step> steps;
+        private final Step attributeStep;
+
+        private XPathIgnoreExpression(List<Step> steps, Step attributeStep) {
+            this.steps = steps;
+            this.attributeStep = attributeStep;
+        }
+
+        /**
+         * Compiles XPath expression. Returns null when expression is not supported in streaming mode.
+         * @param expression
+         * @param namespaceContext
+         * @return
+         */
+        private static XPathIgnoreExpression compile(String expression, NamespaceContext namespaceContext) {
+            List<Step> steps = new ArrayList<>();
+            Step attributeStep = null;
+
+            int position = 0;
+            while (position < expression.length()) {
+                if (attributeStep != null) {
+                    return null;
+                }
+
+                boolean descendant;
+                if (expression.startsWith("//", position)) {
+                    descendant = true;
+                    position += 2;
+                } else if (expression.startsWith("/", position)) {
+                    descendant = false;
+                    position += 1;
+                } else {
+                    return null;
+                }
+
+                int end = expression.indexOf('/', position);
+                if (end < 0) {
+                    end = expression.length();
+                }
+
+                String nameTest = expression.substring(position, end);
+                if (!XPATH_STEP.matcher(nameTest).matches()) {
+                    return null;
+                }
+
+                boolean attribute = nameTest.startsWith("@");
+                if (attribute) {
+                    nameTest = nameTest.substring(1);
+                }
+
+                String namespaceUri = null;
+                String localName = nameTest;
+                if (nameTest.contains(":")) {
+                    namespaceUri = namespaceContext.getNamespaceURI(nameTest.substring(0, nameTest.indexOf(':')));
+                    if (!StringUtils.hasLength(namespaceUri)) {
+                        return null;
+                    }
+                    localName = nameTest.substring(nameTest.indexOf(':') + 1);
+                } else if (!localName.equals("*")) {
+                    namespaceUri = XMLConstants.NULL_NS_URI;
+                }
+
+                Step step = new Step(descendant, namespaceUri, localName);
+                if (attribute) {
+                    if (descendant && steps.isEmpty()) {
+                        return null;
+                    }
+                    attributeStep = step;
+                } else {
+                    steps.add(step);
+                }
+
+                position = end;
+            }
+
+            if (steps.isEmpty()) {
+                return null;
+            }
+
+            return new XPathIgnoreExpression(steps, attributeStep);
+        }
+
+        @Override
+        public boolean matchesElement(List<QName> path) {
+            return attributeStep == null && matches(path, 0, 0);
+        }
+
+        @Override
+        public boolean matchesAttribute(List<QName> path, QName attribute) {
+            return attributeStep != null && !attributeStep.descendant && attributeStep.matches(attribute) && matches(path, 0, 0);
+        }
+
+        private boolean matches(List<QName> path, int stepIndex, int pathIndex) {
+            if (stepIndex == steps.size()) {
+                return pathIndex == path.size();
+            }
+
+            Step step = steps.get(stepIndex);
+            if (step.descendant) {
+                for (int i = pathIndex; i < path.size(); i++) {
+                    if (step.matches(path.get(i)) && matches(path, stepIndex + 1, i + 1)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            return pathIndex < path.size() && step.matches(path.get(pathIndex)) && matches(path, stepIndex + 1, pathIndex + 1);
+        }
+
+        /**
+         * Single location step with name test. Null namespace matches any namespace.
+         */
+        private static final class Step {
+            private final boolean descendant;
+            private final String namespaceUri;
+            private final String localName;
+
+            private Step(boolean descendant, String namespaceUri, String localName) {
+                this.descendant = descendant;
+                this.namespaceUri = namespaceUri;
+                this.localName = localName;
+            }
+
+            private boolean matches(QName name) {
+                return (localName.equals("*") || localName.equals(name.getLocalPart())) &&
+                        (namespaceUri == null || namespaceUri.equals(Optional.ofNullable(name.getNamespaceURI()).orElse(XMLConstants.NULL_NS_URI)));
+            }
+        }
+    }
+}
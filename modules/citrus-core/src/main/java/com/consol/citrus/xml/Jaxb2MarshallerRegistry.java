@@ -0,0 +1,163 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.oxm.XmlMappingException;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.oxm.mime.MimeContainer;
+import org.springframework.util.StringUtils;
+
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Registry of shared JAXB marshallers. Creating a JAXB context and compiling the schema is expensive so each combination of
+ * schema and bound classes is initialized only once per registry and the marshaller is shared afterwards. Marshallers that fail
+ * to initialize are not shared so the next access tries again. Shared marshallers are thread safe and reuse JAXB marshaller and
+ * unmarshaller instances from a small pool. Marshallers and their pooled instances belong to the registry instance and are released
+ * when the registry is cleared. Module marshallers use the default registry.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class Jaxb2MarshallerRegistry {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(Jaxb2MarshallerRegistry.class);
+
+    /** Default registry shared by module marshallers */
+    private static final Jaxb2MarshallerRegistry DEFAULT_REGISTRY = new Jaxb2MarshallerRegistry();
+
+    /** Shared marshallers by schema and bound classes */
+    private final Map<List<Object>, Jaxb2Marshaller> marshallers = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the default registry.
+     * @return
+     */
+    public static Jaxb2MarshallerRegistry getDefault() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Gets shared marshaller for given classpath schema location and classes to be bound. Creates and initializes
+     * marshaller on first access. Marshaller is only shared when initialization succeeds.
+     * @param schemaPath classpath schema location or null if no schema validation should be performed
+     * @param classesToBeBound
+     * @return
+     */
+    public Jaxb2Marshaller getMarshaller(String schemaPath, Class<?>... classesToBeBound) {
+        List<Object> key = new ArrayList<>(classesToBeBound.length + 1);
+        key.add(schemaPath);
+        key.addAll(Arrays.asList(classesToBeBound));
+
+        Jaxb2Marshaller shared = marshallers.get(key);
+        if (shared != null) {
+            return shared;
+        }
+
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller();
+        marshaller.setClassesToBeBound(classesToBeBound);
+
+        if (StringUtils.hasText(schemaPath)) {
+            marshaller.setSchema(new ClassPathResource(schemaPath));
+        }
+
+        try {
+            marshaller.afterPropertiesSet();
+        } catch (Exception e) {
+            log.warn("Failed to setup message marshaller for schema " + schemaPath, e);
+            return marshaller;
+        }
+
+        shared = marshallers.putIfAbsent(key, marshaller);
+        return shared != null ? shared : marshaller;
+    }
+
+    /**
+     * Clears all shared marshallers of this registry.
+     */
+    public void clear() {
+        marshallers.clear();
+    }
+
+    /**
+     * Marshaller borrows JAXB marshaller and unmarshaller instances from a bounded pool instead of creating new instances
+     * for each operation. Borrowed instances are bound to the calling thread only for the duration of the operation so
+     * pooled or container threads never keep references to them.
+     */
+    private static class PooledJaxb2Marshaller extends Jaxb2Marshaller {
+        private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+        private final BlockingQueue<Marshaller> marshallerPool = new LinkedBlockingQueue<>(POOL_SIZE);
+        private final BlockingQueue<Unmarshaller> unmarshallerPool = new LinkedBlockingQueue<>(POOL_SIZE);
+
+        private final ThreadLocal<Marshaller> borrowedMarshaller = new ThreadLocal<>();
+        private final ThreadLocal<Unmarshaller> borrowedUnmarshaller = new ThreadLocal<>();
+
+        @Override
+        public void marshal(Object graph, Result result, MimeContainer mimeContainer) throws XmlMappingException {
+            Marshaller marshaller = marshallerPool.poll();
+            if (marshaller == null) {
+                marshaller = super.createMarshaller();
+            }
+
+            borrowedMarshaller.set(marshaller);
+            try {
+                super.marshal(graph, result, mimeContainer);
+            } finally {
+                borrowedMarshaller.remove();
+                marshallerPool.offer(marshaller);
+            }
+        }
+
+        @Override
+        public Object unmarshal(Source source, MimeContainer mimeContainer) throws XmlMappingException {
+            Unmarshaller unmarshaller = unmarshallerPool.poll();
+            if (unmarshaller == null) {
+                unmarshaller = super.createUnmarshaller();
+            }
+
+            borrowedUnmarshaller.set(unmarshaller);
+            try {
+                return super.unmarshal(source, mimeContainer);
+            } finally {
+                borrowedUnmarshaller.remove();
+                unmarshallerPool.offer(unmarshaller);
+            }
+        }
+
+        @Override
+        protected Marshaller createMarshaller() {
+            Marshaller marshaller = borrowedMarshaller.get();
+            return marshaller != null ? marshaller : super.createMarshaller();
+        }
+
+        @Override
+        protected Unmarshaller createUnmarshaller() {
+            Unmarshaller unmarshaller = borrowedUnmarshaller.get();
+            return unmarshaller != null ? unmarshaller : super.createUnmarshaller();
+        }
+    }
+}
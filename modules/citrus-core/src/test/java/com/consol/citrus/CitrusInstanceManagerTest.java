@@ -0,0 +1,67 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus;
+
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.report.TestListeners;
+import com.consol.citrus.report.TestSuiteListeners;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CitrusInstanceManagerTest {
+
+    @Test
+    public void testBoundInstance() throws InterruptedException {
+        ApplicationContext applicationContext = mockApplicationContext();
+        ApplicationContext otherApplicationContext = mockApplicationContext();
+
+        Citrus bound = Citrus.CitrusInstanceManager.bind(applicationContext);
+        try {
+            Assert.assertSame(Citrus.newInstance(otherApplicationContext), bound);
+            Assert.assertSame(Citrus.CitrusInstanceManager.getBoundInstance().orElse(null), bound);
+
+            AtomicReference<Citrus> childInstance = new AtomicReference<>();
+            Thread thread = new Thread(() -> childInstance.set(Citrus.newInstance(otherApplicationContext)));
+            thread.start();
+            thread.join();
+
+            Assert.assertSame(childInstance.get(), bound);
+        } finally {
+            Citrus.CitrusInstanceManager.unbind();
+        }
+
+        Assert.assertFalse(Citrus.CitrusInstanceManager.getBoundInstance().isPresent());
+        Assert.assertNotSame(Citrus.newInstance(otherApplicationContext), bound);
+    }
+
+    private ApplicationContext mockApplicationContext() {
+        ApplicationContext applicationContext = Mockito.mock(ApplicationContext.class);
+        when(applicationContext.getBean(TestContextFactory.class)).thenReturn(Mockito.mock(TestContextFactory.class));
+        when(applicationContext.getBean(TestSuiteListeners.class)).thenReturn(new TestSuiteListeners());
+        when(applicationContext.getBean(TestListeners.class)).thenReturn(new TestListeners());
+        return applicationContext;
+    }
+}
@@ -20,11 +20,14 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.sql.BatchUpdateException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -166,4 +169,113 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         executeSQLAction.execute(context);
         verify(jdbcTemplate).execute(DB_STMT_1);
     }
+
+	@Test
+	public void testSQLExecutionInBatchMode() {
+	    List<String> stmts = new ArrayList<>();
+	    stmts.add("CREATE TABLE ORDERS (ID INT, NAME VARCHAR(50))");
+	    stmts.add("INSERT INTO ORDERS (ID, NAME) VALUES (1, 'foo');");
+	    stmts.add("INSERT INTO ORDERS (ID, NAME) VALUES (2, '${name}');");
+	    stmts.add("INSERT INTO ORDERS (ID, NAME) VALUES (3, 'it''s');");
+	    stmts.add(DB_STMT_2);
+
+	    context.setVariable("name", "bar");
+	    executeSQLAction.setStatements(stmts);
+	    executeSQLAction.setBatchSize(100);
+
+	    reset(jdbcTemplate);
+
+	    executeSQLAction.execute(context);
+
+	    verify(jdbcTemplate).execute("CREATE TABLE ORDERS (ID INT, NAME VARCHAR(50))");
+	    verify(jdbcTemplate).batchUpdate("INSERT INTO ORDERS (ID, NAME) VALUES (1, 'foo')",
+	            "INSERT INTO ORDERS (ID, NAME) VALUES (2, 'bar')",
+	            "INSERT INTO ORDERS (ID, NAME) VALUES (3, 'it''s')",
+	            DB_STMT_2);
+	    verify(jdbcTemplate, never()).execute(DB_STMT_2);
+	}
+
+	@Test
+	public void testSQLExecutionInBatchModeFallback() {
+	    List<String> stmts = new ArrayList<>();
+	    stmts.add("INSERT INTO ORDERS (ID, NAME) VALUES (1, 'foo')");
+	    stmts.add("INSERT INTO ORDERS (ID, NAME) VALUES (2, 'bar')");
+	    stmts.add("INSERT INTO ORDERS (ID, NAME) VALUES (3, 'baz')");
+
+	    executeSQLAction.setStatements(stmts);
+	    executeSQLAction.setBatchSize(100);
+	    executeSQLAction.setIgnoreErrors(true);
+
+	    reset(jdbcTemplate);
+
+	    when(jdbcTemplate.batchUpdate(Mockito.<String>any()))
+	            .thenThrow(new DataIntegrityViolationException("Batch failed", new BatchUpdateException(new int[] { 1 })));
+	    doThrow(new DataIntegrityViolationException("Duplicate key")).when(jdbcTemplate).execute("INSERT INTO ORDERS (ID, NAME) VALUES (2, 'bar')");
+
+	    executeSQLAction.execute(context);
+
+	    verify(jdbcTemplate, never()).execute("INSERT INTO ORDERS (ID, NAME) VALUES (1, 'foo')");
+	    verify(jdbcTemplate).execute("INSERT INTO ORDERS (ID, NAME) VALUES (2, 'bar')");
+	    verify(jdbcTemplate).execute("INSERT INTO ORDERS (ID, NAME) VALUES (3, 'baz')");
+	}
+
+	@Test
+	public void testSQLExecutionInBatchModeWithoutUpdateCounts() {
+	    List<String> stmts = new ArrayList<>();
+	    stmts.add("INSERT INTO ORDERS (ID, NAME) VALUES (1, 'foo')");
+	    stmts.add("INSERT INTO ORDERS (ID, NAME) VALUES (2, 'bar')");
+
+	    executeSQLAction.setStatements(stmts);
+	    executeSQLAction.setBatchSize(100);
+	    executeSQLAction.setIgnoreErrors(true);
+
+	    reset(jdbcTemplate);
+
+	    when(jdbcTemplate.batchUpdate(Mockito.<String>any()))
+	            .thenThrow(new DataIntegrityViolationException("Batch failed", new BatchUpdateException(new int[] {})));
+
+	    try {
+	        executeSQLAction.execute(context);
+	        Assert.fail("Missing exception due to batch failure without update counts");
+	    } catch (CitrusRuntimeException e) {
+	        Assert.assertTrue(e.getMessage().startsWith("SQL batch execution failed and driver did not report update counts"));
+	    }
+
+	    verify(jdbcTemplate, never()).execute(anyString());
+	}
+
+	@Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Invalid data delimiter.*")
+	public void testSQLExecutionWithEmptyDataDelimiter() {
+	    executeSQLAction.setDataFile("classpath:com/consol/citrus/actions/test-sql-data.csv", "INSERT INTO ORDERS (ID, NAME, DESCRIPTION) VALUES (?, ?, ?)");
+	    executeSQLAction.setDataDelimiter("");
+
+	    reset(jdbcTemplate);
+
+	    executeSQLAction.execute(context);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSQLExecutionWithDataFile() {
+	    executeSQLAction.setDataFile("classpath:com/consol/citrus/actions/test-sql-data.csv", "INSERT INTO ORDERS (ID, NAME, DESCRIPTION) VALUES (?, ?, ?)");
+	    executeSQLAction.setDataHeader(true);
+	    executeSQLAction.setBatchSize(2);
+
+	    reset(jdbcTemplate);
+
+	    List<List<Object[]>> chunks = new ArrayList<>();
+	    when(jdbcTemplate.batchUpdate(eq("INSERT INTO ORDERS (ID, NAME, DESCRIPTION) VALUES (?, ?, ?)"), anyList())).thenAnswer(invocation -> {
+	        chunks.add(new ArrayList<>((List<Object[]>) invocation.getArgument(1)));
+	        return new int[] {};
+	    });
+
+	    executeSQLAction.execute(context);
+
+	    verify(jdbcTemplate, never()).execute(anyString());
+	    Assert.assertEquals(chunks.size(), 2);
+	    Assert.assertEquals(chunks.get(0).size(), 2);
+	    Assert.assertEquals(chunks.get(0).get(0), new Object[] { "1", "foo", "Hello, Citrus!" });
+	    Assert.assertEquals(chunks.get(0).get(1), new Object[] { "2", "bar", null });
+	    Assert.assertEquals(chunks.get(1).get(0), new Object[] { "3", "baz", "Say \"Hello\"" });
+	}
 }
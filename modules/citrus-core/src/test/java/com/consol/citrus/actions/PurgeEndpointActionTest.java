@@ -16,6 +16,8 @@
 
 package com.consol.citrus.actions;
 
+import com.consol.citrus.channel.ChannelEndpoint;
+import com.consol.citrus.channel.MessageSelectingQueueChannel;
 import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
@@ -25,6 +27,8 @@ import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.integration.support.MessageBuilder;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.*;
@@ -132,4 +136,28 @@ public class PurgeEndpointActionTest extends AbstractTestNGUnitTest {
         purgeEndpointAction.execute(context);
     }
 	
+
+    @Test
+    public void testPurgeChannelEndpoint() throws Exception {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.send(MessageBuilder.withPayload("Hello").setHeader("operation", "sayHello").build());
+        channel.send(MessageBuilder.withPayload("Bye").setHeader("operation", "sayGoodbye").build());
+        channel.send(MessageBuilder.withPayload("Hello").setHeader("operation", "sayHello").build());
+
+        ChannelEndpoint channelEndpoint = new ChannelEndpoint();
+        channelEndpoint.getEndpointConfiguration().setChannel(channel);
+        channelEndpoint.getEndpointConfiguration().setBeanFactory(applicationContext);
+
+        PurgeEndpointAction purgeEndpointAction = new PurgeEndpointAction();
+        purgeEndpointAction.setBeanFactory(applicationContext);
+        purgeEndpointAction.setEndpoints(Collections.singletonList(channelEndpoint));
+        purgeEndpointAction.setMessageSelectorMap(Collections.singletonMap("operation", "sayHello"));
+
+        purgeEndpointAction.execute(context);
+        Assert.assertEquals(channel.getQueueSize(), 1L);
+
+        purgeEndpointAction.setMessageSelectorMap(Collections.emptyMap());
+        purgeEndpointAction.execute(context);
+        Assert.assertEquals(channel.getQueueSize(), 0L);
+    }
 }
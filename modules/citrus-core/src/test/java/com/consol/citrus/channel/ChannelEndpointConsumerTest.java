@@ -223,4 +223,27 @@ public class ChannelEndpointConsumerTest extends AbstractTestNGUnitTest {
         }
 
     }
+
+    @Test
+    public void testReceiveSelectedKeepsParsedPayloads() {
+        ChannelEndpoint endpoint = new ChannelEndpoint();
+        MessageSelectingQueueChannel queueChannel = new MessageSelectingQueueChannel();
+        queueChannel.send(MessageBuilder.withPayload("<TestRequest><Message>Hello World!</Message></TestRequest>").build());
+
+        endpoint.getEndpointConfiguration().setChannel(queueChannel);
+        ChannelConsumer consumer = (ChannelConsumer) endpoint.createConsumer();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                consumer.receive("xpath://TestRequest/Message = 'Goodbye'", context, 100L);
+                Assert.fail("Missing " + ActionTimeoutException.class + " because no message was selected");
+            } catch (ActionTimeoutException e) {
+                Assert.assertEquals(consumer.getPayloadCache().size(), 1);
+            }
+        }
+
+        Message receivedMessage = consumer.receive("xpath://TestRequest/Message = 'Hello World!'", context, 100L);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Hello World!</Message></TestRequest>");
+        Assert.assertEquals(consumer.getPayloadCache().size(), 1);
+    }
 }
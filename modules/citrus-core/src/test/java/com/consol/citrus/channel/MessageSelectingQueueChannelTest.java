@@ -111,4 +111,19 @@ public class MessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testDrop() {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+        channel.send(MessageBuilder.withPayload("BarMessage").setHeader("foo", "other").build());
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+
+        Assert.assertEquals(channel.drop(new HeaderMatchingMessageSelector("foo", "bar", context)), 2L);
+        Assert.assertEquals(channel.getQueueSize(), 1L);
+
+        Assert.assertEquals(channel.drop(), 1L);
+        Assert.assertEquals(channel.getQueueSize(), 0L);
+    }
 }
@@ -31,6 +31,7 @@ import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -291,4 +292,63 @@ public class DispatchingMessageSelectorTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(messageSelector.accept(acceptMessage));
         Assert.assertFalse(messageSelector.accept(declineMessage));
     }
+
+    @Test
+    public void testHeaderSelectorsEvaluatedFirst() {
+        AtomicInteger payloadEvaluations = new AtomicInteger();
+
+        DispatchingMessageSelector messageSelector = new DispatchingMessageSelector("x:foo = 'bar' AND operation = 'foo'", beanFactory, context);
+        messageSelector.addMessageSelectorFactory(new MessageSelectorFactory() {
+            @Override
+            public boolean supports(String key) {
+                return key.startsWith("x:");
+            }
+
+            @Override
+            public MessageSelector create(String key, String value, TestContext context) {
+                return message -> {
+                    payloadEvaluations.incrementAndGet();
+                    return message.getHeaders().get("foo").equals(value);
+                };
+            }
+        });
+
+        Message<String> acceptMessage = MessageBuilder.withPayload("FooBar")
+                .setHeader("foo", "bar")
+                .setHeader("operation", "foo")
+                .build();
+
+        Message<String> declineMessage = MessageBuilder.withPayload("FooBar")
+                .setHeader("foo", "bar")
+                .setHeader("operation", "foobar")
+                .build();
+
+        Assert.assertFalse(messageSelector.accept(declineMessage));
+        Assert.assertEquals(payloadEvaluations.get(), 0);
+
+        Assert.assertTrue(messageSelector.accept(acceptMessage));
+        Assert.assertEquals(payloadEvaluations.get(), 1);
+    }
+
+    @Test
+    public void testPayloadCacheSharedByDelegates() {
+        MessagePayloadCache payloadCache = new MessagePayloadCache(1);
+
+        XpathPayloadMessageSelector textSelector = new XpathPayloadMessageSelector("xpath://FooTest/text", "foobar", context);
+        textSelector.setPayloadCache(payloadCache);
+        RootQNameMessageSelector rootSelector = new RootQNameMessageSelector(RootQNameMessageSelector.SELECTOR_ID, "FooTest", context);
+        rootSelector.setPayloadCache(payloadCache);
+
+        Message<String> message = MessageBuilder.withPayload("<FooTest><text>foobar</text></FooTest>").build();
+        Message<String> otherMessage = MessageBuilder.withPayload("<FooTest><text>barfoo</text></FooTest>").build();
+
+        Assert.assertTrue(textSelector.accept(message));
+        Assert.assertSame(textSelector.getPayloadAsDocument(message), rootSelector.getPayloadAsDocument(message));
+        Assert.assertTrue(rootSelector.accept(message));
+        Assert.assertEquals(payloadCache.size(), 1);
+
+        Assert.assertFalse(textSelector.accept(otherMessage));
+        Assert.assertTrue(rootSelector.accept(otherMessage));
+        Assert.assertEquals(payloadCache.size(), 1);
+    }
 }
@@ -44,6 +44,7 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
         Assert.assertNull(action.getTransactionManager());
         Assert.assertEquals(action.getTransactionTimeout(), "-1");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_DEFAULT");
+        Assert.assertEquals(action.getBatchSize(), 0);
         
         // 2nd action
         action = getNextTestActionFromTest();
@@ -55,6 +56,7 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
         Assert.assertEquals(action.getTransactionManager(), beanDefinitionContext.getBean("testTransactionManager", PlatformTransactionManager.class));
         Assert.assertEquals(action.getTransactionTimeout(), "5000");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_READ_COMMITTED");
+        Assert.assertEquals(action.getBatchSize(), 500);
     }
     
     @Test
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.functions.core;
+
+import com.consol.citrus.util.RandomUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class RandomGeneratorTest {
+
+    @Test
+    public void testSeed() {
+        RandomUtils.setSeed(42L);
+        List<String> numbers = RandomGenerator.numbers(10, 8, true);
+        List<String> strings = RandomGenerator.strings(10, 8, RandomStringFunction.MIXED, true);
+        String uuid = RandomGenerator.uuid().toString();
+
+        RandomUtils.setSeed(42L);
+        Assert.assertEquals(RandomGenerator.numbers(10, 8, true), numbers);
+        Assert.assertEquals(RandomGenerator.strings(10, 8, RandomStringFunction.MIXED, true), strings);
+        Assert.assertEquals(RandomGenerator.uuid().toString(), uuid);
+    }
+
+    @Test
+    public void testBulkValues() {
+        List<String> numbers = RandomGenerator.numbers(100, 5, true);
+        Assert.assertEquals(numbers.size(), 100L);
+        numbers.forEach(number -> {
+            Assert.assertEquals(number.length(), 5L);
+            Assert.assertNotEquals(number.charAt(0), '0');
+        });
+
+        List<String> strings = RandomGenerator.strings(100, 10, RandomStringFunction.UPPERCASE, false);
+        Assert.assertEquals(strings.size(), 100L);
+        strings.forEach(value -> Assert.assertTrue(value.matches("[A-Z]{10}")));
+
+        List<String> uuids = RandomGenerator.uuids(100);
+        Assert.assertEquals(new HashSet<>(uuids).size(), 100L);
+        uuids.forEach(uuid -> Assert.assertEquals(UUID.fromString(uuid).version(), 4L));
+    }
+
+    @Test
+    public void testThreadGenerator() throws InterruptedException {
+        AtomicReference<SplittableRandom> childGenerator = new AtomicReference<>();
+        Thread thread = new Thread(() -> childGenerator.set(RandomGenerator.current()));
+        thread.start();
+        thread.join();
+
+        Assert.assertNotNull(childGenerator.get());
+        Assert.assertNotSame(childGenerator.get(), RandomGenerator.current());
+    }
+}
@@ -49,6 +49,27 @@ public class JUnit4TestEngineTest {
         runTestEngine(configuration, 0L, 1L);
     }
 
+    @Test
+    public void testRunParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleJUnit4Test.class.getPackage().getName()));
+        configuration.setParallel(TestRunConfiguration.ParallelMode.CLASSES);
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
+    @Test
+    public void testRunParallelPackages() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setTestClasses(Collections.singletonList(new TestClass(SampleJUnit4Test.class.getName())));
+        configuration.setParallel(TestRunConfiguration.ParallelMode.PACKAGES);
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
     @Test
     public void testRunNoMatch() {
         TestRunConfiguration configuration = new TestRunConfiguration();
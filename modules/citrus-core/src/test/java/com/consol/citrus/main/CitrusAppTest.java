@@ -64,4 +64,16 @@ public class CitrusAppTest {
             Assert.assertEquals(e.getCause().getClass(), ClassNotFoundException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testThreadsOption() {
+        Assert.assertEquals(CitrusAppOptions.apply(new String[] { "-n", "4" }).getThreadCount(), 4);
+
+        try {
+            CitrusAppOptions.apply(new String[] { "--threads", "0" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Invalid value '0' for -n/--threads option - expected positive number");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import com.consol.citrus.TestClass;
+import com.consol.citrus.testng.scan.JustLooksLikeTest;
+import com.consol.citrus.testng.scan.SampleTestNGTest;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StreamUtils;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JarFileTestScannerTest {
+
+    private File testJar;
+
+    @BeforeClass
+    public void createTestJar() throws IOException {
+        testJar = File.createTempFile("citrus-tests", ".jar");
+        testJar.deleteOnExit();
+
+        try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(testJar))) {
+            for (Class<?> testClass : new Class<?>[] { SampleTestNGTest.class, JustLooksLikeTest.class }) {
+                String entryName = ClassUtils.convertClassNameToResourcePath(testClass.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+                jarOutputStream.putNextEntry(new JarEntry(entryName));
+
+                try (InputStream classFile = getClass().getClassLoader().getResourceAsStream(entryName)) {
+                    StreamUtils.copy(classFile, jarOutputStream);
+                }
+
+                jarOutputStream.closeEntry();
+            }
+        }
+    }
+
+    @Test
+    public void testFindTestsInPackage() {
+        List<TestClass> findings = new JarFileTestScanner(testJar, org.testng.annotations.Test.class, ".*Test")
+                .findTestsInPackage(SampleTestNGTest.class.getPackage().getName());
+
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), SampleTestNGTest.class.getName());
+
+        findings = new JarFileTestScanner(testJar, org.testng.annotations.Test.class, ".*Test")
+                .findTestsInPackage(SampleTestNGTest.class.getPackage().getName());
+        Assert.assertEquals(findings.size(), 1L);
+
+        Assert.assertEquals(new JarFileTestScanner(testJar, org.junit.Test.class, ".*Test")
+                .findTestsInPackage(SampleTestNGTest.class.getPackage().getName()).size(), 0L);
+        Assert.assertEquals(new JarFileTestScanner(testJar, org.testng.annotations.Test.class, ".*IT")
+                .findTestsInPackage(SampleTestNGTest.class.getPackage().getName()).size(), 0L);
+    }
+
+    @Test
+    public void testFindTestsByName() {
+        List<TestClass> findings = new JarFileTestScanner(testJar, ".*Test")
+                .findTestsInPackage(SampleTestNGTest.class.getPackage().getName());
+
+        Assert.assertEquals(findings.size(), 2L);
+    }
+}
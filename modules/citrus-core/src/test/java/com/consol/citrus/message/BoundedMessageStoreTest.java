@@ -0,0 +1,162 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class BoundedMessageStoreTest {
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(2, 0L);
+
+        messageStore.storeMessage("first", new DefaultMessage("First"));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        messageStore.storeMessage("third", new DefaultMessage("Third"));
+
+        Assert.assertEquals(messageStore.size(), 2);
+        Assert.assertNull(messageStore.getMessage("first"));
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(String.class), "Second");
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "Third");
+    }
+
+    @Test
+    public void testEvictByBytes() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 20L);
+
+        messageStore.storeMessage("first", new DefaultMessage("0123456789"));
+        Assert.assertEquals(messageStore.size(), 1);
+
+        messageStore.storeMessage("second", new DefaultMessage("0123456789"));
+        Assert.assertEquals(messageStore.size(), 1);
+        Assert.assertNull(messageStore.getMessage("first"));
+        Assert.assertNotNull(messageStore.getMessage("second"));
+    }
+
+    @Test
+    public void testRetainReferencedMessages() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(2, 0L);
+        messageStore.retain("request");
+
+        messageStore.storeMessage("request", new DefaultMessage("Request"));
+        messageStore.storeMessage("first", new DefaultMessage("First"));
+        Assert.assertNotNull(messageStore.getMessage("first"));
+
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        Assert.assertEquals(messageStore.size(), 2);
+        Assert.assertNull(messageStore.getMessage("second"));
+        Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "Request");
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "First");
+    }
+
+    @Test
+    public void testSpillEvictedMessages() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L);
+        messageStore.setSpillDirectory(new File(System.getProperty("java.io.tmpdir")));
+
+        DefaultMessage first = new DefaultMessage("First");
+        first.setName("first");
+        first.setHeader("operation", "foo");
+        first.addHeaderData("<HeaderData/>");
+
+        messageStore.storeMessage("first", first);
+        messageStore.storeMessage("second", new DefaultMessage("Second".getBytes()));
+        messageStore.storeMessage("third", new DefaultMessage("Third"));
+
+        Assert.assertEquals(messageStore.size(), 1);
+        Assert.assertEquals(messageStore.getSpilledCount(), 2);
+
+        Message loaded = messageStore.getMessage("first");
+        Assert.assertEquals(loaded.getPayload(String.class), "First");
+        Assert.assertEquals(loaded.getName(), "first");
+        Assert.assertEquals(loaded.getId(), first.getId());
+        Assert.assertEquals(loaded.getHeader("operation"), "foo");
+        Assert.assertEquals(loaded.getHeaderData().get(0), "<HeaderData/>");
+
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(byte[].class), "Second".getBytes());
+    }
+
+    @Test
+    public void testCloseDeletesSpillFile() throws Exception {
+        File spillDirectory = Files.createTempDirectory("citrus-message-store").toFile();
+        spillDirectory.deleteOnExit();
+
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L);
+        messageStore.setSpillDirectory(spillDirectory);
+
+        messageStore.storeMessage("first", new DefaultMessage("First"));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        Assert.assertEquals(messageStore.getSpilledCount(), 1);
+        Assert.assertEquals(spillDirectory.listFiles().length, 1);
+
+        messageStore.close();
+
+        Assert.assertEquals(messageStore.getSpilledCount(), 0);
+        Assert.assertEquals(spillDirectory.listFiles().length, 0);
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(String.class), "Second");
+    }
+
+    @Test
+    public void testCompactSpillFile() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L);
+        messageStore.setSpillDirectory(new File(System.getProperty("java.io.tmpdir")));
+
+        char[] large = new char[2 * 1024 * 1024];
+        Arrays.fill(large, 'x');
+
+        messageStore.storeMessage("first", new DefaultMessage(new String(large)));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        messageStore.storeMessage("third", new DefaultMessage("Third"));
+        Assert.assertEquals(messageStore.getSpillFileSize(), large.length + "Second".length());
+
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class).length(), large.length);
+        Assert.assertEquals(messageStore.getSpilledCount(), 2);
+        Assert.assertEquals(messageStore.getSpillFileSize(), "Second".length() + "Third".length());
+
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(String.class), "Second");
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "Third");
+        Assert.assertEquals(messageStore.getSpilledCount(), 0);
+        Assert.assertEquals(messageStore.getSpillFileSize(), 0L);
+
+        messageStore.close();
+    }
+
+    @Test
+    public void testKeepPayloadTypeOnSpill() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L);
+        messageStore.setSpillDirectory(new File(System.getProperty("java.io.tmpdir")));
+
+        messageStore.storeMessage("first", new DefaultMessage(1000L));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        messageStore.storeMessage("third", new DefaultMessage("Third"));
+
+        Assert.assertEquals(messageStore.size(), 1);
+        Assert.assertEquals(messageStore.getSpilledCount(), 2);
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(), 1000L);
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(), "Second");
+
+        messageStore.close();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DefaultMessageTest {
+
+    @Test
+    public void testIdAndTimestamp() {
+        DefaultMessage message = new DefaultMessage("Hello");
+        DefaultMessage other = new DefaultMessage("Hello");
+
+        Assert.assertNotNull(message.getId());
+        Assert.assertNotEquals(message.getId(), other.getId());
+        Assert.assertNotNull(UUID.fromString(message.getId()));
+        Assert.assertNotNull(message.getTimestamp());
+
+        Assert.assertEquals(new ArrayList<>(message.getHeaders().keySet()), Arrays.asList(MessageHeaders.ID, MessageHeaders.TIMESTAMP));
+    }
+
+    @Test
+    public void testPreserveIdAndTimestamp() {
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put("operation", "foo");
+        headers.put(MessageHeaders.ID, "1234");
+        headers.put(MessageHeaders.TIMESTAMP, 1L);
+
+        DefaultMessage message = new DefaultMessage("Hello", headers);
+        Assert.assertEquals(message.getId(), "1234");
+        Assert.assertEquals(message.getTimestamp(), Long.valueOf(1L));
+        Assert.assertEquals(message.getHeaders(), headers);
+        Assert.assertEquals(message.getHeaders().size(), 3);
+    }
+
+    @Test
+    public void testCopyOnWriteHeaders() {
+        DefaultMessage message = new DefaultMessage("Hello");
+        message.setHeader("operation", "foo");
+        message.setHeader("version", "1");
+
+        DefaultMessage copy = new DefaultMessage(message);
+        Assert.assertEquals(copy.getId(), message.getId());
+        Assert.assertEquals(copy.getHeaders(), message.getHeaders());
+
+        copy.setHeader("operation", "bar");
+        copy.removeHeader("version");
+        Assert.assertEquals(copy.getHeader("operation"), "bar");
+        Assert.assertNull(copy.getHeader("version"));
+        Assert.assertEquals(message.getHeader("operation"), "foo");
+        Assert.assertEquals(message.getHeader("version"), "1");
+
+        message.getHeaders().put("additional", "value");
+        Assert.assertFalse(copy.getHeaders().containsKey("additional"));
+    }
+
+    @Test
+    public void testIteratorRemoveOnSharedHeaders() {
+        DefaultMessage message = new DefaultMessage("Hello");
+        message.setHeader("operation", "foo");
+        message.setHeader("version", "1");
+
+        DefaultMessage copy = new DefaultMessage(message);
+
+        Iterator<Map.Entry<String, Object>> it = copy.getHeaders().entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if (entry.getKey().equals("operation")) {
+                it.remove();
+            } else if (entry.getKey().equals("version")) {
+                entry.setValue("2");
+            }
+        }
+
+        Assert.assertFalse(copy.getHeaders().containsKey("operation"));
+        Assert.assertEquals(copy.getHeader("version"), "2");
+        Assert.assertEquals(message.getHeader("operation"), "foo");
+        Assert.assertEquals(message.getHeader("version"), "1");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testSetReservedIdHeader() {
+        new DefaultMessage("Hello").setHeader(MessageHeaders.ID, "1234");
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SelectiveMessageBufferTest {
+
+    @Test
+    public void testSelectiveReceive() {
+        SelectiveMessageBuffer<String> buffer = new SelectiveMessageBuffer<>("Test buffer", 10, SelectiveMessageBuffer.OverflowPolicy.FAIL);
+        buffer.add("a1");
+        buffer.add("b1");
+        buffer.add("a2");
+
+        Assert.assertEquals(buffer.receive(message -> message.startsWith("b"), 0L), "b1");
+        Assert.assertNull(buffer.receive(message -> message.startsWith("b"), 0L));
+        Assert.assertEquals(buffer.receive(message -> true, 0L), "a1");
+        Assert.assertEquals(buffer.size(), 1);
+    }
+
+    @Test
+    public void testIndexedReceive() {
+        SelectiveMessageBuffer<String> buffer = new SelectiveMessageBuffer<String>("Test buffer", 10, SelectiveMessageBuffer.OverflowPolicy.FAIL)
+                .addIndex("prefix", message -> message.substring(0, 1));
+        buffer.add("a1");
+        buffer.add("b1");
+        buffer.add("a2");
+
+        Assert.assertTrue(buffer.isIndexed("prefix"));
+        Assert.assertFalse(buffer.isIndexed("unknown"));
+        Assert.assertEquals(buffer.receive("prefix", "a", 0L), "a1");
+        Assert.assertEquals(buffer.receive("prefix", "a", 0L), "a2");
+        Assert.assertNull(buffer.receive("prefix", "a", 0L));
+        Assert.assertEquals(buffer.receive(message -> true, 0L), "b1");
+        Assert.assertEquals(buffer.size(), 0);
+    }
+
+    @Test
+    public void testReceiveEvaluatesOnlyNewArrivalsWhileWaiting() throws Exception {
+        SelectiveMessageBuffer<String> buffer = new SelectiveMessageBuffer<>("Test buffer", 10, SelectiveMessageBuffer.OverflowPolicy.FAIL);
+        buffer.add("a1");
+        buffer.add("a2");
+
+        AtomicInteger evaluations = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> received = executor.submit(() -> buffer.receive(message -> {
+                evaluations.incrementAndGet();
+                return message.startsWith("b");
+            }, 5000L));
+
+            Thread.sleep(200L);
+            buffer.add("a3");
+            Thread.sleep(200L);
+            buffer.add("b1");
+
+            Assert.assertEquals(received.get(5000L, TimeUnit.MILLISECONDS), "b1");
+            Assert.assertEquals(evaluations.get(), 4);
+            Assert.assertEquals(buffer.size(), 3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOverflowDropOldest() {
+        SelectiveMessageBuffer<String> buffer = new SelectiveMessageBuffer<String>("Test buffer", 2, SelectiveMessageBuffer.OverflowPolicy.DROP_OLDEST)
+                .addIndex("prefix", message -> message.substring(0, 1));
+        Assert.assertTrue(buffer.add("a1"));
+        Assert.assertTrue(buffer.add("b1"));
+        Assert.assertTrue(buffer.add("c1"));
+
+        Assert.assertEquals(buffer.getDropped(), 1L);
+        Assert.assertNull(buffer.receive("prefix", "a", 0L));
+        Assert.assertEquals(buffer.receive(message -> true, 0L), "b1");
+    }
+
+    @Test
+    public void testOverflowDropNewest() {
+        SelectiveMessageBuffer<String> buffer = new SelectiveMessageBuffer<>("Test buffer", 1, SelectiveMessageBuffer.OverflowPolicy.DROP_NEWEST);
+        Assert.assertTrue(buffer.add("a1"));
+        Assert.assertFalse(buffer.add("b1"));
+
+        Assert.assertEquals(buffer.getDropped(), 1L);
+        Assert.assertEquals(buffer.receive(message -> true, 0L), "a1");
+    }
+
+    @Test
+    public void testOverflowFailAfterTimeout() {
+        SelectiveMessageBuffer<String> buffer = new SelectiveMessageBuffer<>("Test buffer", 1, 100L, SelectiveMessageBuffer.OverflowPolicy.FAIL);
+        buffer.add("a1");
+
+        try {
+            buffer.add("b1");
+            Assert.fail("Missing exception due to full buffer");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Test buffer full"));
+        }
+    }
+
+    @Test
+    public void testOverflowBlock() throws Exception {
+        SelectiveMessageBuffer<String> buffer = new SelectiveMessageBuffer<>("Test buffer", 1, SelectiveMessageBuffer.OverflowPolicy.BLOCK);
+        buffer.add("a1");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> added = executor.submit(() -> buffer.add("b1"));
+
+            Thread.sleep(200L);
+            Assert.assertFalse(added.isDone());
+
+            Assert.assertEquals(buffer.receive(message -> true, 0L), "a1");
+            Assert.assertTrue(added.get(5000L, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(buffer.receive(message -> true, 0L), "b1");
+
+            buffer.add("c1");
+            Future<Boolean> blocked = executor.submit(() -> buffer.add("d1"));
+            Thread.sleep(200L);
+            buffer.close();
+            Assert.assertFalse(blocked.get(5000L, TimeUnit.MILLISECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
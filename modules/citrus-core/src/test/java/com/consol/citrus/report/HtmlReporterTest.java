@@ -0,0 +1,90 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class HtmlReporterTest {
+
+    @Test
+    public void testStreamedTestResults() throws Exception {
+        HtmlReporter reporter = new HtmlReporter();
+
+        reporter.onStart();
+        reporter.onTestSuccess(createTestCase("FooIT"));
+        reporter.onTestFailure(createTestCase("BarIT"), new CitrusRuntimeException("Something went wrong!"));
+        reporter.onTestSkipped(createTestCase("SkippedIT"));
+        reporter.onFinishSuccess();
+
+        String report = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getReportFileName()));
+        Assert.assertTrue(report.contains("Tests results (3 Tests)"));
+        Assert.assertTrue(report.contains("<th>FooIT"));
+        Assert.assertTrue(report.contains("<th>BarIT"));
+        Assert.assertTrue(report.contains("<th>SkippedIT"));
+        Assert.assertTrue(report.contains("Something went wrong!"));
+        Assert.assertTrue(report.indexOf("<th>FooIT") < report.indexOf("<th>BarIT"));
+    }
+
+    @Test
+    public void testGenerateFromTestResults() {
+        HtmlReporter reporter = new HtmlReporter();
+
+        reporter.getTestResults().addResult(TestResult.success("FooIT", HtmlReporterTest.class.getName()));
+        reporter.getTestResults().addResult(TestResult.failed("BarIT", HtmlReporterTest.class.getName(), new CitrusRuntimeException("Something went wrong!")));
+
+        String report = reporter.getReportContent();
+        Assert.assertTrue(report.contains("Tests results (2 Tests)"));
+        Assert.assertTrue(report.contains("<th>FooIT"));
+        Assert.assertTrue(report.contains("<th>BarIT"));
+        Assert.assertTrue(report.contains("Something went wrong!"));
+    }
+
+    @Test
+    public void testReportTemplate() {
+        ReportTemplate template = new ReportTemplate("Hello @name@, you have \\@ @count@ @items@!");
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "Citrus");
+        properties.put("count", "2");
+        properties.put("items", (ReportTemplate.Part) writer -> writer.write("messages"));
+
+        Assert.assertEquals(template.render(properties), "Hello Citrus, you have @ 2 messages!");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "No such property '@items@'")
+    public void testReportTemplateMissingProperty() {
+        new ReportTemplate("Hello @items@!").render(Collections.singletonMap("name", "Citrus"));
+    }
+
+    private TestCase createTestCase(String name) {
+        TestCase test = new TestCase();
+        test.setName(name);
+        test.setPackageName("com.consol.citrus.sample");
+        return test;
+    }
+}
@@ -22,6 +22,7 @@ import com.consol.citrus.testng.scan.SampleTestNGTest;
 import org.testng.*;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
@@ -47,6 +48,53 @@ public class TestNGEngineTest {
         runTestEngine(configuration, 0L, 1L);
     }
 
+    @Test
+    public void testRunParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleTestNGTest.class.getPackage().getName()));
+        configuration.setParallel(TestRunConfiguration.ParallelMode.CLASSES);
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
+    @Test
+    public void testRunParallelClasses() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setTestClasses(Arrays.asList(new TestClass(SampleTestNGTest.class.getName(), "sampleTest"),
+                new TestClass(SampleTestNGTest.class.getName())));
+        configuration.setParallel(TestRunConfiguration.ParallelMode.CLASSES);
+        configuration.setThreadCount(2);
+
+        TestNGEngine engine = new TestNGEngine(configuration);
+        engine.addTestListener(new ISuiteListener() {
+            @Override
+            public void onFinish(ISuite suite) {
+            }
+
+            @Override
+            public void onStart(ISuite suite) {
+                Assert.assertEquals(suite.getXmlSuite().getTests().size(), 1L);
+                Assert.assertEquals(suite.getXmlSuite().getTests().get(0).getClasses().size(), 1L);
+                Assert.assertTrue(suite.getXmlSuite().getTests().get(0).getClasses().get(0).getIncludedMethods().isEmpty());
+            }
+        });
+        engine.run();
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
+    @Test
+    public void testRunParallelPackages() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setTestClasses(Collections.singletonList(new TestClass(SampleTestNGTest.class.getName())));
+        configuration.setParallel(TestRunConfiguration.ParallelMode.PACKAGES);
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
     @Test
     public void testRunNoMatch() {
         TestRunConfiguration configuration = new TestRunConfiguration();
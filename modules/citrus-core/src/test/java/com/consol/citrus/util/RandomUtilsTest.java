@@ -0,0 +1,83 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class RandomUtilsTest {
+
+    @Test
+    public void testDeriveSeed() {
+        Assert.assertEquals(RandomUtils.deriveSeed(42L, "com.consol.citrus.FooIT", 0L), RandomUtils.deriveSeed(42L, "com.consol.citrus.FooIT", 0L));
+        Assert.assertNotEquals(RandomUtils.deriveSeed(42L, "com.consol.citrus.FooIT", 0L), RandomUtils.deriveSeed(42L, "com.consol.citrus.FooIT", 1L));
+        Assert.assertNotEquals(RandomUtils.deriveSeed(42L, "com.consol.citrus.FooIT", 0L), RandomUtils.deriveSeed(42L, "com.consol.citrus.sample.FooIT", 0L));
+        Assert.assertNotEquals(RandomUtils.deriveSeed(42L, "com.consol.citrus.FooIT", 0L), RandomUtils.deriveSeed(43L, "com.consol.citrus.FooIT", 0L));
+    }
+
+    @Test
+    public void testSeedPerInvocation() {
+        System.setProperty(RandomUtils.SEED_PROPERTY, "42");
+        try {
+            RandomUtils.seed("com.consol.citrus.RandomUtilsIT");
+            long first = RandomUtils.current().nextLong();
+
+            RandomUtils.seed("com.consol.citrus.RandomUtilsIT");
+            Assert.assertNotEquals(RandomUtils.current().nextLong(), first);
+        } finally {
+            System.clearProperty(RandomUtils.SEED_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testPropagateToPooledThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> RandomUtils.current().nextLong()).get(5000L, TimeUnit.MILLISECONDS);
+
+            RandomUtils.setSeed(42L);
+            long expected = RandomUtils.fork().nextLong();
+
+            RandomUtils.setSeed(42L);
+            Assert.assertEquals(executor.submit(RandomUtils.propagate(() -> RandomUtils.current().nextLong())).get(5000L, TimeUnit.MILLISECONDS).longValue(), expected);
+
+            SplittableRandom pooled = executor.submit(RandomUtils::current).get(5000L, TimeUnit.MILLISECONDS);
+            Assert.assertNotSame(pooled, RandomUtils.current());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParseSeed() {
+        Assert.assertEquals(RandomUtils.parseSeed(" 42 "), 42L);
+
+        try {
+            RandomUtils.parseSeed("foo");
+            Assert.fail("Missing exception due to invalid seed");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Invalid random seed 'foo' set via 'citrus.random.seed' or 'CITRUS_RANDOM_SEED' - must be a numeric long value");
+        }
+    }
+}
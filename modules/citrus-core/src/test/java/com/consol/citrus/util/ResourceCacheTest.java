@@ -0,0 +1,74 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.apache.commons.codec.binary.Base64;
+import org.springframework.core.io.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ResourceCacheTest {
+
+    @Test
+    public void testCachedContent() throws IOException {
+        File file = File.createTempFile("citrus-resource", ".txt");
+        file.deleteOnExit();
+        FileUtils.writeToFile("Hello Citrus!", file, StandardCharsets.UTF_8);
+
+        Resource resource = new FileSystemResource(file);
+
+        String content = ResourceCache.getString(resource, StandardCharsets.UTF_8);
+        Assert.assertEquals(content, "Hello Citrus!");
+        Assert.assertSame(ResourceCache.getString(new FileSystemResource(file), StandardCharsets.UTF_8), content);
+
+        String base64 = ResourceCache.getBase64(resource);
+        Assert.assertEquals(base64, Base64.encodeBase64String("Hello Citrus!".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertSame(ResourceCache.getBase64(resource), base64);
+
+        byte[] bytes = ResourceCache.getBytes(resource);
+        Arrays.fill(bytes, (byte) 0);
+        Assert.assertEquals(new String(ResourceCache.getBytes(resource), StandardCharsets.UTF_8), "Hello Citrus!");
+
+        FileUtils.writeToFile("Hello Citrus, again!", file, StandardCharsets.UTF_8);
+        Assert.assertEquals(ResourceCache.getString(resource, StandardCharsets.UTF_8), "Hello Citrus, again!");
+    }
+
+    @Test
+    public void testClassPathResource() throws IOException {
+        Resource resource = new ClassPathResource("citrus-context.xml");
+
+        String content = FileUtils.readToString(resource);
+        Assert.assertTrue(content.contains("<beans"));
+        Assert.assertSame(FileUtils.readToString(resource), content);
+    }
+
+    @Test
+    public void testNonCacheableResource() throws IOException {
+        Resource resource = new ByteArrayResource("Hello Citrus!".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(ResourceCache.getString(resource, StandardCharsets.UTF_8), "Hello Citrus!");
+        Assert.assertNotSame(ResourceCache.getString(resource, StandardCharsets.UTF_8), ResourceCache.getString(resource, StandardCharsets.UTF_8));
+    }
+}
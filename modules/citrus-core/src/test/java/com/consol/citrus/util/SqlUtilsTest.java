@@ -0,0 +1,43 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SqlUtilsTest {
+
+    @Test
+    public void testIsDataManipulationStatement() {
+        Assert.assertTrue(SqlUtils.isDataManipulationStatement("INSERT INTO T1 (ID, NAME) VALUES (1, 'foo')"));
+        Assert.assertTrue(SqlUtils.isDataManipulationStatement("  update T1 set NAME = 'bar' where ID = 1"));
+        Assert.assertTrue(SqlUtils.isDataManipulationStatement("DELETE FROM T1"));
+        Assert.assertFalse(SqlUtils.isDataManipulationStatement("CREATE TABLE T1 (NAME VARCHAR(50))"));
+        Assert.assertFalse(SqlUtils.isDataManipulationStatement("SELECT * FROM T1"));
+    }
+
+    @Test
+    public void testParseCsvLine() {
+        Assert.assertEquals(SqlUtils.parseCsvLine("1,foo,\"Hello, \"\"Citrus\"\"\"", ','), Arrays.asList("1", "foo", "Hello, \"Citrus\""));
+        Assert.assertEquals(SqlUtils.parseCsvLine("1;;\"\"", ';'), Arrays.asList("1", null, ""));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.matcher;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ValidationMatcherExpressionTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testCompile() {
+        ValidationMatcherExpression expression = ValidationMatcherExpression.compile("@matches('[a-z]+')@");
+        Assert.assertEquals(expression.getPrefix(), "");
+        Assert.assertEquals(expression.getMatcherName(), "matches");
+        Assert.assertEquals(expression.getParameters(), Collections.singletonList("[a-z]+"));
+        Assert.assertTrue(expression.hasStaticParameters());
+
+        expression = ValidationMatcherExpression.compile("@foo:customMatcher('prefix:value', '${bar}')@");
+        Assert.assertEquals(expression.getPrefix(), "foo:");
+        Assert.assertEquals(expression.getMatcherName(), "customMatcher");
+        Assert.assertEquals(expression.getParameters(), Arrays.asList("prefix:value", "${bar}"));
+        Assert.assertFalse(expression.hasStaticParameters());
+
+        expression = ValidationMatcherExpression.compile("@ignore@");
+        Assert.assertEquals(expression.getMatcherName(), "ignore");
+        Assert.assertEquals(expression.getParameters().size(), 0);
+        Assert.assertTrue(expression.hasStaticParameters());
+
+        expression = ValidationMatcherExpression.compile("@equalsIgnoreCase('citrus:randomNumber(10)')@");
+        Assert.assertFalse(expression.hasStaticParameters());
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testCompileInvalidSyntax() {
+        ValidationMatcherExpression.compile("@equalsIgnoreCase@");
+    }
+
+    @Test
+    public void testValidateDynamicParameters() {
+        context.setVariable("expected", "value");
+
+        ValidationMatcherExpression expression = ValidationMatcherUtils.compileValidationMatcher("@equalsIgnoreCase('${expected}')@");
+        expression.validate("field", "VALUE", context);
+
+        context.setVariable("expected", "other");
+        try {
+            expression.validate("field", "VALUE", context);
+            Assert.fail("Missing validation exception due to changed variable value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("other"));
+        }
+    }
+
+    @Test
+    public void testCompiledExpressionCache() {
+        Assert.assertSame(ValidationMatcherUtils.compileValidationMatcher("@contains('foo')@"),
+                ValidationMatcherUtils.compileValidationMatcher("@contains('foo')@"));
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.xml.XsdSchemaRepository;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.xml.xsd.SimpleXsdSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class StaxXmlMessageValidatorTest extends AbstractTestNGUnitTest {
+
+    private StaxXmlMessageValidator validator = new StaxXmlMessageValidator();
+
+    @Test
+    public void testValidateMessagePayloadSuccess() {
+        Message message = new DefaultMessage("<root xmlns='http://citrusframework.org/test' xmlns:ns1='http://citrusframework.org/ns1'>"
+                        + "<element attributeA='attribute-value' attributeB='attribute-value'>"
+                        + "<!-- comment -->"
+                        + "<sub-element attribute='A'>text-value</sub-element>"
+                        + "<ns1:sub-element ns1:attribute='B'><![CDATA[cdata-value]]></ns1:sub-element>"
+                        + "</element>"
+                    + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root xmlns='http://citrusframework.org/test' xmlns:ns2='http://citrusframework.org/ns1'>\n"
+                        + "  <element attributeB='attribute-value' attributeA='attribute-value'>\n"
+                        + "    <sub-element attribute='A'>text-value</sub-element>\n"
+                        + "    <ns2:sub-element ns2:attribute='B'>cdata-value</ns2:sub-element>\n"
+                        + "  </element>\n"
+                    + "</root>");
+
+        validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+    }
+
+    @Test
+    public void testValidateResourcePayload() {
+        Message message = new DefaultMessage(new ByteArrayResource(("<?xml version='1.0' encoding='UTF-8'?>"
+                        + "<root><element attribute='A'>text-value</element></root>").getBytes()));
+
+        Message controlMessage = new DefaultMessage("<root><element attribute='A'>text-value</element></root>");
+
+        Assert.assertTrue(validator.supportsMessageType("XML", message));
+        validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+    }
+
+    @Test
+    public void testValidateTextValueFails() {
+        assertValidationFails(new DefaultMessage("<root><element><sub-element>text-value</sub-element></element></root>"),
+                new DefaultMessage("<root><element><sub-element>wrong-value</sub-element></element></root>"),
+                "Node value not equal for element 'sub-element'");
+    }
+
+    @Test
+    public void testValidateChildElementCountFails() {
+        assertValidationFails(new DefaultMessage("<root><element><sub-element/><sub-element/></element></root>"),
+                new DefaultMessage("<root><element><sub-element/><sub-element/><sub-element/></element></root>"),
+                "Number of child elements not equal for element 'element', expected '3' but was '2'");
+    }
+
+    @Test
+    public void testValidateElementNamespaceFails() {
+        assertValidationFails(new DefaultMessage("<root><element xmlns='http://citrusframework.org/test'/></root>"),
+                new DefaultMessage("<root><element xmlns='http://citrusframework.org/wrong'/></root>"),
+                "Element namespace not equal for element 'element'");
+    }
+
+    @Test
+    public void testValidateAttributeFails() {
+        assertValidationFails(new DefaultMessage("<root><element attribute='A'/></root>"),
+                new DefaultMessage("<root><element attribute='B'/></root>"),
+                "Values not equal for attribute 'attribute'");
+    }
+
+    @Test
+    public void testValidateUnknownAttributeFails() {
+        assertValidationFails(new DefaultMessage("<root><element other='A'/></root>"),
+                new DefaultMessage("<root><element attribute='A'/></root>"),
+                "unknown attribute other");
+    }
+
+    @Test
+    public void testValidateNamespaceQualifiedAttributeValue() {
+        Message message = new DefaultMessage("<root xmlns:ns1='http://citrusframework.org/test'><element type='ns1:Type'/></root>");
+        Message controlMessage = new DefaultMessage("<root xmlns:ns2='http://citrusframework.org/test'><element type='ns2:Type'/></root>");
+
+        validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+
+        controlMessage = new DefaultMessage("<root xmlns:ns2='http://citrusframework.org/wrong'><element type='ns2:Type'/></root>");
+        try {
+            validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception due to attribute value namespace mismatch");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Values not equal for attribute value namespace"));
+        }
+    }
+
+    @Test
+    public void testValidateWithIgnorePlaceholdersAndMatchers() {
+        Message message = new DefaultMessage("<root>"
+                        + "<element attributeA='attribute-value' attributeB='ignored'>"
+                        + "<sub-element1 attribute='A'><ignored>nested</ignored></sub-element1>"
+                        + "<sub-element2 attribute='text-attribute'>text-element</sub-element2>"
+                        + "</element>"
+                    + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root>"
+                        + "<element attributeA='attribute-value' attributeB='@ignore@'>"
+                        + "<sub-element1 attribute='A'>@ignore@</sub-element1>"
+                        + "<sub-element2 attribute='@startsWith(text)@'>@endsWith(element)@</sub-element2>"
+                        + "</element>"
+                    + "</root>");
+
+        validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testValidateWithValidationMatcherFails() {
+        Message message = new DefaultMessage("<root><element attribute='text-attribute'>text-element</element></root>");
+        Message controlMessage = new DefaultMessage("<root><element attribute='text-attribute'>@startsWith(FAIL)@</element></root>");
+
+        validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+    }
+
+    @Test
+    public void testValidateWithIgnoreExpressions() {
+        Message message = new DefaultMessage("<root xmlns:ns1='http://citrusframework.org/test'>"
+                        + "<element attributeA='ignored' attributeB='attribute-value'>"
+                        + "<sub-element1>IGNORED_BY_XPATH</sub-element1>"
+                        + "<sub-element2>IGNORED_BY_PATH</sub-element2>"
+                        + "<ns1:sub-element3>IGNORED_BY_NAMESPACE_XPATH</ns1:sub-element3>"
+                        + "<sub-element4>text-value</sub-element4>"
+                        + "</element>"
+                    + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root xmlns:ns1='http://citrusframework.org/test'>"
+                        + "<element attributeA='attribute-value' attributeB='attribute-value'>"
+                        + "<sub-element1>text-value</sub-element1>"
+                        + "<sub-element2>text-value</sub-element2>"
+                        + "<ns1:sub-element3>text-value</ns1:sub-element3>"
+                        + "<sub-element4>text-value</sub-element4>"
+                        + "</element>"
+                    + "</root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext();
+        validationContext.setIgnoreExpressions(new HashSet<>(Arrays.asList("//root/element/sub-element1",
+                "root.element.sub-element2",
+                "//ns:sub-element3",
+                "/root/element/@attributeA")));
+        validationContext.setNamespaces(Collections.singletonMap("ns", "http://citrusframework.org/test"));
+
+        validator.validateMessage(message, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testValidateWithUnsupportedIgnoreExpression() {
+        Message message = new DefaultMessage("<root>"
+                        + "<element>IGNORED_BY_XPATH</element>"
+                        + "<element>text-value</element>"
+                    + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root>"
+                        + "<element>text-value</element>"
+                        + "<element>text-value</element>"
+                    + "</root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext();
+        validationContext.setIgnoreExpressions(Collections.singleton("/root/element[1]"));
+
+        validator.validateMessage(message, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testValidateNamespaces() {
+        Message message = new DefaultMessage("<root xmlns='http://citrusframework.org/test'>"
+                        + "<ns1:element xmlns:ns1='http://citrusframework.org/ns1'>text-value</ns1:element>"
+                    + "</root>");
+
+        Map<String, String> expectedNamespaces = new HashMap<>();
+        expectedNamespaces.put("", "http://citrusframework.org/test");
+        expectedNamespaces.put("ns1", "http://citrusframework.org/ns1");
+
+        validator.validateNamespaces(expectedNamespaces, message);
+
+        expectedNamespaces.put("ns1", "http://citrusframework.org/wrong");
+        try {
+            validator.validateNamespaces(expectedNamespaces, message);
+            Assert.fail("Missing validation exception due to namespace mismatch");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Namespace 'ns1' values not equal"));
+        }
+    }
+
+    @Test
+    public void testValidateXMLSchema() throws Exception {
+        Message message = new DefaultMessage("<message xmlns='http://citrusframework.org/test'>"
+                        + "<correlationId>Kx1R123456789</correlationId>"
+                        + "<bookingId>Bx1G987654321</bookingId>"
+                        + "<test>Hello TestFramework</test>"
+                    + "</message>");
+
+        StaxXmlMessageValidator validator = new StaxXmlMessageValidator();
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+        schemaRepository.getSchemas().add(schema);
+        validator.addSchemaRepository(schemaRepository);
+
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+
+        message = new DefaultMessage("<message xmlns='http://citrusframework.org/test'>"
+                        + "<correlationId>Kx1R123456789</correlationId>"
+                        + "<wrong>Bx1G987654321</wrong>"
+                        + "<test>Hello TestFramework</test>"
+                    + "</message>");
+
+        try {
+            validator.validateXMLSchema(message, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception due to invalid schema content");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("XML schema validation failed"));
+        }
+    }
+
+    private void assertValidationFails(Message message, Message controlMessage, String expectedError) {
+        try {
+            validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains(expectedError), e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class Jaxb2MarshallerRegistryTest {
+
+    @Test
+    public void testSharedMarshaller() {
+        Jaxb2Marshaller marshaller = Jaxb2MarshallerRegistry.getDefault().getMarshaller(null, Greeting.class);
+
+        Assert.assertSame(Jaxb2MarshallerRegistry.getDefault().getMarshaller(null, Greeting.class), marshaller);
+        Assert.assertNotNull(marshaller.getJaxbContext());
+        Assert.assertTrue(marshaller.supports(Greeting.class));
+    }
+
+    @Test
+    public void testRegistryScope() {
+        Jaxb2MarshallerRegistry registry = new Jaxb2MarshallerRegistry();
+        Jaxb2Marshaller marshaller = registry.getMarshaller(null, Greeting.class);
+
+        Assert.assertSame(registry.getMarshaller(null, Greeting.class), marshaller);
+        Assert.assertNotSame(Jaxb2MarshallerRegistry.getDefault().getMarshaller(null, Greeting.class), marshaller);
+
+        registry.clear();
+        Assert.assertNotSame(registry.getMarshaller(null, Greeting.class), marshaller);
+    }
+
+    @Test
+    public void testFailedMarshallerNotShared() {
+        Jaxb2MarshallerRegistry registry = new Jaxb2MarshallerRegistry();
+        Jaxb2Marshaller marshaller = registry.getMarshaller("com/consol/citrus/schema/unknown.xsd", Greeting.class);
+
+        Assert.assertNotSame(registry.getMarshaller("com/consol/citrus/schema/unknown.xsd", Greeting.class), marshaller);
+    }
+
+    @Test
+    public void testConcurrentMarshalling() throws Exception {
+        Jaxb2Marshaller marshaller = Jaxb2MarshallerRegistry.getDefault().getMarshaller(null, Greeting.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            CompletionService<String> completionService = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < 50; i++) {
+                final String text = "Hello " + i;
+                completionService.submit(() -> {
+                    Greeting greeting = new Greeting();
+                    greeting.text = text;
+
+                    StringResult result = new StringResult();
+                    marshaller.marshal(greeting, result);
+
+                    return ((Greeting) marshaller.unmarshal(new StringSource(result.toString()))).text;
+                });
+            }
+
+            for (int i = 0; i < 50; i++) {
+                Assert.assertTrue(completionService.take().get().startsWith("Hello "));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @XmlRootElement(name = "greeting")
+    public static class Greeting {
+        public String text;
+    }
+}
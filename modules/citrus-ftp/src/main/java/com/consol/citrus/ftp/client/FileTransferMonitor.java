@@ -0,0 +1,166 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.apache.commons.codec.binary.Hex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Monitors a streaming file transfer. Counts transferred bytes, logs transfer progress and computes the file checksum on the fly
+ * so file content never has to be held in memory.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class FileTransferMonitor {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(FileTransferMonitor.class);
+
+    /** Number of bytes between progress log statements */
+    private static final long PROGRESS_INTERVAL = 10 * 1024 * 1024L;
+
+    /** Path of transferred file used in log output */
+    private final String path;
+
+    /** Optional message digest */
+    private final MessageDigest digest;
+
+    /** Transferred bytes */
+    private long size = 0L;
+    private long nextProgress = PROGRESS_INTERVAL;
+
+    /** Computed checksum */
+    private String checksum;
+
+    /**
+     * Constructor using file path and checksum algorithm. Checksum is not computed when algorithm is empty.
+     * @param path
+     * @param checksumAlgorithm
+     */
+    public FileTransferMonitor(String path, String checksumAlgorithm) {
+        this.path = path;
+
+        if (StringUtils.hasText(checksumAlgorithm)) {
+            try {
+                this.digest = MessageDigest.getInstance(checksumAlgorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new CitrusRuntimeException("Unsupported file checksum algorithm: " + checksumAlgorithm, e);
+            }
+        } else {
+            this.digest = null;
+        }
+    }
+
+    /**
+     * Wraps given input stream so all bytes read are monitored.
+     * @param inputStream
+     * @return
+     */
+    public InputStream monitor(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    update(new byte[] { (byte) b }, 0, 1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    update(b, off, read);
+                }
+                return read;
+            }
+        };
+    }
+
+    /**
+     * Wraps given output stream so all bytes written are monitored.
+     * @param outputStream
+     * @return
+     */
+    public OutputStream monitor(OutputStream outputStream) {
+        return new FilterOutputStream(outputStream) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                update(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                update(b, off, len);
+            }
+        };
+    }
+
+    /**
+     * Updates size and checksum with transferred bytes.
+     * @param bytes
+     * @param off
+     * @param len
+     */
+    private void update(byte[] bytes, int off, int len) {
+        size += len;
+
+        if (digest != null) {
+            digest.update(bytes, off, len);
+        }
+
+        if (size >= nextProgress) {
+            nextProgress += PROGRESS_INTERVAL;
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Transferred %s bytes of file '%s'", size, path));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of transferred bytes.
+     * @return
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the hex encoded checksum of all transferred bytes or null when no checksum algorithm is set.
+     * Completes the checksum computation so this method must be called after the transfer has finished.
+     * @return
+     */
+    public String getChecksum() {
+        if (checksum == null && digest != null) {
+            checksum = Hex.encodeHexString(digest.digest());
+        }
+
+        return checksum;
+    }
+}
@@ -37,7 +37,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StringUtils;
 
 import java.io.*;
@@ -267,7 +266,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
+            FileTransferMonitor monitor = new FileTransferMonitor(localFilePath, getEndpointConfiguration().getChecksumAlgorithm());
+            try (InputStream localFileInputStream = monitor.monitor(getLocalFileInputStream(command.getFile().getPath(), dataType, context))) {
                 ftpClient.setFileType(getFileType(dataType));
 
                 if (!ftpClient.storeFile(remoteFilePath, localFileInputStream)) {
@@ -275,6 +275,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                             + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
                 }
             }
+
+            verifyTransfer(remoteFilePath, monitor, command.getFile().getChecksum(), context);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
         }
@@ -315,7 +317,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
+            FileTransferMonitor monitor = new FileTransferMonitor(remoteFilePath, getEndpointConfiguration().getChecksumAlgorithm());
+            try (OutputStream localFileOutputStream = monitor.monitor(new BufferedOutputStream(new FileOutputStream(localFilePath)))) {
                 ftpClient.setFileType(getFileType(dataType));
 
                 if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
@@ -324,23 +327,82 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
-                String fileContent;
-                if (command.getFile().getType().equals(DataType.BINARY.name())) {
-                    fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
-                } else {
-                    fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
-                }
-
-                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, fileContent);
-            } else {
-                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, null);
-            }
+            verifyTransfer(remoteFilePath, monitor, command.getFile().getChecksum(), context);
+            return getFileResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, dataType, monitor);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to get file from FTP server", e);
         }
     }
 
+    /**
+     * Constructs get command result for retrieved file. When auto read files is enabled the file content is added to the result
+     * unless the file size exceeds the auto read limit. Large files are referenced by local path, size and checksum instead so
+     * file content is never loaded into memory.
+     *
+     * @param replyCode
+     * @param replyString
+     * @param localFilePath
+     * @param dataType
+     * @param monitor
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage getFileResult(int replyCode, String replyString, String localFilePath, String dataType, FileTransferMonitor monitor) throws IOException {
+        if (!getEndpointConfiguration().isAutoReadFiles()) {
+            return FtpMessage.result(replyCode, replyString, localFilePath, null);
+        }
+
+        if (getEndpointConfiguration().getAutoReadFilesMaxSize() > 0 && monitor.getSize() > getEndpointConfiguration().getAutoReadFilesMaxSize()) {
+            log.info(String.format("File size %s exceeds auto read limit of %s bytes - using file reference for '%s'", monitor.getSize(),
+                    getEndpointConfiguration().getAutoReadFilesMaxSize(), localFilePath));
+            return FtpMessage.result(replyCode, replyString, localFilePath, monitor.getSize(), monitor.getChecksum());
+        }
+
+        String fileContent;
+        if (dataType.equals(DataType.BINARY.name())) {
+            fileContent = Base64.encodeBase64String(Files.readAllBytes(Paths.get(localFilePath)));
+        } else {
+            fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
+        }
+
+        return FtpMessage.result(replyCode, replyString, localFilePath, fileContent);
+    }
+
+    /**
+     * Logs transferred file and verifies the checksum of the transferred content when an expected checksum is given.
+     * @param path
+     * @param monitor
+     * @param expectedChecksum
+     * @param context
+     */
+    protected void verifyTransfer(String path, FileTransferMonitor monitor, String expectedChecksum, TestContext context) {
+        logTransfer(path, monitor);
+
+        if (StringUtils.hasText(expectedChecksum)) {
+            String expected = context.replaceDynamicContentInString(expectedChecksum);
+
+            if (monitor.getChecksum() == null) {
+                throw new CitrusRuntimeException(String.format("Unable to verify checksum of file '%s' - no checksum algorithm set", path));
+            }
+
+            if (!monitor.getChecksum().equalsIgnoreCase(expected)) {
+                throw new CitrusRuntimeException(String.format("Checksum mismatch for file '%s' - expected '%s' but was '%s'",
+                        path, expected, monitor.getChecksum()));
+            }
+        }
+    }
+
+    /**
+     * Logs transferred file size and checksum.
+     * @param path
+     * @param monitor
+     */
+    protected void logTransfer(String path, FileTransferMonitor monitor) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Transferred file '%s' (%s bytes, checksum: %s)", path, monitor.getSize(), monitor.getChecksum()));
+        }
+    }
+
     /**
      * Get file type from info string.
      * @param typeInfo
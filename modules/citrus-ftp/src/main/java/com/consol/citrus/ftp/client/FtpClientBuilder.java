@@ -64,6 +64,26 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         return this;
     }
 
+    /**
+     * Sets the auto read files max size property.
+     * @param autoReadFilesMaxSize
+     * @return
+     */
+    public FtpClientBuilder autoReadFilesMaxSize(long autoReadFilesMaxSize) {
+        endpoint.getEndpointConfiguration().setAutoReadFilesMaxSize(autoReadFilesMaxSize);
+        return this;
+    }
+
+    /**
+     * Sets the file checksum algorithm.
+     * @param checksumAlgorithm
+     * @return
+     */
+    public FtpClientBuilder checksumAlgorithm(String checksumAlgorithm) {
+        endpoint.getEndpointConfiguration().setChecksumAlgorithm(checksumAlgorithm);
+        return this;
+    }
+
     /**
      * Sets the local passive mode property.
      * @param localPassiveMode
@@ -64,6 +64,12 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Auto read file content retrieved from server */
     private boolean autoReadFiles = true;
 
+    /** Maximum size of file content auto read into messages, larger files are referenced by size and checksum, zero or less means unlimited */
+    private long autoReadFilesMaxSize = 0L;
+
+    /** Algorithm used to compute file checksums while transferring files */
+    private String checksumAlgorithm = "SHA-256";
+
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
@@ -255,6 +261,42 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.autoReadFiles = autoReadFiles;
     }
 
+    /**
+     * Gets the autoReadFilesMaxSize.
+     *
+     * @return
+     */
+    public long getAutoReadFilesMaxSize() {
+        return autoReadFilesMaxSize;
+    }
+
+    /**
+     * Sets the autoReadFilesMaxSize.
+     *
+     * @param autoReadFilesMaxSize
+     */
+    public void setAutoReadFilesMaxSize(long autoReadFilesMaxSize) {
+        this.autoReadFilesMaxSize = autoReadFilesMaxSize;
+    }
+
+    /**
+     * Gets the checksumAlgorithm.
+     *
+     * @return
+     */
+    public String getChecksumAlgorithm() {
+        return checksumAlgorithm;
+    }
+
+    /**
+     * Sets the checksumAlgorithm.
+     *
+     * @param checksumAlgorithm
+     */
+    public void setChecksumAlgorithm(String checksumAlgorithm) {
+        this.checksumAlgorithm = checksumAlgorithm;
+    }
+
     /**
      * Gets the localPassiveMode.
      *
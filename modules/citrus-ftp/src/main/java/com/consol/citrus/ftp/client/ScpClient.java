@@ -47,6 +47,10 @@ public class ScpClient extends SftpClient {
 
     private org.apache.sshd.client.scp.ScpClient scpClient;
 
+    /** Ssh client and session reused for all file transfers */
+    private SshClient sshClient;
+    private ClientSession session;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -113,17 +117,23 @@ public class ScpClient extends SftpClient {
 
     @Override
     protected void connectAndLogin() {
+        if (session != null && session.isOpen()) {
+            return;
+        }
+
         try {
-            SshClient client = SshClient.setUpDefaultClient();
-            client.start();
+            if (sshClient == null) {
+                sshClient = SshClient.setUpDefaultClient();
+                sshClient.start();
+            }
 
             if (getEndpointConfiguration().isStrictHostChecking()) {
-                client.setServerKeyVerifier(new KnownHostsServerKeyVerifier(RejectAllServerKeyVerifier.INSTANCE, FileUtils.getFileResource(getEndpointConfiguration().getKnownHosts()).getFile().toPath()));
+                sshClient.setServerKeyVerifier(new KnownHostsServerKeyVerifier(RejectAllServerKeyVerifier.INSTANCE, FileUtils.getFileResource(getEndpointConfiguration().getKnownHosts()).getFile().toPath()));
             } else {
-                client.setServerKeyVerifier(AcceptAllServerKeyVerifier.INSTANCE);
+                sshClient.setServerKeyVerifier(AcceptAllServerKeyVerifier.INSTANCE);
             }
 
-            ClientSession session = client.connect(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort()).verify(getEndpointConfiguration().getTimeout()).getSession();
+            ClientSession session = sshClient.connect(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort()).verify(getEndpointConfiguration().getTimeout()).getSession();
             session.addPasswordIdentity(getEndpointConfiguration().getPassword());
 
             Resource privateKey = FileUtils.getFileResource(getPrivateKeyPath());
@@ -137,6 +147,7 @@ public class ScpClient extends SftpClient {
             session.auth().verify(getEndpointConfiguration().getTimeout());
 
             scpClient = new DefaultScpClientCreator().createScpClient(session);
+            this.session = session;
         } catch (Exception e) {
             throw new CitrusRuntimeException(String.format("Failed to login to SCP server using credentials: %s:%s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword(), getEndpointConfiguration().getPrivateKeyPath()), e);
 
@@ -149,5 +160,13 @@ public class ScpClient extends SftpClient {
 
     @Override
     public void destroy() throws Exception {
+        if (session != null && session.isOpen()) {
+            session.close();
+            log.info("Closed connection to SCP server");
+        }
+
+        if (sshClient != null) {
+            sshClient.stop();
+        }
     }
 }
@@ -22,7 +22,6 @@ import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
 import com.jcraft.jsch.*;
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
@@ -182,9 +181,12 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
+            FileTransferMonitor monitor = new FileTransferMonitor(localFilePath, getEndpointConfiguration().getChecksumAlgorithm());
+            try (InputStream localFileInputStream = monitor.monitor(getLocalFileInputStream(command.getFile().getPath(), dataType, context))) {
                 sftp.put(localFileInputStream, remoteFilePath);
             }
+
+            verifyTransfer(remoteFilePath, monitor, command.getFile().getChecksum(), context);
         } catch (IOException | SftpException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
         }
@@ -198,30 +200,24 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
-            try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileCopyUtils.copyToByteArray(inputStream);
-
-                // create intermediate directories if necessary
-                Path localFilePathObj = Paths.get(localFilePath);
+            // create intermediate directories if necessary
+            Path localFilePathObj = Paths.get(localFilePath);
+            if (localFilePathObj.getParent() != null) {
                 Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+            }
+
+            FileTransferMonitor monitor = new FileTransferMonitor(remoteFilePath, getEndpointConfiguration().getChecksumAlgorithm());
+            try (InputStream inputStream = monitor.monitor(sftp.get(remoteFilePath))) {
+                Files.copy(inputStream, localFilePathObj, StandardCopyOption.REPLACE_EXISTING);
             } catch (SftpException e) {
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
-                String fileContent;
-                if (command.getFile().getType().equals(DataType.BINARY.name())) {
-                    fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
-                } else {
-                    fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
-                }
+            verifyTransfer(remoteFilePath, monitor, command.getFile().getChecksum(), context);
 
-                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, fileContent);
-            } else {
-                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, null);
-            }
+            String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
+            return getFileResult(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, dataType, monitor);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to get file from FTP server", e);
         }
@@ -233,7 +229,11 @@ public class SftpClient extends FtpClient {
             setKnownHosts();
         }
 
-        if (session == null || !session.isConnected()) {
+        if (session != null && session.isConnected()) {
+            if (sftp == null || sftp.isClosed()) {
+                openSftpChannel();
+            }
+        } else {
             try {
                 if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
                     ssh.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
@@ -261,15 +261,25 @@ public class SftpClient extends FtpClient {
                         .forEach(entry -> session.setConfig(entry.getKey(), entry.getValue()));
 
                 session.connect((int) getEndpointConfiguration().getTimeout());
-
-                Channel channel = session.openChannel("sftp");
-                channel.connect((int) getEndpointConfiguration().getTimeout());
-                sftp = (ChannelSftp) channel;
-
-                log.info("Opened secure connection to FTP server");
             } catch (JSchException e) {
                 throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()), e);
             }
+
+            openSftpChannel();
+            log.info("Opened secure connection to FTP server");
+        }
+    }
+
+    /**
+     * Opens new sftp channel on current session.
+     */
+    private void openSftpChannel() {
+        try {
+            Channel channel = session.openChannel("sftp");
+            channel.connect((int) getEndpointConfiguration().getTimeout());
+            sftp = (ChannelSftp) channel;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Failed to open sftp channel", e);
         }
     }
 
@@ -348,7 +358,9 @@ public class SftpClient extends FtpClient {
             log.info("Closed connection to FTP server");
         }
 
-        sftp.disconnect();
+        if (sftp != null) {
+            sftp.disconnect();
+        }
     }
 
     /**
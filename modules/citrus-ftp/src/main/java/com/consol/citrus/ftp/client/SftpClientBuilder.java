@@ -66,6 +66,26 @@ public class SftpClientBuilder extends AbstractEndpointBuilder<SftpClient> {
         return this;
     }
 
+    /**
+     * Sets the auto read files max size property.
+     * @param autoReadFilesMaxSize
+     * @return
+     */
+    public SftpClientBuilder autoReadFilesMaxSize(long autoReadFilesMaxSize) {
+        endpoint.getEndpointConfiguration().setAutoReadFilesMaxSize(autoReadFilesMaxSize);
+        return this;
+    }
+
+    /**
+     * Sets the file checksum algorithm.
+     * @param checksumAlgorithm
+     * @return
+     */
+    public SftpClientBuilder checksumAlgorithm(String checksumAlgorithm) {
+        endpoint.getEndpointConfiguration().setChecksumAlgorithm(checksumAlgorithm);
+        return this;
+    }
+
     /**
      * Sets the local passive mode property.
      * @param localPassiveMode
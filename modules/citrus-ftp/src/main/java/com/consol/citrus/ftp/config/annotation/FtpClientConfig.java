@@ -48,6 +48,18 @@ public @interface FtpClientConfig {
      */
     boolean autoReadFiles() default true;
 
+    /**
+     * Auto read files max size
+     * @return
+     */
+    long autoReadFilesMaxSize() default 0L;
+
+    /**
+     * File checksum algorithm
+     * @return
+     */
+    String checksumAlgorithm() default "SHA-256";
+
     /**
      * Local passive mode
      * @return
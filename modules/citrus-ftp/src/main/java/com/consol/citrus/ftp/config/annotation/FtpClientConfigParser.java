@@ -48,6 +48,8 @@ public class FtpClientConfigParser extends AbstractAnnotationConfigParser<FtpCli
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.autoReadFilesMaxSize(annotation.autoReadFilesMaxSize());
+        builder.checksumAlgorithm(annotation.checksumAlgorithm());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
@@ -50,6 +50,8 @@ public class SftpClientConfigParser extends AbstractAnnotationConfigParser<SftpC
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.autoReadFilesMaxSize(annotation.autoReadFilesMaxSize());
+        builder.checksumAlgorithm(annotation.checksumAlgorithm());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
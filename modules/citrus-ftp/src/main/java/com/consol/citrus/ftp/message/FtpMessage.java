@@ -298,6 +298,22 @@ public class FtpMessage extends DefaultMessage {
         return result(getCommandResult);
     }
 
+    public static FtpMessage result(int replyCode, String replyString, String path, long size, String checksum) {
+        GetCommandResult getCommandResult = new GetCommandResult();
+        getCommandResult.setReplyCode(String.valueOf(replyCode));
+        getCommandResult.setReplyString(replyString);
+        getCommandResult.setSuccess(true);
+
+        GetCommandResult.File file = new GetCommandResult.File();
+        file.setPath(path);
+        file.setSize(size);
+        file.setChecksum(checksum);
+
+        getCommandResult.setFile(file);
+
+        return result(getCommandResult);
+    }
+
     /**
      * Sets the command args.
      * @param arguments
@@ -21,6 +21,7 @@ import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.*;
 import org.mockftpserver.fake.FakeFtpServer;
@@ -54,6 +55,7 @@ public class FtpClientTest extends AbstractFtpClientTest {
     private static final String UPLOAD_FILE = "upload_file";
     private static final String DOWNLOAD_FILE = "/download_file";
     private static final String SINGLE_FILE = "/single_file";
+    private static final String LARGE_FILE = "/large_file";
     private static final String DELETE_FOLDER = "/delete";
     private static final String EMPTY_FOLDER = "/empty_folder";
     private static final String FOLDER = "/folder";
@@ -90,6 +92,7 @@ public class FtpClientTest extends AbstractFtpClientTest {
         Thread.sleep(2000);
         fileSystem.add(new FileEntry(DOWNLOAD_FILE + "_2"));
         fileSystem.add(new FileEntry(SINGLE_FILE));
+        fileSystem.add(new FileEntry(LARGE_FILE, "Hello Citrus!"));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/first_folder"));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/second_folder"));
         fileSystem.add(new FileEntry(COMPLETELY_DELETE_FOLDER + "/first_folder/file1"));
@@ -137,6 +140,42 @@ public class FtpClientTest extends AbstractFtpClientTest {
         assertTrue(new File(localFilePath).exists());
     }
 
+    @Test
+    public void testRetrieveFileReference() {
+        String localFilePath = Paths.get(targetPath, "large_file").toString();
+
+        ftpClient.getEndpointConfiguration().setAutoReadFilesMaxSize(5L);
+        try {
+            FtpMessage ftpMessage = ftpClient.retrieveFile(getCommand(LARGE_FILE, localFilePath), context);
+            GetCommandResult result = ftpMessage.getPayload(GetCommandResult.class);
+
+            assertEquals(result.getFile().getPath(), localFilePath);
+            assertNull(result.getFile().getData());
+            assertEquals(result.getFile().getSize(), Long.valueOf(13L));
+            assertEquals(result.getFile().getChecksum(), DigestUtils.sha256Hex("Hello Citrus!"));
+            assertTrue(new File(localFilePath).exists());
+        } finally {
+            ftpClient.getEndpointConfiguration().setAutoReadFilesMaxSize(0L);
+        }
+    }
+
+    @Test
+    public void testRetrieveFileChecksum() {
+        String localFilePath = Paths.get(targetPath, "large_file").toString();
+
+        GetCommand command = getCommand(LARGE_FILE, localFilePath);
+        command.getFile().setChecksum(DigestUtils.sha256Hex("Hello Citrus!").toUpperCase());
+        ftpClient.retrieveFile(command, context);
+
+        command.getFile().setChecksum(DigestUtils.sha256Hex("Hello World!"));
+        try {
+            ftpClient.retrieveFile(command, context);
+            fail("Missing exception due to checksum mismatch");
+        } catch (CitrusRuntimeException e) {
+            assertTrue(e.getMessage().startsWith("Checksum mismatch for file '" + LARGE_FILE + "'"));
+        }
+    }
+
     @Test
     public void testRetrieveFileImplicitFilename() {
         assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
@@ -179,4 +179,13 @@ public class ExecutePLSQLBuilder extends AbstractTestActionBuilder<ExecutePLSQLA
         action.setIgnoreErrors(ignoreErrors);
         return this;
     }
+
+    /**
+     * Executes consecutive data manipulation statements as JDBC batch with given batch size.
+     * @param batchSize
+     */
+    public ExecutePLSQLBuilder batchSize(int batchSize) {
+        action.setBatchSize(batchSize);
+        return this;
+    }
 }
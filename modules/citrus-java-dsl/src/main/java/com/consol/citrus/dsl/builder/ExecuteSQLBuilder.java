@@ -155,4 +155,41 @@ public class ExecuteSQLBuilder extends AbstractTestActionBuilder<ExecuteSQLActio
         action.setIgnoreErrors(ignoreErrors);
         return this;
     }
+
+    /**
+     * Executes consecutive data manipulation statements as JDBC batch with given batch size.
+     * @param batchSize
+     */
+    public ExecuteSQLBuilder batchSize(int batchSize) {
+        action.setBatchSize(batchSize);
+        return this;
+    }
+
+    /**
+     * Loads data file with delimiter separated values executing the parameterized statement for each line.
+     * @param filePath
+     * @param statement
+     */
+    public ExecuteSQLBuilder dataFile(String filePath, String statement) {
+        action.setDataFile(filePath, statement);
+        return this;
+    }
+
+    /**
+     * Sets the value delimiter in data file.
+     * @param delimiter
+     */
+    public ExecuteSQLBuilder dataDelimiter(String delimiter) {
+        action.setDataDelimiter(delimiter);
+        return this;
+    }
+
+    /**
+     * Skips header line in data file.
+     * @param header
+     */
+    public ExecuteSQLBuilder dataHeader(boolean header) {
+        action.setDataHeader(header);
+        return this;
+    }
 }
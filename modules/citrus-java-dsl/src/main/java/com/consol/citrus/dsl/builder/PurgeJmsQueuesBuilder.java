@@ -21,6 +21,7 @@ import org.springframework.context.ApplicationContext;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.Queue;
+import javax.management.MBeanServerConnection;
 import java.util.Arrays;
 import java.util.List;
 
@@ -136,6 +137,33 @@ public class PurgeJmsQueuesBuilder extends AbstractTestActionBuilder<PurgeJmsQue
         return this;
     }
 
+    /**
+     * Sets the number of consumers draining a queue in parallel.
+     * @param concurrentConsumers
+     */
+    public PurgeJmsQueuesBuilder concurrentConsumers(int concurrentConsumers) {
+        action.setConcurrentConsumers(concurrentConsumers);
+        return this;
+    }
+
+    /**
+     * Enables broker native purge operation via JMX when available.
+     * @param brokerPurge
+     */
+    public PurgeJmsQueuesBuilder brokerPurge(boolean brokerPurge) {
+        action.setBrokerPurge(brokerPurge);
+        return this;
+    }
+
+    /**
+     * Sets the MBean server providing broker queue management beans.
+     * @param mBeanServer
+     */
+    public PurgeJmsQueuesBuilder mBeanServer(MBeanServerConnection mBeanServer) {
+        action.setMBeanServer(mBeanServer);
+        return this;
+    }
+
     /**
      * Checks if connection factory is set properly.
      * @return
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.dsl.builder;
+
+import com.consol.citrus.jms.actions.SendJmsBatchAction;
+import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.Assert;
+
+import java.util.*;
+
+/**
+ * Action sends a batch of messages to a JMS endpoint in a single transacted session. Session is committed each
+ * time the commit batch size is reached.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class SendJmsBatchBuilder extends AbstractTestActionBuilder<SendJmsBatchAction> {
+
+    /** Spring application context resolving endpoints by name */
+    private ApplicationContext applicationContext;
+
+    /**
+     * Constructor using action field.
+     * @param action
+     */
+    public SendJmsBatchBuilder(SendJmsBatchAction action) {
+        super(action);
+    }
+
+    /**
+     * Default constructor.
+     */
+    public SendJmsBatchBuilder() {
+        super(new SendJmsBatchAction());
+    }
+
+    /**
+     * Sets the JMS endpoint to send messages to.
+     * @param endpoint
+     * @return
+     */
+    public SendJmsBatchBuilder endpoint(JmsEndpoint endpoint) {
+        action.setEndpoint(endpoint);
+        return this;
+    }
+
+    /**
+     * Sets the JMS endpoint to send messages to by its bean name.
+     * @param endpointName
+     * @return
+     */
+    public SendJmsBatchBuilder endpoint(String endpointName) {
+        Assert.notNull(applicationContext, "Citrus application context is not initialized!");
+        return endpoint(applicationContext.getBean(endpointName, JmsEndpoint.class));
+    }
+
+    /**
+     * List of message payloads to send.
+     * @param payloads
+     * @return
+     */
+    public SendJmsBatchBuilder payloads(List<String> payloads) {
+        action.getPayloads().addAll(payloads);
+        return this;
+    }
+
+    /**
+     * List of message payloads to send.
+     * @param payloads
+     * @return
+     */
+    public SendJmsBatchBuilder payloads(String... payloads) {
+        return payloads(Arrays.asList(payloads));
+    }
+
+    /**
+     * Adds message payload to the list of payloads to send.
+     * @param payload
+     * @return
+     */
+    public SendJmsBatchBuilder payload(String payload) {
+        action.getPayloads().add(payload);
+        return this;
+    }
+
+    /**
+     * Sets payload template sent given number of times.
+     * @param payloadTemplate
+     * @param count
+     * @return
+     */
+    public SendJmsBatchBuilder payloadTemplate(String payloadTemplate, int count) {
+        action.setPayloadTemplate(payloadTemplate);
+        action.setCount(count);
+        return this;
+    }
+
+    /**
+     * Adds message header to each message.
+     * @param name
+     * @param value
+     * @return
+     */
+    public SendJmsBatchBuilder header(String name, Object value) {
+        action.getHeaders().put(name, value);
+        return this;
+    }
+
+    /**
+     * Adds message headers to each message.
+     * @param headers
+     * @return
+     */
+    public SendJmsBatchBuilder headers(Map<String, Object> headers) {
+        action.getHeaders().putAll(headers);
+        return this;
+    }
+
+    /**
+     * Sets the test variable holding the current message index.
+     * @param indexVariable
+     * @return
+     */
+    public SendJmsBatchBuilder indexVariable(String indexVariable) {
+        action.setIndexVariable(indexVariable);
+        return this;
+    }
+
+    /**
+     * Sets the number of messages sent before session is committed.
+     * @param commitBatchSize
+     * @return
+     */
+    public SendJmsBatchBuilder commitBatchSize(int commitBatchSize) {
+        action.setCommitBatchSize(commitBatchSize);
+        return this;
+    }
+
+    /**
+     * Sets the Spring bean factory for using endpoint names.
+     * @param applicationContext
+     */
+    public SendJmsBatchBuilder withApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        return this;
+    }
+}
@@ -329,6 +329,14 @@ public class DefaultTestDesigner implements TestDesigner {
         return builder;
     }
 
+    @Override
+    public SendJmsBatchBuilder sendBatch() {
+        SendJmsBatchBuilder builder = new SendJmsBatchBuilder()
+                .withApplicationContext(applicationContext);
+        action(builder);
+        return builder;
+    }
+
     @Override
     public PurgeChannelsBuilder purgeChannels() {
         PurgeChannelsBuilder builder = new PurgeChannelsBuilder();
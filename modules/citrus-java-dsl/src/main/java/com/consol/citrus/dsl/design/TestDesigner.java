@@ -244,6 +244,13 @@ public interface TestDesigner extends ApplicationContextAware {
      */
     PurgeJmsQueuesBuilder purgeQueues();
 
+    /**
+     * Send batch of messages to JMS endpoint.
+     *
+     * @return
+     */
+    SendJmsBatchBuilder sendBatch();
+
 
     /**
      * Creates a new purge message channel action definition
@@ -284,6 +284,14 @@ public class DefaultTestRunner implements TestRunner {
         return run(builder.build());
     }
 
+    @Override
+    public TestAction sendBatch(BuilderSupport<SendJmsBatchBuilder> configurer) {
+        SendJmsBatchBuilder builder = new SendJmsBatchBuilder()
+                .withApplicationContext(applicationContext);
+        configurer.configure(builder);
+        return run(builder.build());
+    }
+
     @Override
     public PurgeMessageChannelAction purgeChannels(BuilderSupport<PurgeChannelsBuilder> configurer) {
         PurgeChannelsBuilder builder = new PurgeChannelsBuilder();
@@ -218,6 +218,15 @@ public interface TestRunner extends ApplicationContextAware {
      */
     TestAction purgeQueues(BuilderSupport<PurgeJmsQueuesBuilder> configurer);
 
+    /**
+     * Creates a new send JMS batch action definition
+     * for further configuration.
+     *
+     * @param configurer
+     * @return
+     */
+    TestAction sendBatch(BuilderSupport<SendJmsBatchBuilder> configurer);
+
     /**
      * Creates a new purge message channel action definition
      * for further configuration.
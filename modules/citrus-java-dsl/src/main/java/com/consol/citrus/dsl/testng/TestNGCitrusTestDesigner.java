@@ -243,6 +243,11 @@ public class TestNGCitrusTestDesigner extends TestNGCitrusTest implements TestDe
         return testDesigner.purgeQueues();
     }
 
+    @Override
+    public SendJmsBatchBuilder sendBatch() {
+        return testDesigner.sendBatch();
+    }
+
     @Override
     public PurgeChannelsBuilder purgeChannels() {
         return testDesigner.purgeChannels();
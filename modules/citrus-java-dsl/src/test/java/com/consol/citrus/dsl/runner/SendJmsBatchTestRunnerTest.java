@@ -0,0 +1,85 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.dsl.runner;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.jms.actions.SendJmsBatchAction;
+import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.jms.*;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class SendJmsBatchTestRunnerTest extends AbstractTestNGUnitTest {
+    private ConnectionFactory connectionFactory = Mockito.mock(ConnectionFactory.class);
+    private Connection connection = Mockito.mock(Connection.class);
+    private Session session = Mockito.mock(Session.class);
+    private MessageProducer messageProducer = Mockito.mock(MessageProducer.class);
+    private Queue queue = Mockito.mock(Queue.class);
+    private TextMessage textMessage = Mockito.mock(TextMessage.class);
+
+    @Test
+    public void testSendJmsBatchBuilder() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestinationName("myQueue");
+
+        reset(connectionFactory, connection, session, messageProducer, textMessage);
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("myQueue")).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(messageProducer);
+        when(session.createTextMessage(anyString())).thenReturn(textMessage);
+
+        MockTestRunner builder = new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
+            @Override
+            public void execute() {
+                sendBatch(builder -> builder.endpoint(endpoint)
+                        .payloadTemplate("<Order id=\"${orderIndex}\"/>", 5)
+                        .header("operation", "order")
+                        .indexVariable("orderIndex")
+                        .commitBatchSize(2));
+            }
+        };
+
+        TestCase test = builder.getTestCase();
+        Assert.assertEquals(test.getActionCount(), 1);
+        Assert.assertEquals(test.getActions().get(0).getClass(), SendJmsBatchAction.class);
+        Assert.assertEquals(test.getActions().get(0).getName(), "send-jms-batch");
+
+        SendJmsBatchAction action = (SendJmsBatchAction) test.getActions().get(0);
+        Assert.assertEquals(action.getEndpoint(), endpoint);
+        Assert.assertEquals(action.getPayloadTemplate(), "<Order id=\"${orderIndex}\"/>");
+        Assert.assertEquals(action.getCount(), 5);
+        Assert.assertEquals(action.getHeaders().get("operation"), "order");
+        Assert.assertEquals(action.getIndexVariable(), "orderIndex");
+        Assert.assertEquals(action.getCommitBatchSize(), 2);
+
+        verify(session).createTextMessage("<Order id=\"0\"/>");
+        verify(session).createTextMessage("<Order id=\"4\"/>");
+        verify(messageProducer, times(5)).send(textMessage);
+        verify(session, times(3)).commit();
+    }
+}
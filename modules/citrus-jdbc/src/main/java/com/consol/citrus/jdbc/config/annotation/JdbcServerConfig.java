@@ -79,6 +79,12 @@ public @interface JdbcServerConfig {
             "SELECT.*FROM SYSIBM.SYSDUMMY1" // DB2
     };
 
+    /**
+     * Query responder reference.
+     * @return
+     */
+    String queryResponder() default "";
+
     /**
      * Message correlator.
      * @return
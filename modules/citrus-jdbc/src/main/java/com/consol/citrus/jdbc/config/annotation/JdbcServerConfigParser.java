@@ -20,6 +20,7 @@ import com.consol.citrus.TestActor;
 import com.consol.citrus.config.annotation.AbstractAnnotationConfigParser;
 import com.consol.citrus.context.ReferenceResolver;
 import com.consol.citrus.endpoint.EndpointAdapter;
+import com.consol.citrus.jdbc.server.JdbcQueryResponder;
 import com.consol.citrus.jdbc.server.JdbcServer;
 import com.consol.citrus.jdbc.server.JdbcServerBuilder;
 import com.consol.citrus.message.MessageCorrelator;
@@ -67,6 +68,10 @@ public class JdbcServerConfigParser extends AbstractAnnotationConfigParser<JdbcS
 
         builder.autoHandleQueries(annotation.autoHandleQueries());
 
+        if (StringUtils.hasText(annotation.queryResponder())) {
+            builder.queryResponder(getReferenceResolver().resolve(annotation.queryResponder(), JdbcQueryResponder.class));
+        }
+
         if (StringUtils.hasText(annotation.correlator())) {
             builder.correlator(getReferenceResolver().resolve(annotation.correlator(), MessageCorrelator.class));
         }
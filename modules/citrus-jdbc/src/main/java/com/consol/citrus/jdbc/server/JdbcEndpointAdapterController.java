@@ -193,10 +193,34 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeQuery(String query) throws JdbcServerException {
         log.info("Received execute query request: " + query);
+
+        DataSet dataSet = respondInProcess(query);
+        if (dataSet != null) {
+            return dataSet;
+        }
+
         Message response = handleMessageAndCheckResponse(JdbcMessage.execute(query));
         return dataSetCreator.createDataSet(response, getMessageType(response));
     }
 
+    /**
+     * Gets data set from query responder if set and a responder rule matches the given SQL statement.
+     * @param sql The SQL statement
+     * @return The DataSet or null if not handled by query responder
+     */
+    private DataSet respondInProcess(String sql) {
+        if (endpointConfiguration.getQueryResponder() == null) {
+            return null;
+        }
+
+        DataSet dataSet = endpointConfiguration.getQueryResponder().getDataSet(sql);
+        if (dataSet != null) {
+            log.debug(String.format("Query responder handled statement '%s'", sql));
+        }
+
+        return dataSet;
+    }
+
     /**
      * Executes the given statement
      * @param stmt The statement to be executed
@@ -205,6 +229,12 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeStatement(String stmt) throws JdbcServerException {
         log.info("Received execute statement request: " + stmt);
+
+        DataSet dataSet = respondInProcess(stmt);
+        if (dataSet != null) {
+            return dataSet;
+        }
+
         Message response = handleMessageAndCheckResponse(JdbcMessage.execute(stmt));
         return dataSetCreator.createDataSet(response, getMessageType(response));
     }
@@ -217,6 +247,15 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public int executeUpdate(String updateSql) throws JdbcServerException {
         log.info("Received execute update request: " + updateSql);
+
+        if (endpointConfiguration.getQueryResponder() != null) {
+            Integer rowsUpdated = endpointConfiguration.getQueryResponder().getRowsUpdated(updateSql);
+            if (rowsUpdated != null) {
+                log.debug(String.format("Query responder handled update '%s'", updateSql));
+                return rowsUpdated;
+            }
+        }
+
         Message response = handleMessageAndCheckResponse(JdbcMessage.execute(updateSql));
         return Optional.ofNullable(
                 response.getHeader(JdbcMessageHeaders.JDBC_ROWS_UPDATED))
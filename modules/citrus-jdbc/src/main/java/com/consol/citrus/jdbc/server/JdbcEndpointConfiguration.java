@@ -50,6 +50,9 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
             "SELECT.*FROM SYSIBM.SYSDUMMY1" // DB2
     };
 
+    /** Optional rule based responder answering matching queries in process */
+    private JdbcQueryResponder queryResponder;
+
     /** Marshaller converts from XML to Jdbc model objects */
     private JdbcMarshaller marshaller = new JdbcMarshaller();
 
@@ -121,6 +124,24 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
         this.autoHandleQueries = autoHandleQueries;
     }
 
+    /**
+     * Gets the queryResponder.
+     *
+     * @return
+     */
+    public JdbcQueryResponder getQueryResponder() {
+        return queryResponder;
+    }
+
+    /**
+     * Sets the queryResponder.
+     *
+     * @param queryResponder
+     */
+    public void setQueryResponder(JdbcQueryResponder queryResponder) {
+        this.queryResponder = queryResponder;
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
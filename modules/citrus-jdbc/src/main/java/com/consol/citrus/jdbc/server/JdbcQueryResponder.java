@@ -0,0 +1,268 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jdbc.server;
+
+import com.consol.citrus.db.driver.data.Row;
+import com.consol.citrus.db.driver.dataset.DataSet;
+import com.consol.citrus.db.driver.dataset.DataSetBuilder;
+import com.consol.citrus.db.driver.json.JsonDataSetProducer;
+import com.consol.citrus.db.driver.xml.XmlDataSetProducer;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.MessageType;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Rule based responder answering Jdbc server requests in process. Query rules map a SQL pattern to a canned data set, update rules
+ * map a SQL pattern to a number of updated rows. Patterns are compiled once. Query results are cached by normalized statement
+ * in a bounded least recently used cache so repeated queries skip pattern matching and result lookup. Update statements are never
+ * cached. Statements answered by this responder never reach the test as message but get recorded for later verification.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class JdbcQueryResponder {
+
+    /** Maximum number of cached query results */
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    /** Whitespace collapsed when normalizing statements */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** Query and update rules in order of registration, first match wins */
+    private final List<Rule> queryRules = new ArrayList<>();
+    private final List<Rule> updateRules = new ArrayList<>();
+
+    /** Query result rows by normalized statement, empty if no query rule matches */
+    private final Map<String, Optional<Row[]>> resultCache = new LinkedHashMap<String, Optional<Row[]>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Optional<Row[]>> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    /** Statements answered by this responder */
+    private final Deque<String> recordedStatements = new ArrayDeque<>();
+
+    /** Maximum number of recorded statements, oldest statements are dropped first */
+    private int maxRecordedStatements = 10000;
+
+    /**
+     * Adds rule responding with given data set when SQL statement matches pattern.
+     * @param sqlPattern
+     * @param dataSet
+     * @return
+     */
+    public JdbcQueryResponder respond(String sqlPattern, DataSet dataSet) {
+        try {
+            return addQueryRule(new Rule(sqlPattern, dataSet.getRows(), 0));
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException("Failed to read data set for Jdbc query rule", e);
+        }
+    }
+
+    /**
+     * Adds rule responding with data set given as JSON or XML when SQL statement matches pattern.
+     * @param sqlPattern
+     * @param dataSet
+     * @param messageType
+     * @return
+     */
+    public JdbcQueryResponder respond(String sqlPattern, String dataSet, MessageType messageType) {
+        try {
+            if (MessageType.JSON.equals(messageType)) {
+                return respond(sqlPattern, new JsonDataSetProducer(dataSet).produce());
+            } else if (MessageType.XML.equals(messageType)) {
+                return respond(sqlPattern, new XmlDataSetProducer(dataSet).produce());
+            } else {
+                throw new CitrusRuntimeException("Unable to create dataSet from data type " + messageType.name());
+            }
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException("Failed to read data set for Jdbc query rule", e);
+        }
+    }
+
+    /**
+     * Adds rule responding with given number of updated rows when SQL statement matches pattern.
+     * @param sqlPattern
+     * @param rowsUpdated
+     * @return
+     */
+    public JdbcQueryResponder respond(String sqlPattern, int rowsUpdated) {
+        return addUpdateRule(new Rule(sqlPattern, Collections.emptyList(), rowsUpdated));
+    }
+
+    /**
+     * Adds new query rule and resets result cache.
+     * @param rule
+     * @return
+     */
+    private synchronized JdbcQueryResponder addQueryRule(Rule rule) {
+        queryRules.add(rule);
+        resultCache.clear();
+        return this;
+    }
+
+    /**
+     * Adds new update rule.
+     * @param rule
+     * @return
+     */
+    private synchronized JdbcQueryResponder addUpdateRule(Rule rule) {
+        updateRules.add(rule);
+        return this;
+    }
+
+    /**
+     * Gets data set for given SQL statement or null if no rule matches the statement. Statements matching an update rule
+     * get an empty data set.
+     * @param sql
+     * @return
+     */
+    public synchronized DataSet getDataSet(String sql) {
+        String statement = normalize(sql);
+
+        Optional<Row[]> rows = resultCache.get(statement);
+        if (rows == null) {
+            rows = findRule(queryRules, statement).map(rule -> rule.rows);
+            resultCache.put(statement, rows);
+        }
+
+        if (rows.isPresent()) {
+            record(sql);
+            return createDataSet(rows.get());
+        }
+
+        if (findRule(updateRules, statement).isPresent()) {
+            record(sql);
+            return new DataSet();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets number of updated rows for given SQL statement or null if no update rule matches the statement.
+     * @param sql
+     * @return
+     */
+    public synchronized Integer getRowsUpdated(String sql) {
+        Optional<Rule> rule = findRule(updateRules, normalize(sql));
+        rule.ifPresent(match -> record(sql));
+        return rule.map(match -> match.rowsUpdated).orElse(null);
+    }
+
+    /**
+     * Finds first rule matching given normalized SQL statement.
+     * @param rules
+     * @param statement
+     * @return
+     */
+    private Optional<Rule> findRule(List<Rule> rules, String statement) {
+        return rules.stream().filter(candidate -> candidate.matches(statement)).findFirst();
+    }
+
+    /**
+     * Normalizes SQL statement by trimming and collapsing whitespace.
+     * @param sql
+     * @return
+     */
+    private String normalize(String sql) {
+        return WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    }
+
+    /**
+     * Records statement answered by this responder.
+     * @param sql
+     */
+    private void record(String sql) {
+        if (recordedStatements.size() >= maxRecordedStatements) {
+            recordedStatements.poll();
+        }
+
+        recordedStatements.add(sql);
+    }
+
+    /**
+     * Creates new data set with given rows. Rows are shared but each response gets its own data set as data sets keep a cursor.
+     * @param rows
+     * @return
+     */
+    private DataSet createDataSet(Row[] rows) {
+        if (rows.length == 0) {
+            return new DataSet();
+        }
+
+        try {
+            return new DataSetBuilder().add(rows).build();
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException("Failed to create data set for Jdbc query responder", e);
+        }
+    }
+
+    /**
+     * Gets the statements answered by this responder.
+     * @return
+     */
+    public synchronized List<String> getRecordedStatements() {
+        return new ArrayList<>(recordedStatements);
+    }
+
+    /**
+     * Clears recorded statements.
+     */
+    public synchronized void clearRecordedStatements() {
+        recordedStatements.clear();
+    }
+
+    /**
+     * Gets the maxRecordedStatements.
+     * @return
+     */
+    public int getMaxRecordedStatements() {
+        return maxRecordedStatements;
+    }
+
+    /**
+     * Sets the maxRecordedStatements.
+     * @param maxRecordedStatements
+     */
+    public void setMaxRecordedStatements(int maxRecordedStatements) {
+        this.maxRecordedStatements = maxRecordedStatements;
+    }
+
+    /**
+     * Responder rule holding compiled SQL pattern and canned response.
+     */
+    private static class Rule {
+        private final Pattern pattern;
+        private final Row[] rows;
+        private final int rowsUpdated;
+
+        Rule(String sqlPattern, List<Row> rows, int rowsUpdated) {
+            this.pattern = Pattern.compile("(?i)\\A(?:" + sqlPattern + ")\\z");
+            this.rows = rows.toArray(new Row[0]);
+            this.rowsUpdated = rowsUpdated;
+        }
+
+        boolean matches(String sql) {
+            return pattern.matcher(sql).matches();
+        }
+    }
+}
@@ -104,6 +104,16 @@ public class JdbcServerBuilder extends AbstractEndpointBuilder<JdbcServer> {
         return this;
     }
 
+    /**
+     * Sets the query responder answering matching queries in process.
+     * @param queryResponder
+     * @return
+     */
+    public JdbcServerBuilder queryResponder(JdbcQueryResponder queryResponder) {
+        endpoint.getEndpointConfiguration().setQueryResponder(queryResponder);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
@@ -36,6 +36,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 public class JdbcEndpointAdapterControllerTest {
@@ -52,6 +53,7 @@ public class JdbcEndpointAdapterControllerTest {
 
         when(jdbcEndpointConfiguration.getServerConfiguration()).thenReturn(serverConfiguration);
         when(jdbcEndpointConfiguration.getAutoHandleQueries()).thenReturn(new JdbcEndpointConfiguration().getAutoHandleQueries());
+        when(jdbcEndpointConfiguration.getQueryResponder()).thenReturn(null);
 
         jdbcEndpointAdapterController = new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter);
     }
@@ -108,6 +110,72 @@ public class JdbcEndpointAdapterControllerTest {
         verify(request).setPayload(anyString());
     }
 
+    @Test
+    public void testExecuteQueryWithQueryResponder() throws Exception {
+
+        //GIVEN
+        final JdbcQueryResponder queryResponder = new JdbcQueryResponder()
+                .respond("SELECT name FROM users WHERE id = \\d+", "[{ \"name\": \"foo\" }]", MessageType.JSON);
+        when(jdbcEndpointConfiguration.getQueryResponder()).thenReturn(queryResponder);
+        clearInvocations(endpointAdapter);
+
+        //WHEN
+        final DataSet first = jdbcEndpointAdapterController.executeQuery("SELECT name FROM users WHERE id = 1");
+        final DataSet second = jdbcEndpointAdapterController.executeQuery("select name from users where id = 2");
+
+        //THEN
+        assertEquals(first.getNextRow().getValue("name"), "foo");
+        assertEquals(second.getNextRow().getValue("name"), "foo");
+        assertEquals(queryResponder.getRecordedStatements().size(), 2);
+        verify(endpointAdapter, never()).handleMessage(any(Message.class));
+    }
+
+    @Test
+    public void testExecuteUpdateWithQueryResponder() {
+
+        //GIVEN
+        final JdbcQueryResponder queryResponder = new JdbcQueryResponder()
+                .respond("DELETE FROM users.*|TRUNCATE TABLE users.*", 5);
+        when(jdbcEndpointConfiguration.getQueryResponder()).thenReturn(queryResponder);
+
+        final Message response = JdbcMessage.success().rowsUpdated(1);
+        when(endpointAdapter.handleMessage(any(Message.class))).thenReturn(response);
+
+        //WHEN
+        final int rowsUpdated = jdbcEndpointAdapterController.executeUpdate("DELETE FROM users");
+        final int delegatedRowsUpdated = jdbcEndpointAdapterController.executeUpdate("UPDATE users SET name = 'bar'");
+        final int delegatedAuditRowsUpdated = jdbcEndpointAdapterController.executeUpdate("UPDATE audit SET note = 'TRUNCATE TABLE users'");
+
+        //THEN
+        assertEquals(rowsUpdated, 5);
+        assertEquals(delegatedRowsUpdated, 1);
+        assertEquals(delegatedAuditRowsUpdated, 1);
+        assertEquals(queryResponder.getRecordedStatements().size(), 1);
+        assertEquals(queryResponder.getRecordedStatements().get(0), "DELETE FROM users");
+    }
+
+    @Test
+    public void testQueryResponderRuleTypes() throws Exception {
+
+        //GIVEN
+        final JdbcQueryResponder queryResponder = new JdbcQueryResponder()
+                .respond("SELECT name FROM users", "[{ \"name\": \"foo\" }]", MessageType.JSON)
+                .respond("DELETE FROM users", 5);
+
+        //WHEN
+        final DataSet first = queryResponder.getDataSet("SELECT name FROM users");
+        final DataSet second = queryResponder.getDataSet("  SELECT name\n  FROM users ");
+        final DataSet update = queryResponder.getDataSet("DELETE FROM users");
+
+        //THEN
+        assertEquals(first.getNextRow().getValue("name"), "foo");
+        assertEquals(second.getNextRow().getValue("name"), "foo");
+        assertEquals(update.getRows().size(), 0);
+        assertEquals(queryResponder.getRowsUpdated("DELETE  FROM users"), Integer.valueOf(5));
+        assertNull(queryResponder.getRowsUpdated("SELECT name FROM users"));
+        assertEquals(queryResponder.getRecordedStatements().size(), 4);
+    }
+
     @Test
     public void testOpenConnection(){
 
@@ -25,8 +25,15 @@ import org.springframework.jms.support.JmsUtils;
 import org.springframework.jms.support.destination.DynamicDestinationResolver;
 
 import javax.jms.*;
-import java.util.ArrayList;
-import java.util.List;
+import javax.jms.Queue;
+import javax.management.JMException;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
 
 /**
  * Action to purge JMS queue destinations by simply consuming 
@@ -35,7 +42,11 @@ import java.util.List;
  * JMS broker vendor implementations.
  *
  * Consumer will continue to receive messages until message receive timeout is reached,
- * so no messages are left.
+ * so no messages are left. Several consumers may drain a queue in parallel. Message prefetch is
+ * configured on the connection factory.
+ *
+ * When broker purge is enabled action first tries to purge the queue with the broker native purge operation
+ * on the queue management bean (e.g. embedded ActiveMQ broker registered on the platform MBean server).
  *  
  * @author Christoph Deppisch
  * @since 2007
@@ -54,12 +65,30 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
     /** Time to wait until timeout in ms */
     private long receiveTimeout = 100;
     
-    /** Wait some time between message consumption in ms */
+    /** Wait some time between drain rounds in ms */
     private long sleepTime = 350;
 
+    /** Number of consumers draining a queue in parallel */
+    private int concurrentConsumers = 1;
+
+    /** Use broker native purge operation via JMX when available */
+    private boolean brokerPurge = false;
+
+    /** MBean server providing broker queue management beans, defaults to platform MBean server */
+    private MBeanServerConnection mBeanServer;
+
+    /** Object name pattern of broker queue management beans with queue name placeholder, defaults to ActiveMQ */
+    private String brokerQueueObjectName = "org.apache.activemq:type=Broker,brokerName=*,destinationType=Queue,destinationName=%s";
+
+    /** Purge operation invoked on broker queue management bean */
+    private String brokerPurgeOperation = "purge";
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(PurgeJmsQueuesAction.class);
 
+    /** Marker resolving the queue name key property in broker queue object name pattern */
+    private static final String QUEUE_NAME_MARKER = "citrus_queue_name";
+
     /**
      * Default constructor.
      */
@@ -81,10 +110,10 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
             connection.start();
             
             for (Queue queue : queues) {
-                purgeQueue(queue, session);
+                purgeQueue(queue, connection, session);
             }
             for (String queueName : queueNames) {
-                purgeQueue(context.replaceDynamicContentInString(queueName), session);
+                purgeQueue(context.replaceDynamicContentInString(queueName), connection, session);
             }
 
         } catch (JMSException e) {
@@ -101,35 +130,184 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
     /**
      * Purges a queue destination identified by its name.
      * @param queueName
+     * @param connection
      * @param session
      * @throws JMSException
      */
-    private void purgeQueue(String queueName, Session session) throws JMSException {
-        purgeDestination(getDestination(session, queueName), session, queueName);
+    private void purgeQueue(String queueName, Connection connection, Session session) throws JMSException {
+        if (brokerPurge && purgeOnBroker(queueName)) {
+            return;
+        }
+
+        purgeDestination(getDestination(session, queueName), connection, session, queueName);
     }
 
     /**
      * Purges a queue destination. 
      * @param queue
+     * @param connection
      * @param session
      * @throws JMSException
      */
-    private void purgeQueue(Queue queue, Session session) throws JMSException {
-        purgeDestination(queue, session, queue.getQueueName());
+    private void purgeQueue(Queue queue, Connection connection, Session session) throws JMSException {
+        if (brokerPurge && purgeOnBroker(queue.getQueueName())) {
+            return;
+        }
+
+        purgeDestination(queue, connection, session, queue.getQueueName());
+    }
+
+    /**
+     * Purges queue with broker native purge operation via JMX. Returns false in case no matching queue management bean
+     * is available on the MBean server so caller can fall back to receiving messages.
+     * @param queueName
+     * @return
+     */
+    private boolean purgeOnBroker(String queueName) {
+        try {
+            MBeanServerConnection server = Optional.ofNullable(mBeanServer).orElseGet(ManagementFactory::getPlatformMBeanServer);
+            Set<ObjectName> queueBeans = findQueueBeans(server, queueName);
+
+            if (queueBeans.isEmpty()) {
+                log.debug("No broker management bean found for queue " + queueName + " - purging by receiving messages");
+                return false;
+            }
+
+            for (ObjectName queueBean : queueBeans) {
+                server.invoke(queueBean, brokerPurgeOperation, null, null);
+            }
+
+            log.debug("Purged destination " + queueName + " via broker management bean");
+            return true;
+        } catch (JMException | IOException e) {
+            log.warn("Failed to purge queue " + queueName + " via broker management bean - purging by receiving messages", e);
+            return false;
+        }
     }
 
     /**
-     * Purge destination by receiving all available messages.
+     * Finds broker queue management beans for given queue name. Queries all beans matching the object name pattern with
+     * wildcard queue name and compares the queue name key property exactly, so queue names holding object name
+     * special characters neither break the query nor match other queues.
+     * @param server
+     * @param queueName
+     * @return
+     * @throws JMException
+     * @throws IOException
+     */
+    private Set<ObjectName> findQueueBeans(MBeanServerConnection server, String queueName) throws JMException, IOException {
+        String queueNameKey = new ObjectName(String.format(brokerQueueObjectName, QUEUE_NAME_MARKER)).getKeyPropertyList().entrySet().stream()
+                .filter(property -> property.getValue().equals(QUEUE_NAME_MARKER))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow(() -> new CitrusRuntimeException("Missing queue name placeholder as key property value in broker queue object name: " + brokerQueueObjectName));
+
+        return server.queryNames(new ObjectName(String.format(brokerQueueObjectName, "*")), null).stream()
+                .filter(queueBean -> queueName.equals(unquote(queueBean.getKeyProperty(queueNameKey))))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Removes object name quotes from key property value if any.
+     * @param value
+     * @return
+     */
+    private static String unquote(String value) {
+        if (value != null && value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            return ObjectName.unquote(value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Purge destination by receiving all available messages. Drains destination with concurrent consumers until receive
+     * timeout is reached. In case messages have been received action waits sleep time and drains again in order to catch
+     * messages still in flight.
      * @param destination
+     * @param connection
      * @param session
      * @param destinationName
      * @throws JMSException
      */
-    private void purgeDestination(Destination destination, Session session, String destinationName) throws JMSException {
+    private void purgeDestination(Destination destination, Connection connection, Session session, String destinationName) throws JMSException {
         if (log.isDebugEnabled()) {
             log.debug("Try to purge destination " + destinationName);
         }
 
+        int messagesPurged = 0;
+        int purgedInRound;
+        do {
+            purgedInRound = (concurrentConsumers > 1) ? drainConcurrent(destination, connection, destinationName) : drain(destination, session, destinationName);
+            messagesPurged += purgedInRound;
+
+            if (purgedInRound > 0) {
+                try {
+                    Thread.sleep(sleepTime);
+                } catch (InterruptedException e) {
+                    log.warn("Interrupted during wait", e);
+                }
+            }
+        } while (purgedInRound > 0);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Purged " + messagesPurged + " messages from destination");
+        }
+    }
+
+    /**
+     * Drains destination with several consumers each using its own session on the shared connection.
+     * @param destination
+     * @param connection
+     * @param destinationName
+     * @return number of received messages
+     * @throws JMSException
+     */
+    @SuppressWarnings("PMD.CloseResource") //suppress since session closed via JmsUtils
+    private int drainConcurrent(Destination destination, Connection connection, String destinationName) throws JMSException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentConsumers);
+        try {
+            List<Future<Integer>> consumers = new ArrayList<>();
+            for (int i = 0; i < concurrentConsumers; i++) {
+                consumers.add(executor.submit(() -> {
+                    Session consumerSession = createSession(connection);
+                    try {
+                        return drain(destination, consumerSession, destinationName);
+                    } finally {
+                        JmsUtils.closeSession(consumerSession);
+                    }
+                }));
+            }
+
+            int messagesPurged = 0;
+            for (Future<Integer> consumer : consumers) {
+                messagesPurged += consumer.get();
+            }
+
+            return messagesPurged;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while purging destination " + destinationName, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JMSException) {
+                throw (JMSException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to purge destination " + destinationName, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Receives messages from destination until receive timeout is reached.
+     * @param destination
+     * @param session
+     * @param destinationName
+     * @return number of received messages
+     * @throws JMSException
+     */
+    private int drain(Destination destination, Session session, String destinationName) throws JMSException {
         int messagesPurged = 0;
         MessageConsumer messageConsumer = session.createConsumer(destination);
         try {
@@ -140,21 +318,13 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
                 if (message != null) {
                     log.debug("Removed message from destination " + destinationName);
                     messagesPurged++;
-
-                    try {
-                        Thread.sleep(sleepTime);
-                    } catch (InterruptedException e) {
-                        log.warn("Interrupted during wait", e);
-                    }
                 }
             } while (message != null);
-
-            if (log.isDebugEnabled()) {
-                log.debug("Purged " + messagesPurged + " messages from destination");
-            }
         } finally {
             JmsUtils.closeMessageConsumer(messageConsumer);
         }
+
+        return messagesPurged;
     }
     
     /**
@@ -272,4 +442,83 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
         return sleepTime;
     }
 
+    /**
+     * Gets the concurrentConsumers.
+     * @return
+     */
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    /**
+     * Sets the concurrentConsumers.
+     * @param concurrentConsumers
+     */
+    public void setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+    }
+
+    /**
+     * Gets the brokerPurge.
+     * @return
+     */
+    public boolean isBrokerPurge() {
+        return brokerPurge;
+    }
+
+    /**
+     * Sets the brokerPurge.
+     * @param brokerPurge
+     */
+    public void setBrokerPurge(boolean brokerPurge) {
+        this.brokerPurge = brokerPurge;
+    }
+
+    /**
+     * Gets the mBeanServer.
+     * @return
+     */
+    public MBeanServerConnection getMBeanServer() {
+        return mBeanServer;
+    }
+
+    /**
+     * Sets the mBeanServer.
+     * @param mBeanServer
+     */
+    public void setMBeanServer(MBeanServerConnection mBeanServer) {
+        this.mBeanServer = mBeanServer;
+    }
+
+    /**
+     * Gets the brokerQueueObjectName.
+     * @return
+     */
+    public String getBrokerQueueObjectName() {
+        return brokerQueueObjectName;
+    }
+
+    /**
+     * Sets the brokerQueueObjectName.
+     * @param brokerQueueObjectName
+     */
+    public void setBrokerQueueObjectName(String brokerQueueObjectName) {
+        this.brokerQueueObjectName = brokerQueueObjectName;
+    }
+
+    /**
+     * Gets the brokerPurgeOperation.
+     * @return
+     */
+    public String getBrokerPurgeOperation() {
+        return brokerPurgeOperation;
+    }
+
+    /**
+     * Sets the brokerPurgeOperation.
+     * @param brokerPurgeOperation
+     */
+    public void setBrokerPurgeOperation(String brokerPurgeOperation) {
+        this.brokerPurgeOperation = brokerPurgeOperation;
+    }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.actions;
+
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import com.consol.citrus.jms.endpoint.JmsProducer;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * Action sends a large number of messages to a JMS endpoint in a single transacted session. Session is committed
+ * each time the commit batch size is reached so the broker persists messages in batches instead of one by one.
+ *
+ * Messages are either given as list of payloads or generated from a payload template that is sent given number of times.
+ * Messages are generated lazily while sending. The current message index is available as test variable so
+ * payload template and headers can reference it.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class SendJmsBatchAction extends AbstractTestAction {
+
+    /** Endpoint to send messages to */
+    private JmsEndpoint endpoint;
+
+    /** Payloads to send */
+    private List<String> payloads = new ArrayList<>();
+
+    /** Payload template sent given number of times */
+    private String payloadTemplate;
+    private int count = 0;
+
+    /** Message headers added to each message */
+    private Map<String, Object> headers = new HashMap<>();
+
+    /** Test variable holding the current message index */
+    private String indexVariable = "citrus.batch.index";
+
+    /** Number of messages sent before session is committed */
+    private int commitBatchSize = 1000;
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(SendJmsBatchAction.class);
+
+    /**
+     * Default constructor.
+     */
+    public SendJmsBatchAction() {
+        setName("send-jms-batch");
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        Assert.notNull(endpoint, "Missing JMS endpoint to send messages to");
+        Assert.isTrue(commitBatchSize > 0, "Commit batch size must be greater than zero");
+
+        final int total = StringUtils.hasText(payloadTemplate) ? count : payloads.size();
+
+        Iterator<Message> messages = new Iterator<Message>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < total;
+            }
+
+            @Override
+            public Message next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                context.setVariable(indexVariable, index);
+                String payload = StringUtils.hasText(payloadTemplate) ? payloadTemplate : payloads.get(index);
+                index++;
+
+                return new DefaultMessage(context.replaceDynamicContentInString(payload), context.resolveDynamicValuesInMap(headers));
+            }
+        };
+
+        int sent = ((JmsProducer) endpoint.createProducer()).sendBatch(messages, context, commitBatchSize);
+        log.info(String.format("Sent batch of %s messages to JMS endpoint '%s'", sent, endpoint.getName()));
+    }
+
+    /**
+     * Gets the endpoint.
+     * @return
+     */
+    public JmsEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sets the endpoint.
+     * @param endpoint
+     */
+    public void setEndpoint(JmsEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Gets the payloads.
+     * @return
+     */
+    public List<String> getPayloads() {
+        return payloads;
+    }
+
+    /**
+     * Sets the payloads.
+     * @param payloads
+     */
+    public void setPayloads(List<String> payloads) {
+        this.payloads = payloads;
+    }
+
+    /**
+     * Gets the payloadTemplate.
+     * @return
+     */
+    public String getPayloadTemplate() {
+        return payloadTemplate;
+    }
+
+    /**
+     * Sets the payloadTemplate.
+     * @param payloadTemplate
+     */
+    public void setPayloadTemplate(String payloadTemplate) {
+        this.payloadTemplate = payloadTemplate;
+    }
+
+    /**
+     * Gets the count.
+     * @return
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the count.
+     * @param count
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Gets the headers.
+     * @return
+     */
+    public Map<String, Object> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Sets the headers.
+     * @param headers
+     */
+    public void setHeaders(Map<String, Object> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Gets the indexVariable.
+     * @return
+     */
+    public String getIndexVariable() {
+        return indexVariable;
+    }
+
+    /**
+     * Sets the indexVariable.
+     * @param indexVariable
+     */
+    public void setIndexVariable(String indexVariable) {
+        this.indexVariable = indexVariable;
+    }
+
+    /**
+     * Gets the commitBatchSize.
+     * @return
+     */
+    public int getCommitBatchSize() {
+        return commitBatchSize;
+    }
+
+    /**
+     * Sets the commitBatchSize.
+     * @param commitBatchSize
+     */
+    public void setCommitBatchSize(int commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+}
@@ -17,6 +17,7 @@
 package com.consol.citrus.jms.config.annotation;
 
 import com.consol.citrus.annotations.CitrusEndpointConfig;
+import com.consol.citrus.message.SelectiveMessageBuffer;
 
 import java.lang.annotation.*;
 
@@ -95,12 +96,36 @@ public @interface JmsEndpointConfig {
      */
     String durableSubscriberName() default "";
 
+    /**
+     * Topic subscription buffer size.
+     * @return
+     */
+    int subscriptionBufferSize() default 10000;
+
+    /**
+     * Topic subscription buffer overflow policy.
+     * @return
+     */
+    SelectiveMessageBuffer.OverflowPolicy subscriptionOverflowPolicy() default SelectiveMessageBuffer.OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * Number of topic events acknowledged at once.
+     * @return
+     */
+    int subscriptionAckBatchSize() default 1;
+
     /**
      * Should use object messages.
      * @return
      */
     boolean useObjectMessages() default false;
 
+    /**
+     * Reuse connection and session across consecutive sends.
+     * @return
+     */
+    boolean reuseSession() default false;
+
     /**
      * Timeout.
      * @return
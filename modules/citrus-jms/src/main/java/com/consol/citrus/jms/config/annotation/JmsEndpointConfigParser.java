@@ -104,7 +104,12 @@ public class JmsEndpointConfigParser extends AbstractAnnotationConfigParser<JmsE
             builder.durableSubscriberName(annotation.durableSubscriberName());
         }
 
+        builder.subscriptionBufferSize(annotation.subscriptionBufferSize());
+        builder.subscriptionOverflowPolicy(annotation.subscriptionOverflowPolicy());
+        builder.subscriptionAckBatchSize(annotation.subscriptionAckBatchSize());
+
         builder.useObjectMessages(annotation.useObjectMessages());
+        builder.reuseSession(annotation.reuseSession());
 
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), JmsMessageConverter.class));
@@ -17,6 +17,7 @@
 package com.consol.citrus.jms.config.handler;
 
 import com.consol.citrus.jms.config.xml.PurgeJmsQueuesActionParser;
+import com.consol.citrus.jms.config.xml.SendJmsBatchActionParser;
 import org.springframework.beans.factory.xml.NamespaceHandlerSupport;
 
 /**
@@ -27,6 +28,7 @@ public class CitrusJmsTestcaseNamespaceHandler extends NamespaceHandlerSupport {
 
     public void init() {
         registerBeanDefinitionParser("purge-jms-queues", new PurgeJmsQueuesActionParser());
+        registerBeanDefinitionParser("send-jms-batch", new SendJmsBatchActionParser());
 
     }
 }
@@ -40,6 +40,9 @@ public class JmsEndpointParser extends AbstractJmsEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("auto-start"), "autoStart");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscription"), "durableSubscription");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscriber-name"), "durableSubscriberName");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("subscription-buffer-size"), "subscriptionBufferSize");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("subscription-overflow-policy"), "subscriptionOverflowPolicy");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("subscription-ack-batch-size"), "subscriptionAckBatchSize");
     }
 
     @Override
@@ -60,6 +60,8 @@ public class PurgeJmsQueuesActionParser implements BeanDefinitionParser {
         beanDefinition.addPropertyReference("connectionFactory", connectionFactory);
         
         BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("receive-timeout"), "receiveTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("concurrent-consumers"), "concurrentConsumers");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("broker-purge"), "brokerPurge");
         
         List<String> queueNames = new ArrayList<String>();
         ManagedList<BeanDefinition> queueRefs = new ManagedList<BeanDefinition>();
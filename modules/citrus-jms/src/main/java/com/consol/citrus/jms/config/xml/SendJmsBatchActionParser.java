@@ -0,0 +1,80 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.config.xml;
+
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
+import com.consol.citrus.config.xml.DescriptionElementParser;
+import com.consol.citrus.jms.actions.SendJmsBatchAction;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.xml.BeanDefinitionParser;
+import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.util.StringUtils;
+import org.springframework.util.xml.DomUtils;
+import org.w3c.dom.Element;
+
+import java.util.*;
+
+/**
+ * Bean definition parser for send-jms-batch action in test case.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class SendJmsBatchActionParser implements BeanDefinitionParser {
+
+    @Override
+    public BeanDefinition parse(Element element, ParserContext parserContext) {
+        BeanDefinitionBuilder beanDefinition = BeanDefinitionBuilder.rootBeanDefinition(SendJmsBatchAction.class);
+
+        DescriptionElementParser.doParse(element, beanDefinition);
+
+        String endpoint = element.getAttribute("endpoint");
+        if (!StringUtils.hasText(endpoint)) {
+            parserContext.getReaderContext().error("Attribute 'endpoint' must not be empty", element);
+        }
+
+        beanDefinition.addPropertyReference("endpoint", endpoint);
+
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("count"), "count");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("index-variable"), "indexVariable");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("commit-batch-size"), "commitBatchSize");
+
+        Element payloadTemplate = DomUtils.getChildElementByTagName(element, "payload-template");
+        if (payloadTemplate != null) {
+            if (!element.hasAttribute("count")) {
+                parserContext.getReaderContext().error("Attribute 'count' is required when using 'payload-template'", element);
+            }
+
+            beanDefinition.addPropertyValue("payloadTemplate", DomUtils.getTextValue(payloadTemplate).trim());
+        }
+
+        List<String> payloads = new ArrayList<>();
+        for (Element payload : DomUtils.getChildElementsByTagName(element, "payload")) {
+            payloads.add(DomUtils.getTextValue(payload).trim());
+        }
+        beanDefinition.addPropertyValue("payloads", payloads);
+
+        Map<String, Object> headers = new LinkedHashMap<>();
+        for (Element header : DomUtils.getChildElementsByTagName(element, "header")) {
+            headers.put(header.getAttribute("name"), header.getAttribute("value"));
+        }
+        beanDefinition.addPropertyValue("headers", headers);
+
+        return beanDefinition.getBeanDefinition();
+    }
+}
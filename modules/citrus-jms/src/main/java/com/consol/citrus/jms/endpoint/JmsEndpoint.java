@@ -105,6 +105,10 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingBean, D
         if (this.jmsConsumer instanceof JmsTopicSubscriber) {
             ((JmsTopicSubscriber) this.jmsConsumer).stop();
         }
+
+        if (this.jmsProducer != null) {
+            this.jmsProducer.destroy();
+        }
     }
 
     @Override
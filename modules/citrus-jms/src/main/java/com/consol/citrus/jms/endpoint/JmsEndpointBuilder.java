@@ -19,6 +19,7 @@ package com.consol.citrus.jms.endpoint;
 import com.consol.citrus.endpoint.AbstractEndpointBuilder;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.jms.message.JmsMessageConverter;
+import com.consol.citrus.message.SelectiveMessageBuffer;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.support.destination.DestinationResolver;
 
@@ -149,6 +150,46 @@ public class JmsEndpointBuilder extends AbstractEndpointBuilder<JmsEndpoint> {
         return this;
     }
 
+    /**
+     * Sets the subscriptionBufferSize property.
+     * @param subscriptionBufferSize
+     * @return
+     */
+    public JmsEndpointBuilder subscriptionBufferSize(int subscriptionBufferSize) {
+        endpoint.getEndpointConfiguration().setSubscriptionBufferSize(subscriptionBufferSize);
+        return this;
+    }
+
+    /**
+     * Sets the subscriptionOverflowPolicy property.
+     * @param subscriptionOverflowPolicy
+     * @return
+     */
+    public JmsEndpointBuilder subscriptionOverflowPolicy(SelectiveMessageBuffer.OverflowPolicy subscriptionOverflowPolicy) {
+        endpoint.getEndpointConfiguration().setSubscriptionOverflowPolicy(subscriptionOverflowPolicy);
+        return this;
+    }
+
+    /**
+     * Sets the subscriptionAckBatchSize property.
+     * @param subscriptionAckBatchSize
+     * @return
+     */
+    public JmsEndpointBuilder subscriptionAckBatchSize(int subscriptionAckBatchSize) {
+        endpoint.getEndpointConfiguration().setSubscriptionAckBatchSize(subscriptionAckBatchSize);
+        return this;
+    }
+
+    /**
+     * Sets the reuseSession property.
+     * @param reuseSession
+     * @return
+     */
+    public JmsEndpointBuilder reuseSession(boolean reuseSession) {
+        endpoint.getEndpointConfiguration().setReuseSession(reuseSession);
+        return this;
+    }
+
     /**
      * Sets the useObjectMessages property.
      * @param useObjectMessages
@@ -21,6 +21,7 @@ import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.jms.endpoint.resolver.DynamicDestinationNameResolver;
 import com.consol.citrus.jms.message.JmsMessageConverter;
 import com.consol.citrus.jms.message.JmsMessageHeaderMapper;
+import com.consol.citrus.message.SelectiveMessageBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jms.core.JmsTemplate;
@@ -73,9 +74,19 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     private boolean durableSubscription = false;
     private String durableSubscriberName;
 
+    /** Topic subscription buffer settings */
+    private int subscriptionBufferSize = 10000;
+    private SelectiveMessageBuffer.OverflowPolicy subscriptionOverflowPolicy = SelectiveMessageBuffer.OverflowPolicy.DROP_OLDEST;
+
+    /** Number of topic events acknowledged at once, values greater than one use client acknowledge mode */
+    private int subscriptionAckBatchSize = 1;
+
     /** Should always use object messages */
     private boolean useObjectMessages = false;
 
+    /** Reuse connection and session across consecutive sends */
+    private boolean reuseSession = false;
+
     /**
      * Get the destination name (either a queue name or a topic name).
      * @param destination
@@ -340,4 +351,76 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setDurableSubscriberName(String durableSubscriberName) {
         this.durableSubscriberName = durableSubscriberName;
     }
+
+    /**
+     * Gets the subscriptionBufferSize.
+     *
+     * @return
+     */
+    public int getSubscriptionBufferSize() {
+        return subscriptionBufferSize;
+    }
+
+    /**
+     * Sets the subscriptionBufferSize.
+     *
+     * @param subscriptionBufferSize
+     */
+    public void setSubscriptionBufferSize(int subscriptionBufferSize) {
+        this.subscriptionBufferSize = subscriptionBufferSize;
+    }
+
+    /**
+     * Gets the subscriptionOverflowPolicy.
+     *
+     * @return
+     */
+    public SelectiveMessageBuffer.OverflowPolicy getSubscriptionOverflowPolicy() {
+        return subscriptionOverflowPolicy;
+    }
+
+    /**
+     * Sets the subscriptionOverflowPolicy.
+     *
+     * @param subscriptionOverflowPolicy
+     */
+    public void setSubscriptionOverflowPolicy(SelectiveMessageBuffer.OverflowPolicy subscriptionOverflowPolicy) {
+        this.subscriptionOverflowPolicy = subscriptionOverflowPolicy;
+    }
+
+    /**
+     * Gets the subscriptionAckBatchSize.
+     *
+     * @return
+     */
+    public int getSubscriptionAckBatchSize() {
+        return subscriptionAckBatchSize;
+    }
+
+    /**
+     * Sets the subscriptionAckBatchSize.
+     *
+     * @param subscriptionAckBatchSize
+     */
+    public void setSubscriptionAckBatchSize(int subscriptionAckBatchSize) {
+        this.subscriptionAckBatchSize = subscriptionAckBatchSize;
+    }
+
+    /**
+     * Gets the reuseSession.
+     *
+     * @return
+     */
+    public boolean isReuseSession() {
+        return reuseSession;
+    }
+
+    /**
+     * Sets the reuseSession.
+     *
+     * @param reuseSession
+     */
+    public void setReuseSession(boolean reuseSession) {
+        this.reuseSession = reuseSession;
+    }
 }
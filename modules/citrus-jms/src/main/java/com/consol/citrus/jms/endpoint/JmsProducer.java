@@ -22,10 +22,13 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.Producer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.JmsUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-import javax.jms.Destination;
+import javax.jms.*;
+import java.util.*;
 
 /**
  * @author Christoph Deppisch
@@ -42,6 +45,11 @@ public class JmsProducer implements Producer {
     /** Endpoint configuration */
     private final JmsEndpointConfiguration endpointConfiguration;
 
+    /** Connection and sessions reused across sends when session reuse is enabled */
+    private Connection sharedConnection;
+    private Session sharedSession;
+    private Session sharedTransactedSession;
+
     /**
      * Default constructor using endpoint configuration.
      * @param name
@@ -56,6 +64,12 @@ public class JmsProducer implements Producer {
     public void send(final Message message, final TestContext context) {
         Assert.notNull(message, "Message is empty - unable to send empty message");
 
+        if (endpointConfiguration.isReuseSession()) {
+            send(Collections.singletonList(message).iterator(), context, false, 1);
+            context.onOutboundMessage(message);
+            return;
+        }
+
         if (endpointConfiguration.getDestination() != null) {
             send(message, endpointConfiguration.getDestination(), context);
         } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
@@ -115,6 +129,188 @@ public class JmsProducer implements Producer {
         log.info("Message was sent to JMS destination: '" + endpointConfiguration.getDestinationName(destination) + "'");
     }
 
+    /**
+     * Sends all messages in a single transacted session. Session is committed each time the given number of messages
+     * has been sent and once more at the end. In case of errors the current uncommitted batch is rolled back. Message listeners
+     * are not informed about the individual messages.
+     * @param messages
+     * @param context
+     * @param commitBatchSize
+     * @return number of messages sent
+     */
+    public int sendBatch(Iterator<Message> messages, TestContext context, int commitBatchSize) {
+        return send(messages, context, true, commitBatchSize);
+    }
+
+    /**
+     * Sends messages with session either created for this operation or shared session when session reuse is enabled.
+     * @param messages
+     * @param context
+     * @param transacted
+     * @param commitBatchSize
+     * @return number of messages sent
+     */
+    @SuppressWarnings("PMD.CloseResource") //suppress since session/connection closed via JmsUtils
+    private synchronized int send(Iterator<Message> messages, TestContext context, boolean transacted, int commitBatchSize) {
+        Connection connection = null;
+        Session session = null;
+        Map<String, MessageProducer> producers = new HashMap<>();
+
+        int sent = 0;
+        try {
+            if (endpointConfiguration.isReuseSession()) {
+                session = getSharedSession(transacted);
+            } else {
+                connection = endpointConfiguration.getJmsTemplate().getConnectionFactory().createConnection();
+                session = connection.createSession(transacted, transacted ? Session.SESSION_TRANSACTED : Session.AUTO_ACKNOWLEDGE);
+            }
+
+            int uncommitted = 0;
+            while (messages.hasNext()) {
+                Message message = messages.next();
+                Assert.notNull(message, "Message is empty - unable to send empty message");
+
+                String destinationName = getDestinationName(message, context);
+                MessageProducer producer = producers.get(destinationName);
+                if (producer == null) {
+                    producer = session.createProducer(getDestination(session, destinationName));
+                    producers.put(destinationName, producer);
+                }
+
+                doSend(producer, endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context));
+                sent++;
+
+                if (transacted && ++uncommitted >= commitBatchSize) {
+                    session.commit();
+                    uncommitted = 0;
+                }
+            }
+
+            if (transacted && uncommitted > 0) {
+                session.commit();
+            }
+        } catch (JMSException | RuntimeException e) {
+            if (transacted && session != null) {
+                try {
+                    session.rollback();
+                } catch (JMSException rollbackError) {
+                    log.warn("Failed to rollback JMS session", rollbackError);
+                }
+            }
+
+            if (endpointConfiguration.isReuseSession()) {
+                destroy();
+            }
+
+            throw new CitrusRuntimeException(String.format("Failed to send JMS messages - %s messages sent before failure", sent), e);
+        } finally {
+            producers.values().forEach(JmsUtils::closeMessageProducer);
+
+            if (!endpointConfiguration.isReuseSession()) {
+                JmsUtils.closeSession(session);
+                JmsUtils.closeConnection(connection);
+            }
+        }
+
+        log.info(String.format("%s messages were sent to JMS destination", sent));
+        return sent;
+    }
+
+    /**
+     * Gets shared session creating the shared connection and session if not present yet.
+     * @param transacted
+     * @return
+     * @throws JMSException
+     */
+    private Session getSharedSession(boolean transacted) throws JMSException {
+        if (sharedConnection == null) {
+            sharedConnection = endpointConfiguration.getJmsTemplate().getConnectionFactory().createConnection();
+        }
+
+        if (transacted) {
+            if (sharedTransactedSession == null) {
+                sharedTransactedSession = sharedConnection.createSession(true, Session.SESSION_TRANSACTED);
+            }
+
+            return sharedTransactedSession;
+        }
+
+        if (sharedSession == null) {
+            sharedSession = sharedConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        }
+
+        return sharedSession;
+    }
+
+    /**
+     * Gets the destination name for given message. Returns null when endpoint uses a destination object.
+     * @param message
+     * @param context
+     * @return
+     */
+    private String getDestinationName(Message message, TestContext context) {
+        if (endpointConfiguration.getDestination() != null) {
+            return null;
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            if (endpointConfiguration.getDestinationNameResolver() != null) {
+                return context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName()));
+            } else {
+                return context.replaceDynamicContentInString(endpointConfiguration.getDestinationName());
+            }
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            return null;
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName());
+        } else {
+            throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
+        }
+    }
+
+    /**
+     * Sends JMS message with message producer applying the quality of service settings of the endpoint JMS template
+     * the same way as the template does for single sends.
+     * @param producer
+     * @param jmsMessage
+     * @throws JMSException
+     */
+    private void doSend(MessageProducer producer, javax.jms.Message jmsMessage) throws JMSException {
+        JmsTemplate jmsTemplate = endpointConfiguration.getJmsTemplate();
+        if (jmsTemplate.isExplicitQosEnabled()) {
+            producer.send(jmsMessage, jmsTemplate.getDeliveryMode(), jmsTemplate.getPriority(), jmsTemplate.getTimeToLive());
+        } else {
+            producer.send(jmsMessage);
+        }
+    }
+
+    /**
+     * Resolves destination by name or uses the configured destination object when name is not set.
+     * @param session
+     * @param destinationName
+     * @return
+     * @throws JMSException
+     */
+    private Destination getDestination(Session session, String destinationName) throws JMSException {
+        if (destinationName == null) {
+            return Optional.ofNullable(endpointConfiguration.getDestination())
+                           .orElse(endpointConfiguration.getJmsTemplate().getDefaultDestination());
+        }
+
+        return endpointConfiguration.getJmsTemplate().getDestinationResolver().resolveDestinationName(session, destinationName, endpointConfiguration.isPubSubDomain());
+    }
+
+    /**
+     * Destroy method closing shared JMS sessions and connection.
+     */
+    public synchronized void destroy() {
+        JmsUtils.closeSession(sharedSession);
+        JmsUtils.closeSession(sharedTransactedSession);
+        JmsUtils.closeConnection(sharedConnection);
+
+        sharedSession = null;
+        sharedTransactedSession = null;
+        sharedConnection = null;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import com.consol.citrus.jms.message.JmsMessageHeaders;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.SelectiveMessageBuffer;
+
+/**
+ * Bounded buffer of messages received by a topic subscription. Messages are kept in arrival order and are indexed by
+ * JMS message id and correlation id headers so selective receive on these headers does not need to scan the buffer.
+ * Overflow policy decides what happens when a message arrives on a full buffer.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class JmsSubscriptionBuffer extends SelectiveMessageBuffer<Message> {
+
+    /**
+     * Default constructor using capacity and overflow policy.
+     * @param capacity
+     * @param overflowPolicy
+     */
+    public JmsSubscriptionBuffer(int capacity, OverflowPolicy overflowPolicy) {
+        super("Topic subscription buffer", capacity, overflowPolicy);
+
+        addIndex(JmsMessageHeaders.MESSAGE_ID, message -> headerValue(message, JmsMessageHeaders.MESSAGE_ID));
+        addIndex(JmsMessageHeaders.CORRELATION_ID, message -> headerValue(message, JmsMessageHeaders.CORRELATION_ID));
+    }
+
+    /**
+     * Gets header value as String or null if header is not set on given message.
+     * @param message
+     * @param header
+     * @return
+     */
+    private static String headerValue(Message message, String header) {
+        Object value = message.getHeader(header);
+        return value != null ? value.toString() : null;
+    }
+}
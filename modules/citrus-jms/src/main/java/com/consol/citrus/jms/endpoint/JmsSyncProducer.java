@@ -325,7 +325,10 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /**
      * Destroy method closing JMS session and connection
      */
+    @Override
     public void destroy() {
+        super.destroy();
+
         JmsUtils.closeSession(session);
 
         if (connection != null) {
@@ -16,41 +16,57 @@
 
 package com.consol.citrus.jms.endpoint;
 
-import com.consol.citrus.channel.*;
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.jms.message.JmsMessageHeaders;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.server.AbstractServer;
+import com.consol.citrus.message.MessageSelectorBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.*;
 
 /**
+ * Topic subscriber consuming all topic events with a message listener as soon as it is started. Events are converted once
+ * and buffered in a bounded subscription buffer until consumers receive them. Buffer is indexed by JMS message id and
+ * correlation id so selective receive on these headers is cheap. Subscription is resumed automatically after connection failures,
+ * durable subscriptions receive the events published in the meantime.
+ *
  * @author Christoph Deppisch
  * @since 2.7.6
  */
-public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
+public class JmsTopicSubscriber extends JmsConsumer implements MessageListener, ExceptionListener {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmsConsumer.class);
 
     /** Boolean flag for continued message consumption, if false stop */
-    private boolean running = true;
+    private volatile boolean running = false;
 
-    /** Test context factory for send operation on message channel */
+    /** Test context factory for inbound message conversion */
     private final TestContextFactory testContextFactory;
 
-    /** Delegate message channel caching all messages */
-    private ChannelEndpoint messageChannel;
+    /** Test context used to convert inbound events */
+    private TestContext subscriptionContext;
+
+    /** Buffer caching all messages */
+    private final JmsSubscriptionBuffer buffer;
+
+    /** Active topic connection guarded by connection lock, connection is never closed while holding the lock */
+    private TopicConnection connection;
+    private final Object connectionLock = new Object();
 
-    private Executor subscription = Executors.newSingleThreadExecutor();
-    private CompletableFuture<Boolean> stopped = new CompletableFuture<>();
-    private CompletableFuture<Boolean> started = new CompletableFuture<>();
+    /** Number of events not acknowledged yet and the most recent one of them guarded by acknowledge lock */
+    private int unacknowledged = 0;
+    private javax.jms.Message lastUnacknowledged;
+    private final Object ackLock = new Object();
 
     /**
      * Default constructor using endpoint.
@@ -62,36 +78,47 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
         super(name, endpointConfiguration);
 
         this.testContextFactory = testContextFactory;
+        this.buffer = new JmsSubscriptionBuffer(endpointConfiguration.getSubscriptionBufferSize(), endpointConfiguration.getSubscriptionOverflowPolicy());
+    }
 
-        ChannelEndpointConfiguration channelEndpointConfiguration = new ChannelEndpointConfiguration();
-
-        MessageSelectingQueueChannel inboundChannel = new MessageSelectingQueueChannel();
-        inboundChannel.setBeanName(getName() + AbstractServer.DEFAULT_CHANNEL_ID_SUFFIX);
-        channelEndpointConfiguration.setChannel(inboundChannel);
+    /**
+     * Starts consuming topic events.
+     */
+    public void start() {
+        running = true;
 
-        channelEndpointConfiguration.setUseObjectMessages(true);
-        this.messageChannel = new ChannelEndpoint(channelEndpointConfiguration);
+        try {
+            subscribe();
+            log.info("Started JMS topic subscription");
+        } catch (JMSException | RuntimeException e) {
+            log.warn("Failed to start JMS topic subscription", e);
+        }
     }
 
     /**
-     * Starts consuming topic events.
+     * Creates topic connection and subscriber with message listener.
+     * @throws JMSException
      */
-    public void run() {
+    private void subscribe() throws JMSException {
         ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
                                                       .orElse(endpointConfiguration.getJmsTemplate().getConnectionFactory());
 
-        TopicConnection connection = null;
-        try {
-            if (connectionFactory == null || !(connectionFactory instanceof TopicConnectionFactory)) {
-                throw new CitrusRuntimeException("Failed to create JMS topic subscriber for unsupported connection factory type: " + Optional.ofNullable(connectionFactory)
-                        .map(Object::getClass)
-                        .map(Class::getName)
-                        .orElse("connection factory not set"));
-            }
+        if (connectionFactory == null || !(connectionFactory instanceof TopicConnectionFactory)) {
+            throw new CitrusRuntimeException("Failed to create JMS topic subscriber for unsupported connection factory type: " + Optional.ofNullable(connectionFactory)
+                    .map(Object::getClass)
+                    .map(Class::getName)
+                    .orElse("connection factory not set"));
+        }
 
-            connection = ((TopicConnectionFactory)connectionFactory).createTopicConnection();
+        if (subscriptionContext == null) {
+            subscriptionContext = testContextFactory.getObject();
+        }
+
+        TopicConnection connection = ((TopicConnectionFactory)connectionFactory).createTopicConnection();
 
-            TopicSession session = connection.createTopicSession(false, javax.jms.Session.AUTO_ACKNOWLEDGE);
+        try {
+            int acknowledgeMode = endpointConfiguration.getSubscriptionAckBatchSize() > 1 ? Session.CLIENT_ACKNOWLEDGE : Session.AUTO_ACKNOWLEDGE;
+            TopicSession session = connection.createTopicSession(false, acknowledgeMode);
             Topic topic;
             if (endpointConfiguration.getDestination() != null && endpointConfiguration.getDestination() instanceof Topic) {
                 topic = (Topic) endpointConfiguration.getDestination();
@@ -114,81 +141,206 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
                 subscriber = session.createSubscriber(topic);
             }
 
+            subscriber.setMessageListener(this);
+            connection.setExceptionListener(this);
             connection.start();
+        } catch (JMSException | RuntimeException e) {
+            closeConnection(connection);
+            throw e;
+        }
 
-            started.complete(true);
+        TopicConnection previous;
+        synchronized (connectionLock) {
+            if (!running) {
+                previous = connection;
+            } else {
+                previous = this.connection;
+                this.connection = connection;
+            }
+        }
 
-            while (running) {
-                javax.jms.Message event = subscriber.receive();
+        closeConnection(previous);
+    }
+
+    @Override
+    public void onMessage(javax.jms.Message event) {
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, subscriptionContext);
 
-                if (event != null) {
-                    TestContext context = testContextFactory.getObject();
-                    Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Received topic event '%s'", message.getId()));
+        }
 
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Received topic event '%s'", message.getId()));
-                    }
-                    messageChannel.createProducer().send(message, context);
-                } else {
-                    log.warn("Topic subscriber received null message - continue after " + endpointConfiguration.getPollingInterval() + " milliseconds");
+        buffer.add(message);
 
-                    try {
-                        Thread.sleep(endpointConfiguration.getPollingInterval());
-                    } catch (InterruptedException e) {
-                        log.warn("Interrupted while waiting after null message", e);
-                    }
-                }
+        if (endpointConfiguration.getSubscriptionAckBatchSize() > 1) {
+            acknowledge(event);
+        }
+    }
+
+    /**
+     * Acknowledges events in batches. Client acknowledge mode acknowledges all events consumed by the session so far
+     * so only every n-th event needs to be acknowledged.
+     * @param event
+     */
+    private void acknowledge(javax.jms.Message event) {
+        synchronized (ackLock) {
+            lastUnacknowledged = event;
+            if (++unacknowledged >= endpointConfiguration.getSubscriptionAckBatchSize()) {
+                acknowledgePending();
             }
-        } catch (RuntimeException e) {
-            started.completeExceptionally(e);
-            throw e;
-        } catch (JMSException e) {
-            started.completeExceptionally(e);
-        } finally {
-            if (connection != null) {
+        }
+    }
+
+    /**
+     * Acknowledges all pending events.
+     */
+    private void acknowledgePending() {
+        synchronized (ackLock) {
+            if (lastUnacknowledged != null) {
                 try {
-                    connection.close();
+                    lastUnacknowledged.acknowledge();
                 } catch (JMSException e) {
-                    log.warn("Failed to close JMS topic connection", e);
+                    log.warn("Failed to acknowledge topic events", e);
                 }
-            }
 
-            stopped.complete(true);
+                lastUnacknowledged = null;
+                unacknowledged = 0;
+            }
         }
     }
 
-    public void start() {
-        subscription.execute(this);
+    @Override
+    public void onException(JMSException exception) {
+        if (!running) {
+            return;
+        }
 
-        try {
-            if (started.get()) {
-                log.info("Started JMS topic subscription");
+        log.warn("JMS topic connection failed - resuming subscription", exception);
+
+        synchronized (ackLock) {
+            lastUnacknowledged = null;
+            unacknowledged = 0;
+        }
+
+        closeConnection(detachConnection());
+
+        while (running) {
+            try {
+                subscribe();
+                log.info("Resumed JMS topic subscription");
+                return;
+            } catch (JMSException | RuntimeException e) {
+                log.warn("Failed to resume JMS topic subscription - retry after " + endpointConfiguration.getPollingInterval() + " milliseconds", e);
+            }
+
+            synchronized (connectionLock) {
+                if (!running) {
+                    return;
+                }
+
+                try {
+                    connectionLock.wait(endpointConfiguration.getPollingInterval());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
             }
-        } catch (InterruptedException | ExecutionException e) {
-            log.warn("Failed to wait for topic subscriber to start subscription", e);
         }
     }
 
+    /**
+     * Stops consuming topic events. Already buffered events remain available for consumers. Buffer is closed first so message listeners
+     * blocked on a full buffer return and the connection can be closed without waiting for them.
+     */
     public void stop() {
-        running = false;
+        synchronized (connectionLock) {
+            running = false;
+            connectionLock.notifyAll();
+        }
 
-        try {
-            stopped.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException | ExecutionException e) {
-            log.warn("Failed to wait for topic subscriber to stop gracefully", e);
-        } catch (TimeoutException e) {
-            log.warn("Timeout while waiting for topic subscriber to stop gracefully", e);
+        buffer.close();
+        acknowledgePending();
+        closeConnection(detachConnection());
+    }
+
+    /**
+     * Removes current topic connection from this subscriber so it can be closed outside of the connection lock.
+     * @return the detached connection or null
+     */
+    private TopicConnection detachConnection() {
+        synchronized (connectionLock) {
+            TopicConnection detached = connection;
+            connection = null;
+            return detached;
+        }
+    }
+
+    /**
+     * Closes given topic connection if any. Must not be called while holding any lock the message listener needs as closing the
+     * connection waits for running message listeners to return.
+     * @param connection
+     */
+    private void closeConnection(TopicConnection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (JMSException e) {
+                log.warn("Failed to close JMS topic connection", e);
+            }
         }
     }
 
     @Override
     public Message receive(TestContext context, long timeout) {
-        return messageChannel.createConsumer().receive(context, timeout);
+        return receive(null, context, timeout);
     }
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        return messageChannel.createConsumer().receive(selector, context, timeout);
+        Message message;
+        if (StringUtils.hasText(selector)) {
+            Map<String, String> selectorHeaders = MessageSelectorBuilder.withString(selector).toKeyValueMap();
+            if (selectorHeaders.size() == 1 && buffer.isIndexed(getHeaderName(selectorHeaders.keySet().iterator().next()))) {
+                Map.Entry<String, String> header = selectorHeaders.entrySet().iterator().next();
+                message = buffer.receive(getHeaderName(header.getKey()), header.getValue(), timeout);
+            } else {
+                DispatchingMessageSelector messageSelector = new DispatchingMessageSelector(selector, context.getApplicationContext(), context);
+                message = buffer.receive(candidate -> messageSelector.accept(MessageBuilder.withPayload(candidate).build()), timeout);
+            }
+        } else {
+            message = buffer.receive(candidate -> true, timeout);
+        }
+
+        if (message == null) {
+            throw new ActionTimeoutException("Action timeout while receiving message from topic subscription" + (StringUtils.hasText(selector) ? " with selector '" + selector + "'" : ""));
+        }
+
+        context.onInboundMessage(message);
+        return message;
+    }
+
+    /**
+     * Maps JMS header names used in selectors to Citrus JMS message header names.
+     * @param name
+     * @return
+     */
+    private String getHeaderName(String name) {
+        if ("JMSCorrelationID".equals(name)) {
+            return JmsMessageHeaders.CORRELATION_ID;
+        } else if ("JMSMessageID".equals(name)) {
+            return JmsMessageHeaders.MESSAGE_ID;
+        }
+
+        return name;
+    }
+
+    /**
+     * Gets the subscription buffer.
+     *
+     * @return
+     */
+    public JmsSubscriptionBuffer getBuffer() {
+        return buffer;
     }
 
     /**
@@ -23,6 +23,8 @@ import org.testng.annotations.Test;
 
 import javax.jms.*;
 import javax.jms.Queue;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
 import java.util.*;
 
 import static org.mockito.Mockito.*;
@@ -226,4 +228,59 @@ public class PurgeJmsQueuesActionTest extends AbstractTestNGUnitTest {
         purgeQueuesAction.execute(context);
         verify(connection).start();
     }
+
+    @Test
+    public void testPurgeWithConcurrentConsumers() throws JMSException {
+        PurgeJmsQueuesAction purgeQueuesAction = new PurgeJmsQueuesAction();
+        purgeQueuesAction.setConnectionFactory(connectionFactory);
+        purgeQueuesAction.setQueueNames(Collections.singletonList("myQueue"));
+        purgeQueuesAction.setConcurrentConsumers(3);
+        purgeQueuesAction.setSleepTime(10L);
+
+        TextMessage jmsRequest = new TextMessageImpl("<TestRequest>Hello World!</TestRequest>", new HashMap<>());
+
+        reset(connectionFactory, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createQueue("myQueue")).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(messageConsumer);
+        when(messageConsumer.receive(100L)).thenReturn(jmsRequest, jmsRequest, jmsRequest, null);
+
+        purgeQueuesAction.execute(context);
+
+        verify(connection, atLeast(4)).createSession(anyBoolean(), anyInt());
+        verify(messageConsumer, atLeast(6)).receive(100L);
+        verify(connection).start();
+    }
+
+    @Test
+    public void testPurgeOnBroker() throws Exception {
+        MBeanServerConnection mBeanServer = Mockito.mock(MBeanServerConnection.class);
+        ObjectName queueBean = new ObjectName("org.apache.activemq:type=Broker,brokerName=localhost,destinationType=Queue,destinationName=myQueue");
+        ObjectName similarQueueBean = new ObjectName("org.apache.activemq:type=Broker,brokerName=localhost,destinationType=Queue,destinationName=otherQueue.DLQ");
+
+        PurgeJmsQueuesAction purgeQueuesAction = new PurgeJmsQueuesAction();
+        purgeQueuesAction.setConnectionFactory(connectionFactory);
+        purgeQueuesAction.setQueueNames(Arrays.asList("myQueue", "otherQueue"));
+        purgeQueuesAction.setBrokerPurge(true);
+        purgeQueuesAction.setMBeanServer(mBeanServer);
+
+        reset(connectionFactory, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(mBeanServer.queryNames(new ObjectName("org.apache.activemq:type=Broker,brokerName=*,destinationType=Queue,destinationName=*"), null))
+                .thenReturn(new HashSet<>(Arrays.asList(queueBean, similarQueueBean)));
+        when(session.createQueue("otherQueue")).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(messageConsumer);
+        when(messageConsumer.receive(100L)).thenReturn(null);
+
+        purgeQueuesAction.execute(context);
+
+        verify(mBeanServer).invoke(queueBean, "purge", null, null);
+        verify(mBeanServer, never()).invoke(similarQueueBean, "purge", null, null);
+        verify(session, never()).createQueue("myQueue");
+        verify(session).createQueue("otherQueue");
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.actions;
+
+import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import com.consol.citrus.jms.endpoint.TextMessageImpl;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.jms.*;
+import javax.jms.Queue;
+import java.util.*;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SendJmsBatchActionTest extends AbstractTestNGUnitTest {
+
+    private ConnectionFactory connectionFactory = Mockito.mock(ConnectionFactory.class);
+    private Connection connection = Mockito.mock(Connection.class);
+    private Session session = Mockito.mock(Session.class);
+    private MessageProducer messageProducer = Mockito.mock(MessageProducer.class);
+
+    private Queue queue = Mockito.mock(Queue.class);
+
+    @Test
+    public void testSendBatchWithPayloadTemplate() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestinationName("myQueue");
+
+        SendJmsBatchAction sendBatchAction = new SendJmsBatchAction();
+        sendBatchAction.setEndpoint(endpoint);
+        sendBatchAction.setPayloadTemplate("<Order id=\"${citrus.batch.index}\"/>");
+        sendBatchAction.setCount(3);
+        sendBatchAction.setHeaders(Collections.singletonMap("index", "${citrus.batch.index}"));
+        sendBatchAction.setCommitBatchSize(2);
+
+        reset(connectionFactory, connection, session, messageProducer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("myQueue")).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(messageProducer);
+        when(session.createTextMessage(anyString())).thenAnswer(invocation ->
+                new TextMessageImpl(invocation.getArgument(0), new HashMap<>()));
+
+        sendBatchAction.execute(context);
+
+        ArgumentCaptor<javax.jms.Message> sent = ArgumentCaptor.forClass(javax.jms.Message.class);
+        verify(messageProducer, times(3)).send(sent.capture());
+        Assert.assertEquals(((TextMessage) sent.getAllValues().get(0)).getText(), "<Order id=\"0\"/>");
+        Assert.assertEquals(((TextMessage) sent.getAllValues().get(2)).getText(), "<Order id=\"2\"/>");
+        verify(session, times(2)).commit();
+    }
+
+    @Test
+    public void testSendBatchWithPayloads() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestinationName("myQueue");
+
+        SendJmsBatchAction sendBatchAction = new SendJmsBatchAction();
+        sendBatchAction.setEndpoint(endpoint);
+        sendBatchAction.setPayloads(Arrays.asList("<Hello/>", "<World/>"));
+
+        reset(connectionFactory, connection, session, messageProducer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("myQueue")).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(messageProducer);
+        when(session.createTextMessage(anyString())).thenAnswer(invocation ->
+                new TextMessageImpl(invocation.getArgument(0), new HashMap<>()));
+
+        sendBatchAction.execute(context);
+
+        verify(messageProducer, times(2)).send(any(javax.jms.Message.class));
+        verify(session, times(1)).commit();
+    }
+
+    @Test
+    public void testSendBatchWithExplicitQos() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestinationName("myQueue");
+        endpoint.getEndpointConfiguration().getJmsTemplate().setExplicitQosEnabled(true);
+        endpoint.getEndpointConfiguration().getJmsTemplate().setDeliveryMode(DeliveryMode.NON_PERSISTENT);
+        endpoint.getEndpointConfiguration().getJmsTemplate().setPriority(7);
+        endpoint.getEndpointConfiguration().getJmsTemplate().setTimeToLive(5000L);
+
+        SendJmsBatchAction sendBatchAction = new SendJmsBatchAction();
+        sendBatchAction.setEndpoint(endpoint);
+        sendBatchAction.setPayloads(Arrays.asList("<Hello/>", "<World/>"));
+
+        reset(connectionFactory, connection, session, messageProducer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("myQueue")).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(messageProducer);
+        when(session.createTextMessage(anyString())).thenAnswer(invocation ->
+                new TextMessageImpl(invocation.getArgument(0), new HashMap<>()));
+
+        sendBatchAction.execute(context);
+
+        verify(messageProducer, times(2)).send(any(javax.jms.Message.class), eq(DeliveryMode.NON_PERSISTENT), eq(7), eq(5000L));
+        verify(messageProducer, never()).send(any(javax.jms.Message.class));
+        verify(session, times(1)).commit();
+    }
+}
@@ -30,7 +30,7 @@ public class PurgeJmsQueuesActionParserTest extends AbstractActionParserTest<Pur
 
     @Test
     public void testPurgeJmsQueuesActionParser() {
-        assertActionCount(3);
+        assertActionCount(4);
         assertActionClassAndName(PurgeJmsQueuesAction.class, "purge-queue");
         
         PurgeJmsQueuesAction action = getNextTestActionFromTest();
@@ -41,6 +41,8 @@ public class PurgeJmsQueuesActionParserTest extends AbstractActionParserTest<Pur
         Assert.assertEquals(action.getQueueNames().get(0), "JMS.Queue.1");
         Assert.assertEquals(action.getQueueNames().get(1), "JMS.Queue.2");
         Assert.assertEquals(action.getQueueNames().get(2), "JMS.Queue.3");
+        Assert.assertEquals(action.getConcurrentConsumers(), 1);
+        Assert.assertFalse(action.isBrokerPurge());
         
         action = getNextTestActionFromTest();
         Assert.assertNotNull(action.getReceiveTimeout());
@@ -56,6 +58,13 @@ public class PurgeJmsQueuesActionParserTest extends AbstractActionParserTest<Pur
         Assert.assertEquals(action.getQueues().size(), 1);
         Assert.assertEquals(action.getQueueNames().size(), 1);
         Assert.assertEquals(action.getQueueNames().get(0), "JMS.Queue.1");
+
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getConcurrentConsumers(), 4);
+        Assert.assertTrue(action.isBrokerPurge());
+        Assert.assertEquals(action.getQueueNames().size(), 2);
+        Assert.assertEquals(action.getQueueNames().get(0), "JMS.Queue.1");
+        Assert.assertEquals(action.getQueueNames().get(1), "JMS.Queue.2");
     }
     
     @Test
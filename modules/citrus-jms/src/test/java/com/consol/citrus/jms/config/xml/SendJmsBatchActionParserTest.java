@@ -0,0 +1,55 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.config.xml;
+
+import com.consol.citrus.jms.actions.SendJmsBatchAction;
+import com.consol.citrus.testng.AbstractActionParserTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SendJmsBatchActionParserTest extends AbstractActionParserTest<SendJmsBatchAction> {
+
+    @Test
+    public void testSendJmsBatchActionParser() {
+        assertActionCount(2);
+        assertActionClassAndName(SendJmsBatchAction.class, "send-jms-batch");
+
+        SendJmsBatchAction action = getNextTestActionFromTest();
+        Assert.assertNotNull(action.getEndpoint());
+        Assert.assertEquals(action.getPayloads().size(), 2);
+        Assert.assertEquals(action.getPayloads().get(0), "<Hello/>");
+        Assert.assertEquals(action.getPayloads().get(1), "<World/>");
+        Assert.assertNull(action.getPayloadTemplate());
+        Assert.assertEquals(action.getHeaders().size(), 0);
+        Assert.assertEquals(action.getIndexVariable(), "citrus.batch.index");
+        Assert.assertEquals(action.getCommitBatchSize(), 1000);
+
+        action = getNextTestActionFromTest();
+        Assert.assertNotNull(action.getEndpoint());
+        Assert.assertEquals(action.getPayloads().size(), 0);
+        Assert.assertEquals(action.getPayloadTemplate(), "<Order id=\"${orderIndex}\"/>");
+        Assert.assertEquals(action.getCount(), 100);
+        Assert.assertEquals(action.getIndexVariable(), "orderIndex");
+        Assert.assertEquals(action.getCommitBatchSize(), 10);
+        Assert.assertEquals(action.getHeaders().size(), 2);
+        Assert.assertEquals(action.getHeaders().get("operation"), "order");
+        Assert.assertEquals(action.getHeaders().get("index"), "${orderIndex}");
+    }
+}
@@ -27,7 +27,8 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.jms.*;
-import java.util.HashMap;
+import javax.jms.Queue;
+import java.util.*;
 
 import static org.mockito.Mockito.*;
 
@@ -132,4 +133,95 @@ public class JmsEndpointProducerTest extends AbstractTestNGUnitTest {
         Assert.fail("Missing " + CitrusRuntimeException.class + " because of sending empty message");
     }
     
+    @Test
+    public void testSendBatch() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestinationName("myDestination");
+
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            messages.add(new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>"));
+        }
+
+        reset(jmsTemplate, connectionFactory, destination, messageProducer, connection, session);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("myDestination")).thenReturn(destinationQueue);
+        when(session.createProducer(destinationQueue)).thenReturn(messageProducer);
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        int sent = ((JmsProducer) endpoint.createProducer()).sendBatch(messages.iterator(), context, 2);
+
+        Assert.assertEquals(sent, 5);
+        verify(session, times(1)).createProducer(destinationQueue);
+        verify(messageProducer, times(5)).send((TextMessage)any());
+        verify(session, times(3)).commit();
+        verify(session).close();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testSendBatchRollback() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        List<Message> messages = Arrays.asList(new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>"),
+                new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>"));
+
+        reset(jmsTemplate, connectionFactory, destination, messageProducer, connection, session);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+        doNothing().doThrow(new JMSException("Broker unavailable")).when(messageProducer).send(any(javax.jms.Message.class));
+
+        try {
+            ((JmsProducer) endpoint.createProducer()).sendBatch(messages.iterator(), context, 10);
+            Assert.fail("Missing exception due to failed send");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("1 messages sent before failure"));
+        }
+
+        verify(session, never()).commit();
+        verify(session).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testReuseSession() throws Exception {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setReuseSession(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(jmsTemplate, connectionFactory, destination, messageProducer, connection, session);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        endpoint.createProducer().send(message, context);
+        endpoint.createProducer().send(message, context);
+
+        verify(connectionFactory, times(1)).createConnection();
+        verify(connection, times(1)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(messageProducer, times(2)).send((TextMessage)any());
+        verify(session, never()).close();
+
+        endpoint.destroy();
+
+        verify(session).close();
+        verify(connection).close();
+    }
+
 }
@@ -17,8 +17,13 @@
 package com.consol.citrus.jms.endpoint;
 
 import com.consol.citrus.TestActor;
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.jms.message.JmsMessage;
+import com.consol.citrus.jms.message.JmsMessageHeaders;
 import com.consol.citrus.jms.message.JmsMessageConverter;
+import com.consol.citrus.message.SelectiveMessageBuffer;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.ApplicationContext;
@@ -30,7 +35,9 @@ import org.testng.annotations.Test;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
+import javax.jms.ExceptionListener;
 import javax.jms.JMSException;
+import javax.jms.MessageListener;
 import javax.jms.Session;
 import javax.jms.Topic;
 import javax.jms.TopicConnection;
@@ -38,9 +45,9 @@ import javax.jms.TopicConnectionFactory;
 import javax.jms.TopicSession;
 import javax.jms.TopicSubscriber;
 import java.util.Collections;
+import java.util.stream.Stream;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Christoph Deppisch
@@ -108,15 +115,12 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                                       .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                                       .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
         JmsConsumer consumer = (JmsConsumer) jmsEndpoint.createConsumer();
         Assert.assertTrue(consumer instanceof JmsTopicSubscriber);
+        publish("Foo1", "Foo2", "Foo3");
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) consumer;
         Assert.assertTrue(jmsTopicSubscriber.isRunning());
@@ -134,12 +138,11 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestination(topic);
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        publish("Foo1");
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
     }
@@ -151,12 +154,11 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setAutoStart(true);
         endpointConfiguration.setJmsTemplate(jmsTemplate);
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        publish("Foo1");
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
     }
@@ -169,20 +171,17 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        publish("Foo1", "Foo2", "Foo3");
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
 
-        Thread.sleep(1000L);
-
         jmsTopicSubscriber.stop();
+        Assert.assertFalse(jmsTopicSubscriber.isRunning());
+        verify(topicConnection, atLeastOnce()).close();
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
@@ -197,16 +196,13 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
         jmsEndpoint.setName("jmsTopicEndpoint");
 
         JmsConsumer consumer = (JmsConsumer) jmsEndpoint.createConsumer();
         Assert.assertTrue(consumer instanceof JmsTopicSubscriber);
+        publish("Foo1", "Foo2", "Foo3");
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) consumer;
         Assert.assertTrue(jmsTopicSubscriber.isRunning());
@@ -215,4 +211,185 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(consumer.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
         Assert.assertEquals(consumer.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
     }
+
+    @Test
+    public void testSelectiveReceive() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        publish(correlatedMessage("Foo1", "c1"), correlatedMessage("Foo2", "c2"),
+                new TextMessageImpl("Foo3", Collections.singletonMap("operation", "greeting")));
+
+        Assert.assertEquals(jmsTopicSubscriber.receive("JMSCorrelationID = 'c2'", context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
+        Assert.assertEquals(jmsTopicSubscriber.receive("operation = 'greeting'", context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
+        Assert.assertEquals(jmsTopicSubscriber.receive(JmsMessageHeaders.CORRELATION_ID + " = 'c1'", context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+        Assert.assertEquals(jmsTopicSubscriber.getBuffer().size(), 0L);
+    }
+
+    @Test(expectedExceptions = ActionTimeoutException.class)
+    public void testSelectiveReceiveTimeout() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        publish(correlatedMessage("Foo1", "c1"));
+
+        jmsTopicSubscriber.receive("JMSCorrelationID = 'c2'", context, 200L);
+    }
+
+    @Test
+    public void testBufferOverflow() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+        endpointConfiguration.setSubscriptionBufferSize(2);
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        publish("Foo1", "Foo2", "Foo3");
+
+        Assert.assertEquals(jmsTopicSubscriber.getBuffer().getDropped(), 1L);
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
+
+        JmsSubscriptionBuffer buffer = new JmsSubscriptionBuffer(2, SelectiveMessageBuffer.OverflowPolicy.DROP_NEWEST);
+        Assert.assertTrue(buffer.add(new JmsMessage("Foo1")));
+        Assert.assertTrue(buffer.add(new JmsMessage("Foo2")));
+        Assert.assertFalse(buffer.add(new JmsMessage("Foo3")));
+        Assert.assertEquals(buffer.receive(message -> true, 0L).getPayload(String.class), "Foo1");
+    }
+
+    @Test
+    public void testBatchAcknowledge() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+        endpointConfiguration.setSubscriptionAckBatchSize(2);
+
+        when(topicConnection.createTopicSession(false, Session.CLIENT_ACKNOWLEDGE)).thenReturn(topicSession);
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+
+        TextMessageImpl event1 = spy(new TextMessageImpl("Foo1", Collections.emptyMap()));
+        TextMessageImpl event2 = spy(new TextMessageImpl("Foo2", Collections.emptyMap()));
+        TextMessageImpl event3 = spy(new TextMessageImpl("Foo3", Collections.emptyMap()));
+        publish(event1, event2, event3);
+
+        verify(event1, never()).acknowledge();
+        verify(event2).acknowledge();
+        verify(event3, never()).acknowledge();
+
+        jmsTopicSubscriber.stop();
+        verify(event3).acknowledge();
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+    }
+
+    @Test
+    public void testResumeSubscription() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setDurableSubscription(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+        jmsEndpoint.setName("jmsTopicEndpoint");
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        publish("Foo1");
+
+        ArgumentCaptor<ExceptionListener> exceptionListener = ArgumentCaptor.forClass(ExceptionListener.class);
+        verify(topicConnection, atLeastOnce()).setExceptionListener(exceptionListener.capture());
+        exceptionListener.getValue().onException(new JMSException("Connection lost"));
+
+        verify(topicSubscriber, times(2)).setMessageListener(jmsTopicSubscriber);
+        publish("Foo2");
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
+    }
+
+    @Test(timeOut = 10000L)
+    public void testStopWithBlockedListener() throws Exception {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+        endpointConfiguration.setSubscriptionBufferSize(1);
+        endpointConfiguration.setSubscriptionOverflowPolicy(SelectiveMessageBuffer.OverflowPolicy.BLOCK);
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        publish("Foo1");
+
+        ArgumentCaptor<MessageListener> messageListener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topicSubscriber, atLeastOnce()).setMessageListener(messageListener.capture());
+
+        Thread listenerThread = new Thread(() -> messageListener.getValue().onMessage(new TextMessageImpl("Foo2", Collections.emptyMap())));
+        listenerThread.start();
+        while (listenerThread.getState() != Thread.State.WAITING) {
+            Thread.sleep(10L);
+        }
+
+        //connection close waits for running message listeners like JMS providers do
+        doAnswer(invocation -> {
+            listenerThread.join();
+            return null;
+        }).when(topicConnection).close();
+
+        try {
+            jmsTopicSubscriber.stop();
+        } finally {
+            doNothing().when(topicConnection).close();
+        }
+
+        Assert.assertFalse(listenerThread.isAlive());
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+    }
+
+    private javax.jms.Message correlatedMessage(String payload, String correlationId) {
+        return new TextMessageImpl(payload, Collections.emptyMap()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return correlationId;
+            }
+        };
+    }
+
+    private void publish(String ... payloads) throws JMSException {
+        publish(Stream.of(payloads)
+                    .map(payload -> new TextMessageImpl(payload, Collections.emptyMap()))
+                    .toArray(javax.jms.Message[]::new));
+    }
+
+    private void publish(javax.jms.Message ... events) throws JMSException {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topicSubscriber, atLeastOnce()).setMessageListener(listener.capture());
+
+        for (javax.jms.Message event : events) {
+            listener.getValue().onMessage(event);
+        }
+    }
 }
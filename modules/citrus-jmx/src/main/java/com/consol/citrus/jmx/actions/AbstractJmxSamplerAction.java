@@ -0,0 +1,67 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.actions;
+
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.jmx.client.JmxClient;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public abstract class AbstractJmxSamplerAction extends AbstractTestAction {
+
+    /** Jmx client used to read attributes */
+    protected JmxClient jmxClient;
+
+    /** Name of the sampler */
+    protected String samplerName = "jmx-sampler";
+
+    /**
+     * Sets the Jmx client.
+     * @param jmxClient
+     */
+    public AbstractJmxSamplerAction setJmxClient(JmxClient jmxClient) {
+        this.jmxClient = jmxClient;
+        return this;
+    }
+
+    /**
+     * Gets the Jmx client.
+     * @return
+     */
+    public JmxClient getJmxClient() {
+        return jmxClient;
+    }
+
+    /**
+     * Sets the sampler name.
+     * @param samplerName
+     */
+    public AbstractJmxSamplerAction setSamplerName(String samplerName) {
+        this.samplerName = samplerName;
+        return this;
+    }
+
+    /**
+     * Gets the sampler name.
+     * @return
+     */
+    public String getSamplerName() {
+        return samplerName;
+    }
+}
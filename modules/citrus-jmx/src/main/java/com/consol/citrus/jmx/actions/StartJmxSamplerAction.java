@@ -0,0 +1,125 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.actions;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.jmx.client.JmxAttributeSampler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts sampling MBean attributes in background. Sampler keeps running while the test executes other actions
+ * until it is stopped with {@link StopJmxSamplerAction}.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class StartJmxSamplerAction extends AbstractJmxSamplerAction {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(StartJmxSamplerAction.class);
+
+    /** Attributes to sample */
+    private List<SamplerAttribute> attributes = new ArrayList<>();
+
+    /** Sample interval in milliseconds */
+    private long interval = 1000L;
+
+    /**
+     * Default constructor.
+     */
+    public StartJmxSamplerAction() {
+        setName("start-jmx-sampler");
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        JmxAttributeSampler sampler = new JmxAttributeSampler().interval(interval);
+
+        for (SamplerAttribute attribute : attributes) {
+            sampler.attribute(context.replaceDynamicContentInString(attribute.alias),
+                    context.replaceDynamicContentInString(attribute.mbean),
+                    context.replaceDynamicContentInString(attribute.attribute),
+                    attribute.innerPath != null ? context.replaceDynamicContentInString(attribute.innerPath) : null);
+        }
+
+        String name = context.replaceDynamicContentInString(samplerName);
+        jmxClient.startSampler(name, sampler);
+        log.info(String.format("Started JMX attribute sampler '%s' with %s attributes", name, attributes.size()));
+    }
+
+    /**
+     * Adds attribute to sample.
+     * @param alias
+     * @param mbean
+     * @param attribute
+     * @return
+     */
+    public StartJmxSamplerAction addAttribute(String alias, String mbean, String attribute) {
+        return addAttribute(alias, mbean, attribute, null);
+    }
+
+    /**
+     * Adds composite data attribute to sample.
+     * @param alias
+     * @param mbean
+     * @param attribute
+     * @param innerPath
+     * @return
+     */
+    public StartJmxSamplerAction addAttribute(String alias, String mbean, String attribute, String innerPath) {
+        attributes.add(new SamplerAttribute(alias, mbean, attribute, innerPath));
+        return this;
+    }
+
+    /**
+     * Sets the interval.
+     * @param interval
+     */
+    public StartJmxSamplerAction setInterval(long interval) {
+        this.interval = interval;
+        return this;
+    }
+
+    /**
+     * Gets the interval.
+     * @return
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * Attribute to sample with alias, MBean object name, attribute name and optional composite data inner path.
+     */
+    private static class SamplerAttribute {
+        private final String alias;
+        private final String mbean;
+        private final String attribute;
+        private final String innerPath;
+
+        SamplerAttribute(String alias, String mbean, String attribute, String innerPath) {
+            this.alias = alias;
+            this.mbean = mbean;
+            this.attribute = attribute;
+            this.innerPath = innerPath;
+        }
+    }
+}
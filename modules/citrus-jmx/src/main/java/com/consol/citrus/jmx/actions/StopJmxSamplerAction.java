@@ -0,0 +1,69 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.actions;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.jmx.client.JmxAttributeSampler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.DoubleSummaryStatistics;
+
+/**
+ * Stops background attribute sampler and exposes statistics of each sampled attribute as test variables so later actions
+ * can assert on them. Variables are named <code>sampler.alias.min</code>, <code>.max</code>, <code>.avg</code>,
+ * <code>.last</code> and <code>.count</code>.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class StopJmxSamplerAction extends AbstractJmxSamplerAction {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(StopJmxSamplerAction.class);
+
+    /**
+     * Default constructor.
+     */
+    public StopJmxSamplerAction() {
+        setName("stop-jmx-sampler");
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        String name = context.replaceDynamicContentInString(samplerName);
+        JmxAttributeSampler sampler = jmxClient.stopSampler(name);
+
+        for (String alias : sampler.getAttributeAliases()) {
+            JmxAttributeSampler.TimeSeries timeSeries = sampler.getTimeSeries(alias);
+            String prefix = name + "." + alias;
+
+            context.setVariable(prefix + ".count", timeSeries.size());
+            context.setVariable(prefix + ".last", String.valueOf(timeSeries.last()));
+            context.setVariable(prefix + ".failures", timeSeries.getFailures());
+
+            DoubleSummaryStatistics statistics = timeSeries.statistics();
+            if (statistics.getCount() > 0) {
+                context.setVariable(prefix + ".min", statistics.getMin());
+                context.setVariable(prefix + ".max", statistics.getMax());
+                context.setVariable(prefix + ".avg", statistics.getAverage());
+            }
+        }
+
+        log.info(String.format("Stopped JMX attribute sampler '%s'", name));
+    }
+}
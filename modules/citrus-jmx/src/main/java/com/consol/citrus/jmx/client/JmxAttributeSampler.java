@@ -0,0 +1,340 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.client;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Samples MBean attributes at a fixed rate and records the values in an in-memory time series per attribute. Attributes
+ * of the same MBean are read with a single bulk read on each sample. Time series are bounded, oldest samples are dropped first.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class JmxAttributeSampler {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JmxAttributeSampler.class);
+
+    /** Sampled attributes by alias */
+    private final Map<String, SampledAttribute> attributes = new LinkedHashMap<>();
+
+    /** Recorded time series by attribute alias */
+    private final Map<String, TimeSeries> timeSeries = new ConcurrentHashMap<>();
+
+    /** Sample interval in milliseconds */
+    private long interval = 1000L;
+
+    /** Maximum number of samples per attribute */
+    private int maxSamples = 10000;
+
+    /** Sample scheduler */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Adds attribute to sample.
+     * @param alias name of the time series
+     * @param mbean MBean object name
+     * @param attribute attribute name
+     * @return
+     */
+    public JmxAttributeSampler attribute(String alias, String mbean, String attribute) {
+        return attribute(alias, mbean, attribute, null);
+    }
+
+    /**
+     * Adds composite data attribute to sample.
+     * @param alias name of the time series
+     * @param mbean MBean object name
+     * @param attribute attribute name
+     * @param innerPath key in composite data attribute value
+     * @return
+     */
+    public JmxAttributeSampler attribute(String alias, String mbean, String attribute, String innerPath) {
+        try {
+            attributes.put(alias, new SampledAttribute(new ObjectName(mbean), attribute, innerPath));
+            timeSeries.put(alias, new TimeSeries(maxSamples));
+        } catch (MalformedObjectNameException e) {
+            throw new CitrusRuntimeException("Failed to create object name", e);
+        }
+
+        return this;
+    }
+
+    /**
+     * Starts sampling attributes with given client.
+     * @param client
+     */
+    public synchronized void start(JmxClient client) {
+        if (scheduler != null) {
+            throw new CitrusRuntimeException("JMX attribute sampler is already running");
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jmx-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> sample(client), 0L, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling attributes. Recorded time series remain accessible.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+
+            try {
+                scheduler.awaitTermination(interval, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Takes one sample of all attributes. Attributes are grouped by MBean so each MBean is read with a single bulk read.
+     * @param client
+     */
+    public void sample(JmxClient client) {
+        Map<ObjectName, Set<String>> attributeNames = new LinkedHashMap<>();
+        attributes.values().forEach(attribute ->
+                attributeNames.computeIfAbsent(attribute.objectName, key -> new LinkedHashSet<>()).add(attribute.name));
+
+        Map<ObjectName, Map<String, CitrusRuntimeException>> failures = new LinkedHashMap<>();
+        Map<ObjectName, Map<String, Object>> values = client.getAttributes(attributeNames, failures);
+
+        long timestamp = System.currentTimeMillis();
+        attributes.forEach((alias, attribute) -> {
+            CitrusRuntimeException failure = failures.getOrDefault(attribute.objectName, Collections.emptyMap()).get(attribute.name);
+            if (failure != null) {
+                log.debug(String.format("Failed to sample attribute '%s'", alias), failure);
+                timeSeries.get(alias).fail(failure);
+                return;
+            }
+
+            Object value = values.getOrDefault(attribute.objectName, Collections.emptyMap()).get(attribute.name);
+
+            if (StringUtils.hasText(attribute.innerPath) && value instanceof CompositeData) {
+                value = ((CompositeData) value).get(attribute.innerPath);
+            }
+
+            if (value != null) {
+                timeSeries.get(alias).add(timestamp, value);
+            }
+        });
+    }
+
+    /**
+     * Gets recorded time series for attribute alias.
+     * @param alias
+     * @return
+     */
+    public TimeSeries getTimeSeries(String alias) {
+        TimeSeries series = timeSeries.get(alias);
+        if (series == null) {
+            throw new CitrusRuntimeException("No such sampled attribute: " + alias);
+        }
+
+        return series;
+    }
+
+    /**
+     * Gets the sampled attribute aliases.
+     * @return
+     */
+    public Set<String> getAttributeAliases() {
+        return Collections.unmodifiableSet(attributes.keySet());
+    }
+
+    /**
+     * Gets the interval.
+     * @return
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets the interval.
+     * @param interval
+     */
+    public JmxAttributeSampler interval(long interval) {
+        this.interval = interval;
+        return this;
+    }
+
+    /**
+     * Sets the maxSamples. Must be set before attributes are added.
+     * @param maxSamples
+     */
+    public JmxAttributeSampler maxSamples(int maxSamples) {
+        this.maxSamples = maxSamples;
+        return this;
+    }
+
+    /**
+     * Sampled attribute holding MBean object name, attribute name and optional composite data inner path.
+     */
+    private static class SampledAttribute {
+        private final ObjectName objectName;
+        private final String name;
+        private final String innerPath;
+
+        SampledAttribute(ObjectName objectName, String name, String innerPath) {
+            this.objectName = objectName;
+            this.name = name;
+            this.innerPath = innerPath;
+        }
+    }
+
+    /**
+     * Bounded time series of sampled attribute values.
+     */
+    public static class TimeSeries {
+        private final int maxSamples;
+        private final Deque<Sample> samples = new ArrayDeque<>();
+        private long failures;
+        private CitrusRuntimeException lastFailure;
+
+        TimeSeries(int maxSamples) {
+            this.maxSamples = maxSamples;
+        }
+
+        synchronized void fail(CitrusRuntimeException failure) {
+            failures++;
+            lastFailure = failure;
+        }
+
+        synchronized void add(long timestamp, Object value) {
+            if (samples.size() >= maxSamples) {
+                samples.poll();
+            }
+
+            samples.add(new Sample(timestamp, value));
+        }
+
+        /**
+         * Gets all recorded samples in chronological order.
+         * @return
+         */
+        public synchronized List<Sample> getSamples() {
+            return new ArrayList<>(samples);
+        }
+
+        /**
+         * Gets number of recorded samples.
+         * @return
+         */
+        public synchronized int size() {
+            return samples.size();
+        }
+
+        /**
+         * Gets number of samples that failed to read the attribute.
+         * @return
+         */
+        public synchronized long getFailures() {
+            return failures;
+        }
+
+        /**
+         * Gets the most recent read failure or null if no sample failed.
+         * @return
+         */
+        public synchronized CitrusRuntimeException getLastFailure() {
+            return lastFailure;
+        }
+
+        /**
+         * Gets the most recent value or null if no samples were recorded.
+         * @return
+         */
+        public synchronized Object last() {
+            return samples.isEmpty() ? null : samples.getLast().getValue();
+        }
+
+        /**
+         * Gets minimum of numeric sample values.
+         * @return
+         */
+        public double min() {
+            return statistics().getMin();
+        }
+
+        /**
+         * Gets maximum of numeric sample values.
+         * @return
+         */
+        public double max() {
+            return statistics().getMax();
+        }
+
+        /**
+         * Gets average of numeric sample values.
+         * @return
+         */
+        public double average() {
+            return statistics().getAverage();
+        }
+
+        /**
+         * Computes statistics over all numeric sample values.
+         * @return
+         */
+        public synchronized DoubleSummaryStatistics statistics() {
+            return samples.stream()
+                    .map(Sample::getValue)
+                    .filter(Number.class::isInstance)
+                    .mapToDouble(value -> ((Number) value).doubleValue())
+                    .summaryStatistics();
+        }
+    }
+
+    /**
+     * Single attribute value sample.
+     */
+    public static class Sample {
+        private final long timestamp;
+        private final Object value;
+
+        Sample(long timestamp, Object value) {
+            this.timestamp = timestamp;
+            this.value = value;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.StringUtils;
 
 import javax.management.*;
@@ -37,14 +38,14 @@ import javax.management.openmbean.CompositeData;
 import javax.management.remote.*;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
-import java.util.Collections;
+import java.util.*;
 import java.util.concurrent.*;
 
 /**
  * @author Christoph Deppisch
  * @since 2.5
  */
-public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsumer, NotificationListener {
+public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsumer, NotificationListener, DisposableBean {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmxClient.class);
@@ -61,9 +62,16 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Optional notification listener */
     private NotificationListener notificationListener;
 
+    /** Network connector and server connection reused for all operations */
+    private JMXConnector networkConnector;
+    private MBeanServerConnection networkConnection;
+
     /** Scheduler */
     private ScheduledExecutorService scheduledExecutor = new ScheduledThreadPoolExecutor(1);
 
+    /** Attribute samplers by name */
+    private final Map<String, JmxAttributeSampler> samplers = new ConcurrentHashMap<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -92,12 +100,7 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         String correlationKey = getEndpointConfiguration().getCorrelator().getCorrelationKey(message);
         correlationManager.saveCorrelationKey(correlationKeyName, correlationKey, context);
 
-        MBeanServerConnection serverConnection;
-        if (getEndpointConfiguration().getServerUrl().equals("platform")) {
-            serverConnection = ManagementFactory.getPlatformMBeanServer();
-        } else {
-            serverConnection = getNetworkConnection();
-        }
+        MBeanServerConnection serverConnection = getServerConnection();
 
         if (log.isDebugEnabled()) {
             log.debug("Sending message to JMX MBeanServer server: '" + getEndpointConfiguration().getServerUrl() + "'");
@@ -162,6 +165,132 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Reads multiple attributes of given MBean in a single server round trip. Attributes that could not be read are not
+     * part of the result.
+     * @param objectName
+     * @param attributes
+     * @return attribute values by attribute name
+     */
+    public Map<String, Object> getAttributes(ObjectName objectName, String... attributes) {
+        try {
+            AttributeList attributeList = getServerConnection().getAttributes(objectName, attributes);
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (Attribute attribute : attributeList.asList()) {
+                values.put(attribute.getName(), attribute.getValue());
+            }
+
+            return values;
+        } catch (JMException | IOException e) {
+            throw new CitrusRuntimeException("Failed to read MBean attributes", e);
+        }
+    }
+
+    /**
+     * Reads attributes of multiple MBeans with one bulk read per MBean. Attributes that could not be read are logged
+     * and not part of the result.
+     * @param attributes attribute names by MBean object name
+     * @return attribute values by MBean object name and attribute name
+     */
+    public Map<ObjectName, Map<String, Object>> getAttributes(Map<ObjectName, ? extends Collection<String>> attributes) {
+        Map<ObjectName, Map<String, CitrusRuntimeException>> failures = new LinkedHashMap<>();
+        Map<ObjectName, Map<String, Object>> values = getAttributes(attributes, failures);
+
+        failures.forEach((objectName, errors) -> errors.forEach((attribute, e) ->
+                log.warn(String.format("Failed to read attribute '%s' of MBean '%s'", attribute, objectName), e)));
+
+        return values;
+    }
+
+    /**
+     * Reads attributes of multiple MBeans with one bulk read per MBean. A failing MBean or attribute does not abort
+     * the read of the remaining MBeans. Instead the failure is recorded for each attribute that could not be read.
+     * @param attributes attribute names by MBean object name
+     * @param failures receives read failures by MBean object name and attribute name
+     * @return attribute values by MBean object name and attribute name
+     */
+    public Map<ObjectName, Map<String, Object>> getAttributes(Map<ObjectName, ? extends Collection<String>> attributes,
+                                                              Map<ObjectName, Map<String, CitrusRuntimeException>> failures) {
+        Map<ObjectName, Map<String, Object>> values = new LinkedHashMap<>();
+
+        attributes.forEach((objectName, names) -> {
+            try {
+                Map<String, Object> attributeValues = getAttributes(objectName, names.toArray(new String[0]));
+                values.put(objectName, attributeValues);
+
+                names.stream()
+                        .filter(name -> !attributeValues.containsKey(name))
+                        .forEach(name -> failures.computeIfAbsent(objectName, key -> new LinkedHashMap<>())
+                                .put(name, new CitrusRuntimeException(String.format("Attribute '%s' of MBean '%s' is not readable", name, objectName))));
+            } catch (CitrusRuntimeException e) {
+                names.forEach(name -> failures.computeIfAbsent(objectName, key -> new LinkedHashMap<>()).put(name, e));
+            }
+        });
+
+        return values;
+    }
+
+    /**
+     * Starts new attribute sampler with given name. Sampler reads attributes at fixed rate until it is stopped.
+     * @param name
+     * @param sampler
+     * @return
+     */
+    public JmxAttributeSampler startSampler(String name, JmxAttributeSampler sampler) {
+        JmxAttributeSampler previous = samplers.put(name, sampler);
+        if (previous != null) {
+            previous.stop();
+        }
+
+        sampler.start(this);
+        return sampler;
+    }
+
+    /**
+     * Gets attribute sampler by name.
+     * @param name
+     * @return
+     */
+    public JmxAttributeSampler getSampler(String name) {
+        JmxAttributeSampler sampler = samplers.get(name);
+        if (sampler == null) {
+            throw new CitrusRuntimeException("No such JMX attribute sampler: " + name);
+        }
+
+        return sampler;
+    }
+
+    /**
+     * Stops attribute sampler with given name. Sampled values remain accessible on the returned sampler.
+     * @param name
+     * @return
+     */
+    public JmxAttributeSampler stopSampler(String name) {
+        JmxAttributeSampler sampler = getSampler(name);
+        samplers.remove(name);
+        sampler.stop();
+        return sampler;
+    }
+
+    /**
+     * Gets connection to the MBean server. Network connections are established once and reused for all operations.
+     * @return
+     */
+    public MBeanServerConnection getServerConnection() {
+        if (getEndpointConfiguration().getServerUrl().equals("platform")) {
+            return ManagementFactory.getPlatformMBeanServer();
+        }
+
+        synchronized (this) {
+            if (networkConnection == null) {
+                networkConnection = getNetworkConnection();
+            }
+
+            return networkConnection;
+        }
+    }
+
     /**
      * Establish network connection to remote mBean server.
      * @return
@@ -170,7 +299,7 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         try {
             JMXServiceURL url = new JMXServiceURL(getEndpointConfiguration().getServerUrl());
             String[] creds = {getEndpointConfiguration().getUsername(), getEndpointConfiguration().getPassword()};
-            JMXConnector networkConnector = JMXConnectorFactory.connect(url, Collections.singletonMap(JMXConnector.CREDENTIALS, creds));
+            networkConnector = JMXConnectorFactory.connect(url, Collections.singletonMap(JMXConnector.CREDENTIALS, creds));
             connectionId = networkConnector.getConnectionId();
 
             networkConnector.addConnectionNotificationListener(this, null, null);
@@ -180,6 +309,34 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Resets the network connection so next operation connects again.
+     * @return the previous network connector or null if not connected
+     */
+    private synchronized JMXConnector resetNetworkConnection() {
+        JMXConnector connector = networkConnector;
+        networkConnection = null;
+        networkConnector = null;
+        return connector;
+    }
+
+    /**
+     * Closes given network connector.
+     * @param connector
+     */
+    private void closeNetworkConnector(JMXConnector connector) {
+        if (connector == null) {
+            return;
+        }
+
+        try {
+            connector.removeConnectionNotificationListener(this);
+            connector.close();
+        } catch (ListenerNotFoundException | IOException e) {
+            log.debug("Failed to close JMX network connection", e);
+        }
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -213,6 +370,9 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         JMXConnectionNotification connectionNotification = (JMXConnectionNotification) notification;
         if (connectionNotification.getConnectionId().equals(getConnectionId()) && connectionLost(connectionNotification)) {
             log.warn("JmxClient lost JMX connection for : {}", getEndpointConfiguration().getServerUrl());
+            JMXConnector lostConnector = resetNetworkConnection();
+            scheduledExecutor.execute(() -> closeNetworkConnector(lostConnector));
+
             if (getEndpointConfiguration().isAutoReconnect()) {
                 scheduleReconnect();
             }
@@ -238,7 +398,7 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
             @Override
             public void run() {
                 try {
-                    MBeanServerConnection serverConnection = getNetworkConnection();
+                    MBeanServerConnection serverConnection = getServerConnection();
                     if (notificationListener != null) {
                         serverConnection.addNotificationListener(objectName, notificationListener, getEndpointConfiguration().getNotificationFilter(), getEndpointConfiguration().getNotificationHandback());
                     }
@@ -295,6 +455,15 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
+    @Override
+    public void destroy() {
+        samplers.values().forEach(JmxAttributeSampler::stop);
+        samplers.clear();
+
+        closeNetworkConnector(resetNetworkConnection());
+        scheduledExecutor.shutdownNow();
+    }
+
     public String getConnectionId() {
         return connectionId;
     }
@@ -16,10 +16,15 @@
 
 package com.consol.citrus.jmx.model;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
+import com.consol.citrus.xml.Jaxb2MarshallerRegistry;
+import org.springframework.oxm.XmlMappingException;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.oxm.mime.MimeContainer;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import java.lang.reflect.Type;
 
 /**
  * @author Christoph Deppisch
@@ -27,19 +32,53 @@ import org.springframework.oxm.jaxb.Jaxb2Marshaller;
  */
 public class JmxMarshaller extends Jaxb2Marshaller {
 
-    /** Logger */
-    private static Logger log = LoggerFactory.getLogger(JmxMarshaller.class);
+    /** Shared marshaller delegate */
+    private final Jaxb2Marshaller delegate;
 
+    /**
+     * Default constructor using shared marshaller of default registry.
+     */
     public JmxMarshaller() {
-        setClassesToBeBound(ManagedBeanInvocation.class,
+        this(Jaxb2MarshallerRegistry.getDefault());
+    }
+
+    /**
+     * Constructor using shared marshaller of given registry.
+     * @param registry
+     */
+    public JmxMarshaller(Jaxb2MarshallerRegistry registry) {
+        delegate = registry.getMarshaller("com/consol/citrus/schema/citrus-jmx-message.xsd",
+                ManagedBeanInvocation.class,
                 ManagedBeanResult.class);
+    }
 
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-jmx-message.xsd"));
+    @Override
+    public void afterPropertiesSet() {
+        // shared delegate is already initialized by the registry
+    }
+
+    @Override
+    public JAXBContext getJaxbContext() {
+        return delegate.getJaxbContext();
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public boolean supports(Type genericType) {
+        return delegate.supports(genericType);
+    }
+
+    @Override
+    public void marshal(Object graph, Result result, MimeContainer mimeContainer) throws XmlMappingException {
+        delegate.marshal(graph, result, mimeContainer);
+    }
 
-        try {
-            afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup jmx message marshaller", e);
-        }
+    @Override
+    public Object unmarshal(Source source, MimeContainer mimeContainer) throws XmlMappingException {
+        return delegate.unmarshal(source, mimeContainer);
     }
 }
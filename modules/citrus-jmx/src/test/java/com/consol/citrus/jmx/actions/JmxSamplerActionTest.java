@@ -0,0 +1,101 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.actions;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.jmx.client.JmxAttributeSampler;
+import com.consol.citrus.jmx.client.JmxClient;
+import com.consol.citrus.jmx.client.JmxClientBuilder;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.management.ObjectName;
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JmxSamplerActionTest extends AbstractTestNGUnitTest {
+
+    private JmxClient jmxClient = new JmxClientBuilder()
+            .serverUrl("platform")
+            .build();
+
+    @Test
+    public void testBulkGetAttributes() throws Exception {
+        Map<String, Object> values = jmxClient.getAttributes(new ObjectName("java.lang:type=Threading"), "ThreadCount", "PeakThreadCount");
+
+        Assert.assertEquals(values.size(), 2L);
+        Assert.assertTrue((Integer) values.get("ThreadCount") > 0);
+        Assert.assertTrue((Integer) values.get("PeakThreadCount") > 0);
+    }
+
+    @Test
+    public void testBulkGetAttributesWithFailures() throws Exception {
+        Map<ObjectName, List<String>> attributes = new LinkedHashMap<>();
+        attributes.put(new ObjectName("citrus:type=Unknown"), Collections.singletonList("Foo"));
+        attributes.put(new ObjectName("java.lang:type=Threading"), Arrays.asList("ThreadCount", "Unknown"));
+
+        Map<ObjectName, Map<String, CitrusRuntimeException>> failures = new LinkedHashMap<>();
+        Map<ObjectName, Map<String, Object>> values = jmxClient.getAttributes(attributes, failures);
+
+        Assert.assertEquals(values.size(), 1L);
+        Assert.assertTrue((Integer) values.get(new ObjectName("java.lang:type=Threading")).get("ThreadCount") > 0);
+        Assert.assertEquals(failures.size(), 2L);
+        Assert.assertTrue(failures.get(new ObjectName("citrus:type=Unknown")).containsKey("Foo"));
+        Assert.assertEquals(failures.get(new ObjectName("java.lang:type=Threading")).keySet(), Collections.singleton("Unknown"));
+    }
+
+    @Test
+    public void testSampleAttributes() throws Exception {
+        StartJmxSamplerAction start = new StartJmxSamplerAction()
+                .addAttribute("threads", "java.lang:type=Threading", "ThreadCount")
+                .addAttribute("heap", "java.lang:type=Memory", "HeapMemoryUsage", "used")
+                .setInterval(50L);
+        start.setJmxClient(jmxClient).setSamplerName("perf");
+        start.execute(context);
+
+        JmxAttributeSampler sampler = jmxClient.getSampler("perf");
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (sampler.getTimeSeries("heap").size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+        }
+
+        StopJmxSamplerAction stop = new StopJmxSamplerAction();
+        stop.setJmxClient(jmxClient).setSamplerName("perf");
+        stop.execute(context);
+
+        Assert.assertTrue(sampler.getTimeSeries("heap").size() >= 3);
+        Assert.assertTrue(sampler.getTimeSeries("heap").max() > 0);
+        Assert.assertTrue(Integer.valueOf(context.getVariable("perf.threads.count")) >= 3);
+        Assert.assertTrue(Double.valueOf(context.getVariable("perf.threads.max")) >= Double.valueOf(context.getVariable("perf.threads.min")));
+        Assert.assertTrue(Double.valueOf(context.getVariable("perf.heap.avg")) > 0);
+        Assert.assertEquals(context.getVariable("perf.heap.failures"), "0");
+
+        int samples = sampler.getTimeSeries("heap").size();
+        Thread.sleep(200L);
+        Assert.assertEquals(sampler.getTimeSeries("heap").size(), samples);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownSampler() {
+        StopJmxSamplerAction stop = new StopJmxSamplerAction();
+        stop.setJmxClient(jmxClient).setSamplerName("unknown");
+        stop.execute(context);
+    }
+}
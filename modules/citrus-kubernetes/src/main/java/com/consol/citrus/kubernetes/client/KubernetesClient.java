@@ -19,14 +19,26 @@ package com.consol.citrus.kubernetes.client;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kubernetes.command.KubernetesCommand;
 import com.consol.citrus.kubernetes.endpoint.KubernetesEndpointConfiguration;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
+import io.fabric8.kubernetes.client.dsl.WatchListDeletable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Kubernetes client uses Java kubernetes client implementation for executing kubernetes commands.
@@ -34,7 +46,7 @@ import org.slf4j.LoggerFactory;
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class KubernetesClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class KubernetesClient extends AbstractEndpoint implements Producer, ReplyConsumer, DisposableBean {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(KubernetesClient.class);
@@ -42,6 +54,9 @@ public class KubernetesClient extends AbstractEndpoint implements Producer, Repl
     /** Store of reply messages */
     private CorrelationManager<KubernetesCommand> correlationManager;
 
+    /** Shared resource caches by resource type and namespace */
+    private final Map<String, KubernetesResourceCache<?>> resourceCaches = new ConcurrentHashMap<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -131,4 +146,72 @@ public class KubernetesClient extends AbstractEndpoint implements Producer, Repl
     public io.fabric8.kubernetes.client.KubernetesClient getClient() {
         return getEndpointConfiguration().getKubernetesClient();
     }
+
+    /**
+     * Gets shared resource cache for given resource type and namespace. Cache is created and started on first access and
+     * keeps watching the resources afterwards. Resource types are the plural resource names such as pods, services or nodes.
+     * @param resourceType
+     * @param namespace namespace to cache or null for all namespaces
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends HasMetadata> KubernetesResourceCache<R> getResourceCache(String resourceType, String namespace) {
+        String scope = StringUtils.hasText(namespace) && !isClusterResource(resourceType) ? namespace : "*";
+        return (KubernetesResourceCache<R>) resourceCaches.computeIfAbsent(resourceType + ":" + scope,
+                key -> new KubernetesResourceCache<>((WatchListDeletable<R, ? extends KubernetesResourceList, Boolean, Watch, Watcher<R>>) getResourceOperation(resourceType, namespace)).start());
+    }
+
+    /**
+     * Checks if resource type is not namespaced.
+     * @param resourceType
+     * @return
+     */
+    private boolean isClusterResource(String resourceType) {
+        return "nodes".equals(resourceType) || "namespaces".equals(resourceType);
+    }
+
+    /**
+     * Gets client operation for given resource type scoped to namespace.
+     * @param resourceType
+     * @param namespace
+     * @return
+     */
+    private WatchListDeletable<? extends HasMetadata, ?, Boolean, Watch, ?> getResourceOperation(String resourceType, String namespace) {
+        ClientMixedOperation<? extends HasMetadata, ?, ?, ?> operation;
+        switch (resourceType) {
+            case "pods":
+                operation = getClient().pods();
+                break;
+            case "services":
+                operation = getClient().services();
+                break;
+            case "replicationcontrollers":
+                operation = getClient().replicationControllers();
+                break;
+            case "endpoints":
+                operation = getClient().endpoints();
+                break;
+            case "events":
+                operation = getClient().events();
+                break;
+            case "nodes":
+                return getClient().nodes();
+            case "namespaces":
+                return getClient().namespaces();
+            default:
+                throw new CitrusRuntimeException("Unsupported resource type for Kubernetes resource cache: " + resourceType);
+        }
+
+        if (StringUtils.hasText(namespace)) {
+            return operation.inNamespace(namespace);
+        } else {
+            return operation.inAnyNamespace();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        resourceCaches.values().forEach(KubernetesResourceCache::close);
+        resourceCaches.clear();
+    }
 }
@@ -121,4 +121,14 @@ public class KubernetesClientBuilder extends AbstractEndpointBuilder<KubernetesC
         endpoint.getEndpointConfiguration().setObjectMapper(objectMapper);
         return this;
     }
+
+    /**
+     * Enables shared resource caches.
+     * @param cacheResources
+     * @return
+     */
+    public KubernetesClientBuilder cacheResources(boolean cacheResources) {
+        endpoint.getEndpointConfiguration().setCacheResources(cacheResources);
+        return this;
+    }
 }
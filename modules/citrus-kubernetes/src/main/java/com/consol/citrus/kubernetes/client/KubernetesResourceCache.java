@@ -0,0 +1,493 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kubernetes.client;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.kubernetes.command.WatchEventResult;
+import io.fabric8.kubernetes.api.model.*;
+import io.fabric8.kubernetes.client.*;
+import io.fabric8.kubernetes.client.dsl.WatchListDeletable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Informer style resource cache for one resource type and namespace. Cache initially lists all resources and keeps a single
+ * watch open afterwards so resources are served from memory. Resources are indexed by name and label. All watch events are
+ * recorded in a bounded event stream that tests are able to wait on, for instance until a pod reaches a ready state.
+ *
+ * When the watch gets closed the cache lists and watches resources again on a separate thread. Failed restarts are
+ * retried with exponential backoff until the cache is closed.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class KubernetesResourceCache<R extends HasMetadata> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(KubernetesResourceCache.class);
+
+    /** Namespace and name separator in resource keys */
+    private static final String KEY_SEPARATOR = "/";
+
+    /** Delays in milliseconds between restart attempts after the watch has been closed */
+    private static final long INITIAL_RESTART_DELAY = 1000L;
+    private static final long MAX_RESTART_DELAY = 30000L;
+
+    /** Operation scoped to the cached namespace */
+    private final WatchListDeletable<R, ? extends KubernetesResourceList, Boolean, Watch, Watcher<R>> operation;
+
+    /** Cached resources by namespace and name */
+    private final Map<String, R> resources = new ConcurrentHashMap<>();
+
+    /** Resource keys by label key and value */
+    private final Map<String, Set<String>> labelIndex = new ConcurrentHashMap<>();
+
+    /** Recorded watch events, oldest events are dropped first */
+    private final Deque<WatchEventResult<R>> events = new ArrayDeque<>();
+
+    /** Total number of events received so far */
+    private long eventCount = 0L;
+
+    /** Maximum number of recorded events */
+    private int maxEvents = 1000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition eventReceived = lock.newCondition();
+
+    /** Watch handle */
+    private volatile Watch watch;
+
+    /** Executor restarting the cache after watch has been closed */
+    private ScheduledExecutorService restartExecutor;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Default constructor using scoped client operation.
+     * @param operation
+     */
+    public KubernetesResourceCache(WatchListDeletable<R, ? extends KubernetesResourceList, Boolean, Watch, Watcher<R>> operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Lists resources and starts watching for changes.
+     * @return
+     */
+    public KubernetesResourceCache<R> start() {
+        KubernetesResourceList<R> list = listResources();
+
+        lock.lock();
+        try {
+            resources.clear();
+            labelIndex.clear();
+
+            if (list != null && list.getItems() != null) {
+                list.getItems().forEach(this::put);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        String resourceVersion = Optional.ofNullable(list)
+                .map(KubernetesResourceList::getMetadata)
+                .map(ListMeta::getResourceVersion)
+                .orElse(null);
+
+        Watcher<R> watcher = new Watcher<R>() {
+            @Override
+            public void eventReceived(Action action, R resource) {
+                onEvent(new WatchEventResult<>(resource, action));
+            }
+
+            @Override
+            public void onClose(KubernetesClientException cause) {
+                if (closed) {
+                    return;
+                }
+
+                if (cause != null) {
+                    log.warn("Resource watch closed unexpectedly - restarting resource cache", cause);
+                    onEvent(new WatchEventResult<>(cause));
+                } else {
+                    log.debug("Resource watch closed - restarting resource cache");
+                }
+
+                scheduleRestart(INITIAL_RESTART_DELAY);
+            }
+        };
+
+        if (StringUtils.hasText(resourceVersion)) {
+            watch = operation.watch(resourceVersion, watcher);
+        } else {
+            watch = operation.watch(watcher);
+        }
+
+        return this;
+    }
+
+    /**
+     * Lists resources with client operation. Resource list types of the client model do not carry the item type.
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private KubernetesResourceList<R> listResources() {
+        return operation.list();
+    }
+
+    /**
+     * Schedules restart of this cache after given delay. Restarts are executed on a separate thread so watch callbacks
+     * never list and watch resources recursively.
+     * @param delay
+     */
+    private synchronized void scheduleRestart(long delay) {
+        if (closed) {
+            return;
+        }
+
+        if (restartExecutor == null) {
+            restartExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "kubernetes-resource-cache-restart");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        restartExecutor.schedule(() -> restart(delay), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Restarts this cache. Failed restarts are recorded as error event and retried with exponential backoff.
+     * @param delay the delay used for this restart attempt
+     */
+    private void restart(long delay) {
+        if (closed) {
+            return;
+        }
+
+        try {
+            start();
+        } catch (RuntimeException e) {
+            long nextDelay = Math.min(delay * 2, MAX_RESTART_DELAY);
+            log.warn(String.format("Failed to restart resource cache - retrying in %s ms", nextDelay), e);
+            onEvent(new WatchEventResult<>(new KubernetesClientException("Failed to restart resource cache", e)));
+            scheduleRestart(nextDelay);
+        }
+    }
+
+    /**
+     * Updates cache and event stream with watch event.
+     * @param event
+     */
+    void onEvent(WatchEventResult<R> event) {
+        lock.lock();
+        try {
+            if (event.getResult() != null) {
+                if (Watcher.Action.DELETED.equals(event.getAction())) {
+                    remove(event.getResult());
+                } else if (!Watcher.Action.ERROR.equals(event.getAction())) {
+                    put(event.getResult());
+                }
+            }
+
+            if (events.size() >= maxEvents) {
+                events.poll();
+            }
+
+            events.add(event);
+            eventCount++;
+            eventReceived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(R resource) {
+        String key = getKey(resource);
+        R previous = resources.put(key, resource);
+        if (previous != null) {
+            unindex(key, previous);
+        }
+
+        getLabels(resource).forEach((labelKey, labelValue) ->
+                labelIndex.computeIfAbsent(labelKey + "=" + labelValue, k -> ConcurrentHashMap.newKeySet()).add(key));
+    }
+
+    private void remove(R resource) {
+        String key = getKey(resource);
+        R previous = resources.remove(key);
+        if (previous != null) {
+            unindex(key, previous);
+        }
+    }
+
+    private void unindex(String key, R resource) {
+        getLabels(resource).forEach((labelKey, labelValue) -> {
+            Set<String> keys = labelIndex.get(labelKey + "=" + labelValue);
+            if (keys != null) {
+                keys.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Gets cached resource by name. Returns first resource with matching name in case cache covers multiple namespaces.
+     * @param name
+     * @return resource or null if not present
+     */
+    public R get(String name) {
+        return resources.values().stream()
+                .filter(resource -> resource.getMetadata() != null && Objects.equals(name, resource.getMetadata().getName()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Gets cached resource by namespace and name.
+     * @param namespace
+     * @param name
+     * @return resource or null if not present
+     */
+    public R get(String namespace, String name) {
+        if (!StringUtils.hasText(namespace)) {
+            return get(name);
+        }
+
+        return resources.get(namespace + KEY_SEPARATOR + name);
+    }
+
+    /**
+     * Gets all cached resources.
+     * @return
+     */
+    public List<R> list() {
+        return list(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Gets cached resources matching the given label selectors. Label selectors follow the client operation semantics where
+     * a null value just checks the label key to be present (or absent for without labels).
+     * @param labels
+     * @param withoutLabels
+     * @return
+     */
+    public List<R> list(Map<String, String> labels, Map<String, String> withoutLabels) {
+        Collection<String> keys = null;
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            if (label.getValue() == null) {
+                continue;
+            }
+
+            Set<String> indexed = labelIndex.getOrDefault(label.getKey() + "=" + label.getValue(), Collections.emptySet());
+            if (keys == null) {
+                keys = new HashSet<>(indexed);
+            } else {
+                keys.retainAll(indexed);
+            }
+        }
+
+        return (keys != null ? keys.stream().map(resources::get).filter(Objects::nonNull) : resources.values().stream())
+                .filter(resource -> matches(resource, labels, withoutLabels))
+                .sorted(Comparator.comparing(this::getKey))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Waits for a cached resource to match the given condition. Condition is evaluated on the current cache state first
+     * and on each resource change afterwards.
+     * @param condition
+     * @param timeout
+     * @return the matching resource
+     */
+    public R await(Predicate<R> condition, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+
+        lock.lock();
+        try {
+            while (true) {
+                Optional<R> match = resources.values().stream().filter(condition).findFirst();
+                if (match.isPresent()) {
+                    return match.get();
+                }
+
+                awaitEvent(deadline, "Failed to wait for resource condition");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for next watch event matching the given condition. Only events that arrive after the given event offset
+     * are taken into account.
+     * @param offset event offset as returned by {@link #getEventCount()}
+     * @param condition
+     * @param timeout
+     * @return the matching event
+     */
+    public WatchEventResult<R> awaitEvent(long offset, Predicate<WatchEventResult<R>> condition, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+
+        lock.lock();
+        try {
+            long position = offset;
+            while (true) {
+                long firstRecorded = eventCount - events.size();
+                Iterator<WatchEventResult<R>> iterator = events.iterator();
+                for (long index = firstRecorded; iterator.hasNext(); index++) {
+                    WatchEventResult<R> event = iterator.next();
+                    if (index >= position && condition.test(event)) {
+                        return event;
+                    }
+                }
+
+                position = eventCount;
+                awaitEvent(deadline, "Failed to get watch result");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitEvent(long deadline, String timeoutMessage) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+            throw new ActionTimeoutException(timeoutMessage);
+        }
+
+        try {
+            eventReceived.await(remaining, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for resource event", e);
+        }
+    }
+
+    /**
+     * Gets recorded events.
+     * @return
+     */
+    public List<WatchEventResult<R>> getEvents() {
+        lock.lock();
+        try {
+            return new ArrayList<>(events);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets total number of events received so far. Used as offset when waiting for upcoming events.
+     * @return
+     */
+    public long getEventCount() {
+        lock.lock();
+        try {
+            return eventCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops watching resources.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+
+            if (restartExecutor != null) {
+                restartExecutor.shutdownNow();
+            }
+        }
+
+        Watch current = watch;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (KubernetesClientException e) {
+                log.warn("Failed to gracefully close watch", e);
+            }
+        }
+    }
+
+    /**
+     * Checks resource to match labels and without labels. Label selectors follow the client operation semantics where
+     * a null value just checks the label key to be present (or absent for without labels).
+     * @param resource
+     * @param labels
+     * @param withoutLabels
+     * @return
+     */
+    public static boolean matches(HasMetadata resource, Map<String, String> labels, Map<String, String> withoutLabels) {
+        Map<String, String> resourceLabels = getLabels(resource);
+
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            if (!resourceLabels.containsKey(label.getKey()) ||
+                    (label.getValue() != null && !label.getValue().equals(resourceLabels.get(label.getKey())))) {
+                return false;
+            }
+        }
+
+        for (Map.Entry<String, String> label : withoutLabels.entrySet()) {
+            if (label.getValue() == null ? resourceLabels.containsKey(label.getKey()) : label.getValue().equals(resourceLabels.get(label.getKey()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Map<String, String> getLabels(HasMetadata resource) {
+        return Optional.ofNullable(resource.getMetadata())
+                .map(ObjectMeta::getLabels)
+                .orElse(Collections.emptyMap());
+    }
+
+    private String getKey(R resource) {
+        ObjectMeta metadata = Optional.ofNullable(resource.getMetadata()).orElse(new ObjectMeta());
+        return Optional.ofNullable(metadata.getNamespace()).orElse("") + KEY_SEPARATOR + metadata.getName();
+    }
+
+    /**
+     * Gets the maxEvents.
+     * @return
+     */
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    /**
+     * Sets the maxEvents.
+     * @param maxEvents
+     */
+    public void setMaxEvents(int maxEvents) {
+        this.maxEvents = maxEvents;
+    }
+}
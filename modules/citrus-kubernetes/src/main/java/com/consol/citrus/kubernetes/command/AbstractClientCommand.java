@@ -18,12 +18,17 @@ package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
 import com.consol.citrus.kubernetes.message.KubernetesMessageHeaders;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
 import org.springframework.util.StringUtils;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7
@@ -41,6 +46,18 @@ public abstract class AbstractClientCommand<O extends ClientNonNamespaceOperatio
 
     @Override
     public final void execute(KubernetesClient kubernetesClient, TestContext context) {
+        if (this instanceof CachedResourceCommand && kubernetesClient.getEndpointConfiguration().isCacheResources()) {
+            String namespace = null;
+            if (hasParameter(KubernetesMessageHeaders.NAMESPACE)) {
+                namespace = context.replaceDynamicContentInString(getParameters().get(KubernetesMessageHeaders.NAMESPACE).toString());
+            } else if (StringUtils.hasText(kubernetesClient.getClient().getNamespace())) {
+                namespace = kubernetesClient.getClient().getNamespace();
+            }
+
+            execute((CachedResourceCommand<?>) this, kubernetesClient, namespace, context);
+            return;
+        }
+
         O operation = operation(kubernetesClient, context);
 
         if (hasParameter(KubernetesMessageHeaders.LABEL)) {
@@ -72,6 +89,57 @@ public abstract class AbstractClientCommand<O extends ClientNonNamespaceOperatio
      */
     protected abstract void execute(O operation, TestContext context);
 
+    /**
+     * Execute command on shared resource cache of given client.
+     * @param command
+     * @param kubernetesClient
+     * @param namespace
+     * @param context
+     */
+    private static <I extends HasMetadata> void execute(CachedResourceCommand<I> command, KubernetesClient kubernetesClient, String namespace, TestContext context) {
+        KubernetesResourceCache<I> cache = kubernetesClient.getResourceCache(command.getResourceType(), namespace);
+        command.execute(cache, context);
+    }
+
+    /**
+     * Gets name parameter value or null if not set.
+     * @param context
+     * @return
+     */
+    protected String getNameParameter(TestContext context) {
+        if (hasParameter(KubernetesMessageHeaders.NAME)) {
+            return context.replaceDynamicContentInString(getParameters().get(KubernetesMessageHeaders.NAME).toString());
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets label selector parameter or empty map if not set.
+     * @param context
+     * @return
+     */
+    protected Map<String, String> getLabelParameter(TestContext context) {
+        if (hasParameter(KubernetesMessageHeaders.LABEL)) {
+            return getLabels(getParameters().get(KubernetesMessageHeaders.LABEL).toString(), context);
+        }
+
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Gets without label selector parameter or empty map if not set.
+     * @param context
+     * @return
+     */
+    protected Map<String, String> getWithoutLabelParameter(TestContext context) {
+        if (hasParameter(KubernetesMessageHeaders.LABEL)) {
+            return getWithoutLabels(getParameters().get(KubernetesMessageHeaders.LABEL).toString(), context);
+        }
+
+        return Collections.emptyMap();
+    }
+
     /**
      * Subclasses provide operation to call.
      * @param kubernetesClient
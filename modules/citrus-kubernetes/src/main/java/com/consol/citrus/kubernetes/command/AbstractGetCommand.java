@@ -17,6 +17,7 @@
 package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 import io.fabric8.kubernetes.client.dsl.ClientResource;
@@ -25,7 +26,8 @@ import io.fabric8.kubernetes.client.dsl.ClientResource;
  * @author Christoph Deppisch
  * @since 2.7
  */
-public abstract class AbstractGetCommand<R extends KubernetesResource, T extends KubernetesCommand<R>> extends AbstractClientCommand<ClientMixedOperation<R, ? extends KubernetesResourceList, ? extends Doneable<R>, ? extends ClientResource<R, ? extends Doneable<R>>>, R, T> {
+public abstract class AbstractGetCommand<R extends HasMetadata, T extends KubernetesCommand<R>> extends AbstractClientCommand<ClientMixedOperation<R, ? extends KubernetesResourceList, ? extends Doneable<R>, ? extends ClientResource<R, ? extends Doneable<R>>>, R, T>
+        implements CachedResourceCommand<R> {
 
     /**
      * Default constructor initializing the command name.
@@ -40,4 +42,9 @@ public abstract class AbstractGetCommand<R extends KubernetesResource, T extends
     public void execute(ClientMixedOperation<R, ? extends KubernetesResourceList, ? extends Doneable<R>, ? extends ClientResource<R, ? extends Doneable<R>>> operation, TestContext context) {
         setCommandResult(new CommandResult<>(operation.get()));
     }
+
+    @Override
+    public void execute(KubernetesResourceCache<R> cache, TestContext context) {
+        setCommandResult(new CommandResult<>(cache.get(getNameParameter(context))));
+    }
 }
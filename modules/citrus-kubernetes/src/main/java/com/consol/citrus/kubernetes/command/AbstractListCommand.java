@@ -17,9 +17,13 @@
 package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
 
+import java.util.List;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7
@@ -39,4 +43,14 @@ public abstract class AbstractListCommand<R extends KubernetesResource, T extend
     public void execute(ClientNonNamespaceOperation operation, TestContext context) {
         setCommandResult(new CommandResult<>((R) operation.list()));
     }
+
+    /**
+     * Lists cached resources matching this command's label parameters.
+     * @param cache
+     * @param context
+     * @return
+     */
+    protected <I extends HasMetadata> List<I> list(KubernetesResourceCache<I> cache, TestContext context) {
+        return cache.list(getLabelParameter(context), getWithoutLabelParameter(context));
+    }
 }
@@ -19,17 +19,20 @@ package com.consol.citrus.kubernetes.command;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import io.fabric8.kubernetes.api.model.KubernetesResource;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.*;
 import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
 
+import java.util.Map;
 import java.util.concurrent.*;
 
 /**
  * @author Christoph Deppisch
  * @since 2.7
  */
-public abstract class AbstractWatchCommand<R extends KubernetesResource, T extends KubernetesCommand<R>> extends AbstractClientCommand<ClientNonNamespaceOperation, R, T> {
+public abstract class AbstractWatchCommand<R extends HasMetadata, T extends KubernetesCommand<R>> extends AbstractClientCommand<ClientNonNamespaceOperation, R, T>
+        implements CachedResourceCommand<R> {
 
     /** Watch handle */
     private Watch watch;
@@ -40,6 +43,13 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
     private BlockingQueue<WatchEventResult<R>> results = new ArrayBlockingQueue<>(1);
     private WatchEventResult<R> cachedResult;
 
+    /** Shared resource cache and event offset when watching cached resources */
+    private KubernetesResourceCache<R> resourceCache;
+    private long eventOffset;
+    private String watchName;
+    private Map<String, String> watchLabels;
+    private Map<String, String> watchWithoutLabels;
+
     /**
      * Default constructor initializing the command name.
      *
@@ -70,12 +80,37 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
         });
     }
 
+    /**
+     * Records event offset and filters on shared resource cache. Watch results are copies of the shared events, each command
+     * gets its own watch handle so closing the handle does not affect the shared cache watch.
+     * @param cache
+     * @param context
+     */
+    @Override
+    public void execute(KubernetesResourceCache<R> cache, TestContext context) {
+        resourceCache = cache;
+        eventOffset = cache.getEventCount();
+        watchName = getNameParameter(context);
+        watchLabels = getLabelParameter(context);
+        watchWithoutLabels = getWithoutLabelParameter(context);
+        watch = () -> log.debug("Closed watch handle on shared resource cache - cache keeps watching resources");
+    }
+
     @Override
     public WatchEventResult<R> getCommandResult() {
         if (cachedResult != null) {
             return cachedResult;
         }
-        
+
+        if (resourceCache != null) {
+            WatchEventResult<R> event = resourceCache.awaitEvent(eventOffset, this::matches, timeout);
+            WatchEventResult<R> watchEventResult = new WatchEventResult<>(event.getResult(), event.getAction());
+            watchEventResult.setError(event.getError());
+            watchEventResult.setWatch(watch);
+            cachedResult = watchEventResult;
+            return watchEventResult;
+        }
+
         try {
             WatchEventResult<R> watchEventResult = results.poll(timeout, TimeUnit.MILLISECONDS);
             if (watchEventResult == null) {
@@ -96,6 +131,24 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
         }
     }
 
+    /**
+     * Checks event from shared resource cache to match this command's name and label filters.
+     * @param event
+     * @return
+     */
+    private boolean matches(WatchEventResult<R> event) {
+        if (event.getResult() == null) {
+            return true;
+        }
+
+        R resource = event.getResult();
+        if (watchName != null && !watchName.equals(resource.getMetadata().getName())) {
+            return false;
+        }
+
+        return KubernetesResourceCache.matches(resource, watchLabels, watchWithoutLabels);
+    }
+
     /**
      * Gets the watch handle.
      * @return
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kubernetes.command;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Command capable of being executed on a shared resource cache instead of calling the Kubernetes API. Client commands
+ * implementing this interface are served from the cache when the client enables resource caching.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public interface CachedResourceCommand<I extends HasMetadata> {
+
+    /**
+     * Gets the cached resource type such as pods or services.
+     * @return
+     */
+    String getResourceType();
+
+    /**
+     * Execute command on shared resource cache.
+     * @param cache
+     * @param context
+     */
+    void execute(KubernetesResourceCache<I> cache, TestContext context);
+}
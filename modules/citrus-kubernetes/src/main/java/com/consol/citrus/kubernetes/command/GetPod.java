@@ -39,4 +39,9 @@ public class GetPod extends AbstractGetCommand<Pod, GetPod> {
     protected ClientMixedOperation<Pod, PodList, DoneablePod, ClientPodResource<Pod, DoneablePod>> operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().pods();
     }
+
+    @Override
+    public String getResourceType() {
+        return "pods";
+    }
 }
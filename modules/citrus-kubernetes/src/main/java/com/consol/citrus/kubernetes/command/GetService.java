@@ -39,4 +39,9 @@ public class GetService extends AbstractGetCommand<Service, GetService> {
     protected ClientMixedOperation<Service, ServiceList, DoneableService, ClientResource<Service, DoneableService>> operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().services();
     }
+
+    @Override
+    public String getResourceType() {
+        return "services";
+    }
 }
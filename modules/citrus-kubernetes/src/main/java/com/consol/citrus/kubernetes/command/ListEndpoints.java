@@ -18,14 +18,17 @@ package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
+import io.fabric8.kubernetes.api.model.Endpoints;
 import io.fabric8.kubernetes.api.model.EndpointsList;
+import io.fabric8.kubernetes.api.model.EndpointsListBuilder;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 
 /**
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class ListEndpoints extends AbstractListCommand<EndpointsList, ListEndpoints> {
+public class ListEndpoints extends AbstractListCommand<EndpointsList, ListEndpoints> implements CachedResourceCommand<Endpoints> {
 
     /**
      * Default constructor initializing the command name.
@@ -38,4 +41,14 @@ public class ListEndpoints extends AbstractListCommand<EndpointsList, ListEndpoi
     protected ClientMixedOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().endpoints();
     }
+
+    @Override
+    public String getResourceType() {
+        return "endpoints";
+    }
+
+    @Override
+    public void execute(KubernetesResourceCache<Endpoints> cache, TestContext context) {
+        setCommandResult(new CommandResult<>(new EndpointsListBuilder().withItems(list(cache, context)).build()));
+    }
 }
@@ -18,14 +18,17 @@ package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
+import io.fabric8.kubernetes.api.model.Event;
 import io.fabric8.kubernetes.api.model.EventList;
+import io.fabric8.kubernetes.api.model.EventListBuilder;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 
 /**
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class ListEvents extends AbstractListCommand<EventList, ListEvents> {
+public class ListEvents extends AbstractListCommand<EventList, ListEvents> implements CachedResourceCommand<Event> {
 
     /**
      * Default constructor initializing the command name.
@@ -38,4 +41,14 @@ public class ListEvents extends AbstractListCommand<EventList, ListEvents> {
     protected ClientMixedOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().events();
     }
+
+    @Override
+    public String getResourceType() {
+        return "events";
+    }
+
+    @Override
+    public void execute(KubernetesResourceCache<Event> cache, TestContext context) {
+        setCommandResult(new CommandResult<>(new EventListBuilder().withItems(list(cache, context)).build()));
+    }
 }
@@ -18,6 +18,7 @@ package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.client.dsl.*;
 
@@ -25,7 +26,7 @@ import io.fabric8.kubernetes.client.dsl.*;
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class ListNamespaces extends AbstractListCommand<NamespaceList, ListNamespaces> {
+public class ListNamespaces extends AbstractListCommand<NamespaceList, ListNamespaces> implements CachedResourceCommand<Namespace> {
 
     /**
      * Default constructor initializing the command name.
@@ -38,4 +39,14 @@ public class ListNamespaces extends AbstractListCommand<NamespaceList, ListNames
     protected ClientNonNamespaceOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().namespaces();
     }
+
+    @Override
+    public String getResourceType() {
+        return "namespaces";
+    }
+
+    @Override
+    public void execute(KubernetesResourceCache<Namespace> cache, TestContext context) {
+        setCommandResult(new CommandResult<>(new NamespaceListBuilder().withItems(list(cache, context)).build()));
+    }
 }
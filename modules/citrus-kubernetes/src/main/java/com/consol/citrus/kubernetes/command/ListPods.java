@@ -18,14 +18,17 @@ package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 
 /**
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class ListPods extends AbstractListCommand<PodList, ListPods> {
+public class ListPods extends AbstractListCommand<PodList, ListPods> implements CachedResourceCommand<Pod> {
 
     /**
      * Default constructor initializing the command name.
@@ -38,4 +41,14 @@ public class ListPods extends AbstractListCommand<PodList, ListPods> {
     protected ClientMixedOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().pods();
     }
+
+    @Override
+    public String getResourceType() {
+        return "pods";
+    }
+
+    @Override
+    public void execute(KubernetesResourceCache<Pod> cache, TestContext context) {
+        setCommandResult(new CommandResult<>(new PodListBuilder().withItems(list(cache, context)).build()));
+    }
 }
@@ -18,14 +18,17 @@ package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
+import io.fabric8.kubernetes.api.model.ReplicationController;
 import io.fabric8.kubernetes.api.model.ReplicationControllerList;
+import io.fabric8.kubernetes.api.model.ReplicationControllerListBuilder;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 
 /**
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class ListReplicationControllers extends AbstractListCommand<ReplicationControllerList, ListReplicationControllers> {
+public class ListReplicationControllers extends AbstractListCommand<ReplicationControllerList, ListReplicationControllers> implements CachedResourceCommand<ReplicationController> {
 
     /**
      * Default constructor initializing the command name.
@@ -38,4 +41,14 @@ public class ListReplicationControllers extends AbstractListCommand<ReplicationC
     protected ClientMixedOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().replicationControllers();
     }
+
+    @Override
+    public String getResourceType() {
+        return "replicationcontrollers";
+    }
+
+    @Override
+    public void execute(KubernetesResourceCache<ReplicationController> cache, TestContext context) {
+        setCommandResult(new CommandResult<>(new ReplicationControllerListBuilder().withItems(list(cache, context)).build()));
+    }
 }
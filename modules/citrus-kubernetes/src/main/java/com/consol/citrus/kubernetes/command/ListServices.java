@@ -18,14 +18,17 @@ package com.consol.citrus.kubernetes.command;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.client.KubernetesResourceCache;
+import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceList;
+import io.fabric8.kubernetes.api.model.ServiceListBuilder;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 
 /**
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class ListServices extends AbstractListCommand<ServiceList, ListServices> {
+public class ListServices extends AbstractListCommand<ServiceList, ListServices> implements CachedResourceCommand<Service> {
 
     /**
      * Default constructor initializing the command name.
@@ -38,4 +41,14 @@ public class ListServices extends AbstractListCommand<ServiceList, ListServices>
     protected ClientMixedOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().services();
     }
+
+    @Override
+    public String getResourceType() {
+        return "services";
+    }
+
+    @Override
+    public void execute(KubernetesResourceCache<Service> cache, TestContext context) {
+        setCommandResult(new CommandResult<>(new ServiceListBuilder().withItems(list(cache, context)).build()));
+    }
 }
@@ -38,4 +38,9 @@ public class WatchNamespaces extends AbstractWatchCommand<Namespace, WatchNamesp
     protected ClientNonNamespaceOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().namespaces();
     }
+
+    @Override
+    public String getResourceType() {
+        return "namespaces";
+    }
 }
@@ -38,4 +38,9 @@ public class WatchNodes extends AbstractWatchCommand<Node, WatchNodes> {
     protected ClientNonNamespaceOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().nodes();
     }
+
+    @Override
+    public String getResourceType() {
+        return "nodes";
+    }
 }
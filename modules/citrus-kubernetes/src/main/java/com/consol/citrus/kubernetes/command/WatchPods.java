@@ -38,4 +38,9 @@ public class WatchPods extends AbstractWatchCommand<Pod, WatchPods> {
     protected ClientMixedOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().pods();
     }
+
+    @Override
+    public String getResourceType() {
+        return "pods";
+    }
 }
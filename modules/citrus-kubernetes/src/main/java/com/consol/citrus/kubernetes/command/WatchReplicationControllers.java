@@ -38,4 +38,9 @@ public class WatchReplicationControllers extends AbstractWatchCommand<Replicatio
     protected ClientMixedOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().replicationControllers();
     }
+
+    @Override
+    public String getResourceType() {
+        return "replicationcontrollers";
+    }
 }
@@ -38,4 +38,9 @@ public class WatchServices extends AbstractWatchCommand<Service, WatchServices>
     protected ClientMixedOperation operation(KubernetesClient kubernetesClient, TestContext context) {
         return kubernetesClient.getClient().services();
     }
+
+    @Override
+    public String getResourceType() {
+        return "services";
+    }
 }
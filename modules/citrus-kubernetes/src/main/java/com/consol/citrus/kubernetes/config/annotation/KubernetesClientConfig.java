@@ -77,4 +77,10 @@ public @interface KubernetesClientConfig {
      */
     String objectMapper() default  "";
 
+    /**
+     * Cache resources.
+     * @return
+     */
+    boolean cacheResources() default false;
+
 }
@@ -74,6 +74,8 @@ public class KubernetesClientConfigParser extends AbstractAnnotationConfigParser
             builder.objectMapper(getReferenceResolver().resolve(annotation.objectMapper(), ObjectMapper.class));
         }
 
+        builder.cacheResources(annotation.cacheResources());
+
         return builder.build();
     }
 }
@@ -54,6 +54,7 @@ public class KubernetesClientParser extends AbstractEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("message-converter"), "messageConverter");
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("object-mapper"), "objectMapper");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("cache-resources"), "cacheResources");
     }
 
     @Override
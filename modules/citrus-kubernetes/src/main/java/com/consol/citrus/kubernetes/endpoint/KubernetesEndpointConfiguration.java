@@ -44,6 +44,9 @@ public class KubernetesEndpointConfiguration extends AbstractPollableEndpointCon
     /** Kubernetes message converter */
     private KubernetesMessageConverter messageConverter = new KubernetesMessageConverter();
 
+    /** Serve get, list and watch commands from shared resource caches instead of calling the API server each time */
+    private boolean cacheResources = false;
+
     /**
      * Creates new Kubernetes client instance with configuration.
      * @return
@@ -140,4 +143,20 @@ public class KubernetesEndpointConfiguration extends AbstractPollableEndpointCon
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
+
+    /**
+     * Gets the cacheResources.
+     * @return
+     */
+    public boolean isCacheResources() {
+        return cacheResources;
+    }
+
+    /**
+     * Sets the cacheResources.
+     * @param cacheResources
+     */
+    public void setCacheResources(boolean cacheResources) {
+        this.cacheResources = cacheResources;
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kubernetes.client;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.kubernetes.actions.KubernetesExecuteAction;
+import com.consol.citrus.kubernetes.command.*;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import io.fabric8.kubernetes.api.model.*;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
+import io.fabric8.kubernetes.client.dsl.ClientPodResource;
+import org.mockito.*;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class KubernetesResourceCacheTest extends AbstractTestNGUnitTest {
+
+    @Mock
+    private io.fabric8.kubernetes.client.KubernetesClient kubernetesClient;
+    @Mock
+    private ClientMixedOperation<Pod, PodList, DoneablePod, ClientPodResource<Pod, DoneablePod>> clientOperation;
+    @Mock
+    private Watch watch;
+    @Captor
+    private ArgumentCaptor<Watcher<Pod>> watcher;
+
+    private KubernetesClient client;
+
+    @BeforeMethod
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+
+        PodList pods = new PodListBuilder()
+                .withNewMetadata().withResourceVersion("100").endMetadata()
+                .withItems(pod("foo", "app", "foo", "Pending"), pod("bar", "app", "bar", "Running"))
+                .build();
+
+        when(kubernetesClient.pods()).thenReturn(clientOperation);
+        when(clientOperation.inAnyNamespace()).thenReturn(clientOperation);
+        when(clientOperation.list()).thenReturn(pods);
+        when(clientOperation.watch(eq("100"), watcher.capture())).thenReturn(watch);
+
+        client = new KubernetesClientBuilder().cacheResources(true).build();
+        client.getEndpointConfiguration().setKubernetesClient(kubernetesClient);
+    }
+
+    @Test
+    public void testCachedResources() {
+        KubernetesResourceCache<Pod> cache = client.getResourceCache("pods", null);
+
+        Assert.assertSame(client.getResourceCache("pods", null), cache);
+        Assert.assertEquals(cache.list().size(), 2L);
+        Assert.assertEquals(cache.get("foo").getMetadata().getName(), "foo");
+        Assert.assertEquals(cache.list(Collections.singletonMap("app", "bar"), Collections.emptyMap()).size(), 1L);
+        Assert.assertEquals(cache.list(Collections.emptyMap(), Collections.singletonMap("app", "bar")).size(), 1L);
+        Assert.assertEquals(cache.list(Collections.singletonMap("app", null), Collections.emptyMap()).size(), 2L);
+
+        watcher.getValue().eventReceived(Watcher.Action.MODIFIED, pod("foo", "app", "bar", "Running"));
+        watcher.getValue().eventReceived(Watcher.Action.DELETED, pod("bar", "app", "bar", "Running"));
+
+        Assert.assertEquals(cache.list().size(), 1L);
+        Assert.assertNull(cache.get("bar"));
+        Assert.assertEquals(cache.list(Collections.singletonMap("app", "bar"), Collections.emptyMap()).get(0).getMetadata().getName(), "foo");
+        Assert.assertEquals(cache.list(Collections.singletonMap("app", "foo"), Collections.emptyMap()).size(), 0L);
+        Assert.assertEquals(cache.getEvents().size(), 2L);
+        Assert.assertEquals(cache.getEventCount(), 2L);
+
+        verify(clientOperation, times(1)).list();
+
+        client.destroy();
+        verify(watch).close();
+    }
+
+    @Test
+    public void testAwaitCondition() {
+        KubernetesResourceCache<Pod> cache = client.getResourceCache("pods", null);
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> watcher.getValue().eventReceived(Watcher.Action.MODIFIED, pod("foo", "app", "foo", "Running")), 200L, TimeUnit.MILLISECONDS);
+
+            Pod ready = cache.await(pod -> pod.getMetadata().getName().equals("foo") && pod.getStatus().getPhase().equals("Running"), 5000L);
+            Assert.assertEquals(ready.getMetadata().getName(), "foo");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = ActionTimeoutException.class)
+    public void testAwaitConditionTimeout() {
+        KubernetesResourceCache<Pod> cache = client.getResourceCache("pods", null);
+        cache.await(pod -> pod.getStatus().getPhase().equals("Failed"), 200L);
+    }
+
+    @Test
+    public void testCachedCommands() {
+        KubernetesExecuteAction action = new KubernetesExecuteAction();
+        action.setCommand(new ListPods().label("app", "foo"));
+        action.setKubernetesClient(client);
+        action.execute(context);
+
+        Assert.assertEquals(((PodList) action.getCommand().getCommandResult().getResult()).getItems().size(), 1L);
+
+        action.setCommand(new GetPod().name("bar"));
+        action.execute(context);
+
+        Assert.assertEquals(((Pod) action.getCommand().getCommandResult().getResult()).getStatus().getPhase(), "Running");
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        WatchPods watchPods = new WatchPods().name("foo");
+        try {
+            executor.schedule(() -> {
+                watcher.getValue().eventReceived(Watcher.Action.MODIFIED, pod("bar", "app", "bar", "Failed"));
+                watcher.getValue().eventReceived(Watcher.Action.MODIFIED, pod("foo", "app", "foo", "Running"));
+            }, 200L, TimeUnit.MILLISECONDS);
+
+            action.setCommand(watchPods);
+            action.execute(context);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        WatchEventResult<Pod> result = watchPods.getCommandResult();
+        Assert.assertEquals(result.getAction(), Watcher.Action.MODIFIED);
+        Assert.assertEquals(result.getResult().getMetadata().getName(), "foo");
+        Assert.assertEquals(result.getResult().getStatus().getPhase(), "Running");
+
+        verify(clientOperation, times(1)).list();
+        verify(clientOperation, times(1)).watch(eq("100"), any());
+    }
+
+    @Test
+    public void testRestartOnWatchClose() {
+        KubernetesResourceCache<Pod> cache = client.getResourceCache("pods", null);
+        Watcher<Pod> first = watcher.getValue();
+
+        first.onClose(new KubernetesClientException("Watch expired"));
+
+        verify(clientOperation, timeout(5000L).times(2)).list();
+        verify(clientOperation, timeout(5000L).times(2)).watch(eq("100"), any());
+        Assert.assertTrue(cache.getEvents().get(0).hasError());
+
+        client.destroy();
+        watcher.getValue().onClose(null);
+        verify(clientOperation, after(1500L).times(2)).list();
+    }
+
+    @Test
+    public void testWatchHandlePerCommand() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        WatchPods watchFoo = new WatchPods().name("foo");
+        WatchPods watchAll = new WatchPods();
+        try {
+            watchFoo.execute(client, context);
+            watchAll.execute(client, context);
+
+            executor.schedule(() -> watcher.getValue().eventReceived(Watcher.Action.MODIFIED, pod("foo", "app", "foo", "Running")), 200L, TimeUnit.MILLISECONDS);
+
+            Assert.assertNotSame(watchFoo.getCommandResult(), watchAll.getCommandResult());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertNotSame(watchFoo.getCommandResult().getWatch(), watchAll.getCommandResult().getWatch());
+        watchFoo.getCommandResult().getWatch().close();
+        verify(watch, never()).close();
+    }
+
+    private Pod pod(String name, String label, String labelValue, String phase) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("default")
+                    .addToLabels(label, labelValue)
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase(phase)
+                .endStatus()
+                .build();
+    }
+}
@@ -37,7 +37,8 @@ import org.springframework.xml.transform.StringResult;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.rmi.*;
-import java.rmi.registry.Registry;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christoph Deppisch
@@ -51,6 +52,12 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Remote stubs by binding, looked up once and reused for all invocations */
+    private final Map<String, Remote> remoteTargets = new ConcurrentHashMap<>();
+
+    /** Resolved remote methods by target class, method name and argument types */
+    private static final Map<List<Object>, Optional<Method>> methodCache = new ConcurrentHashMap<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -81,32 +88,8 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
         String binding = message.getHeader(RmiMessageHeaders.RMI_BINDING) != null ? message.getHeader(RmiMessageHeaders.RMI_BINDING).toString() : getEndpointConfiguration().getBinding();
         try {
             RmiServiceInvocation invocation = getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
-            Registry registry = getEndpointConfiguration().getRegistry();
-            final Remote remoteTarget = registry.lookup(binding);
-
-            final Method[] method = new Method[1];
-            if (StringUtils.hasText(invocation.getMethod())) {
-                method[0] = ReflectionUtils.findMethod(remoteTarget.getClass(), invocation.getMethod(), invocation.getArgTypes());
-            } else {
-                ReflectionUtils.doWithMethods(remoteTarget.getClass(), new ReflectionUtils.MethodCallback() {
-                    @Override
-                    public void doWith(Method declaredMethod) throws IllegalArgumentException, IllegalAccessException {
-                        if (method[0] == null) {
-                            method[0] = declaredMethod;
-                        }
-                    }
-                }, new ReflectionUtils.MethodFilter() {
-                    @Override
-                    public boolean matches(Method declaredMethod) {
-                        return CollectionUtils.arrayToList(declaredMethod.getExceptionTypes()).contains(RemoteException.class) &&
-                                declaredMethod.getDeclaringClass().equals(remoteTarget.getClass());
-                    }
-                });
-            }
-
-            if (method[0] == null) {
-                throw new CitrusRuntimeException("Unable to find proper method declaration on remote target object");
-            }
+            Remote remoteTarget = getRemoteTarget(binding);
+            Method method = getMethod(remoteTarget.getClass(), invocation.getMethod(), invocation.getArgTypes());
 
             if (log.isDebugEnabled()) {
                 log.debug("Sending message to RMI server: '" + binding + "'");
@@ -114,7 +97,21 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
             context.onOutboundMessage(message);
 
-            Object result = method[0].invoke(remoteTarget, invocation.getArgValues(context.getApplicationContext()));
+            Object[] args = invocation.getArgValues(context.getApplicationContext());
+            Object result;
+            try {
+                result = method.invoke(remoteTarget, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getTargetException() instanceof NoSuchObjectException)) {
+                    throw e;
+                }
+
+                log.info("Remote object for binding '" + binding + "' is no longer available - looking up new stub");
+                remoteTargets.remove(binding);
+                remoteTarget = getRemoteTarget(binding);
+                result = getMethod(remoteTarget.getClass(), invocation.getMethod(), invocation.getArgTypes()).invoke(remoteTarget, args);
+            }
+
             RmiServiceResult serviceResult = new RmiServiceResult();
 
             if (result != null) {
@@ -146,6 +143,64 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
         log.info("Message was sent to RMI server: '" + binding + "'");
     }
 
+    /**
+     * Gets remote stub for binding. Stub is looked up in registry on first access and cached afterwards.
+     * @param binding
+     * @return
+     * @throws RemoteException
+     * @throws NotBoundException
+     */
+    private Remote getRemoteTarget(String binding) throws RemoteException, NotBoundException {
+        Remote remoteTarget = remoteTargets.get(binding);
+        if (remoteTarget == null) {
+            remoteTarget = getEndpointConfiguration().getRegistry().lookup(binding);
+            remoteTargets.put(binding, remoteTarget);
+        }
+
+        return remoteTarget;
+    }
+
+    /**
+     * Resolves method on remote target class. When no method name is given the first remote method declared on the target class is used.
+     * Resolved methods are cached per target class, method name and argument types.
+     * @param targetClass
+     * @param methodName
+     * @param argTypes
+     * @return
+     */
+    private static Method getMethod(Class<?> targetClass, String methodName, Class<?>[] argTypes) {
+        List<Object> key = new ArrayList<>(argTypes.length + 2);
+        key.add(targetClass);
+        key.add(methodName);
+        key.addAll(Arrays.asList(argTypes));
+
+        return methodCache.computeIfAbsent(key, k -> Optional.ofNullable(resolveMethod(targetClass, methodName, argTypes)))
+                .orElseThrow(() -> new CitrusRuntimeException("Unable to find proper method declaration on remote target object"));
+    }
+
+    /**
+     * Finds method on remote target class using reflection.
+     * @param targetClass
+     * @param methodName
+     * @param argTypes
+     * @return
+     */
+    private static Method resolveMethod(Class<?> targetClass, String methodName, Class<?>[] argTypes) {
+        if (StringUtils.hasText(methodName)) {
+            return ReflectionUtils.findMethod(targetClass, methodName, argTypes);
+        }
+
+        final Method[] method = new Method[1];
+        ReflectionUtils.doWithMethods(targetClass, declaredMethod -> {
+            if (method[0] == null) {
+                method[0] = declaredMethod;
+            }
+        }, declaredMethod -> CollectionUtils.arrayToList(declaredMethod.getExceptionTypes()).contains(RemoteException.class) &&
+                declaredMethod.getDeclaringClass().equals(targetClass));
+
+        return method[0];
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -30,6 +30,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.InputStreamReader;
+import java.rmi.NoSuchObjectException;
 import java.rmi.registry.Registry;
 
 import static org.mockito.Mockito.*;
@@ -133,4 +134,37 @@ public class RmiClientTest extends AbstractTestNGUnitTest {
                 StringUtils.trimAllWhitespace(responseBody));
     }
 
+    @Test
+    public void testRemoteTargetReuse() throws Exception {
+        RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
+        RmiClient rmiClient = new RmiClient(endpointConfiguration);
+        String binding = "helloService";
+
+        endpointConfiguration.setBinding(binding);
+        endpointConfiguration.setRegistry(registry);
+
+        HelloService newRemoteInterface = Mockito.mock(HelloService.class);
+
+        reset(registry, remoteInterface);
+
+        when(registry.lookup(binding)).thenReturn(remoteInterface, newRemoteInterface);
+        when(remoteInterface.getHelloCount()).thenReturn(100);
+        when(newRemoteInterface.getHelloCount()).thenReturn(101);
+
+        for (int i = 0; i < 3; i++) {
+            rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+            Assert.assertTrue(rmiClient.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class).contains("100"));
+        }
+
+        verify(registry, times(1)).lookup(binding);
+        verify(remoteInterface, times(3)).getHelloCount();
+
+        when(remoteInterface.getHelloCount()).thenThrow(new NoSuchObjectException("no such object in table"));
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+        Assert.assertTrue(rmiClient.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class).contains("101"));
+
+        verify(registry, times(2)).lookup(binding);
+        verify(newRemoteInterface).getHelloCount();
+    }
 }
@@ -29,23 +29,32 @@ import com.consol.citrus.ssh.model.SshResponse;
 import com.consol.citrus.util.FileUtils;
 import com.jcraft.jsch.*;
 import org.apache.sshd.client.keyverifier.KnownHostsServerKeyVerifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.*;
 
 import java.io.*;
+import java.util.Map;
+import java.util.concurrent.*;
 
 /**
- * Ssh client connects to ssh server and sends commands to that server.
+ * Ssh client connects to ssh server and sends commands to that server. With session pooling enabled the client keeps
+ * one authenticated session per remote user and opens a new exec channel on that session for each command.
  *
  * @author Roland Huss, Christoph Deppisch
  * @since 1.4
  */
-public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer, DisposableBean {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(SshClient.class);
 
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
-    // Session for the SSH communication
-    private Session session;
+    // Pooled sessions for the SSH communication by remote user
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
 
     // SSH implementation
     private JSch jsch = new JSch();
@@ -86,18 +95,14 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
 
         SshRequest request = (SshRequest) getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
 
-        if (getEndpointConfiguration().isStrictHostChecking()) {
-            setKnownHosts();
-        }
-
         String rUser = getRemoteUser(message);
-        connect(rUser);
+        Session session = getSession(rUser);
         ChannelExec channelExec = null;
-        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-        ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        CommandOutputStream outStream = new CommandOutputStream(getEndpointConfiguration().getMaxOutputSize());
+        CommandOutputStream errStream = new CommandOutputStream(getEndpointConfiguration().getMaxOutputSize());
         int rc;
         try {
-            channelExec = openChannelExec();
+            channelExec = openChannelExec(session);
             channelExec.setErrStream(errStream);
             channelExec.setOutputStream(outStream);
             channelExec.setCommand(request.getCommand());
@@ -105,14 +110,22 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
             if (request.getStdin() != null) {
                 sendStandardInput(channelExec, request.getStdin());
             }
-            waitCommandToFinish(channelExec);
+            waitCommandToFinish(channelExec, errStream);
             rc = channelExec.getExitStatus();
         } finally {
             if (channelExec != null && channelExec.isConnected()) {
                 channelExec.disconnect();
             }
-            disconnect();
+
+            if (!getEndpointConfiguration().isSessionPooling()) {
+                disconnect(session);
+            }
+        }
+
+        if (outStream.isTruncated() || errStream.isTruncated()) {
+            log.warn(String.format("SSH command output exceeded maximum size of %s bytes - output truncated", getEndpointConfiguration().getMaxOutputSize()));
         }
+
         SshResponse sshResp = new SshResponse(outStream.toString(),errStream.toString(),rc);
         Message response = getEndpointConfiguration().getMessageConverter().convertInbound(sshResp, getEndpointConfiguration(), context)
                 .setHeader("user", rUser);
@@ -158,39 +171,74 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
-    private void connect(String rUser) {
-        if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
-                }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+    /**
+     * Gets session for given remote user. Reuses pooled session if session pooling is enabled, otherwise
+     * connects new session.
+     * @param rUser
+     * @return
+     */
+    private Session getSession(String rUser) {
+        if (!getEndpointConfiguration().isSessionPooling()) {
+            return connect(rUser);
+        }
+
+        synchronized (sessions) {
+            Session session = sessions.get(rUser);
+            if (session == null || !session.isConnected()) {
+                session = connect(rUser);
+                sessions.put(rUser, session);
             }
 
-            try {
-                session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
-                }
-                session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.connect();
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
+            return session;
+        }
+    }
+
+    private Session connect(String rUser) {
+        if (getEndpointConfiguration().isStrictHostChecking()) {
+            setKnownHosts();
+        }
+
+        Session session;
+        try {
+            if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
+            }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
+
+        try {
+            session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                session.setPassword(getEndpointConfiguration().getPassword());
             }
+            session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+            session.connect();
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
         }
+
+        return session;
     }
 
-    private void disconnect() {
+    private void disconnect(Session session) {
         if (session.isConnected()) {
             session.disconnect();
         }
     }
 
-    private ChannelExec openChannelExec() throws CitrusRuntimeException {
+    @Override
+    public void destroy() {
+        synchronized (sessions) {
+            sessions.values().forEach(this::disconnect);
+            sessions.clear();
+        }
+    }
+
+    private ChannelExec openChannelExec(Session session) throws CitrusRuntimeException {
         ChannelExec channelExec;
         try {
             channelExec = (ChannelExec) session.openChannel("exec");
@@ -200,19 +248,21 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return channelExec;
     }
 
-    private void waitCommandToFinish(ChannelExec pCh) {
-        final long until = System.currentTimeMillis() + getEndpointConfiguration().getCommandTimeout();
-
+    /**
+     * Waits for channel to close. When the channel gets closed after exit status has been received JSch marks the channel as
+     * closed first and then closes the error stream, so the close event of the given error stream signals command completion.
+     * The standard output stream is not suitable as it is already closed on remote EOF.
+     * @param pCh
+     * @param pErrStream
+     */
+    private void waitCommandToFinish(ChannelExec pCh, CommandOutputStream pErrStream) {
         try {
-            while (!pCh.isClosed() && System.currentTimeMillis() < until) {
-                Thread.sleep(250);
+            if (!pCh.isClosed() && !(pErrStream.awaitClose(getEndpointConfiguration().getCommandTimeout()) && pCh.isClosed())) {
+                throw new CitrusRuntimeException("Timeout: Channel not finished within " + getEndpointConfiguration().getCommandTimeout() + " ms");
             }
         } catch (InterruptedException e) {
-            throw new RuntimeException("Interrupted", e);
-        }
-
-        if (!pCh.isClosed()) {
-            throw new CitrusRuntimeException("Timeout: Channel not finished within " + getEndpointConfiguration().getCommandTimeout() + " ms");
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for SSH command to finish", e);
         }
     }
 
@@ -292,6 +342,53 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Output stream collecting command output up to a maximum number of bytes. Signals when closed by the channel.
+     */
+    private static class CommandOutputStream extends ByteArrayOutputStream {
+        private final long maxSize;
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private boolean truncated = false;
+
+        CommandOutputStream(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (maxSize > 0 && count >= maxSize) {
+                truncated = true;
+                return;
+            }
+
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            int allowed = len;
+            if (maxSize > 0 && count + len > maxSize) {
+                allowed = (int) Math.max(0, maxSize - count);
+                truncated = true;
+            }
+
+            super.write(b, off, allowed);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        boolean awaitClose(long timeout) throws InterruptedException {
+            return closed.await(timeout, TimeUnit.MILLISECONDS);
+        }
+
+        synchronized boolean isTruncated() {
+            return truncated;
+        }
+    }
+
     // UserInfo which simply returns a plain password
     private static class UserInfoWithPlainPassword implements UserInfo {
         private String password;
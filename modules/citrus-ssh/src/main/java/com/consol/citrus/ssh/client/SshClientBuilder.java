@@ -134,6 +134,26 @@ public class SshClientBuilder extends AbstractEndpointBuilder<SshClient> {
         return this;
     }
 
+    /**
+     * Sets the sessionPooling property.
+     * @param sessionPooling
+     * @return
+     */
+    public SshClientBuilder sessionPooling(boolean sessionPooling) {
+        endpoint.getEndpointConfiguration().setSessionPooling(sessionPooling);
+        return this;
+    }
+
+    /**
+     * Sets the maxOutputSize property.
+     * @param maxOutputSize
+     * @return
+     */
+    public SshClientBuilder maxOutputSize(long maxOutputSize) {
+        endpoint.getEndpointConfiguration().setMaxOutputSize(maxOutputSize);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
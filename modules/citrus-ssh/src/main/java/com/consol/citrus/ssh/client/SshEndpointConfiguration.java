@@ -57,6 +57,12 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
      /** Timeout how long to wait for a connection to connect */
     private int connectionTimeout = 1000 * 60 * 1; // 1 minute
 
+    /** Keep authenticated sessions open and reuse them for subsequent commands */
+    private boolean sessionPooling = false;
+
+    /** Maximum number of bytes kept of command standard output and error output, zero means unlimited */
+    private long maxOutputSize = 0L;
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -226,6 +232,38 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.connectionTimeout = connectionTimeout;
     }
 
+    /**
+     * Is session pooling enabled.
+     * @return
+     */
+    public boolean isSessionPooling() {
+        return sessionPooling;
+    }
+
+    /**
+     * Sets the session pooling.
+     * @param sessionPooling
+     */
+    public void setSessionPooling(boolean sessionPooling) {
+        this.sessionPooling = sessionPooling;
+    }
+
+    /**
+     * Gets the maximum output size.
+     * @return
+     */
+    public long getMaxOutputSize() {
+        return maxOutputSize;
+    }
+
+    /**
+     * Sets the maximum output size.
+     * @param maxOutputSize
+     */
+    public void setMaxOutputSize(long maxOutputSize) {
+        this.maxOutputSize = maxOutputSize;
+    }
+
     /**
      * Gets the message correlator.
      * @return
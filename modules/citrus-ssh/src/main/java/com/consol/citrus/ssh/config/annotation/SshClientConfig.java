@@ -89,6 +89,18 @@ public @interface SshClientConfig {
      */
     int connectionTimeout() default 1000 * 60 * 1;
 
+    /**
+     * SessionPooling.
+     * @return
+     */
+    boolean sessionPooling() default false;
+
+    /**
+     * MaxOutputSize.
+     * @return
+     */
+    long maxOutputSize() default 0L;
+
     /**
      * Message converter.
      * @return
@@ -16,10 +16,15 @@
 
 package com.consol.citrus.ssh.model;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
+import com.consol.citrus.xml.Jaxb2MarshallerRegistry;
+import org.springframework.oxm.XmlMappingException;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.oxm.mime.MimeContainer;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import java.lang.reflect.Type;
 
 /**
  * @author Christoph Deppisch
@@ -27,19 +32,53 @@ import org.springframework.oxm.jaxb.Jaxb2Marshaller;
  */
 public class SshMarshaller extends Jaxb2Marshaller {
 
-    /** Logger */
-    private static Logger log = LoggerFactory.getLogger(SshMarshaller.class);
+    /** Shared marshaller delegate */
+    private final Jaxb2Marshaller delegate;
 
+    /**
+     * Default constructor using shared marshaller of default registry.
+     */
     public SshMarshaller() {
-        setClassesToBeBound(SshRequest.class,
+        this(Jaxb2MarshallerRegistry.getDefault());
+    }
+
+    /**
+     * Constructor using shared marshaller of given registry.
+     * @param registry
+     */
+    public SshMarshaller(Jaxb2MarshallerRegistry registry) {
+        delegate = registry.getMarshaller("com/consol/citrus/schema/citrus-ssh-message.xsd",
+                SshRequest.class,
                 SshResponse.class);
+    }
 
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-ssh-message.xsd"));
+    @Override
+    public void afterPropertiesSet() {
+        // shared delegate is already initialized by the registry
+    }
+
+    @Override
+    public JAXBContext getJaxbContext() {
+        return delegate.getJaxbContext();
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public boolean supports(Type genericType) {
+        return delegate.supports(genericType);
+    }
+
+    @Override
+    public void marshal(Object graph, Result result, MimeContainer mimeContainer) throws XmlMappingException {
+        delegate.marshal(graph, result, mimeContainer);
+    }
 
-        try {
-            afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup mail message marshaller", e);
-        }
+    @Override
+    public Object unmarshal(Source source, MimeContainer mimeContainer) throws XmlMappingException {
+        return delegate.unmarshal(source, mimeContainer);
     }
 }
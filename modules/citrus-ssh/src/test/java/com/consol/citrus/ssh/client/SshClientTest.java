@@ -157,6 +157,65 @@ public class SshClientTest extends AbstractTestNGUnitTest {
         standardChannelPrepAndSend();
     }
 
+    @Test
+    public void sessionPooling() throws JSchException, IOException {
+        client.getEndpointConfiguration().setSessionPooling(true);
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+
+        send();
+        send();
+
+        verify(jsch, times(1)).getSession("roland","planck",1968);
+        verify(session, times(2)).openChannel("exec");
+        verify(session, never()).disconnect();
+
+        client.destroy();
+        verify(session).disconnect();
+    }
+
+    @Test
+    public void waitForChannelClose() throws JSchException, IOException {
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        disconnect();
+
+        final OutputStream[] errStream = new OutputStream[1];
+        doAnswer(invocation -> errStream[0] = invocation.getArgument(0)).when(channel).setErrStream(any(OutputStream.class));
+
+        final boolean[] closed = { false };
+        when(channel.isClosed()).thenAnswer(invocation -> closed[0]);
+        doAnswer(invocation -> {
+            new Thread(() -> {
+                try {
+                    Thread.sleep(200L);
+                    closed[0] = true;
+                    errStream[0].close();
+                } catch (InterruptedException | IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+            return null;
+        }).when(channel).connect(CONNECTTION_TIMEOUT);
+
+        send();
+
+        verify(channel).getExitStatus();
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Timeout: Channel not finished within 100 ms")
+    public void channelCloseTimeout() throws JSchException, IOException {
+        client.getEndpointConfiguration().setCommandTimeout(100L);
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        disconnect();
+        when(channel.isClosed()).thenReturn(false);
+
+        send();
+    }
+
     private void send() {
         client.send(createMessage(COMMAND, STDIN), context);
     }
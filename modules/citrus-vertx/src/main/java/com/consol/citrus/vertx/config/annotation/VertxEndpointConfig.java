@@ -59,6 +59,18 @@ public @interface VertxEndpointConfig {
      */
     boolean pubSubDomain() default false;
 
+    /**
+     * Persistent subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Subscription buffer size.
+     * @return
+     */
+    int subscriptionBufferSize() default 1000;
+
     /**
      * Message converter.
      * @return
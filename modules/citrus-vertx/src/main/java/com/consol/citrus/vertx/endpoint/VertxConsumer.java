@@ -16,21 +16,30 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.util.StringUtils;
+
+import java.util.function.Predicate;
 
 /**
+ * Consumer receives messages on Vert.x event bus address. By default consumer subscribes to the address for each receive operation.
+ * When endpoint uses a persistent subscription consumer receives messages from the subscription buffer instead, message
+ * selectors are supported in this mode only.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -38,6 +47,9 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Optional persistent event bus subscription */
+    private VertxEventBusSubscription subscription;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
@@ -57,7 +69,15 @@ public class VertxConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
+        if (subscription != null) {
+            return receiveFromSubscription(selector, context, timeout);
+        }
+
+        if (StringUtils.hasText(selector)) {
+            log.warn("Ignoring message selector on Vert.x event bus address '" + endpointConfiguration.getAddress() + "' - selectors require persistent subscription");
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
@@ -101,6 +121,57 @@ public class VertxConsumer extends AbstractMessageConsumer {
         }
     }
 
+    /**
+     * Receives message from persistent subscription buffer. Blocks until a message accepted by the selector arrives.
+     * @param selector
+     * @param context
+     * @param timeout
+     * @return
+     */
+    private Message receiveFromSubscription(String selector, TestContext context, long timeout) {
+        if (log.isDebugEnabled()) {
+            log.debug("Receiving message from Vert.x event bus subscription on address: '" + endpointConfiguration.getAddress() + "'");
+        }
+
+        Predicate<io.vertx.core.eventbus.Message<Object>> messageSelector;
+        if (StringUtils.hasText(selector)) {
+            DispatchingMessageSelector dispatchingMessageSelector = new DispatchingMessageSelector(selector, context.getApplicationContext(), context);
+            messageSelector = vertxMessage -> dispatchingMessageSelector.accept(MessageBuilder.withPayload(
+                    endpointConfiguration.getMessageConverter().convertInbound(vertxMessage, endpointConfiguration, context)).build());
+        } else {
+            messageSelector = vertxMessage -> true;
+        }
+
+        io.vertx.core.eventbus.Message<Object> vertxMessage = subscription.receive(messageSelector, timeout);
+        if (vertxMessage == null) {
+            throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
+        }
+
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessage, endpointConfiguration, context);
+
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+
+        context.onInboundMessage(message);
+
+        return message;
+    }
+
+    /**
+     * Sets the persistent event bus subscription.
+     * @param subscription
+     */
+    public void setSubscription(VertxEventBusSubscription subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * Gets the persistent event bus subscription.
+     * @return
+     */
+    public VertxEventBusSubscription getSubscription() {
+        return subscription;
+    }
+
     /**
      * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
      * until subscription is unregistered automatically.
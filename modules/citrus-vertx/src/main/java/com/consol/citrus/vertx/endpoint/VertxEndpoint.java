@@ -20,16 +20,21 @@ import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.vertx.factory.VertxInstanceFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 
 /**
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxEndpoint extends AbstractEndpoint {
+public class VertxEndpoint extends AbstractEndpoint implements InitializingBean, DisposableBean {
 
     /** Vert.x instance */
     private VertxInstanceFactory vertxInstanceFactory;
 
+    /** Long lived event bus subscription shared by all consumers */
+    private VertxEventBusSubscription subscription;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -54,8 +59,42 @@ public class VertxEndpoint extends AbstractEndpoint {
 
     @Override
     public Consumer createConsumer() {
-        return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+        VertxConsumer consumer = new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
                 getEndpointConfiguration());
+
+        if (getEndpointConfiguration().isPersistentSubscription()) {
+            consumer.setSubscription(getSubscription());
+        }
+
+        return consumer;
+    }
+
+    /**
+     * Gets the persistent event bus subscription. Subscribes to the event bus address on first access.
+     * @return
+     */
+    protected synchronized VertxEventBusSubscription getSubscription() {
+        if (subscription == null) {
+            subscription = new VertxEventBusSubscription(vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                    getEndpointConfiguration().getAddress(), getEndpointConfiguration().getSubscriptionBufferSize());
+        }
+
+        return subscription;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (getEndpointConfiguration().isPersistentSubscription() && vertxInstanceFactory != null) {
+            getSubscription();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws Exception {
+        if (subscription != null) {
+            subscription.unregister();
+            subscription = null;
+        }
     }
 
     @Override
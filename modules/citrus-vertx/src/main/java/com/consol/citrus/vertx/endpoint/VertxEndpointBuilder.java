@@ -94,6 +94,26 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         return this;
     }
 
+    /**
+     * Sets the persistentSubscription property.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the subscriptionBufferSize property.
+     * @param subscriptionBufferSize
+     * @return
+     */
+    public VertxEndpointBuilder subscriptionBufferSize(int subscriptionBufferSize) {
+        endpoint.getEndpointConfiguration().setSubscriptionBufferSize(subscriptionBufferSize);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -37,6 +37,12 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Should use publish subscribe */
     private boolean pubSubDomain = false;
 
+    /** Should keep a long lived event bus subscription buffering inbound messages */
+    private boolean persistentSubscription = false;
+
+    /** Maximum number of messages buffered by persistent subscription */
+    private int subscriptionBufferSize = 1000;
+
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
@@ -104,6 +110,38 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
         this.pubSubDomain = pubSubDomain;
     }
 
+    /**
+     * Does endpoint keep a long lived event bus subscription.
+     * @return
+     */
+    public boolean isPersistentSubscription() {
+        return persistentSubscription;
+    }
+
+    /**
+     * Sets if endpoint keeps a long lived event bus subscription.
+     * @param persistentSubscription
+     */
+    public void setPersistentSubscription(boolean persistentSubscription) {
+        this.persistentSubscription = persistentSubscription;
+    }
+
+    /**
+     * Gets the maximum number of messages buffered by persistent subscription.
+     * @return
+     */
+    public int getSubscriptionBufferSize() {
+        return subscriptionBufferSize;
+    }
+
+    /**
+     * Sets the maximum number of messages buffered by persistent subscription.
+     * @param subscriptionBufferSize
+     */
+    public void setSubscriptionBufferSize(int subscriptionBufferSize) {
+        this.subscriptionBufferSize = subscriptionBufferSize;
+    }
+
     /**
      * Gets the message converter.
      * @return
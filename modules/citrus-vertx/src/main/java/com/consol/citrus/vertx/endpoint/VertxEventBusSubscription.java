@@ -0,0 +1,88 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.vertx.endpoint;
+
+import com.consol.citrus.message.SelectiveMessageBuffer;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Predicate;
+
+/**
+ * Long lived subscription on a Vert.x event bus address. All messages published to the address are buffered until
+ * consumers receive them. Buffer is bounded, when full the oldest message is dropped as the event bus handler must not block
+ * the Vert.x event loop.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class VertxEventBusSubscription {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(VertxEventBusSubscription.class);
+
+    /** Buffered inbound messages */
+    private final SelectiveMessageBuffer<io.vertx.core.eventbus.Message<Object>> messages;
+
+    /** Event bus consumer */
+    private final MessageConsumer<Object> consumer;
+
+    /**
+     * Default constructor subscribing to given address on the event bus.
+     * @param vertx
+     * @param address
+     * @param capacity
+     */
+    public VertxEventBusSubscription(Vertx vertx, String address, int capacity) {
+        this.messages = new SelectiveMessageBuffer<>("Vert.x subscription buffer on event bus address '" + address + "'",
+                capacity, SelectiveMessageBuffer.OverflowPolicy.DROP_OLDEST);
+        this.consumer = vertx.eventBus().consumer(address, messages::add);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Subscribed to Vert.x event bus address: '" + address + "'");
+        }
+    }
+
+    /**
+     * Receives first buffered message accepted by given selector. Waits given time in milliseconds for a matching message to arrive.
+     * Selector is evaluated outside of the buffer lock so the event loop adding new messages is never blocked by message conversion
+     * and selector evaluation.
+     * @param selector
+     * @param timeout
+     * @return the message or null when timed out
+     */
+    public io.vertx.core.eventbus.Message<Object> receive(Predicate<io.vertx.core.eventbus.Message<Object>> selector, long timeout) {
+        return messages.receive(selector, timeout);
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int size() {
+        return messages.size();
+    }
+
+    /**
+     * Unregisters subscription from event bus.
+     */
+    public void unregister() {
+        consumer.unregister();
+    }
+}
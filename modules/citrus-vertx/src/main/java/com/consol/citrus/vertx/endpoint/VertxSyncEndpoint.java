@@ -59,6 +59,10 @@ public class VertxSyncEndpoint extends VertxEndpoint {
             vertxSyncMessageConsumer = new VertxSyncConsumer(getConsumerName(),
                     getVertxInstanceFactory().newInstance(getEndpointConfiguration()),
                     getEndpointConfiguration());
+
+            if (getEndpointConfiguration().isPersistentSubscription()) {
+                vertxSyncMessageConsumer.setSubscription(getSubscription());
+            }
         }
 
         return vertxSyncMessageConsumer;
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
@@ -129,6 +130,59 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointPersistentSubscription() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        io.vertx.core.eventbus.Message first = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        when(first.body()).thenReturn("<News><Topic>sports</Topic></News>");
+        when(first.address()).thenReturn(eventBusAddress);
+        io.vertx.core.eventbus.Message second = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        when(second.body()).thenReturn("<News><Topic>weather</Topic></News>");
+        when(second.address()).thenReturn(eventBusAddress);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                Handler handler = (Handler) invocation.getArguments()[1];
+                handler.handle(first);
+                handler.handle(second);
+
+                return messageConsumer;
+            }
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        vertxEndpoint.afterPropertiesSet();
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        Message receivedMessage = consumer.receive("xpath://News/Topic = 'weather'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "<News><Topic>weather</Topic></News>");
+
+        receivedMessage = vertxEndpoint.createConsumer().receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "<News><Topic>sports</Topic></News>");
+
+        try {
+            vertxEndpoint.createConsumer().receive(context, 100L);
+            Assert.fail("Missing timeout exception on empty subscription buffer");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains(eventBusAddress));
+        }
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
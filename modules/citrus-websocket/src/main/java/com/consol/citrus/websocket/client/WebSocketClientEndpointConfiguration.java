@@ -17,6 +17,7 @@
 package com.consol.citrus.websocket.client;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.SelectiveMessageBuffer;
 import com.consol.citrus.websocket.endpoint.AbstractWebSocketEndpointConfiguration;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import org.eclipse.jetty.websocket.common.extensions.compress.PerMessageDeflateExtension;
@@ -71,7 +72,7 @@ public class WebSocketClientEndpointConfiguration extends AbstractWebSocketEndpo
      * @return
      */
     private CitrusWebSocketHandler getWebSocketClientHandler(String url) {
-        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler(CitrusWebSocketHandler.DEFAULT_CAPACITY, getTimeout(), SelectiveMessageBuffer.OverflowPolicy.FAIL);
 
         if (webSocketHttpHeaders == null) {
             webSocketHttpHeaders = new WebSocketHttpHeaders();
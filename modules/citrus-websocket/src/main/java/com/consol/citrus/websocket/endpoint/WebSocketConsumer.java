@@ -16,16 +16,25 @@
 
 package com.consol.citrus.websocket.endpoint;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageSelectorBuilder;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer receives incoming messages from web socket handler. Consumer blocks on the handler's inbound message buffer
+ * until a message arrives. Message selectors on the session id header receive messages of a specific web socket session only,
+ * other selectors are evaluated on the converted message.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,8 +63,12 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        CitrusWebSocketHandler.InboundMessage message = receiveInbound(selector, context, timeout);
+        if (message == null) {
+            throw new ActionTimeoutException(String.format("Action timed out while receiving message on '%s'", endpointConfiguration.getEndpointUri()));
+        }
+
+        Message receivedMessage = convertInbound(message, context);
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,36 +77,38 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
+     * Converts inbound web socket message and adds session id header.
+     * @param message
+     * @param context
+     * @return
+     */
+    private Message convertInbound(CitrusWebSocketHandler.InboundMessage message, TestContext context) {
+        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message.getMessage(), endpointConfiguration, context);
+        receivedMessage.setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, message.getSessionId());
+        return receivedMessage;
+    }
+
+    /**
+     * Receives inbound message matching given selector string. Selectors on session id only receive from the session's sub-queue
+     * without message conversion. The handler evaluates all other selectors outside of its buffer lock so message conversion
+     * does not block session threads.
+     * @param selector
+     * @param context
      * @param timeout
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String path = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, path, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", path), e);
-            }
-
-            message = config.getHandler().getMessage();
+    private CitrusWebSocketHandler.InboundMessage receiveInbound(String selector, TestContext context, long timeout) {
+        CitrusWebSocketHandler handler = endpointConfiguration.getHandler();
+        if (!StringUtils.hasText(selector)) {
+            return handler.receive(timeout);
         }
 
-        if (message == null) {
-            throw new ActionTimeoutException(String.format("Action timed out while receiving message on '%s'", path));
+        Map<String, String> selectorMap = MessageSelectorBuilder.withString(selector).toKeyValueMap();
+        if (selectorMap.size() == 1 && selectorMap.containsKey(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID)) {
+            return handler.receive(selectorMap.get(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), timeout);
         }
-        return message;
+
+        DispatchingMessageSelector messageSelector = new DispatchingMessageSelector(selector, context.getApplicationContext(), context);
+        return handler.receive(message -> messageSelector.accept(MessageBuilder.withPayload(convertInbound(message, context)).build()), timeout);
     }
 }
@@ -16,20 +16,26 @@
 
 package com.consol.citrus.websocket.handler;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.SelectiveMessageBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
  *
+ * Inbound messages are buffered in a bounded queue together with the id of the session that received the message. Consumers
+ * block on the queue until a message arrives. Each session has its own sub-queue so consumers select messages of a specific
+ * session without scanning the whole buffer. When the buffer is full the receiving session thread waits until consumers make room again.
+ * When no room is made within the overflow timeout the overflow policy either drops a message or fails the receiving session.
+ *
  * @author Martin Maher
  * @since 2.3
  */
@@ -37,11 +43,51 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Default maximum number of buffered inbound messages */
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    /** Default time in milliseconds to wait for free buffer space */
+    public static final long DEFAULT_OVERFLOW_TIMEOUT = 5000L;
+
+    /** Name of the per session index on the inbound message buffer */
+    private static final String SESSION_INDEX = "sessionId";
+
+    /** Inbound message buffer with per session sub-queues */
+    private final SelectiveMessageBuffer<InboundMessage> inboundMessages;
+
+    /** Time in milliseconds to wait for free buffer space */
+    private final long overflowTimeout;
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public CitrusWebSocketHandler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor using maximum number of buffered inbound messages.
+     * @param capacity
+     */
+    public CitrusWebSocketHandler(int capacity) {
+        this(capacity, DEFAULT_OVERFLOW_TIMEOUT, SelectiveMessageBuffer.OverflowPolicy.FAIL);
+    }
+
+    /**
+     * Constructor using maximum number of buffered inbound messages, the time in milliseconds to wait for free space
+     * and the policy to apply when the buffer is still full after that time.
+     * @param capacity
+     * @param overflowTimeout
+     * @param overflowPolicy
+     */
+    public CitrusWebSocketHandler(int capacity, long overflowTimeout, SelectiveMessageBuffer.OverflowPolicy overflowPolicy) {
+        this.overflowTimeout = overflowTimeout;
+        this.inboundMessages = new SelectiveMessageBuffer<InboundMessage>("WebSocket inbound message buffer", capacity, overflowTimeout, overflowPolicy)
+                                    .addIndex(SESSION_INDEX, InboundMessage::getSessionId);
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +98,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
@@ -78,12 +124,59 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds inbound message to buffer. Waits for free space in case buffer is full. When no space is available
+     * within the overflow timeout the overflow policy either drops a message or fails.
+     * @param session
+     * @param message
+     */
+    private void addMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        try {
+            if (!inboundMessages.add(new InboundMessage(session.getId(), message))) {
+                LOG.debug(String.format("WebSocket inbound message buffer full - dropped message for session (%s)", session.getId()));
+            }
+        } catch (CitrusRuntimeException e) {
+            throw new CitrusRuntimeException(String.format("WebSocket inbound message buffer full - no consumer made room within %s ms for session (%s)", overflowTimeout, session.getId()), e);
+        }
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        InboundMessage inboundMessage = receive(0L);
+        return inboundMessage != null ? inboundMessage.getMessage() : null;
+    }
+
+    /**
+     * Receives next inbound message. Waits given time in milliseconds for a message to arrive.
+     * @param timeout
+     * @return the message or null when timed out
+     */
+    public InboundMessage receive(long timeout) {
+        return receive(message -> true, timeout);
+    }
+
+    /**
+     * Receives next inbound message of given session from the session's sub-queue. Waits given time in milliseconds for a message to arrive.
+     * @param sessionId
+     * @param timeout
+     * @return the message or null when timed out
+     */
+    public InboundMessage receive(String sessionId, long timeout) {
+        return inboundMessages.receive(SESSION_INDEX, sessionId, timeout);
+    }
+
+    /**
+     * Receives first inbound message accepted by given selector. Waits given time in milliseconds for a matching message to arrive.
+     * Selector is evaluated outside of the buffer lock so selectors converting messages do not block session threads adding new messages.
+     * @param selector
+     * @param timeout
+     * @return the message or null when timed out
+     */
+    public InboundMessage receive(Predicate<InboundMessage> selector, long timeout) {
+        return inboundMessages.receive(selector, timeout);
     }
 
     /**
@@ -98,15 +191,82 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         }
 
         for (WebSocketSession session : sessions.values()) {
-            if (session != null && session.isOpen()) {
-                try {
+            sentSuccessfully |= sendMessage(session, message);
+        }
+        return sentSuccessfully;
+    }
+
+    /**
+     * Send message to session with given id.
+     * @param message
+     * @param sessionId
+     * @return
+     */
+    public boolean sendMessage(WebSocketMessage<?> message, String sessionId) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) {
+            LOG.warn(String.format("No Web Socket session (%s) exists - message cannot be sent", sessionId));
+            return false;
+        }
+
+        return sendMessage(session, message);
+    }
+
+    /**
+     * Sends message to given session. Sessions do not support concurrent sending so sending is synchronized on the session.
+     * @param session
+     * @param message
+     * @return
+     */
+    private boolean sendMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        if (session.isOpen()) {
+            try {
+                synchronized (session) {
                     session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    LOG.error(String.format("(%s) error sending message", session.getId()), e);
                 }
+                return true;
+            } catch (IOException e) {
+                LOG.error(String.format("(%s) error sending message", session.getId()), e);
             }
         }
-        return sentSuccessfully;
+
+        return false;
+    }
+
+    /**
+     * Gets the ids of all open sessions known to this handler.
+     * @return
+     */
+    public Set<String> getSessionIds() {
+        return Collections.unmodifiableSet(sessions.keySet());
+    }
+
+    /**
+     * Inbound message together with the id of the receiving session.
+     */
+    public static final class InboundMessage {
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+
+        InboundMessage(String sessionId, WebSocketMessage<?> message) {
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+
+        /**
+         * Gets the session id.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
     }
 }
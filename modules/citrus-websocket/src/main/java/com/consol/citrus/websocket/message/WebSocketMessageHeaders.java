@@ -37,4 +37,7 @@ public class WebSocketMessageHeaders {
     public static final String WEB_SOCKET_ID = WEB_SOCKET_PREFIX + "id";
     public static final String WEB_SOCKET_PATH = WEB_SOCKET_PREFIX + "path";
     public static final String WEB_SOCKET_IS_LAST = WEB_SOCKET_PREFIX + "is_last";
+
+    /** Id of the session that received the message or the session to send a message to */
+    public static final String WEB_SOCKET_SESSION_ID = WEB_SOCKET_PREFIX + "session_id";
 }
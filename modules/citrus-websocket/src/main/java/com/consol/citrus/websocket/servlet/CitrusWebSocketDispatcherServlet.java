@@ -18,6 +18,7 @@ package com.consol.citrus.websocket.servlet;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.http.servlet.CitrusDispatcherServlet;
+import com.consol.citrus.message.SelectiveMessageBuffer;
 import com.consol.citrus.websocket.endpoint.WebSocketEndpoint;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.handler.WebSocketUrlHandlerMapping;
@@ -82,7 +83,8 @@ public class CitrusWebSocketDispatcherServlet extends CitrusDispatcherServlet {
             for (WebSocketEndpoint webSocketEndpoint : webSocketEndpoints) {
                 String wsPath = webSocketEndpoint.getEndpointConfiguration().getEndpointUri();
 
-                CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+                CitrusWebSocketHandler handler = new CitrusWebSocketHandler(CitrusWebSocketHandler.DEFAULT_CAPACITY,
+                        webSocketEndpoint.getEndpointConfiguration().getTimeout(), SelectiveMessageBuffer.OverflowPolicy.FAIL);
                 webSocketEndpoint.setWebSocketHandler(handler);
                 WebSocketHttpRequestHandler wsRequestHandler = new WebSocketHttpRequestHandler(handler, handshakeHandler);
                 SessionEnricherHandshakeInterceptor handshakeInterceptor = new SessionEnricherHandshakeInterceptor(webSocketEndpoint.getName(), wsPath);
@@ -17,11 +17,14 @@
 package com.consol.citrus.websocket.endpoint;
 
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.SelectiveMessageBuffer;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -166,4 +169,103 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWebSocketEndpointSessionSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+        when(session.isOpen()).thenReturn(true);
+        when(session2.isOpen()).thenReturn(true);
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("<TestRequest><Message>Hello 1</Message></TestRequest>"));
+        handler.handleMessage(session2, new TextMessage("<TestRequest><Message>Hello 2</Message></TestRequest>"));
+        handler.handleMessage(session, new TextMessage("<TestRequest><Message>Hello 3</Message></TestRequest>"));
+
+        WebSocketConsumer consumer = (WebSocketConsumer) webSocketEndpoint.createConsumer();
+        Message received = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(received.getPayload(), "<TestRequest><Message>Hello 2</Message></TestRequest>");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        received = consumer.receive("xpath://TestRequest/Message = 'Hello 3'", context, 1000L);
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-1");
+
+        received = consumer.receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(), "<TestRequest><Message>Hello 1</Message></TestRequest>");
+
+        Message response = new DefaultMessage("<TestResponse/>")
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, "test-socket-2");
+        webSocketEndpoint.createProducer().send(response, context);
+
+        verify(session2).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session, never()).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+    }
+
+    @Test
+    public void testWebSocketEndpointBlockingReceive() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler(1);
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+                handler.handleMessage(session, new TextMessage("Hello 1"));
+                handler.handleMessage(session, new TextMessage("Hello 2"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sender.start();
+
+        Assert.assertEquals(webSocketEndpoint.createConsumer().receive(context, 5000L).getPayload(), "Hello 1");
+        Assert.assertEquals(webSocketEndpoint.createConsumer().receive(context, 5000L).getPayload(), "Hello 2");
+        sender.join(5000L);
+    }
+
+    @Test
+    public void testWebSocketEndpointBufferOverflow() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler(1, 100L, SelectiveMessageBuffer.OverflowPolicy.DROP_OLDEST);
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        handler.handleMessage(session, new TextMessage("Hello 1"));
+        handler.handleMessage(session, new TextMessage("Hello 2"));
+        Assert.assertEquals(webSocketEndpoint.createConsumer().receive(context, 1000L).getPayload(), "Hello 2");
+
+        CitrusWebSocketHandler failingHandler = new CitrusWebSocketHandler(1, 100L, SelectiveMessageBuffer.OverflowPolicy.FAIL);
+        failingHandler.afterConnectionEstablished(session);
+        failingHandler.handleMessage(session, new TextMessage("Hello 1"));
+
+        try {
+            failingHandler.handleMessage(session, new TextMessage("Hello 2"));
+            Assert.fail("Missing exception due to full inbound message buffer");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("test-socket-1"));
+        }
+    }
+}
@@ -191,7 +191,7 @@ public class SoapAttachment implements Attachment, Serializable {
             return context != null ? context.replaceDynamicContentInString(content) : content;
         } else if (StringUtils.hasText(getContentResourcePath()) && getContentType().startsWith("text")) {
             try {
-                String fileContent = FileUtils.readToString(new PathMatchingResourcePatternResolver().getResource(getContentResourcePath()).getInputStream(), Charset.forName(charsetName));
+                String fileContent = FileUtils.readToString(new PathMatchingResourcePatternResolver().getResource(getContentResourcePath()), Charset.forName(charsetName));
                 return context != null ? context.replaceDynamicContentInString(fileContent) : fileContent;
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to read SOAP attachment file resource", e);
@@ -34,6 +34,7 @@ import org.apache.http.util.EntityUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.*;
+import org.springframework.util.StringUtils;
 
 import java.io.*;
 import java.net.URLEncoder;
@@ -143,6 +144,15 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
     private void runTests(TestRunConfiguration runConfiguration) throws MojoExecutionException {
         HttpResponse response = null;
 
+        try {
+            runConfiguration.setParallel(TestRunConfiguration.ParallelMode.fromString(run.getParallel()));
+        } catch (CitrusRuntimeException e) {
+            throw new MojoExecutionException("Invalid run configuration - " + e.getMessage(), e);
+        }
+        if (run.getThreadCount() > 0) {
+            runConfiguration.setThreadCount(run.getThreadCount());
+        }
+
         try {
             RequestBuilder requestBuilder;
 
@@ -164,8 +174,9 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
             }
 
             if (run.isAsync()) {
+                String jobId = EntityUtils.toString(response.getEntity());
                 HttpClientUtils.closeQuietly(response);
-                handleTestResults(pollTestResults());
+                handleTestResults(pollTestResults(jobId));
             } else {
                 handleTestResults(objectMapper.readValue(response.getEntity().getContent(), RemoteResult[].class));
             }
@@ -180,18 +191,24 @@ public class RunTestMojo extends AbstractCitrusRemoteMojo {
      * When using async test execution mode the client does not synchronously wait for test results as it might lead to read timeouts. Instead
      * this method polls for test results and waits for the test execution to completely finish.
      *
+     * @param jobId id of the remote test job or empty when server does not support jobs
      * @return
      * @throws MojoExecutionException
      */
-    private RemoteResult[] pollTestResults() throws MojoExecutionException {
+    private RemoteResult[] pollTestResults(String jobId) throws MojoExecutionException {
         HttpResponse response = null;
         try {
             do {
                 HttpClientUtils.closeQuietly(response);
-                response = getHttpClient().execute(RequestBuilder.get(getServer().getUrl() + "/results")
+                RequestBuilder requestBuilder = RequestBuilder.get(getServer().getUrl() + "/results")
                         .addHeader(new BasicHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType()))
-                        .addParameter("timeout", String.valueOf(run.getPollingInterval()))
-                        .build());
+                        .addParameter("timeout", String.valueOf(run.getPollingInterval()));
+
+                if (StringUtils.hasText(jobId)) {
+                    requestBuilder.addParameter("job", jobId);
+                }
+
+                response = getHttpClient().execute(requestBuilder.build());
 
                 if (HttpStatus.SC_PARTIAL_CONTENT == response.getStatusLine().getStatusCode()) {
                     getLog().info("Waiting for remote tests to finish ...");
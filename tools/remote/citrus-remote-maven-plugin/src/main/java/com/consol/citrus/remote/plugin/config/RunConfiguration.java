@@ -39,6 +39,12 @@ public class RunConfiguration {
     @Parameter
     private Map<String, String> systemProperties;
 
+    @Parameter(property = "citrus.remote.run.parallel", defaultValue = "none")
+    private String parallel = "none";
+
+    @Parameter(property = "citrus.remote.run.thread.count", defaultValue = "0")
+    private int threadCount;
+
     @Parameter(property = "citrus.remote.run.async", defaultValue = "false")
     private boolean async;
 
@@ -168,4 +174,40 @@ public class RunConfiguration {
     public void setPollingInterval(long pollingInterval) {
         this.pollingInterval = pollingInterval;
     }
+
+    /**
+     * Gets the parallel.
+     *
+     * @return
+     */
+    public String getParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets the parallel.
+     *
+     * @param parallel
+     */
+    public void setParallel(String parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
 }
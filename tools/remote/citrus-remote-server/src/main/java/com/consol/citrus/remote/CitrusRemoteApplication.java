@@ -18,11 +18,14 @@ package com.consol.citrus.remote;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.TestClass;
+import com.consol.citrus.config.CitrusSpringConfig;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.main.CitrusAppConfiguration;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.remote.controller.RunController;
 import com.consol.citrus.remote.job.RunJob;
+import com.consol.citrus.remote.job.RunJobScheduler;
+import com.consol.citrus.remote.model.RemoteJob;
 import com.consol.citrus.remote.model.RemoteResult;
 import com.consol.citrus.remote.reporter.RemoteTestResultReporter;
 import com.consol.citrus.remote.transformer.JsonRequestTransformer;
@@ -30,16 +33,22 @@ import com.consol.citrus.remote.transformer.JsonResponseTransformer;
 import com.consol.citrus.report.JUnitReporter;
 import com.consol.citrus.report.LoggingReporter;
 import com.consol.citrus.util.FileUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.util.*;
 import spark.Filter;
+import spark.Request;
 import spark.servlet.SparkApplication;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.net.URLDecoder;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,13 +70,16 @@ public class CitrusRemoteApplication implements SparkApplication {
     /** Content types */
     private static final String APPLICATION_JSON = "application/json";
     private static final String APPLICATION_XML = "application/xml";
+    private static final String APPLICATION_JSON_STREAM = "application/x-ndjson";
 
     /** Application configuration */
     private final CitrusRemoteConfiguration configuration;
 
-    /** Single thread job scheduler */
-    private final ExecutorService jobs = Executors.newSingleThreadExecutor();
-    private Future<List<RemoteResult>> remoteResultFuture;
+    /** Bounded job scheduler */
+    private final RunJobScheduler jobs;
+
+    /** Latest job submitted for asynchronous execution */
+    private volatile RunJob latestJob;
 
     /** Latest test reports */
     private RemoteTestResultReporter remoteTestResultReporter = new RemoteTestResultReporter();
@@ -75,6 +87,9 @@ public class CitrusRemoteApplication implements SparkApplication {
     private final JsonRequestTransformer requestTransformer = new JsonRequestTransformer();
     private final JsonResponseTransformer responseTransformer = new JsonResponseTransformer();
 
+    /** Mapper writing streamed results as single json lines */
+    private final ObjectMapper streamMapper = new ObjectMapper();
+
     /**
      * Default constructor using default configuration.
      */
@@ -88,6 +103,7 @@ public class CitrusRemoteApplication implements SparkApplication {
      */
     public CitrusRemoteApplication(CitrusRemoteConfiguration configuration) {
         this.configuration = configuration;
+        this.jobs = new RunJobScheduler(configuration.getMaxJobs(), configuration.getJobQueueSize());
     }
 
     @Override
@@ -109,15 +125,18 @@ public class CitrusRemoteApplication implements SparkApplication {
             get("", APPLICATION_JSON, (req, res) -> {
                 res.type(APPLICATION_JSON);
 
-                long timeout = Optional.ofNullable(req.queryParams("timeout"))
-                                        .map(Long::valueOf)
-                                        .orElse(10000L);
+                long timeout = getQueryParam(req, "timeout", Long::valueOf, 10000L);
+
+                RunJob job = Optional.ofNullable(req.queryParams("job"))
+                                        .map(this::getJob)
+                                        .orElse(latestJob);
 
-                if (remoteResultFuture != null) {
+                if (job != null) {
                     try {
-                        return remoteResultFuture.get(timeout, TimeUnit.MILLISECONDS);
+                        return jobs.await(job, timeout);
                     } catch (TimeoutException e) {
                         res.status(206); // partial content
+                        return job.getResults();
                     }
                 }
 
@@ -181,25 +200,95 @@ public class CitrusRemoteApplication implements SparkApplication {
                     runConfiguration.setTestClasses(Collections.singletonList(TestClass.fromString(URLDecoder.decode(req.queryParams("class"), ENCODING))));
                 }
 
+                if (req.queryParams().contains("parallel")) {
+                    try {
+                        runConfiguration.setParallel(TestRunConfiguration.ParallelMode.fromString(req.queryParams("parallel")));
+                    } catch (CitrusRuntimeException e) {
+                        throw halt(400, e.getMessage());
+                    }
+                }
+
+                if (req.queryParams().contains("threads")) {
+                    int threadCount = getQueryParam(req, "threads", Integer::valueOf, 1);
+                    if (threadCount < 1) {
+                        throw halt(400, String.format("Invalid value '%s' for query parameter 'threads' - expected positive number", threadCount));
+                    }
+
+                    runConfiguration.setThreadCount(threadCount);
+                }
+
                 res.type(APPLICATION_JSON);
 
-                return runTests(runConfiguration);
+                return jobs.await(submit(runConfiguration), Long.MAX_VALUE);
             }, responseTransformer);
 
             put("", (req, res) -> {
-                remoteResultFuture = jobs.submit(new RunJob(requestTransformer.read(req.body(), TestRunConfiguration.class)) {
-                    @Override
-                    public List<RemoteResult> run(TestRunConfiguration runConfiguration) {
-                        return runTests(runConfiguration);
+                latestJob = submit(requestTransformer.read(req.body(), TestRunConfiguration.class));
+                return latestJob.getId();
+            });
+
+            post("", (req, res) -> {
+                TestRunConfiguration runConfiguration = requestTransformer.read(req.body(), TestRunConfiguration.class);
+                return jobs.await(submit(runConfiguration), Long.MAX_VALUE);
+            }, responseTransformer);
+        });
+
+        path("/jobs", () -> {
+            get("", (req, res) -> {
+                res.type(APPLICATION_JSON);
+                return jobs.getJobs().stream().map(RemoteJob::fromRunJob).collect(Collectors.toList());
+            }, responseTransformer);
+
+            get("/:id", (req, res) -> {
+                res.type(APPLICATION_JSON);
+                return RemoteJob.fromRunJob(getJob(req.params(":id")));
+            }, responseTransformer);
+
+            get("/:id/results", (req, res) -> {
+                res.type(APPLICATION_JSON);
+                RunJob job = getJob(req.params(":id"));
+
+                int fromIndex = getQueryParam(req, "from", Integer::valueOf, 0);
+                long timeout = getQueryParam(req, "timeout", Long::valueOf, 0L);
+
+                List<RemoteResult> results = job.awaitResults(fromIndex, timeout);
+                if (!job.isDone()) {
+                    res.status(206); // partial content
+                }
+
+                return results;
+            }, responseTransformer);
+
+            get("/:id/stream", (req, res) -> {
+                RunJob job = getJob(req.params(":id"));
+
+                res.type(APPLICATION_JSON_STREAM);
+                res.status(200);
+
+                OutputStream out = res.raw().getOutputStream();
+                int index = 0;
+                while (true) {
+                    List<RemoteResult> results = job.awaitResults(index, 1000L);
+                    for (RemoteResult result : results) {
+                        out.write(streamMapper.writeValueAsBytes(result));
+                        out.write('\n');
                     }
-                });
+                    out.flush();
+
+                    index += results.size();
+                    if (results.isEmpty() && job.isDone()) {
+                        break;
+                    }
+                }
 
                 return "";
             });
 
-            post("", (req, res) -> {
-                TestRunConfiguration runConfiguration = requestTransformer.read(req.body(), TestRunConfiguration.class);
-                return runTests(runConfiguration);
+            delete("/:id", (req, res) -> {
+                res.type(APPLICATION_JSON);
+                RunJob job = getJob(req.params(":id"));
+                jobs.cancel(job);
+                return RemoteJob.fromRunJob(job);
             }, responseTransformer);
         });
 
@@ -215,22 +304,108 @@ public class CitrusRemoteApplication implements SparkApplication {
             });
         });
 
+        exception(RejectedExecutionException.class, (exception, request, response) -> {
+            response.status(503);
+            response.header("Retry-After", "10");
+            response.body("Unable to schedule test job - job queue is full");
+        });
+
         exception(CitrusRuntimeException.class, (exception, request, response) -> {
             response.status(500);
             response.body(exception.getMessage());
         });
     }
 
+    /**
+     * Submits new job running tests with given configuration.
+     * @param runConfiguration
+     * @return
+     */
+    private RunJob submit(TestRunConfiguration runConfiguration) {
+        return jobs.submit(new RunJob(runConfiguration) {
+            @Override
+            public List<RemoteResult> run(TestRunConfiguration runConfiguration) {
+                RemoteTestResultReporter jobResultReporter = new RemoteTestResultReporter(this::addResult);
+
+                Citrus citrus = Citrus.CitrusInstanceManager.bind(createApplicationContext());
+                citrus.addTestSuiteListener(jobResultReporter);
+                citrus.addTestListener(jobResultReporter);
+
+                try {
+                    runTests(runConfiguration);
+                } finally {
+                    Citrus.CitrusInstanceManager.unbind();
+                    citrus.close();
+                }
+
+                return getResults();
+            }
+        });
+    }
+
+    /**
+     * Creates new Spring application context for a test job so each job runs with its own Citrus instance.
+     * @return
+     */
+    private ApplicationContext createApplicationContext() {
+        Class<? extends CitrusSpringConfig> configClass = Optional.<Class<? extends CitrusSpringConfig>>ofNullable(configuration.getConfigClass())
+                                                                    .orElse(CitrusSpringConfig.class);
+        return new AnnotationConfigApplicationContext(configClass);
+    }
+
+    /**
+     * Gets query parameter converted with given parser or default value when parameter is not set. Halts with
+     * bad request response when parameter value is invalid.
+     * @param request
+     * @param name
+     * @param parser
+     * @param defaultValue
+     * @param <T>
+     * @return
+     */
+    private <T extends Number> T getQueryParam(Request request, String name, Function<String, T> parser, T defaultValue) {
+        String value = request.queryParams(name);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        T result;
+        try {
+            result = parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw halt(400, String.format("Invalid value '%s' for query parameter '%s' - expected number", value, name));
+        }
+
+        if (result.longValue() < 0) {
+            throw halt(400, String.format("Invalid value '%s' for query parameter '%s' - expected positive number", value, name));
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets job by id or halts with not found response.
+     * @param id
+     * @return
+     */
+    private RunJob getJob(String id) {
+        return jobs.getJob(id).orElseThrow(() -> halt(404, "Failed to find test job: " + id));
+    }
+
     /**
      * Construct run controller and execute with given configuration.
      * @param runConfiguration
-     * @return remote results
      */
-    private List<RemoteResult> runTests(TestRunConfiguration runConfiguration) {
+    private void runTests(TestRunConfiguration runConfiguration) {
         RunController runController = new RunController(configuration);
 
         runController.setIncludes(runConfiguration.getIncludes());
 
+        if (!TestRunConfiguration.ParallelMode.NONE.equals(runConfiguration.getParallel())) {
+            runController.setParallel(runConfiguration.getParallel());
+            runController.setThreadCount(runConfiguration.getThreadCount());
+        }
+
         if (!CollectionUtils.isEmpty(runConfiguration.getDefaultProperties())) {
             runController.addDefaultProperties(runConfiguration.getDefaultProperties());
         }
@@ -246,10 +421,6 @@ public class CitrusRemoteApplication implements SparkApplication {
         if (!CollectionUtils.isEmpty(runConfiguration.getTestClasses())) {
             runController.runClasses(runConfiguration.getTestClasses());
         }
-
-        List<RemoteResult> results = new ArrayList<>();
-        remoteTestResultReporter.getTestResults().doWithResults(result -> results.add(RemoteResult.fromTestResult(result)));
-        return results;
     }
 
     /**
@@ -269,6 +440,8 @@ public class CitrusRemoteApplication implements SparkApplication {
 
     @Override
     public void destroy() {
+        jobs.shutdown();
+
         Citrus citrus = Citrus.CitrusInstanceManager.getSingleton();
         if (citrus != null) {
             log.info("Closing Citrus and its application context");
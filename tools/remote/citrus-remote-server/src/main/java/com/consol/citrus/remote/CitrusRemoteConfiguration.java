@@ -27,6 +27,12 @@ public class CitrusRemoteConfiguration extends CitrusAppConfiguration {
     /** Server port */
     private int port = 4567;
 
+    /** Maximum number of test jobs running concurrently */
+    private int maxJobs = 1;
+
+    /** Maximum number of test jobs waiting for execution */
+    private int jobQueueSize = 100;
+
     /**
      * Gets the port.
      *
@@ -45,6 +51,42 @@ public class CitrusRemoteConfiguration extends CitrusAppConfiguration {
         this.port = port;
     }
 
+    /**
+     * Gets the maxJobs.
+     *
+     * @return
+     */
+    public int getMaxJobs() {
+        return maxJobs;
+    }
+
+    /**
+     * Sets the maxJobs.
+     *
+     * @param maxJobs
+     */
+    public void setMaxJobs(int maxJobs) {
+        this.maxJobs = maxJobs;
+    }
+
+    /**
+     * Gets the jobQueueSize.
+     *
+     * @return
+     */
+    public int getJobQueueSize() {
+        return jobQueueSize;
+    }
+
+    /**
+     * Sets the jobQueueSize.
+     *
+     * @param jobQueueSize
+     */
+    public void setJobQueueSize(int jobQueueSize) {
+        this.jobQueueSize = jobQueueSize;
+    }
+
     /**
      * Applies configuration with settable properties at runtime.
      * @param configuration
@@ -53,6 +95,8 @@ public class CitrusRemoteConfiguration extends CitrusAppConfiguration {
         setPackages(configuration.getPackages());
         setTestClasses(configuration.getTestClasses());
         setIncludes(configuration.getIncludes());
+        setParallel(configuration.getParallel());
+        setThreadCount(configuration.getThreadCount());
         addDefaultProperties(configuration.getDefaultProperties());
     }
 }
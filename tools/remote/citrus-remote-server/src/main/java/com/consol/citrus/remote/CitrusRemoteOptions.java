@@ -41,5 +41,41 @@ public class CitrusRemoteOptions extends CitrusAppOptions {
                 }
             }
         });
+
+        options.add(new CliOption<CitrusRemoteConfiguration>("J", "jobs", "Maximum number of test jobs running concurrently") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    int maxJobs = Integer.valueOf(value);
+                    if (maxJobs < 1) {
+                        throw new CitrusRuntimeException(String.format("Invalid value '%s' for -J/--jobs option - expected positive number", value));
+                    }
+
+                    configuration.setMaxJobs(maxJobs);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -J/--jobs option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusRemoteConfiguration>("Q", "queue", "Maximum number of test jobs waiting for execution") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setJobQueueSize(Integer.valueOf(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -Q/--queue option");
+                }
+            }
+        });
+    }
+
+    /**
+     * Apply remote options based on given argument line.
+     * @param configuration
+     * @param arguments
+     */
+    public static CitrusRemoteConfiguration apply(CitrusRemoteConfiguration configuration, String[] arguments) {
+        return apply(new CitrusRemoteOptions(), configuration, arguments);
     }
 }
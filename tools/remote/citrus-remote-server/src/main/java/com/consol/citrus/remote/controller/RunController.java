@@ -19,6 +19,7 @@ package com.consol.citrus.remote.controller;
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.CitrusApp;
 import com.consol.citrus.main.CitrusAppConfiguration;
+import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.remote.CitrusRemoteConfiguration;
 
 import java.util.*;
@@ -32,6 +33,12 @@ public class RunController {
     /** Include tests based on these test names patterns */
     private String[] includes;
 
+    /** Parallel test execution mode, server configuration is used when not set */
+    private TestRunConfiguration.ParallelMode parallel;
+
+    /** Number of threads used in parallel test execution, server configuration is used when not set */
+    private Integer threadCount;
+
     /** Default properties set as system properties */
     private Map<String, String> defaultProperties = new LinkedHashMap<>();
 
@@ -60,6 +67,7 @@ public class RunController {
         CitrusAppConfiguration citrusAppConfiguration = new CitrusAppConfiguration();
         citrusAppConfiguration.setIncludes(Optional.ofNullable(includes).orElse(configuration.getIncludes()));
         citrusAppConfiguration.setPackages(packages);
+        applyParallel(citrusAppConfiguration);
         citrusAppConfiguration.setConfigClass(configuration.getConfigClass());
         citrusAppConfiguration.addDefaultProperties(configuration.getDefaultProperties());
         citrusAppConfiguration.addDefaultProperties(defaultProperties);
@@ -74,6 +82,7 @@ public class RunController {
         CitrusAppConfiguration citrusAppConfiguration = new CitrusAppConfiguration();
 
         citrusAppConfiguration.setTestClasses(testClasses);
+        applyParallel(citrusAppConfiguration);
         citrusAppConfiguration.setConfigClass(configuration.getConfigClass());
         citrusAppConfiguration.addDefaultProperties(configuration.getDefaultProperties());
         citrusAppConfiguration.addDefaultProperties(defaultProperties);
@@ -97,6 +106,15 @@ public class RunController {
         citrusApp.run();
     }
 
+    /**
+     * Sets parallel execution settings on given configuration falling back to server configuration.
+     * @param citrusAppConfiguration
+     */
+    private void applyParallel(CitrusAppConfiguration citrusAppConfiguration) {
+        citrusAppConfiguration.setParallel(Optional.ofNullable(parallel).orElse(configuration.getParallel()));
+        citrusAppConfiguration.setThreadCount(Optional.ofNullable(threadCount).orElse(configuration.getThreadCount()));
+    }
+
     /**
      * Sets the includes.
      *
@@ -114,4 +132,22 @@ public class RunController {
     public void addDefaultProperties(Map<String, String> defaultProperties) {
         this.defaultProperties.putAll(defaultProperties);
     }
+
+    /**
+     * Sets the parallel.
+     *
+     * @param parallel
+     */
+    public void setParallel(TestRunConfiguration.ParallelMode parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(Integer threadCount) {
+        this.threadCount = threadCount;
+    }
 }
@@ -19,8 +19,12 @@ package com.consol.citrus.remote.job;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.remote.model.RemoteResult;
 
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Christoph Deppisch
@@ -28,8 +32,21 @@ import java.util.concurrent.Callable;
  */
 public abstract class RunJob implements Callable<List<RemoteResult>> {
 
+    /** Unique job id */
+    private final String id = UUID.randomUUID().toString();
+
     private final TestRunConfiguration runConfiguration;
 
+    /** Job status */
+    private final AtomicReference<Status> status = new AtomicReference<>(Status.QUEUED);
+
+    /** Test results reported while job is running */
+    private final List<RemoteResult> results = new ArrayList<>();
+
+    /** Lock and condition guarding the results */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition resultsChanged = lock.newCondition();
+
     /**
      * Default constructor using run configuration.
      * @param runConfiguration
@@ -40,7 +57,18 @@ public abstract class RunJob implements Callable<List<RemoteResult>> {
 
     @Override
     public List<RemoteResult> call() {
-        return run(runConfiguration);
+        if (!updateStatus(Status.QUEUED, Status.RUNNING)) {
+            return getResults();
+        }
+
+        boolean finished = false;
+        try {
+            List<RemoteResult> remoteResults = run(runConfiguration);
+            finished = true;
+            return remoteResults;
+        } finally {
+            updateStatus(Status.RUNNING, finished ? Status.FINISHED : Status.FAILED);
+        }
     }
 
     /**
@@ -49,4 +77,148 @@ public abstract class RunJob implements Callable<List<RemoteResult>> {
      * @return
      */
     protected abstract List<RemoteResult> run(TestRunConfiguration runConfiguration);
+
+    /**
+     * Adds test result to this job and notifies clients waiting for results.
+     * @param result
+     */
+    public void addResult(RemoteResult result) {
+        lock.lock();
+        try {
+            results.add(result);
+            resultsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets all test results reported so far.
+     * @return
+     */
+    public List<RemoteResult> getResults() {
+        return getResults(0);
+    }
+
+    /**
+     * Gets test results reported after given index.
+     * @param fromIndex
+     * @return
+     */
+    public List<RemoteResult> getResults(int fromIndex) {
+        lock.lock();
+        try {
+            return new ArrayList<>(results.subList(Math.min(fromIndex, results.size()), results.size()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits given time in milliseconds for test results reported after given index. Returns immediately when
+     * results are available or job is done.
+     * @param fromIndex
+     * @param timeout
+     * @return new results or empty list when timed out
+     * @throws InterruptedException
+     */
+    public List<RemoteResult> awaitResults(int fromIndex, long timeout) throws InterruptedException {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lock();
+        try {
+            while (results.size() <= fromIndex && !isDone() && nanosLeft > 0) {
+                nanosLeft = resultsChanged.awaitNanos(nanosLeft);
+            }
+
+            return getResults(fromIndex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the id.
+     *
+     * @return
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the status.
+     *
+     * @return
+     */
+    public Status getStatus() {
+        return status.get();
+    }
+
+    /**
+     * Cancels this job unless it is already done. Status is changed in a single atomic step so a job that
+     * finishes at the same time is either reported as cancelled or as finished/failed but never both.
+     * @return false if job has already been done
+     */
+    public boolean cancel() {
+        Status current = status.get();
+        while (!isDone(current)) {
+            if (updateStatus(current, Status.CANCELLED)) {
+                return true;
+            }
+
+            current = status.get();
+        }
+
+        return false;
+    }
+
+    /**
+     * Changes status when current status matches the expected status and notifies clients waiting for results.
+     * @param expected
+     * @param update
+     * @return true if status has been changed
+     */
+    private boolean updateStatus(Status expected, Status update) {
+        if (!status.compareAndSet(expected, update)) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            resultsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if job is finished, failed or cancelled.
+     * @return
+     */
+    public boolean isDone() {
+        return isDone(status.get());
+    }
+
+    /**
+     * Checks if given status marks a finished, failed or cancelled job.
+     * @param status
+     * @return
+     */
+    private static boolean isDone(Status status) {
+        return status == Status.FINISHED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    /**
+     * Job status.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        FINISHED,
+        FAILED,
+        CANCELLED
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.consol.citrus.remote.job;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.remote.model.RemoteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Bounded job scheduler running multiple test jobs concurrently. Each job runs with its own Citrus instance and reports
+ * its results to its own result sink, so concurrent jobs do not interfere. Waiting jobs are queued up to the configured queue
+ * capacity. Jobs are identified by their id so clients can query job status and results, or cancel the job. A limited
+ * history of finished jobs is kept for later result access.
+ *
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class RunJobScheduler {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(RunJobScheduler.class);
+
+    /** Maximum number of finished jobs kept in history */
+    private static final int MAX_JOB_HISTORY = 100;
+
+    /** Job executor */
+    private final ExecutorService executor;
+
+    /** Known jobs by id in order of submission */
+    private final Map<String, RunJob> jobs = new LinkedHashMap<>();
+
+    /** Job futures by id */
+    private final Map<String, Future<List<RemoteResult>>> futures = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using maximum number of concurrent jobs and job queue capacity.
+     * @param maxConcurrentJobs
+     * @param queueCapacity
+     */
+    public RunJobScheduler(int maxConcurrentJobs, int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity));
+    }
+
+    /**
+     * Submits job for execution.
+     * @param job
+     * @return
+     * @throws RejectedExecutionException when job queue is full
+     */
+    public synchronized RunJob submit(RunJob job) {
+        futures.put(job.getId(), executor.submit(job));
+
+        jobs.put(job.getId(), job);
+        removeFinishedJobs();
+
+        log.info(String.format("Scheduled test job %s", job.getId()));
+        return job;
+    }
+
+    /**
+     * Removes oldest finished jobs when history exceeds its limit.
+     */
+    private void removeFinishedJobs() {
+        Iterator<RunJob> it = jobs.values().iterator();
+        while (jobs.size() > MAX_JOB_HISTORY && it.hasNext()) {
+            RunJob job = it.next();
+            if (job.isDone()) {
+                it.remove();
+                futures.remove(job.getId());
+            }
+        }
+    }
+
+    /**
+     * Gets job by its id.
+     * @param id
+     * @return
+     */
+    public synchronized Optional<RunJob> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Gets all known jobs in order of submission.
+     * @return
+     */
+    public synchronized List<RunJob> getJobs() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * Waits given time in milliseconds for job to finish.
+     * @param job
+     * @param timeout
+     * @return test results of the job
+     * @throws TimeoutException when job is not finished in time
+     */
+    public List<RemoteResult> await(RunJob job, long timeout) throws TimeoutException {
+        Future<List<RemoteResult>> future = futures.get(job.getId());
+        if (future == null) {
+            return job.getResults();
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (CancellationException e) {
+            return job.getResults();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for test job " + job.getId(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CitrusRuntimeException) {
+                throw (CitrusRuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to run test job " + job.getId(), e.getCause());
+        }
+    }
+
+    /**
+     * Cancels job. Running jobs get interrupted.
+     * @param job
+     * @return false if job has already finished
+     */
+    public boolean cancel(RunJob job) {
+        if (!job.cancel()) {
+            return false;
+        }
+
+        Optional.ofNullable(futures.get(job.getId())).ifPresent(future -> future.cancel(true));
+
+        log.info(String.format("Cancelled test job %s", job.getId()));
+        return true;
+    }
+
+    /**
+     * Stops job execution.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
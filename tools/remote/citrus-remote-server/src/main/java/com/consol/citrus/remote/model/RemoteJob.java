@@ -0,0 +1,127 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.consol.citrus.remote.model;
+
+import com.consol.citrus.remote.job.RunJob;
+
+import java.util.List;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.9
+ */
+public class RemoteJob {
+
+    /** Job id */
+    private String id;
+
+    /** Job status */
+    private String status;
+
+    /** Number of tests finished so far */
+    private int tests;
+
+    /** Number of failed tests */
+    private long failures;
+
+    /**
+     * Convert run job to remote job.
+     * @param job
+     * @return
+     */
+    public static RemoteJob fromRunJob(RunJob job) {
+        List<RemoteResult> results = job.getResults();
+
+        RemoteJob remoteJob = new RemoteJob();
+        remoteJob.setId(job.getId());
+        remoteJob.setStatus(job.getStatus().name());
+        remoteJob.setTests(results.size());
+        remoteJob.setFailures(results.stream().filter(RemoteResult::isFailed).count());
+        return remoteJob;
+    }
+
+    /**
+     * Gets the id.
+     *
+     * @return
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id.
+     *
+     * @param id
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the status.
+     *
+     * @return
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets the status.
+     *
+     * @param status
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Gets the tests.
+     *
+     * @return
+     */
+    public int getTests() {
+        return tests;
+    }
+
+    /**
+     * Sets the tests.
+     *
+     * @param tests
+     */
+    public void setTests(int tests) {
+        this.tests = tests;
+    }
+
+    /**
+     * Gets the failures.
+     *
+     * @return
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Sets the failures.
+     *
+     * @param failures
+     */
+    public void setFailures(long failures) {
+        this.failures = failures;
+    }
+}
@@ -16,10 +16,14 @@
 
 package com.consol.citrus.remote.reporter;
 
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.remote.model.RemoteResult;
 import com.consol.citrus.report.AbstractTestReporter;
 import com.consol.citrus.report.OutputStreamReporter;
 
 import java.io.StringWriter;
+import java.util.function.Consumer;
 
 /**
  * @author Christoph Deppisch
@@ -30,6 +34,49 @@ public class RemoteTestResultReporter extends AbstractTestReporter {
     /** Test report */
     private String testReport;
 
+    /** Optional result sink receiving each test result as soon as the test has finished */
+    private final Consumer<RemoteResult> resultSink;
+
+    /**
+     * Default constructor.
+     */
+    public RemoteTestResultReporter() {
+        this(result -> {});
+    }
+
+    /**
+     * Constructor using result sink.
+     * @param resultSink
+     */
+    public RemoteTestResultReporter(Consumer<RemoteResult> resultSink) {
+        this.resultSink = resultSink;
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+        addResult(TestResult.success(test.getName(), test.getTestClass().getName()));
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+        addResult(TestResult.failed(test.getName(), test.getTestClass().getName(), cause));
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+        addResult(TestResult.skipped(test.getName(), test.getTestClass().getName()));
+    }
+
+    /**
+     * Adds test result to overall results and to the result sink so clients can stream job results
+     * as soon as each test has finished.
+     * @param result
+     */
+    private void addResult(TestResult result) {
+        getTestResults().addResult(result);
+        resultSink.accept(RemoteResult.fromTestResult(result));
+    }
+
     @Override
     public void generateTestResults() {
         StringWriter results = new StringWriter();
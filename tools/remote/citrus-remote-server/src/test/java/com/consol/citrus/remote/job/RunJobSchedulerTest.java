@@ -0,0 +1,127 @@
+/*
+ * Copyright 2006-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.remote.job;
+
+import com.consol.citrus.main.TestRunConfiguration;
+import com.consol.citrus.remote.model.RemoteResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class RunJobSchedulerTest {
+
+    private RunJobScheduler scheduler;
+
+    @BeforeMethod
+    public void setup() {
+        scheduler = new RunJobScheduler(2, 10);
+    }
+
+    @AfterMethod
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testConcurrentJobs() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        RunJob first = scheduler.submit(new BlockingJob(started, release));
+        RunJob second = scheduler.submit(new BlockingJob(started, release));
+
+        Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(first.getStatus(), RunJob.Status.RUNNING);
+        Assert.assertEquals(second.getStatus(), RunJob.Status.RUNNING);
+
+        release.countDown();
+        scheduler.await(first, 5000L);
+        scheduler.await(second, 5000L);
+
+        Assert.assertEquals(first.getStatus(), RunJob.Status.FINISHED);
+        Assert.assertEquals(second.getStatus(), RunJob.Status.FINISHED);
+        Assert.assertEquals(first.getResults().size(), 1L);
+        Assert.assertEquals(second.getResults().size(), 1L);
+    }
+
+    @Test
+    public void testCancelRunningJob() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        BlockingJob job = new BlockingJob(started, new CountDownLatch(1));
+        scheduler.submit(job);
+
+        Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(job.getStatus(), RunJob.Status.RUNNING);
+
+        Assert.assertTrue(scheduler.cancel(job));
+        Assert.assertTrue(job.stopped.await(5000L, TimeUnit.MILLISECONDS));
+
+        Assert.assertEquals(job.getStatus(), RunJob.Status.CANCELLED);
+        Assert.assertTrue(job.isDone());
+        Assert.assertFalse(scheduler.cancel(job));
+        Assert.assertEquals(job.awaitResults(0, 5000L).size(), 0L);
+    }
+
+    @Test
+    public void testCancelFinishedJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(0);
+        BlockingJob job = new BlockingJob(new CountDownLatch(1), release);
+        scheduler.submit(job);
+        scheduler.await(job, 5000L);
+
+        Assert.assertFalse(scheduler.cancel(job));
+        Assert.assertEquals(job.getStatus(), RunJob.Status.FINISHED);
+    }
+
+    /**
+     * Job waits for release latch and adds single result when released.
+     */
+    private static class BlockingJob extends RunJob {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        BlockingJob(CountDownLatch started, CountDownLatch release) {
+            super(new TestRunConfiguration());
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        protected List<RemoteResult> run(TestRunConfiguration runConfiguration) {
+            started.countDown();
+
+            try {
+                release.await();
+                addResult(new RemoteResult());
+                return getResults();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("Job interrupted", e);
+            } finally {
+                stopped.countDown();
+            }
+        }
+    }
+}